@@ -42,6 +42,38 @@ sourceSets {
             include("**/*")              // Include all resources from the resources directory
         }
     }
+    register("jmh") {
+        java {
+            srcDir("src/jmh/java")
+        }
+        compileClasspath += sourceSets["main"].output
+        runtimeClasspath += sourceSets["main"].output
+    }
+}
+
+val jmhVersion = "1.37"
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+}
+
+// Runs every benchmark (or the ones matching -PjmhInclude=<regex>) and writes the results as JSON so runs from
+// different commits can be diffed. Override the output file with -PjmhResults=<path> and pass extra JMH options
+// with -PjmhArgs="-wi 1 -i 3".
+val jmh by tasks.registering(JavaExec::class) {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks and writes the results to build/reports/jmh/results.json."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val resultFile = (project.findProperty("jmhResults") as String?)?.let { file(it) }
+        ?: layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+    args("-rf", "json", "-rff", resultFile.absolutePath)
+    (project.findProperty("jmhArgs") as String?)?.let { args(it.trim().split(Regex("\\s+"))) }
+    (project.findProperty("jmhInclude") as String?)?.let { args(it) }
+    doFirst {
+        resultFile.parentFile.mkdirs()
+    }
 }
 
 tasks.named<Jar>("jar") {
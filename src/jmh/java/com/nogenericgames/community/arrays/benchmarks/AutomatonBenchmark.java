@@ -0,0 +1,108 @@
+package com.nogenericgames.community.arrays.benchmarks;
+
+import com.nogenericgames.community.arrays.bits.Bit2DArray;
+import com.nogenericgames.community.arrays.bits.BitLifeAutomaton;
+import com.nogenericgames.community.arrays.bytes.Byte2DArray;
+import com.nogenericgames.community.arrays.bytes.ByteAutomaton;
+import com.nogenericgames.community.arrays.bytes.ByteAutomatonRule;
+import com.nogenericgames.community.arrays.utils.BoundaryMode;
+import com.nogenericgames.community.arrays.utils.Neighbourhood;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one generation of Conway's Game of Life on a 2048 x 2048 torus: the copy-and-{@code get} approach the
+ * automata replace, the double-buffered byte automaton and the bit-sliced automaton.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AutomatonBenchmark {
+
+    private static final int EDGE = 2048;
+    private static final int BIRTH = 1 << 3;
+    private static final int SURVIVAL = (1 << 2) | (1 << 3);
+
+    private Byte2DArray naive;
+    private ByteAutomaton bytes;
+    private BitLifeAutomaton bits;
+    private ByteAutomatonRule life;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        naive = new Byte2DArray(EDGE, EDGE);
+        bytes = new ByteAutomaton(EDGE, EDGE, Neighbourhood.MOORE, BoundaryMode.WRAP);
+        bits = new BitLifeAutomaton(EDGE, EDGE, BIRTH, SURVIVAL, BoundaryMode.WRAP);
+        Random random = new Random(42);
+        for (int x = 0; x < EDGE; x++) {
+            for (int y = 0; y < EDGE; y++) {
+                boolean alive = random.nextInt(4) == 0;
+                naive.set(x, y, (byte) (alive ? 1 : 0));
+                bytes.getFront().set(x, y, (byte) (alive ? 1 : 0));
+                bits.getFront().set(x, y, alive);
+            }
+        }
+        life = ByteAutomaton.lifeRule(BIRTH, SURVIVAL);
+    }
+
+    @Benchmark
+    public Byte2DArray copyAndGet() {
+        Byte2DArray previous = naive.copy();
+        for (int x = 0; x < EDGE; x++) {
+            for (int y = 0; y < EDGE; y++) {
+                int live = 0;
+                for (int dx = -1; dx <= 1; dx++) {
+                    for (int dy = -1; dy <= 1; dy++) {
+                        if ((dx != 0 || dy != 0)
+                                && previous.get((x + dx + EDGE) % EDGE, (y + dy + EDGE) % EDGE) != 0) {
+                            live++;
+                        }
+                    }
+                }
+                int mask = previous.get(x, y) != 0 ? SURVIVAL : BIRTH;
+                naive.set(x, y, (byte) ((mask >>> live) & 1));
+            }
+        }
+        return naive;
+    }
+
+    @Benchmark
+    public Byte2DArray byteStep() {
+        bytes.step(life);
+        return bytes.getFront();
+    }
+
+    @Benchmark
+    public Byte2DArray byteParallelStep() {
+        bytes.parallelStep(life);
+        return bytes.getFront();
+    }
+
+    @Benchmark
+    public Bit2DArray bitStep() {
+        bits.step();
+        return bits.getFront();
+    }
+
+    @Benchmark
+    public Bit2DArray bitParallelStep() {
+        bits.parallelStep();
+        return bits.getFront();
+    }
+}
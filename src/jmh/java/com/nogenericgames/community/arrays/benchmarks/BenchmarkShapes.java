@@ -0,0 +1,50 @@
+package com.nogenericgames.community.arrays.benchmarks;
+
+/**
+ * Shared shapes for the array benchmarks.
+ * <p>
+ * Each rank uses a cube with an edge length chosen so that every rank holds roughly 2^18 cells. This keeps the
+ * working set identical (and larger than L2) when comparing ranks, so differences come from index math and not from
+ * the amount of data touched.
+ */
+final class BenchmarkShapes {
+
+    private BenchmarkShapes() {
+    }
+
+    /**
+     * Returns the edge length used for the given rank.
+     *
+     * @param rank The rank, between 2 and 6.
+     * @return The edge length of every dimension.
+     */
+    static int edge(int rank) {
+        switch (rank) {
+            case 2:
+                return 512;
+            case 3:
+                return 64;
+            case 4:
+                return 22;
+            case 5:
+                return 12;
+            case 6:
+                return 8;
+            default:
+                throw new IllegalArgumentException("Rank must be between 2 and 6.");
+        }
+    }
+
+    /**
+     * Returns a small pool of boxed values so generic benchmarks do not measure boxing.
+     *
+     * @return 256 distinct boxed integers.
+     */
+    static Integer[] boxedValues() {
+        Integer[] values = new Integer[256];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        return values;
+    }
+}
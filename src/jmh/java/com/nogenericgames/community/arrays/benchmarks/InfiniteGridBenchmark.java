@@ -0,0 +1,114 @@
+package com.nogenericgames.community.arrays.benchmarks;
+
+import com.nogenericgames.community.arrays.bytes.Byte3DArray;
+import com.nogenericgames.community.arrays.bytes.InfiniteByte3DGrid;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading every cell of a 256 x 64 x 256 region, in row-major order, from 16^3 chunks: a
+ * {@code HashMap<Long, Byte3DArray>} with boxed keys, the infinite grid with every chunk resident, and the infinite
+ * grid limited to a quarter of the chunks so that it keeps evicting to and faulting from its spill file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InfiniteGridBenchmark {
+
+    private static final int XZ = 256;
+    private static final int Y = 64;
+    private static final int CHUNKS = (XZ / 16) * (Y / 16) * (XZ / 16);
+
+    private Map<Long, Byte3DArray> boxed;
+    private InfiniteByte3DGrid resident;
+    private InfiniteByte3DGrid spilling;
+    private Path directory;
+
+    private static long key(int x, int y, int z) {
+        return ((long) (x >> 4) << 42) | ((long) ((y >> 4) & 0x1FFFFF) << 21) | ((z >> 4) & 0x1FFFFF);
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("grid-benchmark");
+        boxed = new HashMap<>();
+        resident = new InfiniteByte3DGrid(directory.resolve("resident.spill"), CHUNKS);
+        spilling = new InfiniteByte3DGrid(directory.resolve("spilling.spill"), CHUNKS / 4);
+        for (int x = 0; x < XZ; x++) {
+            for (int y = 0; y < Y; y++) {
+                for (int z = 0; z < XZ; z++) {
+                    byte value = (byte) (x ^ y ^ z | 1);
+                    boxed.computeIfAbsent(key(x, y, z), k -> new Byte3DArray(16, 16, 16))
+                            .set(x & 15, y & 15, z & 15, value);
+                    resident.set(x, y, z, value);
+                    spilling.set(x, y, z, value);
+                }
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        resident.close();
+        spilling.close();
+        Files.delete(directory.resolve("resident.spill"));
+        Files.delete(directory.resolve("spilling.spill"));
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public long boxedHashMap() {
+        long sum = 0;
+        for (int x = 0; x < XZ; x++) {
+            for (int y = 0; y < Y; y++) {
+                for (int z = 0; z < XZ; z++) {
+                    sum += boxed.get(key(x, y, z)).getUnsafe(x & 15, y & 15, z & 15);
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long gridResident() {
+        return sum(resident);
+    }
+
+    @Benchmark
+    public long gridSpilling() {
+        return sum(spilling);
+    }
+
+    private static long sum(InfiniteByte3DGrid grid) {
+        long sum = 0;
+        for (int x = 0; x < XZ; x++) {
+            for (int y = 0; y < Y; y++) {
+                for (int z = 0; z < XZ; z++) {
+                    sum += grid.getUnsafe(x, y, z);
+                }
+            }
+        }
+        return sum;
+    }
+}
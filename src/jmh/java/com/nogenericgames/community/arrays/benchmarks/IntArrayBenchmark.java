@@ -0,0 +1,511 @@
+package com.nogenericgames.community.arrays.benchmarks;
+
+import com.nogenericgames.community.arrays.ints.Int2DArray;
+import com.nogenericgames.community.arrays.ints.Int3DArray;
+import com.nogenericgames.community.arrays.ints.Int4DArray;
+import com.nogenericgames.community.arrays.ints.Int5DArray;
+import com.nogenericgames.community.arrays.ints.Int6DArray;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures element access and bulk operations of the int array family across ranks 2 to 6.
+ * <p>
+ * Every rank holds roughly the same number of cells (see {@link BenchmarkShapes}), so scores are comparable
+ * between ranks and against {@link NestedArrayBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntArrayBenchmark {
+
+    @Param({"2", "3", "4", "5", "6"})
+    public int rank;
+
+    private int edge;
+
+    private Int2DArray a2;
+    private Int2DArray b2;
+    private Int3DArray a3;
+    private Int3DArray b3;
+    private Int4DArray a4;
+    private Int4DArray b4;
+    private Int5DArray a5;
+    private Int5DArray b5;
+    private Int6DArray a6;
+    private Int6DArray b6;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        edge = BenchmarkShapes.edge(rank);
+        switch (rank) {
+            case 2:
+                a2 = new Int2DArray(edge, edge);
+                b2 = new Int2DArray(edge, edge);
+                a2.fill(7);
+                b2.fill(7);
+                break;
+            case 3:
+                a3 = new Int3DArray(edge, edge, edge);
+                b3 = new Int3DArray(edge, edge, edge);
+                a3.fill(7);
+                b3.fill(7);
+                break;
+            case 4:
+                a4 = new Int4DArray(edge, edge, edge, edge);
+                b4 = new Int4DArray(edge, edge, edge, edge);
+                a4.fill(7);
+                b4.fill(7);
+                break;
+            case 5:
+                a5 = new Int5DArray(edge, edge, edge, edge, edge);
+                b5 = new Int5DArray(edge, edge, edge, edge, edge);
+                a5.fill(7);
+                b5.fill(7);
+                break;
+            case 6:
+                a6 = new Int6DArray(edge, edge, edge, edge, edge, edge);
+                b6 = new Int6DArray(edge, edge, edge, edge, edge, edge);
+                a6.fill(7);
+                b6.fill(7);
+                break;
+            default:
+                throw new IllegalStateException("Unsupported rank " + rank);
+        }
+    }
+
+    @Benchmark
+    public long get() {
+        switch (rank) {
+            case 2:
+                return get2();
+            case 3:
+                return get3();
+            case 4:
+                return get4();
+            case 5:
+                return get5();
+            case 6:
+                return get6();
+            default:
+                throw new IllegalStateException("Unsupported rank " + rank);
+        }
+    }
+
+    @Benchmark
+    public long getUnsafe() {
+        switch (rank) {
+            case 2:
+                return getUnsafe2();
+            case 3:
+                return getUnsafe3();
+            case 4:
+                return getUnsafe4();
+            case 5:
+                return getUnsafe5();
+            case 6:
+                return getUnsafe6();
+            default:
+                throw new IllegalStateException("Unsupported rank " + rank);
+        }
+    }
+
+    @Benchmark
+    public void set() {
+        switch (rank) {
+            case 2:
+                set2();
+                return;
+            case 3:
+                set3();
+                return;
+            case 4:
+                set4();
+                return;
+            case 5:
+                set5();
+                return;
+            case 6:
+                set6();
+                return;
+            default:
+                throw new IllegalStateException("Unsupported rank " + rank);
+        }
+    }
+
+    @Benchmark
+    public void setUnsafe() {
+        switch (rank) {
+            case 2:
+                setUnsafe2();
+                return;
+            case 3:
+                setUnsafe3();
+                return;
+            case 4:
+                setUnsafe4();
+                return;
+            case 5:
+                setUnsafe5();
+                return;
+            case 6:
+                setUnsafe6();
+                return;
+            default:
+                throw new IllegalStateException("Unsupported rank " + rank);
+        }
+    }
+
+    @Benchmark
+    public void fill() {
+        switch (rank) {
+            case 2:
+                a2.fill(7);
+                return;
+            case 3:
+                a3.fill(7);
+                return;
+            case 4:
+                a4.fill(7);
+                return;
+            case 5:
+                a5.fill(7);
+                return;
+            case 6:
+                a6.fill(7);
+                return;
+            default:
+                throw new IllegalStateException("Unsupported rank " + rank);
+        }
+    }
+
+    @Benchmark
+    public Object copy() {
+        switch (rank) {
+            case 2:
+                return a2.copy();
+            case 3:
+                return a3.copy();
+            case 4:
+                return a4.copy();
+            case 5:
+                return a5.copy();
+            case 6:
+                return a6.copy();
+            default:
+                throw new IllegalStateException("Unsupported rank " + rank);
+        }
+    }
+
+    @Benchmark
+    public boolean equalsSame() {
+        switch (rank) {
+            case 2:
+                return a2.equals(b2);
+            case 3:
+                return a3.equals(b3);
+            case 4:
+                return a4.equals(b4);
+            case 5:
+                return a5.equals(b5);
+            case 6:
+                return a6.equals(b6);
+            default:
+                throw new IllegalStateException("Unsupported rank " + rank);
+        }
+    }
+
+    @Benchmark
+    public int hashCodeFull() {
+        switch (rank) {
+            case 2:
+                return a2.hashCode();
+            case 3:
+                return a3.hashCode();
+            case 4:
+                return a4.hashCode();
+            case 5:
+                return a5.hashCode();
+            case 6:
+                return a6.hashCode();
+            default:
+                throw new IllegalStateException("Unsupported rank " + rank);
+        }
+    }
+
+    private long get2() {
+        long sum = 0;
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                sum += a2.get(x, y);
+            }
+        }
+        return sum;
+    }
+
+    private long get3() {
+        long sum = 0;
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    sum += a3.get(x, y, z);
+                }
+            }
+        }
+        return sum;
+    }
+
+    private long get4() {
+        long sum = 0;
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    for (int w = 0; w < edge; w++) {
+                        sum += a4.get(x, y, z, w);
+                    }
+                }
+            }
+        }
+        return sum;
+    }
+
+    private long get5() {
+        long sum = 0;
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    for (int w = 0; w < edge; w++) {
+                        for (int u = 0; u < edge; u++) {
+                            sum += a5.get(x, y, z, w, u);
+                        }
+                    }
+                }
+            }
+        }
+        return sum;
+    }
+
+    private long get6() {
+        long sum = 0;
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    for (int w = 0; w < edge; w++) {
+                        for (int u = 0; u < edge; u++) {
+                            for (int v = 0; v < edge; v++) {
+                                sum += a6.get(x, y, z, w, u, v);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return sum;
+    }
+
+    private long getUnsafe2() {
+        long sum = 0;
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                sum += a2.getUnsafe(x, y);
+            }
+        }
+        return sum;
+    }
+
+    private long getUnsafe3() {
+        long sum = 0;
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    sum += a3.getUnsafe(x, y, z);
+                }
+            }
+        }
+        return sum;
+    }
+
+    private long getUnsafe4() {
+        long sum = 0;
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    for (int w = 0; w < edge; w++) {
+                        sum += a4.getUnsafe(x, y, z, w);
+                    }
+                }
+            }
+        }
+        return sum;
+    }
+
+    private long getUnsafe5() {
+        long sum = 0;
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    for (int w = 0; w < edge; w++) {
+                        for (int u = 0; u < edge; u++) {
+                            sum += a5.getUnsafe(x, y, z, w, u);
+                        }
+                    }
+                }
+            }
+        }
+        return sum;
+    }
+
+    private long getUnsafe6() {
+        long sum = 0;
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    for (int w = 0; w < edge; w++) {
+                        for (int u = 0; u < edge; u++) {
+                            for (int v = 0; v < edge; v++) {
+                                sum += a6.getUnsafe(x, y, z, w, u, v);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return sum;
+    }
+
+    private void set2() {
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                a2.set(x, y, x + y);
+            }
+        }
+    }
+
+    private void set3() {
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    a3.set(x, y, z, x + y + z);
+                }
+            }
+        }
+    }
+
+    private void set4() {
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    for (int w = 0; w < edge; w++) {
+                        a4.set(x, y, z, w, x + y + z + w);
+                    }
+                }
+            }
+        }
+    }
+
+    private void set5() {
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    for (int w = 0; w < edge; w++) {
+                        for (int u = 0; u < edge; u++) {
+                            a5.set(x, y, z, w, u, x + y + z + w + u);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void set6() {
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    for (int w = 0; w < edge; w++) {
+                        for (int u = 0; u < edge; u++) {
+                            for (int v = 0; v < edge; v++) {
+                                a6.set(x, y, z, w, u, v, x + y + z + w + u + v);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void setUnsafe2() {
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                a2.setUnsafe(x, y, x + y);
+            }
+        }
+    }
+
+    private void setUnsafe3() {
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    a3.setUnsafe(x, y, z, x + y + z);
+                }
+            }
+        }
+    }
+
+    private void setUnsafe4() {
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    for (int w = 0; w < edge; w++) {
+                        a4.setUnsafe(x, y, z, w, x + y + z + w);
+                    }
+                }
+            }
+        }
+    }
+
+    private void setUnsafe5() {
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    for (int w = 0; w < edge; w++) {
+                        for (int u = 0; u < edge; u++) {
+                            a5.setUnsafe(x, y, z, w, u, x + y + z + w + u);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void setUnsafe6() {
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    for (int w = 0; w < edge; w++) {
+                        for (int u = 0; u < edge; u++) {
+                            for (int v = 0; v < edge; v++) {
+                                a6.setUnsafe(x, y, z, w, u, v, x + y + z + w + u + v);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.nogenericgames.community.arrays.benchmarks;
+
+import com.nogenericgames.community.arrays.doubles.Double2DArray;
+import com.nogenericgames.community.arrays.floats.Float2DArray;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures square matrix products against the nested {@code get} loop they replace. A product of two n x n matrices
+ * is 2n^3 floating point operations, so GFLOP/s = 2n^3 / (time in ns).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatrixBenchmark {
+
+    @Param({"512"})
+    public int size;
+
+    private Double2DArray a;
+    private Double2DArray b;
+    private Double2DArray c;
+    private Float2DArray fa;
+    private Float2DArray fb;
+    private Float2DArray fc;
+    private double[] vector;
+    private double[] result;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(1);
+        a = new Double2DArray(size, size);
+        b = new Double2DArray(size, size);
+        c = new Double2DArray(size, size);
+        a.replaceAll((x, y, v) -> random.nextDouble());
+        b.replaceAll((x, y, v) -> random.nextDouble());
+        fa = new Float2DArray(size, size);
+        fb = new Float2DArray(size, size);
+        fc = new Float2DArray(size, size);
+        fa.replaceAll((x, y, v) -> random.nextFloat());
+        fb.replaceAll((x, y, v) -> random.nextFloat());
+        vector = new double[size];
+        result = new double[size];
+        for (int i = 0; i < size; i++) {
+            vector[i] = random.nextDouble();
+        }
+    }
+
+    @Benchmark
+    public Double2DArray naiveMultiply() {
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                double sum = 0.0;
+                for (int k = 0; k < size; k++) {
+                    sum += a.get(i, k) * b.get(k, j);
+                }
+                c.set(i, j, sum);
+            }
+        }
+        return c;
+    }
+
+    @Benchmark
+    public Double2DArray multiplyInto() {
+        a.multiplyInto(b, c);
+        return c;
+    }
+
+    @Benchmark
+    public Double2DArray parallelMultiplyInto() {
+        a.parallelMultiplyInto(b, c);
+        return c;
+    }
+
+    @Benchmark
+    public Float2DArray floatMultiplyInto() {
+        fa.multiplyInto(fb, fc);
+        return fc;
+    }
+
+    @Benchmark
+    public double[] multiplyVectorInto() {
+        a.multiplyInto(vector, result);
+        return result;
+    }
+}
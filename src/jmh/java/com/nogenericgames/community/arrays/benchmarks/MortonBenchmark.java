@@ -0,0 +1,127 @@
+package com.nogenericgames.community.arrays.benchmarks;
+
+import com.nogenericgames.community.arrays.ints.Int3DArray;
+import com.nogenericgames.community.arrays.ints.MortonInt3DArray;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares row-major and Morton-ordered 3D layouts on stencil access patterns.
+ * <p>
+ * Each benchmark visits every interior cell of a cube in (x, y, z) order and sums its 6 face neighbours or all 26
+ * neighbours. Edges of 64 (1 MB of ints) and 256 (64 MB) show the in-cache and out-of-cache behaviour.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MortonBenchmark {
+
+    @Param({"64", "256"})
+    public int edge;
+
+    private Int3DArray rowMajor;
+    private MortonInt3DArray morton;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rowMajor = new Int3DArray(edge, edge, edge);
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    rowMajor.setUnsafe(x, y, z, x ^ y ^ z);
+                }
+            }
+        }
+        morton = MortonInt3DArray.of(rowMajor);
+    }
+
+    @Benchmark
+    public long rowMajorNeighbours6() {
+        Int3DArray a = rowMajor;
+        long sum = 0;
+        for (int x = 1; x < edge - 1; x++) {
+            for (int y = 1; y < edge - 1; y++) {
+                for (int z = 1; z < edge - 1; z++) {
+                    sum += a.getUnsafe(x - 1, y, z) + a.getUnsafe(x + 1, y, z)
+                            + a.getUnsafe(x, y - 1, z) + a.getUnsafe(x, y + 1, z)
+                            + a.getUnsafe(x, y, z - 1) + a.getUnsafe(x, y, z + 1);
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long mortonNeighbours6() {
+        MortonInt3DArray a = morton;
+        long sum = 0;
+        for (int x = 1; x < edge - 1; x++) {
+            for (int y = 1; y < edge - 1; y++) {
+                for (int z = 1; z < edge - 1; z++) {
+                    sum += a.getUnsafe(x - 1, y, z) + a.getUnsafe(x + 1, y, z)
+                            + a.getUnsafe(x, y - 1, z) + a.getUnsafe(x, y + 1, z)
+                            + a.getUnsafe(x, y, z - 1) + a.getUnsafe(x, y, z + 1);
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long rowMajorNeighbours26() {
+        Int3DArray a = rowMajor;
+        long sum = 0;
+        for (int x = 1; x < edge - 1; x++) {
+            for (int y = 1; y < edge - 1; y++) {
+                for (int z = 1; z < edge - 1; z++) {
+                    for (int dx = -1; dx <= 1; dx++) {
+                        for (int dy = -1; dy <= 1; dy++) {
+                            for (int dz = -1; dz <= 1; dz++) {
+                                sum += a.getUnsafe(x + dx, y + dy, z + dz);
+                            }
+                        }
+                    }
+                    sum -= a.getUnsafe(x, y, z);
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long mortonNeighbours26() {
+        MortonInt3DArray a = morton;
+        long sum = 0;
+        for (int x = 1; x < edge - 1; x++) {
+            for (int y = 1; y < edge - 1; y++) {
+                for (int z = 1; z < edge - 1; z++) {
+                    for (int dx = -1; dx <= 1; dx++) {
+                        for (int dy = -1; dy <= 1; dy++) {
+                            for (int dz = -1; dz <= 1; dz++) {
+                                sum += a.getUnsafe(x + dx, y + dy, z + dz);
+                            }
+                        }
+                    }
+                    sum -= a.getUnsafe(x, y, z);
+                }
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,403 @@
+package com.nogenericgames.community.arrays.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Baseline for {@link LongArrayBenchmark}: the same operations over nested Java arrays ({@code long[][]} through
+ * {@code long[][][][][][]}) with identical shapes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NestedArrayBenchmark {
+
+    @Param({"2", "3", "4", "5", "6"})
+    public int rank;
+
+    private int edge;
+
+    private long[][] a2;
+    private long[][] b2;
+    private long[][][] a3;
+    private long[][][] b3;
+    private long[][][][] a4;
+    private long[][][][] b4;
+    private long[][][][][] a5;
+    private long[][][][][] b5;
+    private long[][][][][][] a6;
+    private long[][][][][][] b6;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        edge = BenchmarkShapes.edge(rank);
+        switch (rank) {
+            case 2:
+                a2 = new long[edge][edge];
+                b2 = new long[edge][edge];
+                fill2(a2, 7L);
+                fill2(b2, 7L);
+                break;
+            case 3:
+                a3 = new long[edge][edge][edge];
+                b3 = new long[edge][edge][edge];
+                fill3(a3, 7L);
+                fill3(b3, 7L);
+                break;
+            case 4:
+                a4 = new long[edge][edge][edge][edge];
+                b4 = new long[edge][edge][edge][edge];
+                fill4(a4, 7L);
+                fill4(b4, 7L);
+                break;
+            case 5:
+                a5 = new long[edge][edge][edge][edge][edge];
+                b5 = new long[edge][edge][edge][edge][edge];
+                fill5(a5, 7L);
+                fill5(b5, 7L);
+                break;
+            case 6:
+                a6 = new long[edge][edge][edge][edge][edge][edge];
+                b6 = new long[edge][edge][edge][edge][edge][edge];
+                fill6(a6, 7L);
+                fill6(b6, 7L);
+                break;
+            default:
+                throw new IllegalStateException("Unsupported rank " + rank);
+        }
+    }
+
+    @Benchmark
+    public long get() {
+        switch (rank) {
+            case 2:
+                return get2();
+            case 3:
+                return get3();
+            case 4:
+                return get4();
+            case 5:
+                return get5();
+            case 6:
+                return get6();
+            default:
+                throw new IllegalStateException("Unsupported rank " + rank);
+        }
+    }
+
+    @Benchmark
+    public void set() {
+        switch (rank) {
+            case 2:
+                set2();
+                return;
+            case 3:
+                set3();
+                return;
+            case 4:
+                set4();
+                return;
+            case 5:
+                set5();
+                return;
+            case 6:
+                set6();
+                return;
+            default:
+                throw new IllegalStateException("Unsupported rank " + rank);
+        }
+    }
+
+    @Benchmark
+    public void fill() {
+        switch (rank) {
+            case 2:
+                fill2(a2, 7L);
+                return;
+            case 3:
+                fill3(a3, 7L);
+                return;
+            case 4:
+                fill4(a4, 7L);
+                return;
+            case 5:
+                fill5(a5, 7L);
+                return;
+            case 6:
+                fill6(a6, 7L);
+                return;
+            default:
+                throw new IllegalStateException("Unsupported rank " + rank);
+        }
+    }
+
+    @Benchmark
+    public Object copy() {
+        switch (rank) {
+            case 2:
+                return copy2(a2);
+            case 3:
+                return copy3(a3);
+            case 4:
+                return copy4(a4);
+            case 5:
+                return copy5(a5);
+            case 6:
+                return copy6(a6);
+            default:
+                throw new IllegalStateException("Unsupported rank " + rank);
+        }
+    }
+
+    @Benchmark
+    public boolean equalsSame() {
+        switch (rank) {
+            case 2:
+                return Arrays.deepEquals(a2, b2);
+            case 3:
+                return Arrays.deepEquals(a3, b3);
+            case 4:
+                return Arrays.deepEquals(a4, b4);
+            case 5:
+                return Arrays.deepEquals(a5, b5);
+            case 6:
+                return Arrays.deepEquals(a6, b6);
+            default:
+                throw new IllegalStateException("Unsupported rank " + rank);
+        }
+    }
+
+    @Benchmark
+    public int hashCodeFull() {
+        switch (rank) {
+            case 2:
+                return Arrays.deepHashCode(a2);
+            case 3:
+                return Arrays.deepHashCode(a3);
+            case 4:
+                return Arrays.deepHashCode(a4);
+            case 5:
+                return Arrays.deepHashCode(a5);
+            case 6:
+                return Arrays.deepHashCode(a6);
+            default:
+                throw new IllegalStateException("Unsupported rank " + rank);
+        }
+    }
+
+    private long get2() {
+        long sum = 0;
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                sum += a2[x][y];
+            }
+        }
+        return sum;
+    }
+
+    private long get3() {
+        long sum = 0;
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    sum += a3[x][y][z];
+                }
+            }
+        }
+        return sum;
+    }
+
+    private long get4() {
+        long sum = 0;
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    for (int w = 0; w < edge; w++) {
+                        sum += a4[x][y][z][w];
+                    }
+                }
+            }
+        }
+        return sum;
+    }
+
+    private long get5() {
+        long sum = 0;
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    for (int w = 0; w < edge; w++) {
+                        for (int u = 0; u < edge; u++) {
+                            sum += a5[x][y][z][w][u];
+                        }
+                    }
+                }
+            }
+        }
+        return sum;
+    }
+
+    private long get6() {
+        long sum = 0;
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    for (int w = 0; w < edge; w++) {
+                        for (int u = 0; u < edge; u++) {
+                            for (int v = 0; v < edge; v++) {
+                                sum += a6[x][y][z][w][u][v];
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return sum;
+    }
+
+    private void set2() {
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                a2[x][y] = (long) (x + y);
+            }
+        }
+    }
+
+    private void set3() {
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    a3[x][y][z] = (long) (x + y + z);
+                }
+            }
+        }
+    }
+
+    private void set4() {
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    for (int w = 0; w < edge; w++) {
+                        a4[x][y][z][w] = (long) (x + y + z + w);
+                    }
+                }
+            }
+        }
+    }
+
+    private void set5() {
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    for (int w = 0; w < edge; w++) {
+                        for (int u = 0; u < edge; u++) {
+                            a5[x][y][z][w][u] = (long) (x + y + z + w + u);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void set6() {
+        for (int x = 0; x < edge; x++) {
+            for (int y = 0; y < edge; y++) {
+                for (int z = 0; z < edge; z++) {
+                    for (int w = 0; w < edge; w++) {
+                        for (int u = 0; u < edge; u++) {
+                            for (int v = 0; v < edge; v++) {
+                                a6[x][y][z][w][u][v] = (long) (x + y + z + w + u + v);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void fill2(long[][] array, long value) {
+        for (long[] row : array) {
+            Arrays.fill(row, value);
+        }
+    }
+
+    private static void fill3(long[][][] array, long value) {
+        for (long[][] sub : array) {
+            fill2(sub, value);
+        }
+    }
+
+    private static void fill4(long[][][][] array, long value) {
+        for (long[][][] sub : array) {
+            fill3(sub, value);
+        }
+    }
+
+    private static void fill5(long[][][][][] array, long value) {
+        for (long[][][][] sub : array) {
+            fill4(sub, value);
+        }
+    }
+
+    private static void fill6(long[][][][][][] array, long value) {
+        for (long[][][][][] sub : array) {
+            fill5(sub, value);
+        }
+    }
+
+    private static long[][] copy2(long[][] array) {
+        long[][] copy = new long[array.length][];
+        for (int i = 0; i < array.length; i++) {
+            copy[i] = array[i].clone();
+        }
+        return copy;
+    }
+
+    private static long[][][] copy3(long[][][] array) {
+        long[][][] copy = new long[array.length][][];
+        for (int i = 0; i < array.length; i++) {
+            copy[i] = copy2(array[i]);
+        }
+        return copy;
+    }
+
+    private static long[][][][] copy4(long[][][][] array) {
+        long[][][][] copy = new long[array.length][][][];
+        for (int i = 0; i < array.length; i++) {
+            copy[i] = copy3(array[i]);
+        }
+        return copy;
+    }
+
+    private static long[][][][][] copy5(long[][][][][] array) {
+        long[][][][][] copy = new long[array.length][][][][];
+        for (int i = 0; i < array.length; i++) {
+            copy[i] = copy4(array[i]);
+        }
+        return copy;
+    }
+
+    private static long[][][][][][] copy6(long[][][][][][] array) {
+        long[][][][][][] copy = new long[array.length][][][][][];
+        for (int i = 0; i < array.length; i++) {
+            copy[i] = copy5(array[i]);
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,84 @@
+package com.nogenericgames.community.arrays.benchmarks;
+
+import com.nogenericgames.community.arrays.floats.Float4DArray;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how the parallel bulk operations scale with the number of worker threads.
+ * <p>
+ * Each operation is submitted to a dedicated {@link ForkJoinPool} with the given parallelism, so the thread count
+ * is controlled independently of the machine's common pool. The grid holds 64^4 floats (64 MB), well beyond the
+ * last-level cache, so the results show memory bandwidth scaling rather than cache effects. {@link #serialFill()}
+ * is the single-threaded baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelScalingBenchmark {
+
+    private static final int EDGE = 64;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int threads;
+
+    private ForkJoinPool pool;
+    private Float4DArray source;
+    private Float4DArray target;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = new ForkJoinPool(threads);
+        source = new Float4DArray(EDGE, EDGE, EDGE, EDGE);
+        target = new Float4DArray(EDGE, EDGE, EDGE, EDGE);
+        source.fill(1.5f);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public void serialFill() {
+        target.fill(2.0f);
+    }
+
+    @Benchmark
+    public void parallelFill() {
+        pool.submit(() -> target.parallelFill(2.0f)).join();
+    }
+
+    @Benchmark
+    public void parallelReplaceAll() {
+        pool.submit(() -> target.parallelReplaceAll(v -> v * 0.5f + 1.0f)).join();
+    }
+
+    @Benchmark
+    public float parallelReduce() {
+        return pool.submit(() -> source.parallelReduce(0.0f, Float::sum)).join();
+    }
+
+    @Benchmark
+    public void parallelCopyInto() {
+        pool.submit(() -> source.parallelCopyInto(target)).join();
+    }
+}
@@ -0,0 +1,81 @@
+package com.nogenericgames.community.arrays.benchmarks;
+
+import com.nogenericgames.community.arrays.ints.Int2DArray;
+import com.nogenericgames.community.arrays.ints.RingInt2DArray;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures moving a 1024 x 1024 window one cell diagonally and regenerating the newly visible cells: shifting a
+ * dense array in place versus scrolling a ring array.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RingBenchmark {
+
+    private static final int EDGE = 1024;
+
+    private Int2DArray dense;
+    private RingInt2DArray ring;
+    private int denseX;
+    private int denseY;
+
+    private static int generate(int x, int y) {
+        return x * 31 + y;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dense = new Int2DArray(EDGE, EDGE);
+        ring = new RingInt2DArray(EDGE, EDGE);
+        for (int x = 0; x < EDGE; x++) {
+            for (int y = 0; y < EDGE; y++) {
+                dense.set(x, y, generate(x, y));
+                ring.set(x, y, generate(x, y));
+            }
+        }
+    }
+
+    @Benchmark
+    public Int2DArray shiftDense() {
+        int[] data = dense.unwrapUnsafe();
+        denseX++;
+        denseY++;
+        for (int x = 0; x < EDGE - 1; x++) {
+            System.arraycopy(data, (x + 1) * EDGE + 1, data, x * EDGE, EDGE - 1);
+            data[x * EDGE + EDGE - 1] = generate(denseX + x, denseY + EDGE - 1);
+        }
+        for (int y = 0; y < EDGE; y++) {
+            data[(EDGE - 1) * EDGE + y] = generate(denseX + EDGE - 1, denseY + y);
+        }
+        return dense;
+    }
+
+    @Benchmark
+    public RingInt2DArray scrollRing() {
+        ring.scroll(1, 1, (x0, y0, x1, y1) -> {
+            for (int x = x0; x < x1; x++) {
+                for (int y = y0; y < y1; y++) {
+                    ring.setUnsafe(x, y, generate(x, y));
+                }
+            }
+        });
+        return ring;
+    }
+}
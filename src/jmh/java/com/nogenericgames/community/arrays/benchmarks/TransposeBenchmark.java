@@ -0,0 +1,95 @@
+package com.nogenericgames.community.arrays.benchmarks;
+
+import com.nogenericgames.community.arrays.doubles.Double2DArray;
+import com.nogenericgames.community.arrays.floats.Float3DArray;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the naive get/set double loop with the tiled transpose of a 2048 x 2048 double array and the tiled
+ * xyz to zyx permutation of a 256^3 float array.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransposeBenchmark {
+
+    private static final int EDGE_2D = 2048;
+    private static final int EDGE_3D = 256;
+
+    private Double2DArray matrix;
+    private Double2DArray matrixTarget;
+    private Float3DArray volume;
+    private Float3DArray volumeTarget;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        matrix = new Double2DArray(EDGE_2D, EDGE_2D);
+        matrix.replaceAll((x, y, v) -> x + y * 0.5);
+        matrixTarget = new Double2DArray(EDGE_2D, EDGE_2D);
+        volume = new Float3DArray(EDGE_3D, EDGE_3D, EDGE_3D);
+        volume.replaceAll((x, y, z, v) -> x + y + z);
+        volumeTarget = new Float3DArray(EDGE_3D, EDGE_3D, EDGE_3D);
+    }
+
+    @Benchmark
+    public Double2DArray naiveTranspose() {
+        for (int x = 0; x < EDGE_2D; x++) {
+            for (int y = 0; y < EDGE_2D; y++) {
+                matrixTarget.set(y, x, matrix.get(x, y));
+            }
+        }
+        return matrixTarget;
+    }
+
+    @Benchmark
+    public Double2DArray transposeInto() {
+        matrix.transposeInto(matrixTarget);
+        return matrixTarget;
+    }
+
+    @Benchmark
+    public Double2DArray parallelTransposeInto() {
+        matrix.parallelTransposeInto(matrixTarget);
+        return matrixTarget;
+    }
+
+    @Benchmark
+    public Double2DArray transposeInPlace() {
+        matrix.transposeInPlace();
+        return matrix;
+    }
+
+    @Benchmark
+    public Float3DArray naivePermute() {
+        for (int x = 0; x < EDGE_3D; x++) {
+            for (int y = 0; y < EDGE_3D; y++) {
+                for (int z = 0; z < EDGE_3D; z++) {
+                    volumeTarget.set(z, y, x, volume.get(x, y, z));
+                }
+            }
+        }
+        return volumeTarget;
+    }
+
+    @Benchmark
+    public Float3DArray permuteInto() {
+        volume.permuteInto(volumeTarget, 2, 1, 0);
+        return volumeTarget;
+    }
+}
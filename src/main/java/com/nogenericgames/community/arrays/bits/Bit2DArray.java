@@ -0,0 +1,331 @@
+package com.nogenericgames.community.arrays.bits;
+
+import com.nogenericgames.community.arrays.utils.FlatArrayUtils;
+import java.util.Arrays;
+
+/**
+ * Represents a two-dimensional array of booleans packed one bit per cell into a {@code long[]}.
+ * <p>
+ * Cells are numbered in row-major order, the same linear order used by the other array families, and cell {@code i}
+ * is bit {@code i & 63} of word {@code i >>> 6}. Bulk operations such as {@link #and}, {@link #or} and
+ * {@link #cardinality()} work on whole words, handling 64 cells at a time.
+ */
+public class Bit2DArray {
+
+    private final long[] words;
+    private final int xSize;
+    private final int ySize;
+    private final int totalSize;
+
+    /**
+     * Constructs a 2D BitArray with the specified dimensions. All cells start as false.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @throws IllegalArgumentException if any dimension is non-positive or the total size exceeds the maximum
+     *                                  array length.
+     */
+    public Bit2DArray(int xSize, int ySize) {
+        if (xSize <= 0 || ySize <= 0) {
+            throw new IllegalArgumentException("Dimensions must be positive.");
+        }
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.totalSize = FlatArrayUtils.checkedSize(xSize, ySize);
+        this.words = new long[BitArrays.wordCount(totalSize)];
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y) coordinates with bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @return The boolean value at (x, y).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public boolean get(int x, int y) {
+        checkBounds(x, y);
+        return getUnsafe(x, y);
+    }
+
+    /**
+     * Sets the element at the specified (x, y) coordinates with bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param value The boolean value to set.
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public void set(int x, int y, boolean value) {
+        checkBounds(x, y);
+        setUnsafe(x, y, value);
+    }
+
+    /**
+     * Inverts the element at the specified (x, y) coordinates with bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @return The new value of the element.
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public boolean flip(int x, int y) {
+        checkBounds(x, y);
+        int index = x * ySize + y;
+        long bit = 1L << index;
+        words[index >>> 6] ^= bit;
+        return (words[index >>> 6] & bit) != 0;
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y) coordinates without bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @return The boolean value at (x, y).
+     */
+    public boolean getUnsafe(int x, int y) {
+        int index = x * ySize + y;
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets the element at the specified (x, y) coordinates without bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param value The boolean value to set.
+     */
+    public void setUnsafe(int x, int y, boolean value) {
+        int index = x * ySize + y;
+        if (value) {
+            words[index >>> 6] |= 1L << index;
+        } else {
+            words[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    /**
+     * Clears the array by setting all elements to false.
+     */
+    public void clear() {
+        Arrays.fill(words, 0L);
+    }
+
+    /**
+     * Fills the array with the specified boolean value.
+     *
+     * @param value The boolean value to fill the array with.
+     */
+    public void fill(boolean value) {
+        BitArrays.fill(words, 0, totalSize, value);
+    }
+
+    /**
+     * Fills a box of the array with the specified boolean value. Ranges are half-open: {@code [x0, x1)}. Each run
+     * along the last dimension is filled a word at a time.
+     *
+     * @param x0    First X-coordinate, inclusive.
+     * @param x1    Last X-coordinate, exclusive.
+     * @param y0    First Y-coordinate, inclusive.
+     * @param y1    Last Y-coordinate, exclusive.
+     * @param value The boolean value to fill the region with.
+     * @throws IndexOutOfBoundsException if a range is empty or out of bounds.
+     */
+    public void fill(int x0, int x1, int y0, int y1, boolean value) {
+        BitArrays.checkRange(x0, x1, xSize, 0);
+        BitArrays.checkRange(y0, y1, ySize, 1);
+        for (int x = x0; x < x1; x++) {
+            int row = x * ySize + y0;
+            BitArrays.fill(words, row, row + (y1 - y0), value);
+        }
+    }
+
+    /**
+     * Fills the cells with linear (row-major) indices in {@code [fromIndex, toIndex)} with the specified value.
+     *
+     * @param fromIndex First linear index, inclusive.
+     * @param toIndex   Last linear index, exclusive.
+     * @param value     The boolean value to fill the range with.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public void fillLinear(int fromIndex, int toIndex, boolean value) {
+        if (fromIndex < 0 || toIndex > totalSize || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + fromIndex + ", " + toIndex + ") out of bounds for length " + totalSize + "."
+            );
+        }
+        BitArrays.fill(words, fromIndex, toIndex, value);
+    }
+
+    /**
+     * Sets each cell to the logical AND of itself and the matching cell of another array.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void and(Bit2DArray other) {
+        checkSameShape(other);
+        BitArrays.and(words, other.words);
+    }
+
+    /**
+     * Sets each cell to the logical OR of itself and the matching cell of another array.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void or(Bit2DArray other) {
+        checkSameShape(other);
+        BitArrays.or(words, other.words);
+    }
+
+    /**
+     * Sets each cell to the logical XOR of itself and the matching cell of another array.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void xor(Bit2DArray other) {
+        checkSameShape(other);
+        BitArrays.xor(words, other.words);
+    }
+
+    /**
+     * Clears every cell that is set in another array.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void andNot(Bit2DArray other) {
+        checkSameShape(other);
+        BitArrays.andNot(words, other.words);
+    }
+
+    /**
+     * Returns the number of cells that are true.
+     *
+     * @return The count of set cells.
+     */
+    public int cardinality() {
+        return BitArrays.cardinality(words);
+    }
+
+    /**
+     * Returns the linear (row-major) index of the first true cell at or after the given linear index.
+     *
+     * @param fromIndex The linear index to start from, inclusive.
+     * @return The linear index of the next set cell, or -1 if there is none.
+     * @throws IndexOutOfBoundsException if fromIndex is negative.
+     */
+    public int nextSetBit(int fromIndex) {
+        return BitArrays.nextSetBit(words, fromIndex);
+    }
+
+    /**
+     * Returns the backing words, without copying. Bits past the last cell must stay zero.
+     *
+     * @return The backing long array.
+     */
+    public long[] unwrapUnsafe() {
+        return words;
+    }
+
+    /**
+     * Returns the total number of cells.
+     *
+     * @return The product of all dimension sizes.
+     */
+    public int getTotalSize() {
+        return totalSize;
+    }
+
+    /**
+     * Creates a copy of this Bit2DArray.
+     *
+     * @return A new Bit2DArray instance with copied data.
+     */
+    public Bit2DArray copy() {
+        Bit2DArray copy = new Bit2DArray(xSize, ySize);
+        System.arraycopy(words, 0, copy.words, 0, words.length);
+        return copy;
+    }
+
+    /**
+     * Returns the size of the X dimension.
+     *
+     * @return The size of X.
+     */
+    public int getXSize() {
+        return xSize;
+    }
+
+    /**
+     * Returns the size of the Y dimension.
+     *
+     * @return The size of Y.
+     */
+    public int getYSize() {
+        return ySize;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Bit2DArray{\n");
+        for (int row = 0; row < totalSize; row += ySize) {
+            sb.append(" [");
+            for (int i = row; i < row + ySize; i++) {
+                sb.append((words[i >>> 6] & (1L << i)) != 0 ? '1' : '0');
+            }
+            sb.append("]\n");
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Bit2DArray that = (Bit2DArray) o;
+
+        if (xSize != that.xSize) return false;
+        if (ySize != that.ySize) return false;
+        return Arrays.equals(words, that.words);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(words);
+        result = 31 * result + xSize;
+        result = 31 * result + ySize;
+        return result;
+    }
+
+    private void checkSameShape(Bit2DArray other) {
+        if (xSize != other.xSize || ySize != other.ySize) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+    }
+
+    /**
+     * Checks if the provided (x, y) coordinates are within bounds.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    private void checkBounds(int x, int y) {
+        if (x < 0 || x >= xSize) {
+            throw new IndexOutOfBoundsException(
+                    "X-coordinate " + x + " out of bounds for dimension 0 (0 to " + (xSize - 1) + ")."
+            );
+        }
+        if (y < 0 || y >= ySize) {
+            throw new IndexOutOfBoundsException(
+                    "Y-coordinate " + y + " out of bounds for dimension 1 (0 to " + (ySize - 1) + ")."
+            );
+        }
+    }
+}
@@ -0,0 +1,424 @@
+package com.nogenericgames.community.arrays.bits;
+
+import com.nogenericgames.community.arrays.utils.FlatArrayUtils;
+import java.util.Arrays;
+
+/**
+ * Represents a five-dimensional array of booleans packed one bit per cell into a {@code long[]}.
+ * <p>
+ * Cells are numbered in row-major order, the same linear order used by the other array families, and cell {@code i}
+ * is bit {@code i & 63} of word {@code i >>> 6}. Bulk operations such as {@link #and}, {@link #or} and
+ * {@link #cardinality()} work on whole words, handling 64 cells at a time.
+ */
+public class Bit5DArray {
+
+    private final long[] words;
+    private final int xSize;
+    private final int ySize;
+    private final int zSize;
+    private final int wSize;
+    private final int uSize;
+    private final int totalSize;
+
+    /**
+     * Constructs a 5D BitArray with the specified dimensions. All cells start as false.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @param wSize Size of the W dimension.
+     * @param uSize Size of the U dimension.
+     * @throws IllegalArgumentException if any dimension is non-positive or the total size exceeds the maximum
+     *                                  array length.
+     */
+    public Bit5DArray(int xSize, int ySize, int zSize, int wSize, int uSize) {
+        if (xSize <= 0 || ySize <= 0 || zSize <= 0 || wSize <= 0 || uSize <= 0) {
+            throw new IllegalArgumentException("Dimensions must be positive.");
+        }
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.zSize = zSize;
+        this.wSize = wSize;
+        this.uSize = uSize;
+        this.totalSize = FlatArrayUtils.checkedSize(xSize, ySize, zSize, wSize, uSize);
+        this.words = new long[BitArrays.wordCount(totalSize)];
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y, z, w, u) coordinates with bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @param w The W-coordinate (dimension 3).
+     * @param u The U-coordinate (dimension 4).
+     * @return The boolean value at (x, y, z, w, u).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public boolean get(int x, int y, int z, int w, int u) {
+        checkBounds(x, y, z, w, u);
+        return getUnsafe(x, y, z, w, u);
+    }
+
+    /**
+     * Sets the element at the specified (x, y, z, w, u) coordinates with bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param w     The W-coordinate (dimension 3).
+     * @param u     The U-coordinate (dimension 4).
+     * @param value The boolean value to set.
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public void set(int x, int y, int z, int w, int u, boolean value) {
+        checkBounds(x, y, z, w, u);
+        setUnsafe(x, y, z, w, u, value);
+    }
+
+    /**
+     * Inverts the element at the specified (x, y, z, w, u) coordinates with bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @param w The W-coordinate (dimension 3).
+     * @param u The U-coordinate (dimension 4).
+     * @return The new value of the element.
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public boolean flip(int x, int y, int z, int w, int u) {
+        checkBounds(x, y, z, w, u);
+        int index = (x * ySize * zSize * wSize * uSize) + (y * zSize * wSize * uSize) + (z * wSize * uSize) + (w * uSize) + u;
+        long bit = 1L << index;
+        words[index >>> 6] ^= bit;
+        return (words[index >>> 6] & bit) != 0;
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y, z, w, u) coordinates without bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @param w The W-coordinate (dimension 3).
+     * @param u The U-coordinate (dimension 4).
+     * @return The boolean value at (x, y, z, w, u).
+     */
+    public boolean getUnsafe(int x, int y, int z, int w, int u) {
+        int index = (x * ySize * zSize * wSize * uSize) + (y * zSize * wSize * uSize) + (z * wSize * uSize) + (w * uSize) + u;
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets the element at the specified (x, y, z, w, u) coordinates without bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param w     The W-coordinate (dimension 3).
+     * @param u     The U-coordinate (dimension 4).
+     * @param value The boolean value to set.
+     */
+    public void setUnsafe(int x, int y, int z, int w, int u, boolean value) {
+        int index = (x * ySize * zSize * wSize * uSize) + (y * zSize * wSize * uSize) + (z * wSize * uSize) + (w * uSize) + u;
+        if (value) {
+            words[index >>> 6] |= 1L << index;
+        } else {
+            words[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    /**
+     * Clears the array by setting all elements to false.
+     */
+    public void clear() {
+        Arrays.fill(words, 0L);
+    }
+
+    /**
+     * Fills the array with the specified boolean value.
+     *
+     * @param value The boolean value to fill the array with.
+     */
+    public void fill(boolean value) {
+        BitArrays.fill(words, 0, totalSize, value);
+    }
+
+    /**
+     * Fills a box of the array with the specified boolean value. Ranges are half-open: {@code [x0, x1)}. Each run
+     * along the last dimension is filled a word at a time.
+     *
+     * @param x0    First X-coordinate, inclusive.
+     * @param x1    Last X-coordinate, exclusive.
+     * @param y0    First Y-coordinate, inclusive.
+     * @param y1    Last Y-coordinate, exclusive.
+     * @param z0    First Z-coordinate, inclusive.
+     * @param z1    Last Z-coordinate, exclusive.
+     * @param w0    First W-coordinate, inclusive.
+     * @param w1    Last W-coordinate, exclusive.
+     * @param u0    First U-coordinate, inclusive.
+     * @param u1    Last U-coordinate, exclusive.
+     * @param value The boolean value to fill the region with.
+     * @throws IndexOutOfBoundsException if a range is empty or out of bounds.
+     */
+    public void fill(int x0, int x1, int y0, int y1, int z0, int z1, int w0, int w1, int u0, int u1, boolean value) {
+        BitArrays.checkRange(x0, x1, xSize, 0);
+        BitArrays.checkRange(y0, y1, ySize, 1);
+        BitArrays.checkRange(z0, z1, zSize, 2);
+        BitArrays.checkRange(w0, w1, wSize, 3);
+        BitArrays.checkRange(u0, u1, uSize, 4);
+        for (int x = x0; x < x1; x++) {
+            for (int y = y0; y < y1; y++) {
+                for (int z = z0; z < z1; z++) {
+                    for (int w = w0; w < w1; w++) {
+                        int row = (x * ySize * zSize * wSize * uSize) + (y * zSize * wSize * uSize) + (z * wSize * uSize) + (w * uSize) + u0;
+                        BitArrays.fill(words, row, row + (u1 - u0), value);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills the cells with linear (row-major) indices in {@code [fromIndex, toIndex)} with the specified value.
+     *
+     * @param fromIndex First linear index, inclusive.
+     * @param toIndex   Last linear index, exclusive.
+     * @param value     The boolean value to fill the range with.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public void fillLinear(int fromIndex, int toIndex, boolean value) {
+        if (fromIndex < 0 || toIndex > totalSize || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + fromIndex + ", " + toIndex + ") out of bounds for length " + totalSize + "."
+            );
+        }
+        BitArrays.fill(words, fromIndex, toIndex, value);
+    }
+
+    /**
+     * Sets each cell to the logical AND of itself and the matching cell of another array.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void and(Bit5DArray other) {
+        checkSameShape(other);
+        BitArrays.and(words, other.words);
+    }
+
+    /**
+     * Sets each cell to the logical OR of itself and the matching cell of another array.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void or(Bit5DArray other) {
+        checkSameShape(other);
+        BitArrays.or(words, other.words);
+    }
+
+    /**
+     * Sets each cell to the logical XOR of itself and the matching cell of another array.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void xor(Bit5DArray other) {
+        checkSameShape(other);
+        BitArrays.xor(words, other.words);
+    }
+
+    /**
+     * Clears every cell that is set in another array.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void andNot(Bit5DArray other) {
+        checkSameShape(other);
+        BitArrays.andNot(words, other.words);
+    }
+
+    /**
+     * Returns the number of cells that are true.
+     *
+     * @return The count of set cells.
+     */
+    public int cardinality() {
+        return BitArrays.cardinality(words);
+    }
+
+    /**
+     * Returns the linear (row-major) index of the first true cell at or after the given linear index.
+     *
+     * @param fromIndex The linear index to start from, inclusive.
+     * @return The linear index of the next set cell, or -1 if there is none.
+     * @throws IndexOutOfBoundsException if fromIndex is negative.
+     */
+    public int nextSetBit(int fromIndex) {
+        return BitArrays.nextSetBit(words, fromIndex);
+    }
+
+    /**
+     * Returns the backing words, without copying. Bits past the last cell must stay zero.
+     *
+     * @return The backing long array.
+     */
+    public long[] unwrapUnsafe() {
+        return words;
+    }
+
+    /**
+     * Returns the total number of cells.
+     *
+     * @return The product of all dimension sizes.
+     */
+    public int getTotalSize() {
+        return totalSize;
+    }
+
+    /**
+     * Creates a copy of this Bit5DArray.
+     *
+     * @return A new Bit5DArray instance with copied data.
+     */
+    public Bit5DArray copy() {
+        Bit5DArray copy = new Bit5DArray(xSize, ySize, zSize, wSize, uSize);
+        System.arraycopy(words, 0, copy.words, 0, words.length);
+        return copy;
+    }
+
+    /**
+     * Returns the size of the X dimension.
+     *
+     * @return The size of X.
+     */
+    public int getXSize() {
+        return xSize;
+    }
+
+    /**
+     * Returns the size of the Y dimension.
+     *
+     * @return The size of Y.
+     */
+    public int getYSize() {
+        return ySize;
+    }
+
+    /**
+     * Returns the size of the Z dimension.
+     *
+     * @return The size of Z.
+     */
+    public int getZSize() {
+        return zSize;
+    }
+
+    /**
+     * Returns the size of the W dimension.
+     *
+     * @return The size of W.
+     */
+    public int getWSize() {
+        return wSize;
+    }
+
+    /**
+     * Returns the size of the U dimension.
+     *
+     * @return The size of U.
+     */
+    public int getUSize() {
+        return uSize;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Bit5DArray{\n");
+        for (int row = 0; row < totalSize; row += uSize) {
+            if (row % (wSize * uSize) == 0) {
+                sb.append("  Layer ").append(row / (wSize * uSize)).append(":\n");
+            }
+            sb.append("    [");
+            for (int i = row; i < row + uSize; i++) {
+                sb.append((words[i >>> 6] & (1L << i)) != 0 ? '1' : '0');
+            }
+            sb.append("]\n");
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Bit5DArray that = (Bit5DArray) o;
+
+        if (xSize != that.xSize) return false;
+        if (ySize != that.ySize) return false;
+        if (zSize != that.zSize) return false;
+        if (wSize != that.wSize) return false;
+        if (uSize != that.uSize) return false;
+        return Arrays.equals(words, that.words);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(words);
+        result = 31 * result + xSize;
+        result = 31 * result + ySize;
+        result = 31 * result + zSize;
+        result = 31 * result + wSize;
+        result = 31 * result + uSize;
+        return result;
+    }
+
+    private void checkSameShape(Bit5DArray other) {
+        if (xSize != other.xSize || ySize != other.ySize || zSize != other.zSize || wSize != other.wSize || uSize != other.uSize) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+    }
+
+    /**
+     * Checks if the provided (x, y, z, w, u) coordinates are within bounds.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @param w The W-coordinate (dimension 3).
+     * @param u The U-coordinate (dimension 4).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    private void checkBounds(int x, int y, int z, int w, int u) {
+        if (x < 0 || x >= xSize) {
+            throw new IndexOutOfBoundsException(
+                    "X-coordinate " + x + " out of bounds for dimension 0 (0 to " + (xSize - 1) + ")."
+            );
+        }
+        if (y < 0 || y >= ySize) {
+            throw new IndexOutOfBoundsException(
+                    "Y-coordinate " + y + " out of bounds for dimension 1 (0 to " + (ySize - 1) + ")."
+            );
+        }
+        if (z < 0 || z >= zSize) {
+            throw new IndexOutOfBoundsException(
+                    "Z-coordinate " + z + " out of bounds for dimension 2 (0 to " + (zSize - 1) + ")."
+            );
+        }
+        if (w < 0 || w >= wSize) {
+            throw new IndexOutOfBoundsException(
+                    "W-coordinate " + w + " out of bounds for dimension 3 (0 to " + (wSize - 1) + ")."
+            );
+        }
+        if (u < 0 || u >= uSize) {
+            throw new IndexOutOfBoundsException(
+                    "U-coordinate " + u + " out of bounds for dimension 4 (0 to " + (uSize - 1) + ")."
+            );
+        }
+    }
+}
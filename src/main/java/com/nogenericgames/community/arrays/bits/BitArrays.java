@@ -0,0 +1,117 @@
+package com.nogenericgames.community.arrays.bits;
+
+/**
+ * Word-level helpers shared by the bit array classes.
+ * <p>
+ * Bit {@code i} of an array lives in bit {@code i & 63} of word {@code i >>> 6}. Bits past the last cell of the last
+ * word are always zero, so whole words can be combined and counted without masking.
+ */
+final class BitArrays {
+
+    private BitArrays() {
+    }
+
+    /**
+     * Returns the number of words needed for the given number of bits.
+     */
+    static int wordCount(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    /**
+     * Sets or clears the bits in {@code [from, to)}, touching each word once.
+     */
+    static void fill(long[] words, int from, int to, boolean value) {
+        if (from >= to) {
+            return;
+        }
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (first == last) {
+            apply(words, first, firstMask & lastMask, value);
+            return;
+        }
+        apply(words, first, firstMask, value);
+        long fill = value ? -1L : 0L;
+        for (int i = first + 1; i < last; i++) {
+            words[i] = fill;
+        }
+        apply(words, last, lastMask, value);
+    }
+
+    private static void apply(long[] words, int index, long mask, boolean value) {
+        if (value) {
+            words[index] |= mask;
+        } else {
+            words[index] &= ~mask;
+        }
+    }
+
+    /**
+     * Returns the number of set bits.
+     */
+    static int cardinality(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the index of the first set bit at or after {@code from}, or -1 if there is none.
+     */
+    static int nextSetBit(long[] words, int from) {
+        if (from < 0) {
+            throw new IndexOutOfBoundsException("Index " + from + " is negative.");
+        }
+        int index = from >>> 6;
+        if (index >= words.length) {
+            return -1;
+        }
+        long word = words[index] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return (index << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++index == words.length) {
+                return -1;
+            }
+            word = words[index];
+        }
+    }
+
+    static void and(long[] target, long[] other) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] &= other[i];
+        }
+    }
+
+    static void or(long[] target, long[] other) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] |= other[i];
+        }
+    }
+
+    static void xor(long[] target, long[] other) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] ^= other[i];
+        }
+    }
+
+    static void andNot(long[] target, long[] other) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] &= ~other[i];
+        }
+    }
+
+    static void checkRange(int from, int to, int size, int dimension) {
+        if (from < 0 || to > size || from >= to) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + from + ", " + to + ") out of bounds for dimension " + dimension + " (0 to " + (size - 1) + ")."
+            );
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.nogenericgames.community.arrays.bits;
+
+import com.nogenericgames.community.arrays.utils.BoundaryMode;
+import com.nogenericgames.community.arrays.utils.ParallelArrays;
+
+/**
+ * A double-buffered, bit-sliced Life-like cellular automaton over a {@link Bit2DArray}, using the Moore
+ * neighbourhood.
+ * <p>
+ * Each step evaluates 64 cells per {@code long}: the 8 neighbour words of a word are formed by shifting the words of
+ * the row above, the row itself and the row below, then summed with a bitwise 4-bit counter, so every cell's
+ * neighbour count is computed in parallel without branching. The rule is given as birth and survival masks, as in
+ * {@code B3/S23} notation; Conway's Game of Life is {@code birthMask = 1 << 3, survivalMask = (1 << 2) | (1 << 3)}.
+ * <p>
+ * Rows must start on a word boundary, so the Y dimension must be a multiple of 64. Neighbours outside the grid are read
+ * through a {@link BoundaryMode}; {@link BoundaryMode#ZERO} treats them as dead and {@link BoundaryMode#WRAP} makes the
+ * grid a torus.
+ */
+public class BitLifeAutomaton {
+
+    private final int xSize;
+    private final int ySize;
+    private final int wordsPerRow;
+    private final int birthMask;
+    private final int survivalMask;
+    private final BoundaryMode mode;
+    private Bit2DArray front;
+    private Bit2DArray back;
+    private long generation;
+
+    /**
+     * Constructs an automaton with all cells dead.
+     *
+     * @param xSize        Size of the X dimension.
+     * @param ySize        Size of the Y dimension, a multiple of 64.
+     * @param birthMask    Bit n is set if a dead cell with n live neighbours becomes alive, for n from 0 to 8.
+     * @param survivalMask Bit n is set if a live cell with n live neighbours stays alive, for n from 0 to 8.
+     * @param mode         How neighbours outside the grid are read.
+     * @throws IllegalArgumentException if any dimension is non-positive, the Y dimension is not a multiple of 64 or a
+     *                                  mask has bits above 8.
+     */
+    public BitLifeAutomaton(int xSize, int ySize, int birthMask, int survivalMask, BoundaryMode mode) {
+        if ((ySize & 63) != 0) {
+            throw new IllegalArgumentException("Y dimension must be a multiple of 64.");
+        }
+        if ((birthMask & ~0x1FF) != 0 || (survivalMask & ~0x1FF) != 0) {
+            throw new IllegalArgumentException("Rule masks must only use bits 0 to 8.");
+        }
+        this.front = new Bit2DArray(xSize, ySize);
+        this.back = new Bit2DArray(xSize, ySize);
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.wordsPerRow = ySize >>> 6;
+        this.birthMask = birthMask;
+        this.survivalMask = survivalMask;
+        this.mode = mode;
+    }
+
+    /**
+     * Advances the automaton by one generation on the calling thread.
+     */
+    public void step() {
+        stepRows(0, xSize);
+        swap();
+    }
+
+    /**
+     * Advances the automaton by one generation, processing bands of rows in parallel.
+     */
+    public void parallelStep() {
+        ParallelArrays.forEachChunk(xSize, ySize >>> 3, (chunk, from, to) -> stepRows(from, to));
+        swap();
+    }
+
+    /**
+     * Advances the automaton by the given number of generations on the calling thread.
+     *
+     * @param generations The number of steps.
+     */
+    public void step(int generations) {
+        for (int i = 0; i < generations; i++) {
+            step();
+        }
+    }
+
+    /**
+     * Returns the buffer holding the current generation. It may be modified between steps; its identity changes after
+     * every step.
+     *
+     * @return The front buffer.
+     */
+    public Bit2DArray getFront() {
+        return front;
+    }
+
+    /**
+     * Returns the buffer holding the previous generation, which the next step overwrites.
+     *
+     * @return The back buffer.
+     */
+    public Bit2DArray getBack() {
+        return back;
+    }
+
+    /**
+     * Returns the number of steps taken.
+     *
+     * @return The generation count.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    private void swap() {
+        Bit2DArray previous = front;
+        front = back;
+        back = previous;
+        generation++;
+    }
+
+    private void stepRows(int fromRow, int toRow) {
+        long[] src = front.unwrapUnsafe();
+        long[] dst = back.unwrapUnsafe();
+        int lowEdge = mode.resolve(-1, ySize);
+        int highEdge = mode.resolve(ySize, ySize);
+        for (int x = fromRow; x < toRow; x++) {
+            int above = rowStart(x - 1);
+            int row = x * wordsPerRow;
+            int below = rowStart(x + 1);
+            for (int w = 0; w < wordsPerRow; w++) {
+                long s0 = 0L;
+                long s1 = 0L;
+                long s2 = 0L;
+                long s3 = 0L;
+                long n;
+                long c;
+                for (int r = 0; r < 3; r++) {
+                    int start = r == 0 ? above : r == 1 ? row : below;
+                    if (start < 0) {
+                        continue;
+                    }
+                    long word = src[start + w];
+                    long previous = w > 0 ? src[start + w - 1] >>> 63 : edgeBit(src, start, lowEdge);
+                    long next = w < wordsPerRow - 1 ? src[start + w + 1] & 1L : edgeBit(src, start, highEdge);
+                    for (int k = 0; k < 3; k++) {
+                        if (k == 0) {
+                            n = (word << 1) | previous;
+                        } else if (k == 1) {
+                            if (r == 1) {
+                                continue;
+                            }
+                            n = word;
+                        } else {
+                            n = (word >>> 1) | (next << 63);
+                        }
+                        c = s0 & n;
+                        s0 ^= n;
+                        n = s1 & c;
+                        s1 ^= c;
+                        c = s2 & n;
+                        s2 ^= n;
+                        s3 |= c;
+                    }
+                }
+                long born = 0L;
+                long survive = 0L;
+                for (int count = 0; count <= 8; count++) {
+                    boolean birth = ((birthMask >>> count) & 1) != 0;
+                    boolean survival = ((survivalMask >>> count) & 1) != 0;
+                    if (!birth && !survival) {
+                        continue;
+                    }
+                    long match = ((count & 1) != 0 ? s0 : ~s0)
+                            & ((count & 2) != 0 ? s1 : ~s1)
+                            & ((count & 4) != 0 ? s2 : ~s2)
+                            & ((count & 8) != 0 ? s3 : ~s3);
+                    if (birth) {
+                        born |= match;
+                    }
+                    if (survival) {
+                        survive |= match;
+                    }
+                }
+                long alive = src[row + w];
+                dst[row + w] = (alive & survive) | (~alive & born);
+            }
+        }
+    }
+
+    private int rowStart(int x) {
+        int resolved = mode.resolve(x, xSize);
+        return resolved < 0 ? -1 : resolved * wordsPerRow;
+    }
+
+    private static long edgeBit(long[] words, int rowStart, int y) {
+        return y < 0 ? 0L : (words[rowStart + (y >>> 6)] >>> y) & 1L;
+    }
+}
@@ -0,0 +1,290 @@
+package com.nogenericgames.community.arrays.bytes;
+
+import java.util.Arrays;
+
+/**
+ * Represents a three-dimensional array of bytes whose cell count may exceed {@link Integer#MAX_VALUE}.
+ * <p>
+ * Uses the same row-major layout as {@link Byte3DArray}, but the linear index is computed in {@code long} arithmetic and
+ * the cells are stored in a {@code byte[][]} of chunks holding 2^{@value #CHUNK_SHIFT} cells each. The chunk
+ * and offset are a shift and a mask of the linear index, and no single allocation has to hold the whole grid.
+ */
+public class BigByte3DArray {
+
+    /**
+     * Log2 of the number of cells per chunk.
+     */
+    public static final int CHUNK_SHIFT = 27;
+
+    private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+
+    private final byte[][] chunks;
+    private final int xSize;
+    private final int ySize;
+    private final int zSize;
+    private final long totalSize;
+
+    /**
+     * Constructs a 3D BigByteArray with the specified dimensions.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @throws IllegalArgumentException if any dimension is non-positive or the total size overflows a long.
+     */
+    public BigByte3DArray(int xSize, int ySize, int zSize) {
+        if (xSize <= 0 || ySize <= 0 || zSize <= 0) {
+            throw new IllegalArgumentException("Dimensions must be positive.");
+        }
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.zSize = zSize;
+        long cells = 1;
+        try {
+            cells = Math.multiplyExact(cells, (long) xSize);
+            cells = Math.multiplyExact(cells, (long) ySize);
+            cells = Math.multiplyExact(cells, (long) zSize);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Total size exceeds the maximum addressable size.");
+        }
+        if (((cells + CHUNK_MASK) >>> CHUNK_SHIFT) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Total size exceeds the maximum addressable size.");
+        }
+        this.totalSize = cells;
+        int chunkCount = (int) ((cells + CHUNK_MASK) >>> CHUNK_SHIFT);
+        this.chunks = new byte[chunkCount][];
+        for (int i = 0; i < chunkCount; i++) {
+            long start = (long) i << CHUNK_SHIFT;
+            chunks[i] = new byte[(int) Math.min(1L << CHUNK_SHIFT, cells - start)];
+        }
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y, z) coordinates with bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @return The byte value at (x, y, z).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public byte get(int x, int y, int z) {
+        checkBounds(x, y, z);
+        long index = ((long) x * ySize * zSize) + ((long) y * zSize) + z;
+        return chunks[(int) (index >>> CHUNK_SHIFT)][(int) (index & CHUNK_MASK)];
+    }
+
+    /**
+     * Sets the element at the specified (x, y, z) coordinates with bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param value The byte value to set.
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public void set(int x, int y, int z, byte value) {
+        checkBounds(x, y, z);
+        long index = ((long) x * ySize * zSize) + ((long) y * zSize) + z;
+        chunks[(int) (index >>> CHUNK_SHIFT)][(int) (index & CHUNK_MASK)] = value;
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y, z) coordinates without bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @return The byte value at (x, y, z).
+     */
+    public byte getUnsafe(int x, int y, int z) {
+        long index = ((long) x * ySize * zSize) + ((long) y * zSize) + z;
+        return chunks[(int) (index >>> CHUNK_SHIFT)][(int) (index & CHUNK_MASK)];
+    }
+
+    /**
+     * Sets the element at the specified (x, y, z) coordinates without bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param value The byte value to set.
+     */
+    public void setUnsafe(int x, int y, int z, byte value) {
+        long index = ((long) x * ySize * zSize) + ((long) y * zSize) + z;
+        chunks[(int) (index >>> CHUNK_SHIFT)][(int) (index & CHUNK_MASK)] = value;
+    }
+
+    /**
+     * Retrieves the element at the specified row-major linear index.
+     *
+     * @param index The linear index, between 0 and {@link #getTotalSize()} - 1.
+     * @return The byte value at the index.
+     */
+    public byte getLinear(long index) {
+        return chunks[(int) (index >>> CHUNK_SHIFT)][(int) (index & CHUNK_MASK)];
+    }
+
+    /**
+     * Sets the element at the specified row-major linear index.
+     *
+     * @param index The linear index, between 0 and {@link #getTotalSize()} - 1.
+     * @param value The byte value to set.
+     */
+    public void setLinear(long index, byte value) {
+        chunks[(int) (index >>> CHUNK_SHIFT)][(int) (index & CHUNK_MASK)] = value;
+    }
+
+    /**
+     * Clears the array by setting all elements to 0.
+     */
+    public void clear() {
+        fill((byte) 0);
+    }
+
+    /**
+     * Fills the array with the specified byte value.
+     *
+     * @param value The byte value to fill the array with.
+     */
+    public void fill(byte value) {
+        for (byte[] chunk : chunks) {
+            Arrays.fill(chunk, value);
+        }
+    }
+
+    /**
+     * Returns the chunk arrays themselves, without copying.
+     * <p>
+     * Chunk {@code i} holds the cells with linear indices starting at {@code i << CHUNK_SHIFT}; every chunk but the
+     * last is full. Bulk loops can run over each chunk as a plain array.
+     *
+     * @return The backing chunks.
+     */
+    public byte[][] unwrapUnsafe() {
+        return chunks;
+    }
+
+    /**
+     * Creates a copy of this BigByte3DArray.
+     *
+     * @return A new BigByte3DArray instance with copied data.
+     */
+    public BigByte3DArray copy() {
+        BigByte3DArray copy = new BigByte3DArray(xSize, ySize, zSize);
+        for (int i = 0; i < chunks.length; i++) {
+            System.arraycopy(chunks[i], 0, copy.chunks[i], 0, chunks[i].length);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns the total number of cells.
+     *
+     * @return The product of all dimension sizes.
+     */
+    public long getTotalSize() {
+        return totalSize;
+    }
+
+    /**
+     * Returns the size of the X dimension.
+     *
+     * @return The size of X.
+     */
+    public int getXSize() {
+        return xSize;
+    }
+
+    /**
+     * Returns the size of the Y dimension.
+     *
+     * @return The size of Y.
+     */
+    public int getYSize() {
+        return ySize;
+    }
+
+    /**
+     * Returns the size of the Z dimension.
+     *
+     * @return The size of Z.
+     */
+    public int getZSize() {
+        return zSize;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("BigByte3DArray{\n");
+        for (int x = 0; x < xSize; x++) {
+            sb.append("  Layer ").append(x).append(":\n");
+            for (int y = 0; y < ySize; y++) {
+                sb.append("    [");
+                for (int z = 0; z < zSize; z++) {
+                    sb.append(get(x, y, z));
+                    if (z < zSize - 1) sb.append(", ");
+                }
+                sb.append("]\n");
+            }
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        BigByte3DArray that = (BigByte3DArray) o;
+
+        if (xSize != that.xSize) return false;
+        if (ySize != that.ySize) return false;
+        if (zSize != that.zSize) return false;
+        for (int i = 0; i < chunks.length; i++) {
+            if (!Arrays.equals(chunks[i], that.chunks[i])) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (byte[] chunk : chunks) {
+            for (byte value : chunk) {
+                result = 31 * result + value;
+            }
+        }
+        result = 31 * result + xSize;
+        result = 31 * result + ySize;
+        result = 31 * result + zSize;
+        return result;
+    }
+
+    /**
+     * Checks if the provided (x, y, z) coordinates are within bounds.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    private void checkBounds(int x, int y, int z) {
+        if (x < 0 || x >= xSize) {
+            throw new IndexOutOfBoundsException(
+                    "X-coordinate " + x + " out of bounds for dimension 0 (0 to " + (xSize - 1) + ")."
+            );
+        }
+        if (y < 0 || y >= ySize) {
+            throw new IndexOutOfBoundsException(
+                    "Y-coordinate " + y + " out of bounds for dimension 1 (0 to " + (ySize - 1) + ")."
+            );
+        }
+        if (z < 0 || z >= zSize) {
+            throw new IndexOutOfBoundsException(
+                    "Z-coordinate " + z + " out of bounds for dimension 2 (0 to " + (zSize - 1) + ")."
+            );
+        }
+    }
+}
@@ -1,5 +1,12 @@
 package com.nogenericgames.community.arrays.bytes;
 
+import com.nogenericgames.community.arrays.utils.ArrayCursor;
+import com.nogenericgames.community.arrays.utils.FlatArrayUtils;
+import com.nogenericgames.community.arrays.utils.Moments;
+import com.nogenericgames.community.arrays.utils.ParallelArrays;
+import com.nogenericgames.community.arrays.utils.Permutations;
+import com.nogenericgames.community.arrays.utils.Reductions;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /**
@@ -8,6 +15,7 @@ import java.util.Arrays;
 public class Byte2DArray {
 
     private final byte[] data;
+    private final int offset;
     private final int xSize;
     private final int ySize;
     private final int totalSize;
@@ -17,7 +25,8 @@ public class Byte2DArray {
      *
      * @param xSize Size of the X dimension.
      * @param ySize Size of the Y dimension.
-     * @throws IllegalArgumentException if any dimension is non-positive.
+     * @throws IllegalArgumentException if any dimension is non-positive or the total size exceeds the maximum
+     *                                  array length.
      */
     public Byte2DArray(int xSize, int ySize) {
         if (xSize <= 0 || ySize <= 0) {
@@ -25,8 +34,35 @@ public class Byte2DArray {
         }
         this.xSize = xSize;
         this.ySize = ySize;
-        this.totalSize = xSize * ySize;
+        this.totalSize = FlatArrayUtils.checkedSize(xSize, ySize);
         this.data = new byte[totalSize];
+        this.offset = 0;
+    }
+
+    /**
+     * Constructs a 2D ByteArray over an existing backing array, which is shared rather than copied. The caller
+     * guarantees that the dimensions are positive and multiply to the array's length.
+     *
+     * @param data The backing array.
+     */
+    Byte2DArray(byte[] data, int xSize, int ySize) {
+        this(data, 0, xSize, ySize);
+    }
+
+    /**
+     * Constructs a 2D ByteArray over a range of an existing backing array, which is shared rather than copied: the
+     * cells are the elements from offset on, in row-major order. The caller guarantees that the dimensions are
+     * positive and that the range fits in the array.
+     *
+     * @param data   The backing array.
+     * @param offset The index of cell (0, 0) in the backing array.
+     */
+    Byte2DArray(byte[] data, int offset, int xSize, int ySize) {
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.totalSize = xSize * ySize;
+        this.data = data;
+        this.offset = offset;
     }
 
     /**
@@ -39,7 +75,7 @@ public class Byte2DArray {
      */
     public byte get(int x, int y) {
         checkBounds(x, y);
-        return data[x * ySize + y];
+        return data[offset + x * ySize + y];
     }
 
     /**
@@ -52,7 +88,7 @@ public class Byte2DArray {
      */
     public void set(int x, int y, byte value) {
         checkBounds(x, y);
-        data[x * ySize + y] = value;
+        data[offset + x * ySize + y] = value;
     }
 
     /**
@@ -63,7 +99,7 @@ public class Byte2DArray {
      * @return The byte value at (x, y).
      */
     public byte getUnsafe(int x, int y) {
-        return data[x * ySize + y];
+        return data[offset + x * ySize + y];
     }
 
     /**
@@ -74,23 +110,89 @@ public class Byte2DArray {
      * @param value The byte value to set.
      */
     public void setUnsafe(int x, int y, byte value) {
-        data[x * ySize + y] = value;
+        data[offset + x * ySize + y] = value;
     }
 
     /**
      * Clears the array by setting all elements to 0.
      */
     public void clear() {
-        Arrays.fill(data, (byte) 0);
+        Arrays.fill(data, offset, offset + totalSize, (byte) 0);
     }
 
     /**
      * Retrieves a copy of the underlying data array.
+     * <p>
+     * Use {@link #asReadOnlyBuffer()} or {@link #unwrapUnsafe()} to access the data without copying.
      *
      * @return A new byte array containing the data.
      */
     public byte[] getData() {
-        return data.clone();
+        return Arrays.copyOfRange(data, offset, offset + totalSize);
+    }
+
+    /**
+     * Returns a read-only {@link ByteBuffer} view of the underlying data without copying.
+     * <p>
+     * The view shares storage with this array, so later writes are visible through it. Buffer index {@code i} is
+     * the cell at row-major linear index {@code i}.
+     *
+     * @return A read-only buffer backed by the data array.
+     */
+    public ByteBuffer asReadOnlyBuffer() {
+        return ByteBuffer.wrap(data, offset, totalSize).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns the underlying data array itself, without copying.
+     * <p>
+     * The cells are laid out in row-major order from index {@link #getOffset()} on, and writes to them are writes to
+     * this array. An array bridged from a view may share a larger backing array, whose other elements belong to its
+     * source. Unlike {@link #getData()}, this does not allocate, which makes it suitable for handing large arrays to
+     * renderers or serializers every frame.
+     *
+     * @return The backing data array.
+     */
+    public byte[] unwrapUnsafe() {
+        return data;
+    }
+
+    /**
+     * Returns the index of the first cell in the array returned by {@link #unwrapUnsafe()}. It is 0 unless this
+     * array shares the backing array of a larger one.
+     *
+     * @return The offset of the first cell.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Copies a range of cells, in row-major linear order, into a caller-supplied array.
+     *
+     * @param srcPos  The linear index of the first cell to copy.
+     * @param dest    The destination array.
+     * @param destPos The first index to write in the destination array.
+     * @param length  The number of cells to copy.
+     * @throws IndexOutOfBoundsException if either range is out of bounds.
+     */
+    public void copyInto(int srcPos, byte[] dest, int destPos, int length) {
+        if (srcPos < 0 || length > totalSize - srcPos) {
+            throw new IndexOutOfBoundsException(
+                    "Range of " + length + " cells at " + srcPos + " out of bounds for " + totalSize + " cells."
+            );
+        }
+        System.arraycopy(data, offset + srcPos, dest, destPos, length);
+    }
+
+    /**
+     * Copies all cells, in row-major linear order, into a caller-supplied buffer at its current position.
+     *
+     * @param dest The destination buffer; its position is advanced by the number of cells.
+     * @throws java.nio.BufferOverflowException if the buffer has less remaining space than the number of cells.
+     */
+    public void copyInto(ByteBuffer dest) {
+        dest.put(data, offset, totalSize);
     }
 
     /**
@@ -99,7 +201,7 @@ public class Byte2DArray {
      * @param value The byte value to fill the array with.
      */
     public void fill(byte value) {
-        Arrays.fill(data, value);
+        Arrays.fill(data, offset, offset + totalSize, value);
     }
 
     /**
@@ -109,10 +211,447 @@ public class Byte2DArray {
      */
     public Byte2DArray copy() {
         Byte2DArray copy = new Byte2DArray(xSize, ySize);
-        System.arraycopy(this.data, 0, copy.data, 0, this.totalSize);
+        System.arraycopy(this.data, offset, copy.data, 0, this.totalSize);
         return copy;
     }
 
+    /**
+     * Returns a view of a sub-rectangle of this array without copying. Ranges are half-open: {@code [x0, x1)}.
+     *
+     * @param x0 First X-coordinate, inclusive.
+     * @param x1 Last X-coordinate, exclusive.
+     * @param y0 First Y-coordinate, inclusive.
+     * @param y1 Last Y-coordinate, exclusive.
+     * @return A view sharing this array's storage.
+     * @throws IndexOutOfBoundsException if a range is empty or out of bounds.
+     */
+    public Byte2DArrayView slice(int x0, int x1, int y0, int y1) {
+        checkRange(x0, x1, xSize, 0);
+        checkRange(y0, y1, ySize, 1);
+        return new Byte2DArrayView(data, offset + x0 * ySize + y0, x1 - x0, y1 - y0, ySize, 1);
+    }
+
+    /**
+     * Calls the consumer for every cell in row-major order, passing its coordinates and value.
+     * <p>
+     * The linear index advances by one per cell, so no index product is computed and no bounds are checked.
+     *
+     * @param consumer The consumer to call.
+     */
+    public void forEach(ByteCellConsumer2 consumer) {
+        int i = offset;
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                consumer.accept(x, y, data[i++]);
+            }
+        }
+    }
+
+    /**
+     * Replaces every cell, in row-major order, with the result of applying the operator to its coordinates and value.
+     *
+     * @param operator The operator computing each new value.
+     */
+    public void replaceAll(ByteCellOperator2 operator) {
+        int i = offset;
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                data[i] = operator.applyAsByte(x, y, data[i]);
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Returns a cursor that walks this array's cells in row-major order, carrying coordinates and the linear index.
+     * Use it with {@link #getLinear(int)} and {@link #setLinear(int, byte)}.
+     *
+     * @return A new cursor positioned before the first cell.
+     */
+    public ArrayCursor cursor() {
+        return new ArrayCursor(xSize, ySize);
+    }
+
+    /**
+     * Retrieves the element at the specified row-major linear index without bounds checking beyond the backing
+     * array's own.
+     *
+     * @param index The linear index, between 0 and the total size - 1.
+     * @return The byte value at the index.
+     */
+    public byte getLinear(int index) {
+        return data[offset + index];
+    }
+
+    /**
+     * Sets the element at the specified row-major linear index without bounds checking beyond the backing array's
+     * own.
+     *
+     * @param index The linear index, between 0 and the total size - 1.
+     * @param value The byte value to set.
+     */
+    public void setLinear(int index, byte value) {
+        data[offset + index] = value;
+    }
+
+    /**
+     * Fills the array with the specified byte value, splitting the work across the fork/join pool for large arrays.
+     *
+     * @param value The byte value to fill the array with.
+     * @see ParallelArrays
+     */
+    public void parallelFill(byte value) {
+        ParallelArrays.forEachChunk(totalSize, 1,
+                (chunk, from, to) -> Arrays.fill(data, offset + from, offset + to, value));
+    }
+
+    /**
+     * Replaces every element with the result of applying the operator to it, splitting the work across the
+     * fork/join pool for large arrays. The operator may be called concurrently and in any order.
+     *
+     * @param operator The operator computing each new value.
+     * @see ParallelArrays
+     */
+    public void parallelReplaceAll(ByteUnaryOperator operator) {
+        ParallelArrays.forEachChunk(totalSize, 1, (chunk, from, to) -> {
+            for (int i = offset + from; i < offset + to; i++) {
+                data[i] = operator.applyAsByte(data[i]);
+            }
+        });
+    }
+
+    /**
+     * Combines all elements with an associative operator, reducing chunks in parallel and then combining the
+     * per-chunk results in order.
+     *
+     * @param identity The identity of the operator, used as the starting value of every chunk.
+     * @param operator An associative operator.
+     * @return The combined value.
+     * @see ParallelArrays
+     */
+    public byte parallelReduce(byte identity, ByteBinaryOperator operator) {
+        byte[] partials = new byte[ParallelArrays.chunkCount(totalSize, 1)];
+        ParallelArrays.forEachChunk(totalSize, 1, (chunk, from, to) -> {
+            byte result = identity;
+            for (int i = offset + from; i < offset + to; i++) {
+                result = operator.applyAsByte(result, data[i]);
+            }
+            partials[chunk] = result;
+        });
+        byte result = identity;
+        for (byte partial : partials) {
+            result = operator.applyAsByte(result, partial);
+        }
+        return result;
+    }
+
+    /**
+     * Copies this array's contents into another array of the same dimensions, splitting the work across the
+     * fork/join pool for large arrays.
+     *
+     * @param dest The destination array.
+     * @throws IllegalArgumentException if the dimensions differ.
+     * @see ParallelArrays
+     */
+    public void parallelCopyInto(Byte2DArray dest) {
+        if (xSize != dest.xSize || ySize != dest.ySize) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+        ParallelArrays.forEachChunk(totalSize, 1,
+                (chunk, from, to) -> System.arraycopy(data, offset + from, dest.data, dest.offset + from, to - from));
+    }
+
+    /**
+     * Returns the sum of all elements, accumulated in {@code long}.
+     *
+     * @return The sum.
+     */
+    public long sum() {
+        return Reductions.sum(data, offset, offset + totalSize);
+    }
+
+    /**
+     * Returns the sum of all elements, summing chunks in parallel.
+     *
+     * @return The sum.
+     */
+    public long parallelSum() {
+        return Reductions.parallelSum(data, offset, offset + totalSize);
+    }
+
+    /**
+     * Returns the smallest element.
+     *
+     * @return The minimum value.
+     */
+    public byte minValue() {
+        return data[Reductions.indexOfMin(data, offset, offset + totalSize)];
+    }
+
+    /**
+     * Returns the largest element.
+     *
+     * @return The maximum value.
+     */
+    public byte maxValue() {
+        return data[Reductions.indexOfMax(data, offset, offset + totalSize)];
+    }
+
+    /**
+     * Returns the coordinates of the smallest element, the first in row-major order on ties.
+     *
+     * @return A new array holding (x, y).
+     */
+    public int[] argMin() {
+        return coordinatesOf(Reductions.indexOfMin(data, offset, offset + totalSize) - offset);
+    }
+
+    /**
+     * Returns the coordinates of the largest element, the first in row-major order on ties.
+     *
+     * @return A new array holding (x, y).
+     */
+    public int[] argMax() {
+        return coordinatesOf(Reductions.indexOfMax(data, offset, offset + totalSize) - offset);
+    }
+
+    /**
+     * Returns the coordinates of the smallest element like {@link #argMin()}, scanning chunks in parallel.
+     *
+     * @return A new array holding (x, y).
+     */
+    public int[] parallelArgMin() {
+        return coordinatesOf(Reductions.parallelIndexOfMin(data, offset, offset + totalSize) - offset);
+    }
+
+    /**
+     * Returns the coordinates of the largest element like {@link #argMax()}, scanning chunks in parallel.
+     *
+     * @return A new array holding (x, y).
+     */
+    public int[] parallelArgMax() {
+        return coordinatesOf(Reductions.parallelIndexOfMax(data, offset, offset + totalSize) - offset);
+    }
+
+    /**
+     * Computes the count, mean and variance of all elements in one pass.
+     *
+     * @return The moments of the elements.
+     */
+    public Moments moments() {
+        return Reductions.moments(data, offset, offset + totalSize);
+    }
+
+    /**
+     * Computes the count, mean and variance of all elements in one pass, processing chunks in parallel.
+     *
+     * @return The moments of the elements.
+     */
+    public Moments parallelMoments() {
+        return Reductions.parallelMoments(data, offset, offset + totalSize);
+    }
+
+    /**
+     * Returns the arithmetic mean of all elements.
+     *
+     * @return The mean.
+     */
+    public double mean() {
+        return Reductions.moments(data, offset, offset + totalSize).getMean();
+    }
+
+    /**
+     * Returns the population variance of all elements.
+     *
+     * @return The variance.
+     */
+    public double variance() {
+        return Reductions.moments(data, offset, offset + totalSize).getVariance();
+    }
+
+    /**
+     * Counts the elements equal to a value.
+     *
+     * @param value The value to count.
+     * @return The number of matching elements.
+     */
+    public int count(byte value) {
+        return Reductions.count(data, offset, offset + totalSize, value);
+    }
+
+    /**
+     * Counts the elements equal to a value, scanning chunks in parallel.
+     *
+     * @param value The value to count.
+     * @return The number of matching elements.
+     */
+    public int parallelCount(byte value) {
+        return Reductions.parallelCount(data, offset, offset + totalSize, value);
+    }
+
+    /**
+     * Returns the transpose of this array: a new ySize x xSize array whose element (y, x) is element (x, y) of this
+     * one.
+     *
+     * @return The transposed copy.
+     * @see Permutations
+     */
+    public Byte2DArray transpose() {
+        Byte2DArray result = new Byte2DArray(ySize, xSize);
+        Permutations.permute(data, offset, new int[]{xSize, ySize}, new int[]{1, 0}, result.data, result.offset);
+        return result;
+    }
+
+    /**
+     * Returns the transpose of this array like {@link #transpose()}, splitting the work across the fork/join pool
+     * for large arrays.
+     *
+     * @return The transposed copy.
+     * @see Permutations
+     */
+    public Byte2DArray parallelTranspose() {
+        Byte2DArray result = new Byte2DArray(ySize, xSize);
+        Permutations.parallelPermute(data, offset, new int[]{xSize, ySize}, new int[]{1, 0},
+                result.data, result.offset);
+        return result;
+    }
+
+    /**
+     * Writes the transpose of this array into a ySize x xSize destination.
+     *
+     * @param dest The destination array, not this array.
+     * @throws IllegalArgumentException if the destination is not ySize x xSize or is this array.
+     */
+    public void transposeInto(Byte2DArray dest) {
+        checkTransposed(dest);
+        Permutations.permute(data, offset, new int[]{xSize, ySize}, new int[]{1, 0}, dest.data, dest.offset);
+    }
+
+    /**
+     * Writes the transpose of this array into a ySize x xSize destination, splitting the work across the fork/join
+     * pool for large arrays.
+     *
+     * @param dest The destination array, not this array.
+     * @throws IllegalArgumentException if the destination is not ySize x xSize or is this array.
+     */
+    public void parallelTransposeInto(Byte2DArray dest) {
+        checkTransposed(dest);
+        Permutations.parallelPermute(data, offset, new int[]{xSize, ySize}, new int[]{1, 0}, dest.data, dest.offset);
+    }
+
+    /**
+     * Transposes this square array in place by swapping tiles across the diagonal.
+     *
+     * @throws IllegalStateException if the array is not square.
+     */
+    public void transposeInPlace() {
+        checkSquare();
+        Permutations.transposeInPlace(data, offset, xSize);
+    }
+
+    /**
+     * Transposes this square array in place like {@link #transposeInPlace()}, splitting the work across the
+     * fork/join pool for large arrays.
+     *
+     * @throws IllegalStateException if the array is not square.
+     */
+    public void parallelTransposeInPlace() {
+        checkSquare();
+        Permutations.parallelTransposeInPlace(data, offset, xSize);
+    }
+
+    /**
+     * Returns a 2D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     * It can also give this array different dimensions of the same rank.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @return A Byte2DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     */
+    public Byte2DArray reshape(int xSize, int ySize) {
+        checkReshape(xSize, ySize);
+        return new Byte2DArray(data, offset, xSize, ySize);
+    }
+
+    /**
+     * Returns a 3D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @return A Byte3DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     */
+    public Byte3DArray reshape(int xSize, int ySize, int zSize) {
+        checkReshape(xSize, ySize, zSize);
+        return new Byte3DArray(data, offset, xSize, ySize, zSize);
+    }
+
+    /**
+     * Returns a 4D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @param wSize Size of the W dimension.
+     * @return A Byte4DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     * @throws IllegalStateException    if this array does not span its whole backing array.
+     */
+    public Byte4DArray reshape(int xSize, int ySize, int zSize, int wSize) {
+        checkWhole();
+        checkReshape(xSize, ySize, zSize, wSize);
+        return new Byte4DArray(data, xSize, ySize, zSize, wSize);
+    }
+
+    /**
+     * Returns a 5D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @param wSize Size of the W dimension.
+     * @param uSize Size of the U dimension.
+     * @return A Byte5DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     * @throws IllegalStateException    if this array does not span its whole backing array.
+     */
+    public Byte5DArray reshape(int xSize, int ySize, int zSize, int wSize, int uSize) {
+        checkWhole();
+        checkReshape(xSize, ySize, zSize, wSize, uSize);
+        return new Byte5DArray(data, xSize, ySize, zSize, wSize, uSize);
+    }
+
+    /**
+     * Returns a 6D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @param wSize Size of the W dimension.
+     * @param uSize Size of the U dimension.
+     * @param vSize Size of the V dimension.
+     * @return A Byte6DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     * @throws IllegalStateException    if this array does not span its whole backing array.
+     */
+    public Byte6DArray reshape(int xSize, int ySize, int zSize, int wSize, int uSize, int vSize) {
+        checkWhole();
+        checkReshape(xSize, ySize, zSize, wSize, uSize, vSize);
+        return new Byte6DArray(data, xSize, ySize, zSize, wSize, uSize, vSize);
+    }
+
     /**
      * Returns the size of the X dimension.
      *
@@ -155,17 +694,54 @@ public class Byte2DArray {
 
         if (xSize != that.xSize) return false;
         if (ySize != that.ySize) return false;
-        return Arrays.equals(data, that.data);
+        return FlatArrayUtils.equals(data, offset, that.data, that.offset, totalSize);
     }
 
     @Override
     public int hashCode() {
-        int result = Arrays.hashCode(data);
+        int result = FlatArrayUtils.hashCode(data, offset, totalSize);
         result = 31 * result + xSize;
         result = 31 * result + ySize;
         return result;
     }
 
+    private int[] coordinatesOf(int index) {
+        int[] coordinates = new int[2];
+        coordinates[1] = index % ySize;
+        index /= ySize;
+        coordinates[0] = index;
+        return coordinates;
+    }
+
+    private void checkTransposed(Byte2DArray dest) {
+        if (dest.xSize != ySize || dest.ySize != xSize) {
+            throw new IllegalArgumentException("Dimensions must match the transpose.");
+        }
+    }
+
+    private void checkSquare() {
+        if (xSize != ySize) {
+            throw new IllegalStateException("Array must be square to transpose in place.");
+        }
+    }
+
+    private void checkWhole() {
+        if (offset != 0 || data.length != totalSize) {
+            throw new IllegalStateException("Array must span its backing array to reshape to 4 or more dimensions.");
+        }
+    }
+
+    private void checkReshape(int... dimensions) {
+        for (int dimension : dimensions) {
+            if (dimension <= 0) {
+                throw new IllegalArgumentException("Dimensions must be positive.");
+            }
+        }
+        if (FlatArrayUtils.checkedSize(dimensions) != totalSize) {
+            throw new IllegalArgumentException("Reshaped dimensions must hold " + totalSize + " elements.");
+        }
+    }
+
     /**
      * Checks if the provided (x, y) coordinates are within bounds.
      *
@@ -185,4 +761,12 @@ public class Byte2DArray {
             );
         }
     }
+
+    private static void checkRange(int from, int to, int size, int dimension) {
+        if (from < 0 || to > size || from >= to) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + from + ", " + to + ") out of bounds for dimension " + dimension + " (0 to " + (size - 1) + ")."
+            );
+        }
+    }
 }
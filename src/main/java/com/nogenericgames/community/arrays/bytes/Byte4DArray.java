@@ -1,5 +1,12 @@
 package com.nogenericgames.community.arrays.bytes;
 
+import com.nogenericgames.community.arrays.utils.ArrayCursor;
+import com.nogenericgames.community.arrays.utils.FlatArrayUtils;
+import com.nogenericgames.community.arrays.utils.Moments;
+import com.nogenericgames.community.arrays.utils.ParallelArrays;
+import com.nogenericgames.community.arrays.utils.Permutations;
+import com.nogenericgames.community.arrays.utils.Reductions;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /**
@@ -21,7 +28,8 @@ public class Byte4DArray {
      * @param ySize Size of the Y dimension.
      * @param zSize Size of the Z dimension.
      * @param wSize Size of the W dimension.
-     * @throws IllegalArgumentException if any dimension is non-positive.
+     * @throws IllegalArgumentException if any dimension is non-positive or the total size exceeds the maximum
+     *                                  array length.
      */
     public Byte4DArray(int xSize, int ySize, int zSize, int wSize) {
         if (xSize <= 0 || ySize <= 0 || zSize <= 0 || wSize <= 0) {
@@ -31,10 +39,25 @@ public class Byte4DArray {
         this.ySize = ySize;
         this.zSize = zSize;
         this.wSize = wSize;
-        this.totalSize = xSize * ySize * zSize * wSize;
+        this.totalSize = FlatArrayUtils.checkedSize(xSize, ySize, zSize, wSize);
         this.data = new byte[totalSize];
     }
 
+    /**
+     * Constructs a 4D ByteArray over an existing backing array, which is shared rather than copied. The caller
+     * guarantees that the dimensions are positive and multiply to the array's length.
+     *
+     * @param data The backing array.
+     */
+    Byte4DArray(byte[] data, int xSize, int ySize, int zSize, int wSize) {
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.zSize = zSize;
+        this.wSize = wSize;
+        this.totalSize = data.length;
+        this.data = data;
+    }
+
     /**
      * Retrieves the element at the specified (x, y, z, w) coordinates with bounds checking.
      *
@@ -100,6 +123,8 @@ public class Byte4DArray {
 
     /**
      * Retrieves a copy of the underlying data array.
+     * <p>
+     * Use {@link #asReadOnlyBuffer()} or {@link #unwrapUnsafe()} to access the data without copying.
      *
      * @return A new byte array containing the data.
      */
@@ -107,6 +132,54 @@ public class Byte4DArray {
         return data.clone();
     }
 
+    /**
+     * Returns a read-only {@link ByteBuffer} view of the underlying data without copying.
+     * <p>
+     * The view shares storage with this array, so later writes are visible through it. Buffer index {@code i} is
+     * the cell at row-major linear index {@code i}.
+     *
+     * @return A read-only buffer backed by the data array.
+     */
+    public ByteBuffer asReadOnlyBuffer() {
+        return ByteBuffer.wrap(data).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns the underlying data array itself, without copying.
+     * <p>
+     * The array is laid out in row-major order and writes to it are writes to this array. Unlike
+     * {@link #getData()}, this does not allocate, which makes it suitable for handing large arrays to renderers or
+     * serializers every frame.
+     *
+     * @return The backing data array.
+     */
+    public byte[] unwrapUnsafe() {
+        return data;
+    }
+
+    /**
+     * Copies a range of cells, in row-major linear order, into a caller-supplied array.
+     *
+     * @param srcPos  The linear index of the first cell to copy.
+     * @param dest    The destination array.
+     * @param destPos The first index to write in the destination array.
+     * @param length  The number of cells to copy.
+     * @throws IndexOutOfBoundsException if either range is out of bounds.
+     */
+    public void copyInto(int srcPos, byte[] dest, int destPos, int length) {
+        System.arraycopy(data, srcPos, dest, destPos, length);
+    }
+
+    /**
+     * Copies all cells, in row-major linear order, into a caller-supplied buffer at its current position.
+     *
+     * @param dest The destination buffer; its position is advanced by the number of cells.
+     * @throws java.nio.BufferOverflowException if the buffer has less remaining space than the number of cells.
+     */
+    public void copyInto(ByteBuffer dest) {
+        dest.put(data, 0, totalSize);
+    }
+
     /**
      * Fills the array with the specified byte value.
      *
@@ -127,6 +200,417 @@ public class Byte4DArray {
         return copy;
     }
 
+    /**
+     * Calls the consumer for every cell in row-major order, passing its coordinates and value.
+     * <p>
+     * The linear index advances by one per cell, so no index product is computed and no bounds are checked.
+     *
+     * @param consumer The consumer to call.
+     */
+    public void forEach(ByteCellConsumer4 consumer) {
+        int i = 0;
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                for (int z = 0; z < zSize; z++) {
+                    for (int w = 0; w < wSize; w++) {
+                        consumer.accept(x, y, z, w, data[i++]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces every cell, in row-major order, with the result of applying the operator to its coordinates and value.
+     *
+     * @param operator The operator computing each new value.
+     */
+    public void replaceAll(ByteCellOperator4 operator) {
+        int i = 0;
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                for (int z = 0; z < zSize; z++) {
+                    for (int w = 0; w < wSize; w++) {
+                        data[i] = operator.applyAsByte(x, y, z, w, data[i]);
+                        i++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a cursor that walks this array's cells in row-major order, carrying coordinates and the linear index.
+     * Use it with {@link #getLinear(int)} and {@link #setLinear(int, byte)}.
+     *
+     * @return A new cursor positioned before the first cell.
+     */
+    public ArrayCursor cursor() {
+        return new ArrayCursor(xSize, ySize, zSize, wSize);
+    }
+
+    /**
+     * Retrieves the element at the specified row-major linear index without bounds checking beyond the backing
+     * array's own.
+     *
+     * @param index The linear index, between 0 and the total size - 1.
+     * @return The byte value at the index.
+     */
+    public byte getLinear(int index) {
+        return data[index];
+    }
+
+    /**
+     * Sets the element at the specified row-major linear index without bounds checking beyond the backing array's
+     * own.
+     *
+     * @param index The linear index, between 0 and the total size - 1.
+     * @param value The byte value to set.
+     */
+    public void setLinear(int index, byte value) {
+        data[index] = value;
+    }
+
+    /**
+     * Fills the array with the specified byte value, splitting the work across the fork/join pool for large arrays.
+     *
+     * @param value The byte value to fill the array with.
+     * @see ParallelArrays
+     */
+    public void parallelFill(byte value) {
+        ParallelArrays.forEachChunk(totalSize, 1, (chunk, from, to) -> Arrays.fill(data, from, to, value));
+    }
+
+    /**
+     * Replaces every element with the result of applying the operator to it, splitting the work across the
+     * fork/join pool for large arrays. The operator may be called concurrently and in any order.
+     *
+     * @param operator The operator computing each new value.
+     * @see ParallelArrays
+     */
+    public void parallelReplaceAll(ByteUnaryOperator operator) {
+        ParallelArrays.forEachChunk(totalSize, 1, (chunk, from, to) -> {
+            for (int i = from; i < to; i++) {
+                data[i] = operator.applyAsByte(data[i]);
+            }
+        });
+    }
+
+    /**
+     * Combines all elements with an associative operator, reducing chunks in parallel and then combining the
+     * per-chunk results in order.
+     *
+     * @param identity The identity of the operator, used as the starting value of every chunk.
+     * @param operator An associative operator.
+     * @return The combined value.
+     * @see ParallelArrays
+     */
+    public byte parallelReduce(byte identity, ByteBinaryOperator operator) {
+        byte[] partials = new byte[ParallelArrays.chunkCount(totalSize, 1)];
+        ParallelArrays.forEachChunk(totalSize, 1, (chunk, from, to) -> {
+            byte result = identity;
+            for (int i = from; i < to; i++) {
+                result = operator.applyAsByte(result, data[i]);
+            }
+            partials[chunk] = result;
+        });
+        byte result = identity;
+        for (byte partial : partials) {
+            result = operator.applyAsByte(result, partial);
+        }
+        return result;
+    }
+
+    /**
+     * Copies this array's contents into another array of the same dimensions, splitting the work across the
+     * fork/join pool for large arrays.
+     *
+     * @param dest The destination array.
+     * @throws IllegalArgumentException if the dimensions differ.
+     * @see ParallelArrays
+     */
+    public void parallelCopyInto(Byte4DArray dest) {
+        if (xSize != dest.xSize || ySize != dest.ySize || zSize != dest.zSize
+                || wSize != dest.wSize) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+        ParallelArrays.forEachChunk(totalSize, 1,
+                (chunk, from, to) -> System.arraycopy(data, from, dest.data, from, to - from));
+    }
+
+    /**
+     * Returns the sum of all elements, accumulated in {@code long}.
+     *
+     * @return The sum.
+     */
+    public long sum() {
+        return Reductions.sum(data);
+    }
+
+    /**
+     * Returns the sum of all elements, summing chunks in parallel.
+     *
+     * @return The sum.
+     */
+    public long parallelSum() {
+        return Reductions.parallelSum(data);
+    }
+
+    /**
+     * Returns the smallest element.
+     *
+     * @return The minimum value.
+     */
+    public byte minValue() {
+        return data[Reductions.indexOfMin(data)];
+    }
+
+    /**
+     * Returns the largest element.
+     *
+     * @return The maximum value.
+     */
+    public byte maxValue() {
+        return data[Reductions.indexOfMax(data)];
+    }
+
+    /**
+     * Returns the coordinates of the smallest element, the first in row-major order on ties.
+     *
+     * @return A new array holding (x, y, z, w).
+     */
+    public int[] argMin() {
+        return coordinatesOf(Reductions.indexOfMin(data));
+    }
+
+    /**
+     * Returns the coordinates of the largest element, the first in row-major order on ties.
+     *
+     * @return A new array holding (x, y, z, w).
+     */
+    public int[] argMax() {
+        return coordinatesOf(Reductions.indexOfMax(data));
+    }
+
+    /**
+     * Returns the coordinates of the smallest element like {@link #argMin()}, scanning chunks in parallel.
+     *
+     * @return A new array holding (x, y, z, w).
+     */
+    public int[] parallelArgMin() {
+        return coordinatesOf(Reductions.parallelIndexOfMin(data));
+    }
+
+    /**
+     * Returns the coordinates of the largest element like {@link #argMax()}, scanning chunks in parallel.
+     *
+     * @return A new array holding (x, y, z, w).
+     */
+    public int[] parallelArgMax() {
+        return coordinatesOf(Reductions.parallelIndexOfMax(data));
+    }
+
+    /**
+     * Computes the count, mean and variance of all elements in one pass.
+     *
+     * @return The moments of the elements.
+     */
+    public Moments moments() {
+        return Reductions.moments(data);
+    }
+
+    /**
+     * Computes the count, mean and variance of all elements in one pass, processing chunks in parallel.
+     *
+     * @return The moments of the elements.
+     */
+    public Moments parallelMoments() {
+        return Reductions.parallelMoments(data);
+    }
+
+    /**
+     * Returns the arithmetic mean of all elements.
+     *
+     * @return The mean.
+     */
+    public double mean() {
+        return Reductions.moments(data).getMean();
+    }
+
+    /**
+     * Returns the population variance of all elements.
+     *
+     * @return The variance.
+     */
+    public double variance() {
+        return Reductions.moments(data).getVariance();
+    }
+
+    /**
+     * Counts the elements equal to a value.
+     *
+     * @param value The value to count.
+     * @return The number of matching elements.
+     */
+    public int count(byte value) {
+        return Reductions.count(data, value);
+    }
+
+    /**
+     * Counts the elements equal to a value, scanning chunks in parallel.
+     *
+     * @param value The value to count.
+     * @return The number of matching elements.
+     */
+    public int parallelCount(byte value) {
+        return Reductions.parallelCount(data, value);
+    }
+
+    /**
+     * Returns a copy of this array with its axes reordered: dimension i of the result is dimension {@code axes[i]}
+     * of this array, so {@code permute(3, 2, 1, 0)} turns an x-major array into a w-major one.
+     *
+     * @param axes A permutation of 0 to 3.
+     * @return The permuted copy.
+     * @throws IllegalArgumentException if axes is not a permutation.
+     * @see Permutations
+     */
+    public Byte4DArray permute(int... axes) {
+        int[] dims = Permutations.permutedDimensions(new int[]{xSize, ySize, zSize, wSize}, axes);
+        Byte4DArray result = new Byte4DArray(dims[0], dims[1], dims[2], dims[3]);
+        Permutations.permute(data, new int[]{xSize, ySize, zSize, wSize}, axes, result.data);
+        return result;
+    }
+
+    /**
+     * Returns a copy of this array with its axes reordered like {@link #permute(int...)}, splitting the work across
+     * the fork/join pool for large arrays.
+     *
+     * @param axes A permutation of 0 to 3.
+     * @return The permuted copy.
+     * @throws IllegalArgumentException if axes is not a permutation.
+     * @see Permutations
+     */
+    public Byte4DArray parallelPermute(int... axes) {
+        int[] dims = Permutations.permutedDimensions(new int[]{xSize, ySize, zSize, wSize}, axes);
+        Byte4DArray result = new Byte4DArray(dims[0], dims[1], dims[2], dims[3]);
+        Permutations.parallelPermute(data, new int[]{xSize, ySize, zSize, wSize}, axes, result.data);
+        return result;
+    }
+
+    /**
+     * Writes this array with its axes reordered into a destination, as {@link #permute(int...)} would return it.
+     *
+     * @param dest The destination array, not this array, with the permuted dimensions.
+     * @param axes A permutation of 0 to 3.
+     * @throws IllegalArgumentException if axes is not a permutation or the destination has the wrong dimensions or
+     *                                  is this array.
+     */
+    public void permuteInto(Byte4DArray dest, int... axes) {
+        checkPermuted(dest, axes);
+        Permutations.permute(data, new int[]{xSize, ySize, zSize, wSize}, axes, dest.data);
+    }
+
+    /**
+     * Writes this array with its axes reordered into a destination like {@link #permuteInto(Byte4DArray, int...)},
+     * splitting the work across the fork/join pool for large arrays.
+     *
+     * @param dest The destination array, not this array, with the permuted dimensions.
+     * @param axes A permutation of 0 to 3.
+     * @throws IllegalArgumentException if axes is not a permutation or the destination has the wrong dimensions or
+     *                                  is this array.
+     */
+    public void parallelPermuteInto(Byte4DArray dest, int... axes) {
+        checkPermuted(dest, axes);
+        Permutations.parallelPermute(data, new int[]{xSize, ySize, zSize, wSize}, axes, dest.data);
+    }
+
+    /**
+     * Returns a 2D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @return A Byte2DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     */
+    public Byte2DArray reshape(int xSize, int ySize) {
+        checkReshape(xSize, ySize);
+        return new Byte2DArray(data, xSize, ySize);
+    }
+
+    /**
+     * Returns a 3D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @return A Byte3DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     */
+    public Byte3DArray reshape(int xSize, int ySize, int zSize) {
+        checkReshape(xSize, ySize, zSize);
+        return new Byte3DArray(data, xSize, ySize, zSize);
+    }
+
+    /**
+     * Returns a 4D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     * It can also give this array different dimensions of the same rank.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @param wSize Size of the W dimension.
+     * @return A Byte4DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     */
+    public Byte4DArray reshape(int xSize, int ySize, int zSize, int wSize) {
+        checkReshape(xSize, ySize, zSize, wSize);
+        return new Byte4DArray(data, xSize, ySize, zSize, wSize);
+    }
+
+    /**
+     * Returns a 5D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @param wSize Size of the W dimension.
+     * @param uSize Size of the U dimension.
+     * @return A Byte5DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     */
+    public Byte5DArray reshape(int xSize, int ySize, int zSize, int wSize, int uSize) {
+        checkReshape(xSize, ySize, zSize, wSize, uSize);
+        return new Byte5DArray(data, xSize, ySize, zSize, wSize, uSize);
+    }
+
+    /**
+     * Returns a 6D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @param wSize Size of the W dimension.
+     * @param uSize Size of the U dimension.
+     * @param vSize Size of the V dimension.
+     * @return A Byte6DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     */
+    public Byte6DArray reshape(int xSize, int ySize, int zSize, int wSize, int uSize, int vSize) {
+        checkReshape(xSize, ySize, zSize, wSize, uSize, vSize);
+        return new Byte6DArray(data, xSize, ySize, zSize, wSize, uSize, vSize);
+    }
+
     /**
      * Returns the size of the X dimension.
      *
@@ -205,6 +689,37 @@ public class Byte4DArray {
         return result;
     }
 
+    private int[] coordinatesOf(int index) {
+        int[] coordinates = new int[4];
+        coordinates[3] = index % wSize;
+        index /= wSize;
+        coordinates[2] = index % zSize;
+        index /= zSize;
+        coordinates[1] = index % ySize;
+        index /= ySize;
+        coordinates[0] = index;
+        return coordinates;
+    }
+
+    private void checkPermuted(Byte4DArray dest, int[] axes) {
+        int[] dims = Permutations.permutedDimensions(new int[]{xSize, ySize, zSize, wSize}, axes);
+        if (dest.xSize != dims[0] || dest.ySize != dims[1] || dest.zSize != dims[2]
+                || dest.wSize != dims[3]) {
+            throw new IllegalArgumentException("Dimensions must match the permutation.");
+        }
+    }
+
+    private void checkReshape(int... dimensions) {
+        for (int dimension : dimensions) {
+            if (dimension <= 0) {
+                throw new IllegalArgumentException("Dimensions must be positive.");
+            }
+        }
+        if (FlatArrayUtils.checkedSize(dimensions) != totalSize) {
+            throw new IllegalArgumentException("Reshaped dimensions must hold " + totalSize + " elements.");
+        }
+    }
+
     /**
      * Checks if the provided (x, y, z, w) coordinates are within bounds.
      *
@@ -0,0 +1,208 @@
+package com.nogenericgames.community.arrays.bytes;
+
+import com.nogenericgames.community.arrays.utils.BoundaryMode;
+import com.nogenericgames.community.arrays.utils.Neighbourhood;
+import com.nogenericgames.community.arrays.utils.ParallelArrays;
+
+/**
+ * A double-buffered cellular automaton over a {@link Byte2DArray}.
+ * <p>
+ * Each step reads the front buffer, writes every cell of the back buffer and then swaps the two, so no grid is copied
+ * or allocated per step. Cells away from the edges read their neighbours with unchecked index arithmetic; only edge
+ * cells go through the {@link BoundaryMode}, where {@link BoundaryMode#ZERO} makes cells outside the grid read as 0.
+ * <p>
+ * {@link #parallelStep(ByteAutomatonRule)} splits the rows into bands processed by {@link ParallelArrays}; the rule is
+ * then called from several threads at once and must be stateless.
+ */
+public class ByteAutomaton {
+
+    private final int xSize;
+    private final int ySize;
+    private final Neighbourhood neighbourhood;
+    private final BoundaryMode mode;
+    private final int[] offsets;
+    private Byte2DArray front;
+    private Byte2DArray back;
+    private byte[][] scratch;
+    private long generation;
+
+    /**
+     * Constructs an automaton with both buffers filled with zeros.
+     *
+     * @param xSize         Size of the X dimension.
+     * @param ySize         Size of the Y dimension.
+     * @param neighbourhood The neighbours passed to the rule.
+     * @param mode          How neighbours outside the grid are read.
+     * @throws IllegalArgumentException if any dimension is non-positive.
+     */
+    public ByteAutomaton(int xSize, int ySize, Neighbourhood neighbourhood, BoundaryMode mode) {
+        this.front = new Byte2DArray(xSize, ySize);
+        this.back = new Byte2DArray(xSize, ySize);
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.neighbourhood = neighbourhood;
+        this.mode = mode;
+        this.offsets = new int[neighbourhood.size()];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = neighbourhood.getDX(i) * ySize + neighbourhood.getDY(i);
+        }
+        this.scratch = new byte[1][neighbourhood.size()];
+    }
+
+    /**
+     * Constructs an automaton whose front buffer is a copy of the given grid.
+     *
+     * @param initial       The initial state, copied.
+     * @param neighbourhood The neighbours passed to the rule.
+     * @param mode          How neighbours outside the grid are read.
+     */
+    public ByteAutomaton(Byte2DArray initial, Neighbourhood neighbourhood, BoundaryMode mode) {
+        this(initial.getXSize(), initial.getYSize(), neighbourhood, mode);
+        initial.parallelCopyInto(front);
+    }
+
+    /**
+     * Returns a rule for Life-like automata: a cell is alive when nonzero, and the next state is 1 or 0 depending on
+     * the number of live neighbours. Conway's Game of Life is {@code lifeRule(1 << 3, (1 << 2) | (1 << 3))}.
+     *
+     * @param birthMask    Bit n is set if a dead cell with n live neighbours becomes alive.
+     * @param survivalMask Bit n is set if a live cell with n live neighbours stays alive.
+     * @return The rule.
+     */
+    public static ByteAutomatonRule lifeRule(int birthMask, int survivalMask) {
+        return (center, neighbours) -> {
+            int live = 0;
+            for (byte neighbour : neighbours) {
+                if (neighbour != 0) {
+                    live++;
+                }
+            }
+            int mask = center != 0 ? survivalMask : birthMask;
+            return (byte) ((mask >>> live) & 1);
+        };
+    }
+
+    /**
+     * Advances the automaton by one generation on the calling thread.
+     *
+     * @param rule The rule computing each cell's next state.
+     */
+    public void step(ByteAutomatonRule rule) {
+        stepRows(rule, scratch[0], 0, xSize);
+        swap();
+    }
+
+    /**
+     * Advances the automaton by one generation, processing bands of rows in parallel.
+     *
+     * @param rule The rule computing each cell's next state, which must be safe to call from several threads.
+     */
+    public void parallelStep(ByteAutomatonRule rule) {
+        int chunks = ParallelArrays.chunkCount(xSize, ySize);
+        if (scratch.length < chunks) {
+            scratch = new byte[chunks][neighbourhood.size()];
+        }
+        byte[][] buffers = scratch;
+        ParallelArrays.forEachChunk(xSize, ySize, (chunk, from, to) -> stepRows(rule, buffers[chunk], from, to));
+        swap();
+    }
+
+    /**
+     * Advances the automaton by the given number of generations on the calling thread.
+     *
+     * @param rule        The rule computing each cell's next state.
+     * @param generations The number of steps.
+     */
+    public void step(ByteAutomatonRule rule, int generations) {
+        for (int i = 0; i < generations; i++) {
+            step(rule);
+        }
+    }
+
+    /**
+     * Returns the buffer holding the current generation. It may be modified between steps; its identity changes after
+     * every step.
+     *
+     * @return The front buffer.
+     */
+    public Byte2DArray getFront() {
+        return front;
+    }
+
+    /**
+     * Returns the buffer holding the previous generation, which the next step overwrites.
+     *
+     * @return The back buffer.
+     */
+    public Byte2DArray getBack() {
+        return back;
+    }
+
+    /**
+     * Returns the number of steps taken.
+     *
+     * @return The generation count.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the neighbourhood passed to the rule.
+     *
+     * @return The neighbourhood.
+     */
+    public Neighbourhood getNeighbourhood() {
+        return neighbourhood;
+    }
+
+    /**
+     * Returns how neighbours outside the grid are read.
+     *
+     * @return The boundary mode.
+     */
+    public BoundaryMode getBoundaryMode() {
+        return mode;
+    }
+
+    private void swap() {
+        Byte2DArray previous = front;
+        front = back;
+        back = previous;
+        generation++;
+    }
+
+    private void stepRows(ByteAutomatonRule rule, byte[] neighbours, int fromRow, int toRow) {
+        byte[] src = front.unwrapUnsafe();
+        byte[] dst = back.unwrapUnsafe();
+        int count = offsets.length;
+        for (int x = fromRow; x < toRow; x++) {
+            int base = x * ySize;
+            if (x == 0 || x == xSize - 1 || ySize < 3) {
+                for (int y = 0; y < ySize; y++) {
+                    dst[base + y] = rule.next(src[base + y], gatherEdge(src, x, y, neighbours));
+                }
+                continue;
+            }
+            dst[base] = rule.next(src[base], gatherEdge(src, x, 0, neighbours));
+            for (int y = 1, end = ySize - 1; y < end; y++) {
+                int index = base + y;
+                for (int i = 0; i < count; i++) {
+                    neighbours[i] = src[index + offsets[i]];
+                }
+                dst[index] = rule.next(src[index], neighbours);
+            }
+            int last = base + ySize - 1;
+            dst[last] = rule.next(src[last], gatherEdge(src, x, ySize - 1, neighbours));
+        }
+    }
+
+    private byte[] gatherEdge(byte[] src, int x, int y, byte[] neighbours) {
+        for (int i = 0; i < neighbours.length; i++) {
+            int nx = mode.resolve(x + neighbourhood.getDX(i), xSize);
+            int ny = mode.resolve(y + neighbourhood.getDY(i), ySize);
+            neighbours[i] = nx < 0 || ny < 0 ? 0 : src[nx * ySize + ny];
+        }
+        return neighbours;
+    }
+}
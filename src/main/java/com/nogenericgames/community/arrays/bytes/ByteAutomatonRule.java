@@ -0,0 +1,19 @@
+package com.nogenericgames.community.arrays.bytes;
+
+/**
+ * Computes the next state of a cell of a {@link ByteAutomaton} from its current state and its neighbours.
+ */
+@FunctionalInterface
+public interface ByteAutomatonRule {
+
+    /**
+     * Computes the next state of one cell.
+     *
+     * @param center     The current state of the cell.
+     * @param neighbours The current states of the neighbours, in the order of the automaton's
+     *                   {@link com.nogenericgames.community.arrays.utils.Neighbourhood}. The array is reused between
+     *                   calls and must not be kept.
+     * @return The next state of the cell.
+     */
+    byte next(byte center, byte[] neighbours);
+}
@@ -0,0 +1,18 @@
+package com.nogenericgames.community.arrays.bytes;
+
+/**
+ * An operation on two byte operands that produces a byte result, the byte counterpart of
+ * {@link java.util.function.IntBinaryOperator}.
+ */
+@FunctionalInterface
+public interface ByteBinaryOperator {
+
+    /**
+     * Applies this operator to the given operands.
+     *
+     * @param left  The first operand.
+     * @param right The second operand.
+     * @return The result.
+     */
+    byte applyAsByte(byte left, byte right);
+}
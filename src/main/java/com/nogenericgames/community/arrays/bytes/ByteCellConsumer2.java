@@ -0,0 +1,17 @@
+package com.nogenericgames.community.arrays.bytes;
+
+/**
+ * Receives the cells of a two-dimensional byte array together with their coordinates.
+ */
+@FunctionalInterface
+public interface ByteCellConsumer2 {
+
+    /**
+     * Accepts one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param value The byte value at (x, y).
+     */
+    void accept(int x, int y, byte value);
+}
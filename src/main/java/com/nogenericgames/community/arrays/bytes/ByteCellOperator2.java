@@ -0,0 +1,18 @@
+package com.nogenericgames.community.arrays.bytes;
+
+/**
+ * Computes a new value for a cell of a two-dimensional byte array from its coordinates and current value.
+ */
+@FunctionalInterface
+public interface ByteCellOperator2 {
+
+    /**
+     * Computes the new value of one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param value The current byte value at (x, y).
+     * @return The new value of the cell.
+     */
+    byte applyAsByte(int x, int y, byte value);
+}
@@ -0,0 +1,17 @@
+package com.nogenericgames.community.arrays.bytes;
+
+/**
+ * An operation on a single byte operand that produces a byte result, the byte counterpart of
+ * {@link java.util.function.IntUnaryOperator}.
+ */
+@FunctionalInterface
+public interface ByteUnaryOperator {
+
+    /**
+     * Applies this operator to the given operand.
+     *
+     * @param operand The operand.
+     * @return The result.
+     */
+    byte applyAsByte(byte operand);
+}
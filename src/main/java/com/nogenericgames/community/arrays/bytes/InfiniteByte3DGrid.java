@@ -0,0 +1,502 @@
+package com.nogenericgames.community.arrays.bytes;
+
+import com.nogenericgames.community.arrays.utils.ChunkKeys;
+import com.nogenericgames.community.arrays.utils.DirectBuffers;
+import com.nogenericgames.community.arrays.utils.LongObjectMap;
+import com.nogenericgames.community.arrays.utils.SpillFile;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * An unbounded three-dimensional grid of bytes made of cubic {@link Byte3DArray} chunks, with a bounded number of
+ * chunks kept in memory and the rest spilled to a local file.
+ * <p>
+ * Chunks are created on the first write of a non-zero value; cells of chunks that do not exist read as zero. They
+ * are found through a {@link LongObjectMap} keyed by {@link ChunkKeys packed} chunk coordinates, so lookups box
+ * nothing. At most {@code maxResidentChunks} chunks hold their cells in memory, ordered from most to least recently
+ * used. When another chunk is needed, the least recently used one is evicted: if it was modified since it was last
+ * loaded it is written to a slot of the {@link SpillFile}, otherwise its cells are simply dropped, and a modified
+ * chunk that is all zero is forgotten instead of written. Accessing a spilled chunk reads it back. The cell array
+ * of an evicted chunk is handed to the next chunk that becomes resident, so a grid that keeps faulting allocates no
+ * cell arrays beyond its first {@code maxResidentChunks}.
+ * <p>
+ * Coordinates may be negative. Chunk coordinates are limited to 21 bits, so each world coordinate must lie between
+ * {@link #getMinCoordinate()} and {@link #getMaxCoordinate()}. The grid is not thread-safe. Once closed, every
+ * method that reads or writes cells throws {@link IllegalStateException}.
+ */
+public class InfiniteByte3DGrid implements Closeable {
+
+    private static final class Chunk {
+
+        private final long key;
+        private Byte3DArray cells;
+        private int slot = -1;
+        private boolean dirty;
+        private Chunk newer;
+        private Chunk older;
+
+        private Chunk(long key) {
+            this.key = key;
+        }
+    }
+
+    private final LongObjectMap<Chunk> chunks = new LongObjectMap<>();
+    private final SpillFile spill;
+    private final ByteBuffer io;
+    private final int chunkShift;
+    private final int chunkMask;
+    private final int maxResidentChunks;
+    private int residentChunks;
+    private Chunk newest;
+    private Chunk oldest;
+    private Byte3DArray spare;
+    private long faults;
+    private long evictions;
+    private boolean closed;
+
+    /**
+     * Constructs an empty grid with 16^3 chunks.
+     *
+     * @param spillFile         The file to spill evicted chunks to; must not exist, deleted on close.
+     * @param maxResidentChunks The maximum number of chunks kept in memory.
+     * @throws IOException              if the spill file exists already or cannot be created.
+     * @throws IllegalArgumentException if the resident chunk limit is not positive.
+     */
+    public InfiniteByte3DGrid(Path spillFile, int maxResidentChunks) throws IOException {
+        this(spillFile, 4, maxResidentChunks);
+    }
+
+    /**
+     * Constructs an empty grid with chunks of edge length {@code 1 << chunkShift}.
+     *
+     * @param spillFile         The file to spill evicted chunks to; must not exist, deleted on close.
+     * @param chunkShift        Log2 of the chunk edge length: 4 for 16^3 chunks, 5 for 32^3 chunks.
+     * @param maxResidentChunks The maximum number of chunks kept in memory.
+     * @throws IOException              if the spill file exists already or cannot be created.
+     * @throws IllegalArgumentException if the chunk shift is not 4 or 5 or the resident chunk limit is not positive.
+     */
+    public InfiniteByte3DGrid(Path spillFile, int chunkShift, int maxResidentChunks) throws IOException {
+        if (chunkShift != 4 && chunkShift != 5) {
+            throw new IllegalArgumentException("Chunk shift must be 4 (16^3 chunks) or 5 (32^3 chunks).");
+        }
+        if (maxResidentChunks <= 0) {
+            throw new IllegalArgumentException("Resident chunk limit must be positive.");
+        }
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+        this.maxResidentChunks = maxResidentChunks;
+        this.spill = new SpillFile(spillFile, 1 << (3 * chunkShift));
+        this.io = DirectBuffers.allocate(1 << (3 * chunkShift));
+    }
+
+    /**
+     * Retrieves the element at the specified world coordinates with bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @return The byte value at (x, y, z).
+     * @throws IndexOutOfBoundsException if a coordinate is outside the supported range.
+     * @throws UncheckedIOException      if a chunk cannot be read from or written to the spill file.
+     * @throws IllegalStateException     if the grid has been closed.
+     */
+    public byte get(int x, int y, int z) {
+        checkOpen();
+        checkBounds(x, y, z);
+        return getUnsafe(x, y, z);
+    }
+
+    /**
+     * Sets the element at the specified world coordinates with bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param value The byte value to set.
+     * @throws IndexOutOfBoundsException if a coordinate is outside the supported range.
+     * @throws UncheckedIOException      if a chunk cannot be read from or written to the spill file.
+     * @throws IllegalStateException     if the grid has been closed.
+     */
+    public void set(int x, int y, int z, byte value) {
+        checkOpen();
+        checkBounds(x, y, z);
+        setUnsafe(x, y, z, value);
+    }
+
+    /**
+     * Retrieves the element at the specified world coordinates without bounds checking. Coordinates outside the
+     * supported range alias other chunks.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @return The byte value at (x, y, z).
+     * @throws UncheckedIOException  if a chunk cannot be read from or written to the spill file.
+     * @throws IllegalStateException if the grid has been closed.
+     */
+    public byte getUnsafe(int x, int y, int z) {
+        Chunk chunk = find(ChunkKeys.pack(x >> chunkShift, y >> chunkShift, z >> chunkShift), false);
+        if (chunk == null) {
+            return 0;
+        }
+        return chunk.cells.getUnsafe(x & chunkMask, y & chunkMask, z & chunkMask);
+    }
+
+    /**
+     * Sets the element at the specified world coordinates without bounds checking. Writing zero into a chunk that
+     * does not exist is free. Coordinates outside the supported range alias other chunks.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param value The byte value to set.
+     * @throws UncheckedIOException  if a chunk cannot be read from or written to the spill file.
+     * @throws IllegalStateException if the grid has been closed.
+     */
+    public void setUnsafe(int x, int y, int z, byte value) {
+        Chunk chunk = find(ChunkKeys.pack(x >> chunkShift, y >> chunkShift, z >> chunkShift), value != 0);
+        if (chunk == null) {
+            return;
+        }
+        chunk.cells.setUnsafe(x & chunkMask, y & chunkMask, z & chunkMask, value);
+        chunk.dirty = true;
+    }
+
+    /**
+     * Returns the cells of a chunk, loading it from the spill file or creating it filled with zeros if necessary,
+     * and marks it modified.
+     * <p>
+     * The returned array stays valid until the chunk is evicted, which can happen as soon as
+     * {@code maxResidentChunks} other chunks have been accessed; the array then holds the cells of another chunk, so
+     * do not keep it beyond that.
+     *
+     * @param chunkX The X-coordinate of the chunk (cell X shifted right by the chunk shift).
+     * @param chunkY The Y-coordinate of the chunk.
+     * @param chunkZ The Z-coordinate of the chunk.
+     * @return The chunk's cells, edge length {@link #getChunkSize()}; shared, not copied.
+     * @throws IndexOutOfBoundsException if a chunk coordinate does not fit in a {@link ChunkKeys} key.
+     * @throws UncheckedIOException      if a chunk cannot be read from or written to the spill file.
+     * @throws IllegalStateException     if the grid has been closed.
+     */
+    public Byte3DArray getChunk(int chunkX, int chunkY, int chunkZ) {
+        checkOpen();
+        checkChunkBounds(chunkX, chunkY, chunkZ);
+        Chunk chunk = find(ChunkKeys.pack(chunkX, chunkY, chunkZ), true);
+        chunk.dirty = true;
+        return chunk.cells;
+    }
+
+    /**
+     * Returns whether a chunk exists, resident or spilled.
+     *
+     * @param chunkX The X-coordinate of the chunk.
+     * @param chunkY The Y-coordinate of the chunk.
+     * @param chunkZ The Z-coordinate of the chunk.
+     * @return True if the chunk has been created and not removed.
+     * @throws IllegalStateException if the grid has been closed.
+     */
+    public boolean hasChunk(int chunkX, int chunkY, int chunkZ) {
+        checkOpen();
+        return chunks.containsKey(ChunkKeys.pack(chunkX, chunkY, chunkZ));
+    }
+
+    /**
+     * Discards a chunk, resident or spilled, so its cells read as zero again and its spill slot is reused.
+     *
+     * @param chunkX The X-coordinate of the chunk.
+     * @param chunkY The Y-coordinate of the chunk.
+     * @param chunkZ The Z-coordinate of the chunk.
+     * @return True if the chunk existed.
+     * @throws IllegalStateException if the grid has been closed.
+     */
+    public boolean removeChunk(int chunkX, int chunkY, int chunkZ) {
+        checkOpen();
+        Chunk chunk = chunks.remove(ChunkKeys.pack(chunkX, chunkY, chunkZ));
+        if (chunk == null) {
+            return false;
+        }
+        if (chunk.cells != null) {
+            unlink(chunk);
+            spare = chunk.cells;
+            residentChunks--;
+        }
+        if (chunk.slot >= 0) {
+            spill.free(chunk.slot);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of chunks that exist, resident or spilled.
+     *
+     * @return The chunk count.
+     */
+    public int getChunkCount() {
+        return chunks.size();
+    }
+
+    /**
+     * Returns the number of chunks whose cells are in memory.
+     *
+     * @return The resident chunk count, at most {@link #getMaxResidentChunks()}.
+     */
+    public int getResidentChunkCount() {
+        return residentChunks;
+    }
+
+    /**
+     * Returns the maximum number of chunks kept in memory.
+     *
+     * @return The resident chunk limit.
+     */
+    public int getMaxResidentChunks() {
+        return maxResidentChunks;
+    }
+
+    /**
+     * Returns how many times a spilled chunk has been read back.
+     *
+     * @return The number of chunk faults.
+     */
+    public long getFaultCount() {
+        return faults;
+    }
+
+    /**
+     * Returns how many times a chunk has been evicted from memory, whether or not it had to be written.
+     *
+     * @return The number of evictions.
+     */
+    public long getEvictionCount() {
+        return evictions;
+    }
+
+    /**
+     * Returns the edge length of a chunk.
+     *
+     * @return The number of cells along each axis of a chunk.
+     */
+    public int getChunkSize() {
+        return 1 << chunkShift;
+    }
+
+    /**
+     * Returns the smallest supported world coordinate on every axis.
+     *
+     * @return The minimum coordinate.
+     */
+    public int getMinCoordinate() {
+        return ChunkKeys.MIN_COORDINATE << chunkShift;
+    }
+
+    /**
+     * Returns the largest supported world coordinate on every axis.
+     *
+     * @return The maximum coordinate.
+     */
+    public int getMaxCoordinate() {
+        return ((ChunkKeys.MAX_COORDINATE + 1) << chunkShift) - 1;
+    }
+
+    /**
+     * Closes the spill file and releases the transfer buffer. Afterwards the grid rejects every access that reads
+     * or writes cells; closing it again has no effect. Closing the spill file deletes it.
+     *
+     * @throws IOException if closing the spill file fails.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            spill.close();
+        } finally {
+            DirectBuffers.free(io);
+        }
+    }
+
+    /**
+     * Returns the chunk with the given key as the most recently used resident chunk, loading it if it is spilled.
+     *
+     * @param key    The packed chunk key.
+     * @param create Whether to create a missing chunk instead of returning null.
+     * @return The resident chunk, or null if it does not exist and create is false.
+     */
+    private Chunk find(long key, boolean create) {
+        checkOpen();
+        Chunk chunk = newest;
+        if (chunk != null && chunk.key == key) {
+            return chunk;
+        }
+        chunk = chunks.get(key);
+        if (chunk == null) {
+            if (!create) {
+                return null;
+            }
+            chunk = new Chunk(key);
+            chunk.cells = takeCells(true);
+            chunks.put(key, chunk);
+            makeResident(chunk);
+        } else if (chunk.cells == null) {
+            chunk.cells = takeCells(false);
+            try {
+                io.clear();
+                spill.read(chunk.slot, io);
+            } catch (IOException e) {
+                spare = chunk.cells;
+                chunk.cells = null;
+                throw new UncheckedIOException("Failed to read a chunk from " + spill.getFile() + ".", e);
+            }
+            io.flip();
+            io.get(chunk.cells.unwrapUnsafe());
+            faults++;
+            makeResident(chunk);
+        } else {
+            unlink(chunk);
+            linkNewest(chunk);
+        }
+        return chunk;
+    }
+
+    /**
+     * Returns a cell array for a chunk about to become resident, evicting the least recently used chunk first if the
+     * resident limit is reached and reusing its array.
+     *
+     * @param clear Whether the cells must be zero; false if they are about to be overwritten.
+     * @return The cell array.
+     */
+    private Byte3DArray takeCells(boolean clear) {
+        if (residentChunks >= maxResidentChunks) {
+            evict(oldest);
+        }
+        Byte3DArray cells = spare;
+        if (cells == null) {
+            return new Byte3DArray(1 << chunkShift, 1 << chunkShift, 1 << chunkShift);
+        }
+        spare = null;
+        if (clear) {
+            cells.clear();
+        }
+        return cells;
+    }
+
+    private void makeResident(Chunk chunk) {
+        linkNewest(chunk);
+        residentChunks++;
+    }
+
+    private void evict(Chunk chunk) {
+        checkOpen();
+        if (chunk.dirty) {
+            byte[] cells = chunk.cells.unwrapUnsafe();
+            if (isZero(cells)) {
+                chunks.remove(chunk.key);
+                if (chunk.slot >= 0) {
+                    spill.free(chunk.slot);
+                }
+            } else {
+                if (chunk.slot < 0) {
+                    chunk.slot = spill.allocate();
+                }
+                io.clear();
+                io.put(cells);
+                io.flip();
+                try {
+                    spill.write(chunk.slot, io);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to spill a chunk to " + spill.getFile() + ".", e);
+                }
+                chunk.dirty = false;
+            }
+        }
+        unlink(chunk);
+        spare = chunk.cells;
+        chunk.cells = null;
+        residentChunks--;
+        evictions++;
+    }
+
+    private static boolean isZero(byte[] cells) {
+        for (byte cell : cells) {
+            if (cell != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void linkNewest(Chunk chunk) {
+        chunk.older = newest;
+        chunk.newer = null;
+        if (newest != null) {
+            newest.newer = chunk;
+        } else {
+            oldest = chunk;
+        }
+        newest = chunk;
+    }
+
+    private void unlink(Chunk chunk) {
+        if (chunk.newer != null) {
+            chunk.newer.older = chunk.older;
+        } else {
+            newest = chunk.older;
+        }
+        if (chunk.older != null) {
+            chunk.older.newer = chunk.newer;
+        } else {
+            oldest = chunk.newer;
+        }
+        chunk.newer = null;
+        chunk.older = null;
+    }
+
+    /**
+     * Checks if the provided (x, y, z) coordinates are within the supported range.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @throws IndexOutOfBoundsException if a coordinate is outside the supported range.
+     */
+    private void checkBounds(int x, int y, int z) {
+        if (!ChunkKeys.fits(x >> chunkShift)) {
+            throw new IndexOutOfBoundsException(
+                    "X-coordinate " + x + " out of bounds for dimension 0 (" + getMinCoordinate() + " to "
+                            + getMaxCoordinate() + ")."
+            );
+        }
+        if (!ChunkKeys.fits(y >> chunkShift)) {
+            throw new IndexOutOfBoundsException(
+                    "Y-coordinate " + y + " out of bounds for dimension 1 (" + getMinCoordinate() + " to "
+                            + getMaxCoordinate() + ")."
+            );
+        }
+        if (!ChunkKeys.fits(z >> chunkShift)) {
+            throw new IndexOutOfBoundsException(
+                    "Z-coordinate " + z + " out of bounds for dimension 2 (" + getMinCoordinate() + " to "
+                            + getMaxCoordinate() + ")."
+            );
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Grid has been closed.");
+        }
+    }
+
+    private void checkChunkBounds(int chunkX, int chunkY, int chunkZ) {
+        if (!ChunkKeys.fits(chunkX) || !ChunkKeys.fits(chunkY) || !ChunkKeys.fits(chunkZ)) {
+            throw new IndexOutOfBoundsException(
+                    "Chunk (" + chunkX + ", " + chunkY + ", " + chunkZ + ") out of bounds (" + ChunkKeys.MIN_COORDINATE
+                            + " to " + ChunkKeys.MAX_COORDINATE + ")."
+            );
+        }
+    }
+}
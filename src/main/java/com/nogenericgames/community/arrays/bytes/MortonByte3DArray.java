@@ -0,0 +1,307 @@
+package com.nogenericgames.community.arrays.bytes;
+
+import com.nogenericgames.community.arrays.utils.Morton;
+import java.util.Arrays;
+
+/**
+ * Represents a three-dimensional array of bytes stored in Morton (Z-order) rather than row-major order.
+ * <p>
+ * In {@link Byte3DArray} a step along X jumps {@code ySize * zSize} elements, so stencils that read all neighbours of a
+ * cell touch several distant cache lines. Here the index is the bit-interleaved code of the coordinates (see
+ * {@link Morton}), which keeps small cubes of cells together in memory and makes the distance to a neighbour
+ * independent of its direction on average. The cost is a few shifts and masks per access.
+ * <p>
+ * Each dimension is limited to 1024. Interleaving the coordinates of the whole box would waste most of the storage
+ * for any shape but a power-of-two cube, so the box is split into tiles with power-of-two edges chosen per axis (see
+ * {@link Morton#tileShifts}) that are Morton-ordered inside and stored in row-major order. The padding to whole tiles
+ * adds at most 1/8 to the storage; the padding slots always hold 0.
+ */
+public class MortonByte3DArray {
+
+    private final byte[] data;
+    private final int xSize;
+    private final int ySize;
+    private final int zSize;
+
+    /**
+     * Per-axis contributions to the storage index. The Morton bits of the three axes are disjoint and the tile
+     * offsets add up, so the index of (x, y, z) is {@code xOffsets[x] + yOffsets[y] + zOffsets[z]}.
+     */
+    private final int[] xOffsets;
+    private final int[] yOffsets;
+    private final int[] zOffsets;
+
+    /**
+     * Constructs a Morton-ordered 3D ByteArray with the specified dimensions.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @throws IllegalArgumentException if any dimension is non-positive or larger than 1024.
+     */
+    public MortonByte3DArray(int xSize, int ySize, int zSize) {
+        this.data = new byte[Morton.capacity(xSize, ySize, zSize)];
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.zSize = zSize;
+        int[][] offsets = Morton.offsets(xSize, ySize, zSize);
+        this.xOffsets = offsets[0];
+        this.yOffsets = offsets[1];
+        this.zOffsets = offsets[2];
+    }
+
+    /**
+     * Creates a Morton-ordered copy of a row-major array.
+     *
+     * @param source The array to copy.
+     * @return A new MortonByte3DArray with the same dimensions and contents.
+     * @throws IllegalArgumentException if any dimension of the source is larger than 1024.
+     */
+    public static MortonByte3DArray of(Byte3DArray source) {
+        MortonByte3DArray array = new MortonByte3DArray(source.getXSize(), source.getYSize(), source.getZSize());
+        byte[] values = source.unwrapUnsafe();
+        int i = source.getOffset();
+        for (int x = 0; x < array.xSize; x++) {
+            for (int y = 0; y < array.ySize; y++) {
+                for (int z = 0; z < array.zSize; z++) {
+                    array.data[array.index(x, y, z)] = values[i++];
+                }
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Creates a row-major copy of this array.
+     *
+     * @return A new Byte3DArray with the same contents.
+     */
+    public Byte3DArray toByte3DArray() {
+        Byte3DArray dense = new Byte3DArray(xSize, ySize, zSize);
+        byte[] values = dense.unwrapUnsafe();
+        int i = 0;
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                for (int z = 0; z < zSize; z++) {
+                    values[i++] = data[index(x, y, z)];
+                }
+            }
+        }
+        return dense;
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y, z) coordinates with bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @return The byte value at (x, y, z).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public byte get(int x, int y, int z) {
+        checkBounds(x, y, z);
+        return data[index(x, y, z)];
+    }
+
+    /**
+     * Sets the element at the specified (x, y, z) coordinates with bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param value The byte value to set.
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public void set(int x, int y, int z, byte value) {
+        checkBounds(x, y, z);
+        data[index(x, y, z)] = value;
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y, z) coordinates without bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @return The byte value at (x, y, z).
+     */
+    public byte getUnsafe(int x, int y, int z) {
+        return data[index(x, y, z)];
+    }
+
+    /**
+     * Sets the element at the specified (x, y, z) coordinates without bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param value The byte value to set.
+     */
+    public void setUnsafe(int x, int y, int z, byte value) {
+        data[index(x, y, z)] = value;
+    }
+
+    /**
+     * Clears the array by setting all elements to 0.
+     */
+    public void clear() {
+        Arrays.fill(data, (byte) 0);
+    }
+
+    /**
+     * Fills the array with the specified byte value. Unused slots of a non-cubic array are left at 0.
+     *
+     * @param value The byte value to fill the array with.
+     */
+    public void fill(byte value) {
+        if (data.length == xSize * ySize * zSize) {
+            Arrays.fill(data, value);
+            return;
+        }
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                for (int z = 0; z < zSize; z++) {
+                    data[index(x, y, z)] = value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the backing array in tiled Morton order, without copying. Cell (x, y, z) lives at
+     * {@link #index(int, int, int)}.
+     *
+     * @return The backing data array.
+     */
+    public byte[] unwrapUnsafe() {
+        return data;
+    }
+
+    /**
+     * Creates a copy of this MortonByte3DArray.
+     *
+     * @return A new MortonByte3DArray instance with copied data.
+     */
+    public MortonByte3DArray copy() {
+        MortonByte3DArray copy = new MortonByte3DArray(xSize, ySize, zSize);
+        System.arraycopy(data, 0, copy.data, 0, data.length);
+        return copy;
+    }
+
+    /**
+     * Returns the size of the X dimension.
+     *
+     * @return The size of X.
+     */
+    public int getXSize() {
+        return xSize;
+    }
+
+    /**
+     * Returns the size of the Y dimension.
+     *
+     * @return The size of Y.
+     */
+    public int getYSize() {
+        return ySize;
+    }
+
+    /**
+     * Returns the size of the Z dimension.
+     *
+     * @return The size of Z.
+     */
+    public int getZSize() {
+        return zSize;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("MortonByte3DArray{\n");
+        for (int x = 0; x < xSize; x++) {
+            sb.append("  Layer ").append(x).append(":\n");
+            for (int y = 0; y < ySize; y++) {
+                sb.append("    [");
+                for (int z = 0; z < zSize; z++) {
+                    sb.append(getUnsafe(x, y, z));
+                    if (z < zSize - 1) sb.append(", ");
+                }
+                sb.append("]\n");
+            }
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        MortonByte3DArray that = (MortonByte3DArray) o;
+
+        if (xSize != that.xSize) return false;
+        if (ySize != that.ySize) return false;
+        if (zSize != that.zSize) return false;
+        return Arrays.equals(data, that.data);
+    }
+
+    /**
+     * Hashes cell values in row-major order, so the result matches {@link Byte3DArray#hashCode()} for the same contents.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                for (int z = 0; z < zSize; z++) {
+                    result = 31 * result + data[index(x, y, z)];
+                }
+            }
+        }
+        result = 31 * result + xSize;
+        result = 31 * result + ySize;
+        result = 31 * result + zSize;
+        return result;
+    }
+
+    /**
+     * Returns the position of a cell in the backing array: the row-major number of its tile times the tile volume,
+     * plus the Morton code of the cell within the tile. Coordinates are not checked.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @return The index into {@link #unwrapUnsafe()}.
+     */
+    public int index(int x, int y, int z) {
+        return xOffsets[x] + yOffsets[y] + zOffsets[z];
+    }
+
+    /**
+     * Checks if the provided (x, y, z) coordinates are within bounds.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    private void checkBounds(int x, int y, int z) {
+        if (x < 0 || x >= xSize) {
+            throw new IndexOutOfBoundsException(
+                    "X-coordinate " + x + " out of bounds for dimension 0 (0 to " + (xSize - 1) + ")."
+            );
+        }
+        if (y < 0 || y >= ySize) {
+            throw new IndexOutOfBoundsException(
+                    "Y-coordinate " + y + " out of bounds for dimension 1 (0 to " + (ySize - 1) + ")."
+            );
+        }
+        if (z < 0 || z >= zSize) {
+            throw new IndexOutOfBoundsException(
+                    "Z-coordinate " + z + " out of bounds for dimension 2 (0 to " + (zSize - 1) + ")."
+            );
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.nogenericgames.community.arrays.bytes;
+
+import com.nogenericgames.community.arrays.utils.BoxConsumer3;
+import com.nogenericgames.community.arrays.utils.FlatArrayUtils;
+import java.util.Arrays;
+
+/**
+ * A fixed-size window onto an unbounded three-dimensional byte grid, addressed in world coordinates and stored as a
+ * torus.
+ * <p>
+ * The window covers {@code [originX, originX + xSize) x [originY, originY + ySize) x [originZ, originZ + zSize)}.
+ * World cell (x, y, z) is always kept in slot {@code (x mod xSize, y mod ySize, z mod zSize)} of a flat row-major
+ * array, so {@link #scroll(int, int, int, BoxConsumer3)} only changes the origin. Cells that scroll into view keep
+ * stale values; scroll reports them as at most three disjoint boxes so only those need regenerating.
+ * <p>
+ * Dimensions that are powers of two are wrapped with a bit mask instead of a modulo.
+ */
+public class RingByte3DArray {
+
+    private final byte[] data;
+    private final int xSize;
+    private final int ySize;
+    private final int zSize;
+    private final int xMask;
+    private final int yMask;
+    private final int zMask;
+    private int originX;
+    private int originY;
+    private int originZ;
+
+    /**
+     * Constructs a ring array filled with zeros, with its origin at (0, 0, 0).
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @throws IllegalArgumentException if any dimension is non-positive or the total size exceeds the maximum
+     *                                  array length.
+     */
+    public RingByte3DArray(int xSize, int ySize, int zSize) {
+        if (xSize <= 0 || ySize <= 0 || zSize <= 0) {
+            throw new IllegalArgumentException("Dimensions must be positive.");
+        }
+        this.data = new byte[FlatArrayUtils.checkedSize(xSize, ySize, zSize)];
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.zSize = zSize;
+        this.xMask = Integer.bitCount(xSize) == 1 ? xSize - 1 : -1;
+        this.yMask = Integer.bitCount(ySize) == 1 ? ySize - 1 : -1;
+        this.zMask = Integer.bitCount(zSize) == 1 ? zSize - 1 : -1;
+    }
+
+    /**
+     * Retrieves the element at the specified world coordinates with bounds checking.
+     *
+     * @param x The world X-coordinate.
+     * @param y The world Y-coordinate.
+     * @param z The world Z-coordinate.
+     * @return The byte value at (x, y, z).
+     * @throws IndexOutOfBoundsException if the coordinates are outside the window.
+     */
+    public byte get(int x, int y, int z) {
+        checkBounds(x, y, z);
+        return data[index(x, y, z)];
+    }
+
+    /**
+     * Sets the element at the specified world coordinates with bounds checking.
+     *
+     * @param x     The world X-coordinate.
+     * @param y     The world Y-coordinate.
+     * @param z     The world Z-coordinate.
+     * @param value The byte value to set.
+     * @throws IndexOutOfBoundsException if the coordinates are outside the window.
+     */
+    public void set(int x, int y, int z, byte value) {
+        checkBounds(x, y, z);
+        data[index(x, y, z)] = value;
+    }
+
+    /**
+     * Retrieves the element at the specified world coordinates without bounds checking. Coordinates outside the
+     * window read whichever cell shares their slot.
+     *
+     * @param x The world X-coordinate.
+     * @param y The world Y-coordinate.
+     * @param z The world Z-coordinate.
+     * @return The byte value in the slot of (x, y, z).
+     */
+    public byte getUnsafe(int x, int y, int z) {
+        return data[index(x, y, z)];
+    }
+
+    /**
+     * Sets the element at the specified world coordinates without bounds checking. Coordinates outside the window
+     * write whichever cell shares their slot.
+     *
+     * @param x     The world X-coordinate.
+     * @param y     The world Y-coordinate.
+     * @param z     The world Z-coordinate.
+     * @param value The byte value to set.
+     */
+    public void setUnsafe(int x, int y, int z, byte value) {
+        data[index(x, y, z)] = value;
+    }
+
+    /**
+     * Returns whether the world coordinates are inside the window.
+     *
+     * @param x The world X-coordinate.
+     * @param y The world Y-coordinate.
+     * @param z The world Z-coordinate.
+     * @return True if (x, y, z) is in the window.
+     */
+    public boolean contains(int x, int y, int z) {
+        return x - originX >= 0 && x - originX < xSize
+                && y - originY >= 0 && y - originY < ySize
+                && z - originZ >= 0 && z - originZ < zSize;
+    }
+
+    /**
+     * Moves the window by the given offsets in constant time. Cells scrolled into view keep stale values.
+     *
+     * @param dx The change of the X origin.
+     * @param dy The change of the Y origin.
+     * @param dz The change of the Z origin.
+     */
+    public void scroll(int dx, int dy, int dz) {
+        originX += dx;
+        originY += dy;
+        originZ += dz;
+    }
+
+    /**
+     * Moves the window by the given offsets in constant time and reports the cells scrolled into view, which keep
+     * stale values until the caller writes them. They are passed as at most three disjoint boxes in world
+     * coordinates, after the origin has moved. If the window moves by its full size or more along an axis, the whole
+     * window is reported as one box.
+     *
+     * @param dx      The change of the X origin.
+     * @param dy      The change of the Y origin.
+     * @param dz      The change of the Z origin.
+     * @param exposed Receives the boxes that came into view.
+     */
+    public void scroll(int dx, int dy, int dz, BoxConsumer3 exposed) {
+        scroll(dx, dy, dz);
+        int endX = originX + xSize;
+        int endY = originY + ySize;
+        int endZ = originZ + zSize;
+        if (Math.abs((long) dx) >= xSize || Math.abs((long) dy) >= ySize || Math.abs((long) dz) >= zSize) {
+            exposed.accept(originX, originY, originZ, endX, endY, endZ);
+            return;
+        }
+        int keptX0 = dx > 0 ? originX : originX - dx;
+        int keptX1 = dx > 0 ? endX - dx : endX;
+        int keptY0 = dy > 0 ? originY : originY - dy;
+        int keptY1 = dy > 0 ? endY - dy : endY;
+        if (dx > 0) {
+            exposed.accept(keptX1, originY, originZ, endX, endY, endZ);
+        } else if (dx < 0) {
+            exposed.accept(originX, originY, originZ, keptX0, endY, endZ);
+        }
+        if (dy > 0) {
+            exposed.accept(keptX0, keptY1, originZ, keptX1, endY, endZ);
+        } else if (dy < 0) {
+            exposed.accept(keptX0, originY, originZ, keptX1, keptY0, endZ);
+        }
+        if (dz > 0) {
+            exposed.accept(keptX0, keptY0, endZ - dz, keptX1, keptY1, endZ);
+        } else if (dz < 0) {
+            exposed.accept(keptX0, keptY0, originZ, keptX1, keptY1, originZ - dz);
+        }
+    }
+
+    /**
+     * Moves the window so that its origin is at the given world coordinates, reporting the cells scrolled into view
+     * like {@link #scroll(int, int, int, BoxConsumer3)}.
+     *
+     * @param x       The new world X-coordinate of the origin.
+     * @param y       The new world Y-coordinate of the origin.
+     * @param z       The new world Z-coordinate of the origin.
+     * @param exposed Receives the boxes that came into view.
+     */
+    public void moveTo(int x, int y, int z, BoxConsumer3 exposed) {
+        scroll(x - originX, y - originY, z - originZ, exposed);
+    }
+
+    /**
+     * Sets all elements to the specified value.
+     *
+     * @param value The byte value to fill with.
+     */
+    public void fill(byte value) {
+        Arrays.fill(data, value);
+    }
+
+    /**
+     * Copies the window into a new dense array, with the origin at (0, 0, 0).
+     *
+     * @return A new Byte3DArray holding the window.
+     */
+    public Byte3DArray toByte3DArray() {
+        Byte3DArray result = new Byte3DArray(xSize, ySize, zSize);
+        byte[] target = result.unwrapUnsafe();
+        int startZ = slotZ(originZ);
+        int head = zSize - startZ;
+        int offset = 0;
+        for (int x = 0; x < xSize; x++) {
+            int plane = slotX(originX + x) * ySize;
+            for (int y = 0; y < ySize; y++) {
+                int row = (plane + slotY(originY + y)) * zSize;
+                System.arraycopy(data, row + startZ, target, offset, head);
+                System.arraycopy(data, row, target, offset + head, startZ);
+                offset += zSize;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the world X-coordinate of the first plane of the window.
+     *
+     * @return The X origin.
+     */
+    public int getOriginX() {
+        return originX;
+    }
+
+    /**
+     * Returns the world Y-coordinate of the first row of the window.
+     *
+     * @return The Y origin.
+     */
+    public int getOriginY() {
+        return originY;
+    }
+
+    /**
+     * Returns the world Z-coordinate of the first column of the window.
+     *
+     * @return The Z origin.
+     */
+    public int getOriginZ() {
+        return originZ;
+    }
+
+    /**
+     * Returns the size of the X dimension.
+     *
+     * @return The size of the X dimension.
+     */
+    public int getXSize() {
+        return xSize;
+    }
+
+    /**
+     * Returns the size of the Y dimension.
+     *
+     * @return The size of the Y dimension.
+     */
+    public int getYSize() {
+        return ySize;
+    }
+
+    /**
+     * Returns the size of the Z dimension.
+     *
+     * @return The size of the Z dimension.
+     */
+    public int getZSize() {
+        return zSize;
+    }
+
+    private int index(int x, int y, int z) {
+        return (slotX(x) * ySize + slotY(y)) * zSize + slotZ(z);
+    }
+
+    private int slotX(int x) {
+        return xMask >= 0 ? x & xMask : Math.floorMod(x, xSize);
+    }
+
+    private int slotY(int y) {
+        return yMask >= 0 ? y & yMask : Math.floorMod(y, ySize);
+    }
+
+    private int slotZ(int z) {
+        return zMask >= 0 ? z & zMask : Math.floorMod(z, zSize);
+    }
+
+    /**
+     * Checks if the provided world coordinates are inside the window.
+     *
+     * @param x The world X-coordinate.
+     * @param y The world Y-coordinate.
+     * @param z The world Z-coordinate.
+     * @throws IndexOutOfBoundsException if the coordinates are outside the window.
+     */
+    private void checkBounds(int x, int y, int z) {
+        if (x - originX < 0 || x - originX >= xSize) {
+            throw new IndexOutOfBoundsException(
+                    "X-coordinate " + x + " out of window for dimension 0 (" + originX + " to "
+                            + (originX + xSize - 1) + ")."
+            );
+        }
+        if (y - originY < 0 || y - originY >= ySize) {
+            throw new IndexOutOfBoundsException(
+                    "Y-coordinate " + y + " out of window for dimension 1 (" + originY + " to "
+                            + (originY + ySize - 1) + ")."
+            );
+        }
+        if (z - originZ < 0 || z - originZ >= zSize) {
+            throw new IndexOutOfBoundsException(
+                    "Z-coordinate " + z + " out of window for dimension 2 (" + originZ + " to "
+                            + (originZ + zSize - 1) + ")."
+            );
+        }
+    }
+}
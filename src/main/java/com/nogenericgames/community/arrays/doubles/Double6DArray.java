@@ -1,6 +1,16 @@
 package com.nogenericgames.community.arrays.doubles;
 
+import com.nogenericgames.community.arrays.utils.ArrayCursor;
+import com.nogenericgames.community.arrays.utils.FlatArrayUtils;
+import com.nogenericgames.community.arrays.utils.Moments;
+import com.nogenericgames.community.arrays.utils.ParallelArrays;
+import com.nogenericgames.community.arrays.utils.Permutations;
+import com.nogenericgames.community.arrays.utils.Reductions;
+import com.nogenericgames.community.arrays.utils.Summation;
+import java.nio.DoubleBuffer;
 import java.util.Arrays;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
 
 /**
  * Represents a six-dimensional array of doubles.
@@ -25,7 +35,8 @@ public class Double6DArray {
      * @param wSize Size of the W dimension.
      * @param uSize Size of the U dimension.
      * @param vSize Size of the V dimension.
-     * @throws IllegalArgumentException if any dimension is non-positive.
+     * @throws IllegalArgumentException if any dimension is non-positive or the total size exceeds the maximum
+     *                                  array length.
      */
     public Double6DArray(int xSize, int ySize, int zSize, int wSize, int uSize, int vSize) {
         if (xSize <= 0 || ySize <= 0 || zSize <= 0 || wSize <= 0 || uSize <= 0 || vSize <= 0) {
@@ -37,10 +48,27 @@ public class Double6DArray {
         this.wSize = wSize;
         this.uSize = uSize;
         this.vSize = vSize;
-        this.totalSize = xSize * ySize * zSize * wSize * uSize * vSize;
+        this.totalSize = FlatArrayUtils.checkedSize(xSize, ySize, zSize, wSize, uSize, vSize);
         this.data = new double[totalSize];
     }
 
+    /**
+     * Constructs a 6D DoubleArray over an existing backing array, which is shared rather than copied. The caller
+     * guarantees that the dimensions are positive and multiply to the array's length.
+     *
+     * @param data The backing array.
+     */
+    Double6DArray(double[] data, int xSize, int ySize, int zSize, int wSize, int uSize, int vSize) {
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.zSize = zSize;
+        this.wSize = wSize;
+        this.uSize = uSize;
+        this.vSize = vSize;
+        this.totalSize = data.length;
+        this.data = data;
+    }
+
     /**
      * Retrieves the element at the specified (x, y, z, w, u, v) coordinates with bounds checking.
      *
@@ -134,6 +162,8 @@ public class Double6DArray {
 
     /**
      * Retrieves a copy of the underlying data array.
+     * <p>
+     * Use {@link #asReadOnlyBuffer()} or {@link #unwrapUnsafe()} to access the data without copying.
      *
      * @return A new double array containing the data.
      */
@@ -141,6 +171,54 @@ public class Double6DArray {
         return data.clone();
     }
 
+    /**
+     * Returns a read-only {@link DoubleBuffer} view of the underlying data without copying.
+     * <p>
+     * The view shares storage with this array, so later writes are visible through it. Buffer index {@code i} is
+     * the cell at row-major linear index {@code i}.
+     *
+     * @return A read-only buffer backed by the data array.
+     */
+    public DoubleBuffer asReadOnlyBuffer() {
+        return DoubleBuffer.wrap(data).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns the underlying data array itself, without copying.
+     * <p>
+     * The array is laid out in row-major order and writes to it are writes to this array. Unlike
+     * {@link #getData()}, this does not allocate, which makes it suitable for handing large arrays to renderers or
+     * serializers every frame.
+     *
+     * @return The backing data array.
+     */
+    public double[] unwrapUnsafe() {
+        return data;
+    }
+
+    /**
+     * Copies a range of cells, in row-major linear order, into a caller-supplied array.
+     *
+     * @param srcPos  The linear index of the first cell to copy.
+     * @param dest    The destination array.
+     * @param destPos The first index to write in the destination array.
+     * @param length  The number of cells to copy.
+     * @throws IndexOutOfBoundsException if either range is out of bounds.
+     */
+    public void copyInto(int srcPos, double[] dest, int destPos, int length) {
+        System.arraycopy(data, srcPos, dest, destPos, length);
+    }
+
+    /**
+     * Copies all cells, in row-major linear order, into a caller-supplied buffer at its current position.
+     *
+     * @param dest The destination buffer; its position is advanced by the number of cells.
+     * @throws java.nio.BufferOverflowException if the buffer has less remaining space than the number of cells.
+     */
+    public void copyInto(DoubleBuffer dest) {
+        dest.put(data, 0, totalSize);
+    }
+
     /**
      * Fills the array with the specified double value.
      *
@@ -161,6 +239,750 @@ public class Double6DArray {
         return copy;
     }
 
+    /**
+     * Calls the consumer for every cell in row-major order, passing its coordinates and value.
+     * <p>
+     * The linear index advances by one per cell, so no index product is computed and no bounds are checked.
+     *
+     * @param consumer The consumer to call.
+     */
+    public void forEach(DoubleCellConsumer6 consumer) {
+        int i = 0;
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                for (int z = 0; z < zSize; z++) {
+                    for (int w = 0; w < wSize; w++) {
+                        for (int u = 0; u < uSize; u++) {
+                            for (int v = 0; v < vSize; v++) {
+                                consumer.accept(x, y, z, w, u, v, data[i++]);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces every cell, in row-major order, with the result of applying the operator to its coordinates and value.
+     *
+     * @param operator The operator computing each new value.
+     */
+    public void replaceAll(DoubleCellOperator6 operator) {
+        int i = 0;
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                for (int z = 0; z < zSize; z++) {
+                    for (int w = 0; w < wSize; w++) {
+                        for (int u = 0; u < uSize; u++) {
+                            for (int v = 0; v < vSize; v++) {
+                                data[i] = operator.applyAsDouble(x, y, z, w, u, v, data[i]);
+                                i++;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a cursor that walks this array's cells in row-major order, carrying coordinates and the linear index.
+     * Use it with {@link #getLinear(int)} and {@link #setLinear(int, double)}.
+     *
+     * @return A new cursor positioned before the first cell.
+     */
+    public ArrayCursor cursor() {
+        return new ArrayCursor(xSize, ySize, zSize, wSize, uSize, vSize);
+    }
+
+    /**
+     * Retrieves the element at the specified row-major linear index without bounds checking beyond the backing
+     * array's own.
+     *
+     * @param index The linear index, between 0 and the total size - 1.
+     * @return The double value at the index.
+     */
+    public double getLinear(int index) {
+        return data[index];
+    }
+
+    /**
+     * Sets the element at the specified row-major linear index without bounds checking beyond the backing array's
+     * own.
+     *
+     * @param index The linear index, between 0 and the total size - 1.
+     * @param value The double value to set.
+     */
+    public void setLinear(int index, double value) {
+        data[index] = value;
+    }
+
+    /**
+     * Fills the array with the specified double value, splitting the work across the fork/join pool for large arrays.
+     *
+     * @param value The double value to fill the array with.
+     * @see ParallelArrays
+     */
+    public void parallelFill(double value) {
+        ParallelArrays.forEachChunk(totalSize, 8, (chunk, from, to) -> Arrays.fill(data, from, to, value));
+    }
+
+    /**
+     * Replaces every element with the result of applying the operator to it, splitting the work across the
+     * fork/join pool for large arrays. The operator may be called concurrently and in any order.
+     *
+     * @param operator The operator computing each new value.
+     * @see ParallelArrays
+     */
+    public void parallelReplaceAll(DoubleUnaryOperator operator) {
+        ParallelArrays.forEachChunk(totalSize, 8, (chunk, from, to) -> {
+            for (int i = from; i < to; i++) {
+                data[i] = operator.applyAsDouble(data[i]);
+            }
+        });
+    }
+
+    /**
+     * Combines all elements with an associative operator, reducing chunks in parallel and then combining the
+     * per-chunk results in order.
+     *
+     * @param identity The identity of the operator, used as the starting value of every chunk.
+     * @param operator An associative operator.
+     * @return The combined value.
+     * @see ParallelArrays
+     */
+    public double parallelReduce(double identity, DoubleBinaryOperator operator) {
+        double[] partials = new double[ParallelArrays.chunkCount(totalSize, 8)];
+        ParallelArrays.forEachChunk(totalSize, 8, (chunk, from, to) -> {
+            double result = identity;
+            for (int i = from; i < to; i++) {
+                result = operator.applyAsDouble(result, data[i]);
+            }
+            partials[chunk] = result;
+        });
+        double result = identity;
+        for (double partial : partials) {
+            result = operator.applyAsDouble(result, partial);
+        }
+        return result;
+    }
+
+    /**
+     * Copies this array's contents into another array of the same dimensions, splitting the work across the
+     * fork/join pool for large arrays.
+     *
+     * @param dest The destination array.
+     * @throws IllegalArgumentException if the dimensions differ.
+     * @see ParallelArrays
+     */
+    public void parallelCopyInto(Double6DArray dest) {
+        if (xSize != dest.xSize || ySize != dest.ySize || zSize != dest.zSize
+                || wSize != dest.wSize || uSize != dest.uSize || vSize != dest.vSize) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+        ParallelArrays.forEachChunk(totalSize, 8,
+                (chunk, from, to) -> System.arraycopy(data, from, dest.data, from, to - from));
+    }
+
+    /**
+     * Replaces each element with the sum of it and the matching element of other, in place.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void add(Double6DArray other) {
+        checkSameShape(other);
+        FlatArrayUtils.add(data, other.data, data);
+    }
+
+    /**
+     * Stores the element-wise sum of this array and other in dest, leaving this array unchanged.
+     *
+     * @param other An array with the same dimensions.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void add(Double6DArray other, Double6DArray dest) {
+        checkSameShape(other);
+        checkSameShape(dest);
+        FlatArrayUtils.add(data, other.data, dest.data);
+    }
+
+    /**
+     * Replaces each element with the difference of it and the matching element of other, in place.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void sub(Double6DArray other) {
+        checkSameShape(other);
+        FlatArrayUtils.sub(data, other.data, data);
+    }
+
+    /**
+     * Stores the element-wise difference of this array and other in dest, leaving this array unchanged.
+     *
+     * @param other An array with the same dimensions.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void sub(Double6DArray other, Double6DArray dest) {
+        checkSameShape(other);
+        checkSameShape(dest);
+        FlatArrayUtils.sub(data, other.data, dest.data);
+    }
+
+    /**
+     * Replaces each element with the product of it and the matching element of other, in place.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void mul(Double6DArray other) {
+        checkSameShape(other);
+        FlatArrayUtils.mul(data, other.data, data);
+    }
+
+    /**
+     * Stores the element-wise product of this array and other in dest, leaving this array unchanged.
+     *
+     * @param other An array with the same dimensions.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void mul(Double6DArray other, Double6DArray dest) {
+        checkSameShape(other);
+        checkSameShape(dest);
+        FlatArrayUtils.mul(data, other.data, dest.data);
+    }
+
+    /**
+     * Replaces each element with its quotient by the matching element of other, in place.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void div(Double6DArray other) {
+        checkSameShape(other);
+        FlatArrayUtils.div(data, other.data, data);
+    }
+
+    /**
+     * Stores the element-wise quotient of this array by other in dest, leaving this array unchanged.
+     *
+     * @param other An array with the same dimensions.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void div(Double6DArray other, Double6DArray dest) {
+        checkSameShape(other);
+        checkSameShape(dest);
+        FlatArrayUtils.div(data, other.data, dest.data);
+    }
+
+    /**
+     * Replaces each element with the smaller of it and the matching element of other, in place.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void min(Double6DArray other) {
+        checkSameShape(other);
+        FlatArrayUtils.min(data, other.data, data);
+    }
+
+    /**
+     * Stores the element-wise minimum of this array and other in dest, leaving this array unchanged.
+     *
+     * @param other An array with the same dimensions.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void min(Double6DArray other, Double6DArray dest) {
+        checkSameShape(other);
+        checkSameShape(dest);
+        FlatArrayUtils.min(data, other.data, dest.data);
+    }
+
+    /**
+     * Replaces each element with the larger of it and the matching element of other, in place.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void max(Double6DArray other) {
+        checkSameShape(other);
+        FlatArrayUtils.max(data, other.data, data);
+    }
+
+    /**
+     * Stores the element-wise maximum of this array and other in dest, leaving this array unchanged.
+     *
+     * @param other An array with the same dimensions.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void max(Double6DArray other, Double6DArray dest) {
+        checkSameShape(other);
+        checkSameShape(dest);
+        FlatArrayUtils.max(data, other.data, dest.data);
+    }
+
+    /**
+     * Replaces each element with its product with factor, in place.
+     *
+     * @param factor The factor.
+     */
+    public void scale(double factor) {
+        FlatArrayUtils.scale(data, factor, data);
+    }
+
+    /**
+     * Stores the product of each element and factor in dest, leaving this array unchanged.
+     *
+     * @param factor The factor.
+     * @param dest   The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void scale(double factor, Double6DArray dest) {
+        checkSameShape(dest);
+        FlatArrayUtils.scale(data, factor, dest.data);
+    }
+
+    /**
+     * Replaces each element with {@code alpha * x + element}, in place.
+     *
+     * @param alpha The factor applied to x.
+     * @param x     An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void axpy(double alpha, Double6DArray x) {
+        checkSameShape(x);
+        FlatArrayUtils.axpy(alpha, x.data, data, data);
+    }
+
+    /**
+     * Stores {@code alpha * x + element} for each element in dest, leaving this array unchanged.
+     *
+     * @param alpha The factor applied to x.
+     * @param x     An array with the same dimensions.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void axpy(double alpha, Double6DArray x, Double6DArray dest) {
+        checkSameShape(x);
+        checkSameShape(dest);
+        FlatArrayUtils.axpy(alpha, x.data, data, dest.data);
+    }
+
+    /**
+     * Replaces each element with {@code element * b + c}, in place.
+     *
+     * @param b The factor, with the same dimensions.
+     * @param c The addend, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void fma(Double6DArray b, Double6DArray c) {
+        checkSameShape(b);
+        checkSameShape(c);
+        FlatArrayUtils.fma(data, b.data, c.data, data);
+    }
+
+    /**
+     * Stores {@code element * b + c} for each element in dest, leaving this array unchanged.
+     *
+     * @param b    The factor, with the same dimensions.
+     * @param c    The addend, with the same dimensions.
+     * @param dest The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void fma(Double6DArray b, Double6DArray c, Double6DArray dest) {
+        checkSameShape(b);
+        checkSameShape(c);
+        checkSameShape(dest);
+        FlatArrayUtils.fma(data, b.data, c.data, dest.data);
+    }
+
+    /**
+     * Replaces each element with {@code element + t * (other - element)}, in place.
+     *
+     * @param other The end values, with the same dimensions.
+     * @param t     The interpolation factor.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void lerp(Double6DArray other, double t) {
+        checkSameShape(other);
+        FlatArrayUtils.lerp(data, other.data, t, data);
+    }
+
+    /**
+     * Stores {@code element + t * (other - element)} for each element in dest, leaving this array unchanged.
+     *
+     * @param other The end values, with the same dimensions.
+     * @param t     The interpolation factor.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void lerp(Double6DArray other, double t, Double6DArray dest) {
+        checkSameShape(other);
+        checkSameShape(dest);
+        FlatArrayUtils.lerp(data, other.data, t, dest.data);
+    }
+
+    /**
+     * Replaces each element with itself clamped to {@code [min, max]}, in place.
+     *
+     * @param min The lower bound.
+     * @param max The upper bound.
+     * @throws IllegalArgumentException if min is greater than max.
+     */
+    public void clamp(double min, double max) {
+        FlatArrayUtils.clamp(data, min, max, data);
+    }
+
+    /**
+     * Stores each element clamped to {@code [min, max]} in dest, leaving this array unchanged.
+     *
+     * @param min  The lower bound.
+     * @param max  The upper bound.
+     * @param dest The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ or min is greater than max.
+     */
+    public void clamp(double min, double max, Double6DArray dest) {
+        checkSameShape(dest);
+        FlatArrayUtils.clamp(data, min, max, dest.data);
+    }
+
+    /**
+     * Replaces each element with its absolute value, in place.
+     */
+    public void abs() {
+        FlatArrayUtils.abs(data, data);
+    }
+
+    /**
+     * Stores the absolute value of each element in dest, leaving this array unchanged.
+     *
+     * @param dest The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void abs(Double6DArray dest) {
+        checkSameShape(dest);
+        FlatArrayUtils.abs(data, dest.data);
+    }
+
+    /**
+     * Replaces each element with its square root, in place.
+     */
+    public void sqrt() {
+        FlatArrayUtils.sqrt(data, data);
+    }
+
+    /**
+     * Stores the square root of each element in dest, leaving this array unchanged.
+     *
+     * @param dest The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void sqrt(Double6DArray dest) {
+        checkSameShape(dest);
+        FlatArrayUtils.sqrt(data, dest.data);
+    }
+
+    /**
+     * Returns the sum of all elements using pairwise summation, accumulated in {@code double}.
+     *
+     * @return The sum.
+     */
+    public double sum() {
+        return Reductions.sum(data, Summation.PAIRWISE);
+    }
+
+    /**
+     * Returns the sum of all elements, accumulated in {@code double}.
+     *
+     * @param mode The summation algorithm.
+     * @return The sum.
+     */
+    public double sum(Summation mode) {
+        return Reductions.sum(data, mode);
+    }
+
+    /**
+     * Returns the sum of all elements using pairwise summation, summing chunks in parallel.
+     *
+     * @return The sum.
+     */
+    public double parallelSum() {
+        return Reductions.parallelSum(data, Summation.PAIRWISE);
+    }
+
+    /**
+     * Returns the sum of all elements, summing chunks in parallel.
+     *
+     * @param mode The summation algorithm used within each chunk.
+     * @return The sum.
+     */
+    public double parallelSum(Summation mode) {
+        return Reductions.parallelSum(data, mode);
+    }
+
+    /**
+     * Returns the smallest element. NaN elements are ignored unless all elements are NaN.
+     *
+     * @return The minimum value.
+     */
+    public double minValue() {
+        return data[Reductions.indexOfMin(data)];
+    }
+
+    /**
+     * Returns the largest element. NaN elements are ignored unless all elements are NaN.
+     *
+     * @return The maximum value.
+     */
+    public double maxValue() {
+        return data[Reductions.indexOfMax(data)];
+    }
+
+    /**
+     * Returns the coordinates of the smallest element, the first in row-major order on ties.
+     *
+     * @return A new array holding (x, y, z, w, u, v).
+     */
+    public int[] argMin() {
+        return coordinatesOf(Reductions.indexOfMin(data));
+    }
+
+    /**
+     * Returns the coordinates of the largest element, the first in row-major order on ties.
+     *
+     * @return A new array holding (x, y, z, w, u, v).
+     */
+    public int[] argMax() {
+        return coordinatesOf(Reductions.indexOfMax(data));
+    }
+
+    /**
+     * Returns the coordinates of the smallest element like {@link #argMin()}, scanning chunks in parallel.
+     *
+     * @return A new array holding (x, y, z, w, u, v).
+     */
+    public int[] parallelArgMin() {
+        return coordinatesOf(Reductions.parallelIndexOfMin(data));
+    }
+
+    /**
+     * Returns the coordinates of the largest element like {@link #argMax()}, scanning chunks in parallel.
+     *
+     * @return A new array holding (x, y, z, w, u, v).
+     */
+    public int[] parallelArgMax() {
+        return coordinatesOf(Reductions.parallelIndexOfMax(data));
+    }
+
+    /**
+     * Computes the count, mean and variance of all elements in one pass.
+     *
+     * @return The moments of the elements.
+     */
+    public Moments moments() {
+        return Reductions.moments(data);
+    }
+
+    /**
+     * Computes the count, mean and variance of all elements in one pass, processing chunks in parallel.
+     *
+     * @return The moments of the elements.
+     */
+    public Moments parallelMoments() {
+        return Reductions.parallelMoments(data);
+    }
+
+    /**
+     * Returns the arithmetic mean of all elements.
+     *
+     * @return The mean.
+     */
+    public double mean() {
+        return Reductions.moments(data).getMean();
+    }
+
+    /**
+     * Returns the population variance of all elements.
+     *
+     * @return The variance.
+     */
+    public double variance() {
+        return Reductions.moments(data).getVariance();
+    }
+
+    /**
+     * Counts the elements equal to a value. A NaN value counts NaN elements.
+     *
+     * @param value The value to count.
+     * @return The number of matching elements.
+     */
+    public int count(double value) {
+        return Reductions.count(data, value);
+    }
+
+    /**
+     * Counts the elements equal to a value, scanning chunks in parallel.
+     *
+     * @param value The value to count.
+     * @return The number of matching elements.
+     */
+    public int parallelCount(double value) {
+        return Reductions.parallelCount(data, value);
+    }
+
+    /**
+     * Returns a copy of this array with its axes reordered: dimension i of the result is dimension {@code axes[i]}
+     * of this array, so {@code permute(5, 4, 3, 2, 1, 0)} turns an x-major array into a v-major one.
+     *
+     * @param axes A permutation of 0 to 5.
+     * @return The permuted copy.
+     * @throws IllegalArgumentException if axes is not a permutation.
+     * @see Permutations
+     */
+    public Double6DArray permute(int... axes) {
+        int[] dims = Permutations.permutedDimensions(new int[]{xSize, ySize, zSize, wSize, uSize, vSize}, axes);
+        Double6DArray result = new Double6DArray(dims[0], dims[1], dims[2], dims[3], dims[4], dims[5]);
+        Permutations.permute(data, new int[]{xSize, ySize, zSize, wSize, uSize, vSize}, axes, result.data);
+        return result;
+    }
+
+    /**
+     * Returns a copy of this array with its axes reordered like {@link #permute(int...)}, splitting the work across
+     * the fork/join pool for large arrays.
+     *
+     * @param axes A permutation of 0 to 5.
+     * @return The permuted copy.
+     * @throws IllegalArgumentException if axes is not a permutation.
+     * @see Permutations
+     */
+    public Double6DArray parallelPermute(int... axes) {
+        int[] dims = Permutations.permutedDimensions(new int[]{xSize, ySize, zSize, wSize, uSize, vSize}, axes);
+        Double6DArray result = new Double6DArray(dims[0], dims[1], dims[2], dims[3], dims[4], dims[5]);
+        Permutations.parallelPermute(data, new int[]{xSize, ySize, zSize, wSize, uSize, vSize}, axes, result.data);
+        return result;
+    }
+
+    /**
+     * Writes this array with its axes reordered into a destination, as {@link #permute(int...)} would return it.
+     *
+     * @param dest The destination array, not this array, with the permuted dimensions.
+     * @param axes A permutation of 0 to 5.
+     * @throws IllegalArgumentException if axes is not a permutation or the destination has the wrong dimensions or
+     *                                  is this array.
+     */
+    public void permuteInto(Double6DArray dest, int... axes) {
+        checkPermuted(dest, axes);
+        Permutations.permute(data, new int[]{xSize, ySize, zSize, wSize, uSize, vSize}, axes, dest.data);
+    }
+
+    /**
+     * Writes this array with its axes reordered into a destination like {@link #permuteInto(Double6DArray, int...)},
+     * splitting the work across the fork/join pool for large arrays.
+     *
+     * @param dest The destination array, not this array, with the permuted dimensions.
+     * @param axes A permutation of 0 to 5.
+     * @throws IllegalArgumentException if axes is not a permutation or the destination has the wrong dimensions or
+     *                                  is this array.
+     */
+    public void parallelPermuteInto(Double6DArray dest, int... axes) {
+        checkPermuted(dest, axes);
+        Permutations.parallelPermute(data, new int[]{xSize, ySize, zSize, wSize, uSize, vSize}, axes, dest.data);
+    }
+
+    /**
+     * Returns a 2D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @return A Double2DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     */
+    public Double2DArray reshape(int xSize, int ySize) {
+        checkReshape(xSize, ySize);
+        return new Double2DArray(data, xSize, ySize);
+    }
+
+    /**
+     * Returns a 3D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @return A Double3DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     */
+    public Double3DArray reshape(int xSize, int ySize, int zSize) {
+        checkReshape(xSize, ySize, zSize);
+        return new Double3DArray(data, xSize, ySize, zSize);
+    }
+
+    /**
+     * Returns a 4D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @param wSize Size of the W dimension.
+     * @return A Double4DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     */
+    public Double4DArray reshape(int xSize, int ySize, int zSize, int wSize) {
+        checkReshape(xSize, ySize, zSize, wSize);
+        return new Double4DArray(data, xSize, ySize, zSize, wSize);
+    }
+
+    /**
+     * Returns a 5D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @param wSize Size of the W dimension.
+     * @param uSize Size of the U dimension.
+     * @return A Double5DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     */
+    public Double5DArray reshape(int xSize, int ySize, int zSize, int wSize, int uSize) {
+        checkReshape(xSize, ySize, zSize, wSize, uSize);
+        return new Double5DArray(data, xSize, ySize, zSize, wSize, uSize);
+    }
+
+    /**
+     * Returns a 6D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     * It can also give this array different dimensions of the same rank.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @param wSize Size of the W dimension.
+     * @param uSize Size of the U dimension.
+     * @param vSize Size of the V dimension.
+     * @return A Double6DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     */
+    public Double6DArray reshape(int xSize, int ySize, int zSize, int wSize, int uSize, int vSize) {
+        checkReshape(xSize, ySize, zSize, wSize, uSize, vSize);
+        return new Double6DArray(data, xSize, ySize, zSize, wSize, uSize, vSize);
+    }
+
     /**
      * Returns the size of the X dimension.
      *
@@ -262,6 +1084,48 @@ public class Double6DArray {
         return result;
     }
 
+    private void checkSameShape(Double6DArray other) {
+        if (xSize != other.xSize || ySize != other.ySize || zSize != other.zSize
+                || wSize != other.wSize || uSize != other.uSize || vSize != other.vSize) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+    }
+
+    private int[] coordinatesOf(int index) {
+        int[] coordinates = new int[6];
+        coordinates[5] = index % vSize;
+        index /= vSize;
+        coordinates[4] = index % uSize;
+        index /= uSize;
+        coordinates[3] = index % wSize;
+        index /= wSize;
+        coordinates[2] = index % zSize;
+        index /= zSize;
+        coordinates[1] = index % ySize;
+        index /= ySize;
+        coordinates[0] = index;
+        return coordinates;
+    }
+
+    private void checkPermuted(Double6DArray dest, int[] axes) {
+        int[] dims = Permutations.permutedDimensions(new int[]{xSize, ySize, zSize, wSize, uSize, vSize}, axes);
+        if (dest.xSize != dims[0] || dest.ySize != dims[1] || dest.zSize != dims[2]
+                || dest.wSize != dims[3] || dest.uSize != dims[4] || dest.vSize != dims[5]) {
+            throw new IllegalArgumentException("Dimensions must match the permutation.");
+        }
+    }
+
+    private void checkReshape(int... dimensions) {
+        for (int dimension : dimensions) {
+            if (dimension <= 0) {
+                throw new IllegalArgumentException("Dimensions must be positive.");
+            }
+        }
+        if (FlatArrayUtils.checkedSize(dimensions) != totalSize) {
+            throw new IllegalArgumentException("Reshaped dimensions must hold " + totalSize + " elements.");
+        }
+    }
+
     /**
      * Checks if the provided (x, y, z, w, u, v) coordinates are within bounds.
      *
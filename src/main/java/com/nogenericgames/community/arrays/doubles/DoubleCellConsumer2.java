@@ -0,0 +1,17 @@
+package com.nogenericgames.community.arrays.doubles;
+
+/**
+ * Receives the cells of a two-dimensional double array together with their coordinates.
+ */
+@FunctionalInterface
+public interface DoubleCellConsumer2 {
+
+    /**
+     * Accepts one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param value The double value at (x, y).
+     */
+    void accept(int x, int y, double value);
+}
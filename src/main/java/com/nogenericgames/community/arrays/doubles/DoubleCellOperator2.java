@@ -0,0 +1,18 @@
+package com.nogenericgames.community.arrays.doubles;
+
+/**
+ * Computes a new value for a cell of a two-dimensional double array from its coordinates and current value.
+ */
+@FunctionalInterface
+public interface DoubleCellOperator2 {
+
+    /**
+     * Computes the new value of one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param value The current double value at (x, y).
+     * @return The new value of the cell.
+     */
+    double applyAsDouble(int x, int y, double value);
+}
@@ -0,0 +1,21 @@
+package com.nogenericgames.community.arrays.doubles;
+
+/**
+ * Computes a new value for a cell of a five-dimensional double array from its coordinates and current value.
+ */
+@FunctionalInterface
+public interface DoubleCellOperator5 {
+
+    /**
+     * Computes the new value of one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param w     The W-coordinate (dimension 3).
+     * @param u     The U-coordinate (dimension 4).
+     * @param value The current double value at (x, y, z, w, u).
+     * @return The new value of the cell.
+     */
+    double applyAsDouble(int x, int y, int z, int w, int u, double value);
+}
@@ -0,0 +1,290 @@
+package com.nogenericgames.community.arrays.doubles;
+
+import com.nogenericgames.community.arrays.utils.FlatArrayUtils;
+import java.util.Arrays;
+
+/**
+ * Represents a two-dimensional array of doubles stored as square 64x64 tiles instead of full rows.
+ * <p>
+ * In {@link Double2DArray} consecutive X-coordinates are {@code ySize} elements apart, so a pass down a column touches a
+ * new cache line (and, on large arrays, a new page) for every cell. Here each tile is a dense row-major block of
+ * 4096 cells (16 KB of floats, 32 KB of doubles), so 64 steps in either direction stay inside one block and passes
+ * along both axes run at similar speed. Tiles are stored one after another in tile row-major order.
+ * <p>
+ * Dimensions are rounded up to whole tiles internally; the padding cells are never visible through the API.
+ * {@link #forEach(DoubleCellConsumer2)} visits cells tile by tile, which is the fastest way to touch every cell.
+ */
+public class TiledDouble2DArray {
+
+    /**
+     * Log2 of the tile edge length.
+     */
+    public static final int TILE_SHIFT = 6;
+
+    /**
+     * Edge length of a tile.
+     */
+    public static final int TILE_SIZE = 1 << TILE_SHIFT;
+
+    private static final int TILE_MASK = TILE_SIZE - 1;
+
+    private final double[] data;
+    private final int xSize;
+    private final int ySize;
+    private final int yTiles;
+
+    /**
+     * Constructs a tiled 2D DoubleArray with the specified dimensions.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @throws IllegalArgumentException if any dimension is non-positive or the padded size exceeds the maximum
+     *                                  array length.
+     */
+    public TiledDouble2DArray(int xSize, int ySize) {
+        if (xSize <= 0 || ySize <= 0) {
+            throw new IllegalArgumentException("Dimensions must be positive.");
+        }
+        this.xSize = xSize;
+        this.ySize = ySize;
+        int xTiles = (int) (((long) xSize + TILE_MASK) >> TILE_SHIFT);
+        this.yTiles = (int) (((long) ySize + TILE_MASK) >> TILE_SHIFT);
+        this.data = new double[FlatArrayUtils.checkedSize(xTiles, yTiles, TILE_SIZE * TILE_SIZE)];
+    }
+
+    /**
+     * Creates a tiled copy of a row-major array.
+     *
+     * @param source The array to copy.
+     * @return A new TiledDouble2DArray with the same dimensions and contents.
+     */
+    public static TiledDouble2DArray of(Double2DArray source) {
+        TiledDouble2DArray array = new TiledDouble2DArray(source.getXSize(), source.getYSize());
+        double[] values = source.unwrapUnsafe();
+        int ySize = array.ySize;
+        for (int x = 0; x < array.xSize; x++) {
+            for (int y0 = 0; y0 < ySize; y0 += TILE_SIZE) {
+                System.arraycopy(values, x * ySize + y0, array.data, array.offset(x, y0), Math.min(TILE_SIZE, ySize - y0));
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Creates a row-major copy of this array.
+     *
+     * @return A new Double2DArray with the same contents.
+     */
+    public Double2DArray toDouble2DArray() {
+        Double2DArray dense = new Double2DArray(xSize, ySize);
+        double[] values = dense.unwrapUnsafe();
+        for (int x = 0; x < xSize; x++) {
+            for (int y0 = 0; y0 < ySize; y0 += TILE_SIZE) {
+                System.arraycopy(data, offset(x, y0), values, x * ySize + y0, Math.min(TILE_SIZE, ySize - y0));
+            }
+        }
+        return dense;
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y) coordinates with bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @return The double value at (x, y).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public double get(int x, int y) {
+        checkBounds(x, y);
+        return data[offset(x, y)];
+    }
+
+    /**
+     * Sets the element at the specified (x, y) coordinates with bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param value The double value to set.
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public void set(int x, int y, double value) {
+        checkBounds(x, y);
+        data[offset(x, y)] = value;
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y) coordinates without bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @return The double value at (x, y).
+     */
+    public double getUnsafe(int x, int y) {
+        return data[offset(x, y)];
+    }
+
+    /**
+     * Sets the element at the specified (x, y) coordinates without bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param value The double value to set.
+     */
+    public void setUnsafe(int x, int y, double value) {
+        data[offset(x, y)] = value;
+    }
+
+    /**
+     * Calls the consumer for every cell, tile by tile. Within a tile, cells are visited in row-major order.
+     *
+     * @param consumer The consumer to call.
+     */
+    public void forEach(DoubleCellConsumer2 consumer) {
+        for (int tx = 0; tx < xSize; tx += TILE_SIZE) {
+            int xEnd = Math.min(tx + TILE_SIZE, xSize);
+            for (int ty = 0; ty < ySize; ty += TILE_SIZE) {
+                int yEnd = Math.min(ty + TILE_SIZE, ySize);
+                for (int x = tx; x < xEnd; x++) {
+                    int base = offset(x, ty);
+                    for (int y = ty; y < yEnd; y++) {
+                        consumer.accept(x, y, data[base + (y - ty)]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Clears the array by setting all elements to 0.0.
+     */
+    public void clear() {
+        Arrays.fill(data, 0.0);
+    }
+
+    /**
+     * Fills the array with the specified double value.
+     *
+     * @param value The double value to fill the array with.
+     */
+    public void fill(double value) {
+        Arrays.fill(data, value);
+    }
+
+    /**
+     * Returns the backing array, without copying. Cell (x, y) lives in tile
+     * {@code (x >> TILE_SHIFT) * tilesPerRow + (y >> TILE_SHIFT)}, which starts at {@code tile * TILE_SIZE * TILE_SIZE},
+     * at offset {@code (x & 63) * TILE_SIZE + (y & 63)} within the tile. Padding cells are included.
+     *
+     * @return The backing data array.
+     */
+    public double[] unwrapUnsafe() {
+        return data;
+    }
+
+    /**
+     * Creates a copy of this TiledDouble2DArray.
+     *
+     * @return A new TiledDouble2DArray instance with copied data.
+     */
+    public TiledDouble2DArray copy() {
+        TiledDouble2DArray copy = new TiledDouble2DArray(xSize, ySize);
+        System.arraycopy(data, 0, copy.data, 0, data.length);
+        return copy;
+    }
+
+    /**
+     * Returns the size of the X dimension.
+     *
+     * @return The size of X.
+     */
+    public int getXSize() {
+        return xSize;
+    }
+
+    /**
+     * Returns the size of the Y dimension.
+     *
+     * @return The size of Y.
+     */
+    public int getYSize() {
+        return ySize;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("TiledDouble2DArray{\n");
+        for (int x = 0; x < xSize; x++) {
+            sb.append(" [");
+            for (int y = 0; y < ySize; y++) {
+                sb.append(getUnsafe(x, y));
+                if (y < ySize - 1) sb.append(", ");
+            }
+            sb.append("]\n");
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+     * Compares visible cells only; padding is ignored.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        TiledDouble2DArray that = (TiledDouble2DArray) o;
+
+        if (xSize != that.xSize) return false;
+        if (ySize != that.ySize) return false;
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                int i = offset(x, y);
+                if (Double.doubleToLongBits(data[i]) != Double.doubleToLongBits(that.data[i])) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hashes cells in row-major order, so the result matches {@link Double2DArray#hashCode()} for the same contents.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                long bits = Double.doubleToLongBits(data[offset(x, y)]);
+                result = 31 * result + (int) (bits ^ (bits >>> 32));
+            }
+        }
+        result = 31 * result + xSize;
+        result = 31 * result + ySize;
+        return result;
+    }
+
+    private int offset(int x, int y) {
+        return ((((x >> TILE_SHIFT) * yTiles) + (y >> TILE_SHIFT)) << (2 * TILE_SHIFT))
+                + ((x & TILE_MASK) << TILE_SHIFT) + (y & TILE_MASK);
+    }
+
+    /**
+     * Checks if the provided (x, y) coordinates are within bounds.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    private void checkBounds(int x, int y) {
+        if (x < 0 || x >= xSize) {
+            throw new IndexOutOfBoundsException(
+                    "X-coordinate " + x + " out of bounds for dimension 0 (0 to " + (xSize - 1) + ")."
+            );
+        }
+        if (y < 0 || y >= ySize) {
+            throw new IndexOutOfBoundsException(
+                    "Y-coordinate " + y + " out of bounds for dimension 1 (0 to " + (ySize - 1) + ")."
+            );
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.nogenericgames.community.arrays.floats;
+
+import java.util.Arrays;
+
+/**
+ * Represents a four-dimensional array of floats whose cell count may exceed {@link Integer#MAX_VALUE}.
+ * <p>
+ * Uses the same row-major layout as {@link Float4DArray}, but the linear index is computed in {@code long} arithmetic and
+ * the cells are stored in a {@code float[][]} of chunks holding 2^{@value #CHUNK_SHIFT} cells each. The chunk
+ * and offset are a shift and a mask of the linear index, and no single allocation has to hold the whole grid.
+ */
+public class BigFloat4DArray {
+
+    /**
+     * Log2 of the number of cells per chunk.
+     */
+    public static final int CHUNK_SHIFT = 27;
+
+    private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+
+    private final float[][] chunks;
+    private final int xSize;
+    private final int ySize;
+    private final int zSize;
+    private final int wSize;
+    private final long totalSize;
+
+    /**
+     * Constructs a 4D BigFloatArray with the specified dimensions.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @param wSize Size of the W dimension.
+     * @throws IllegalArgumentException if any dimension is non-positive or the total size overflows a long.
+     */
+    public BigFloat4DArray(int xSize, int ySize, int zSize, int wSize) {
+        if (xSize <= 0 || ySize <= 0 || zSize <= 0 || wSize <= 0) {
+            throw new IllegalArgumentException("Dimensions must be positive.");
+        }
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.zSize = zSize;
+        this.wSize = wSize;
+        long cells = 1;
+        try {
+            cells = Math.multiplyExact(cells, (long) xSize);
+            cells = Math.multiplyExact(cells, (long) ySize);
+            cells = Math.multiplyExact(cells, (long) zSize);
+            cells = Math.multiplyExact(cells, (long) wSize);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Total size exceeds the maximum addressable size.");
+        }
+        if (((cells + CHUNK_MASK) >>> CHUNK_SHIFT) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Total size exceeds the maximum addressable size.");
+        }
+        this.totalSize = cells;
+        int chunkCount = (int) ((cells + CHUNK_MASK) >>> CHUNK_SHIFT);
+        this.chunks = new float[chunkCount][];
+        for (int i = 0; i < chunkCount; i++) {
+            long start = (long) i << CHUNK_SHIFT;
+            chunks[i] = new float[(int) Math.min(1L << CHUNK_SHIFT, cells - start)];
+        }
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y, z, w) coordinates with bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @param w The W-coordinate (dimension 3).
+     * @return The float value at (x, y, z, w).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public float get(int x, int y, int z, int w) {
+        checkBounds(x, y, z, w);
+        long index = ((long) x * ySize * zSize * wSize) + ((long) y * zSize * wSize) + ((long) z * wSize) + w;
+        return chunks[(int) (index >>> CHUNK_SHIFT)][(int) (index & CHUNK_MASK)];
+    }
+
+    /**
+     * Sets the element at the specified (x, y, z, w) coordinates with bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param w     The W-coordinate (dimension 3).
+     * @param value The float value to set.
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public void set(int x, int y, int z, int w, float value) {
+        checkBounds(x, y, z, w);
+        long index = ((long) x * ySize * zSize * wSize) + ((long) y * zSize * wSize) + ((long) z * wSize) + w;
+        chunks[(int) (index >>> CHUNK_SHIFT)][(int) (index & CHUNK_MASK)] = value;
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y, z, w) coordinates without bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @param w The W-coordinate (dimension 3).
+     * @return The float value at (x, y, z, w).
+     */
+    public float getUnsafe(int x, int y, int z, int w) {
+        long index = ((long) x * ySize * zSize * wSize) + ((long) y * zSize * wSize) + ((long) z * wSize) + w;
+        return chunks[(int) (index >>> CHUNK_SHIFT)][(int) (index & CHUNK_MASK)];
+    }
+
+    /**
+     * Sets the element at the specified (x, y, z, w) coordinates without bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param w     The W-coordinate (dimension 3).
+     * @param value The float value to set.
+     */
+    public void setUnsafe(int x, int y, int z, int w, float value) {
+        long index = ((long) x * ySize * zSize * wSize) + ((long) y * zSize * wSize) + ((long) z * wSize) + w;
+        chunks[(int) (index >>> CHUNK_SHIFT)][(int) (index & CHUNK_MASK)] = value;
+    }
+
+    /**
+     * Retrieves the element at the specified row-major linear index.
+     *
+     * @param index The linear index, between 0 and {@link #getTotalSize()} - 1.
+     * @return The float value at the index.
+     */
+    public float getLinear(long index) {
+        return chunks[(int) (index >>> CHUNK_SHIFT)][(int) (index & CHUNK_MASK)];
+    }
+
+    /**
+     * Sets the element at the specified row-major linear index.
+     *
+     * @param index The linear index, between 0 and {@link #getTotalSize()} - 1.
+     * @param value The float value to set.
+     */
+    public void setLinear(long index, float value) {
+        chunks[(int) (index >>> CHUNK_SHIFT)][(int) (index & CHUNK_MASK)] = value;
+    }
+
+    /**
+     * Clears the array by setting all elements to 0.
+     */
+    public void clear() {
+        fill(0.0f);
+    }
+
+    /**
+     * Fills the array with the specified float value.
+     *
+     * @param value The float value to fill the array with.
+     */
+    public void fill(float value) {
+        for (float[] chunk : chunks) {
+            Arrays.fill(chunk, value);
+        }
+    }
+
+    /**
+     * Returns the chunk arrays themselves, without copying.
+     * <p>
+     * Chunk {@code i} holds the cells with linear indices starting at {@code i << CHUNK_SHIFT}; every chunk but the
+     * last is full. Bulk loops can run over each chunk as a plain array.
+     *
+     * @return The backing chunks.
+     */
+    public float[][] unwrapUnsafe() {
+        return chunks;
+    }
+
+    /**
+     * Creates a copy of this BigFloat4DArray.
+     *
+     * @return A new BigFloat4DArray instance with copied data.
+     */
+    public BigFloat4DArray copy() {
+        BigFloat4DArray copy = new BigFloat4DArray(xSize, ySize, zSize, wSize);
+        for (int i = 0; i < chunks.length; i++) {
+            System.arraycopy(chunks[i], 0, copy.chunks[i], 0, chunks[i].length);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns the total number of cells.
+     *
+     * @return The product of all dimension sizes.
+     */
+    public long getTotalSize() {
+        return totalSize;
+    }
+
+    /**
+     * Returns the size of the X dimension.
+     *
+     * @return The size of X.
+     */
+    public int getXSize() {
+        return xSize;
+    }
+
+    /**
+     * Returns the size of the Y dimension.
+     *
+     * @return The size of Y.
+     */
+    public int getYSize() {
+        return ySize;
+    }
+
+    /**
+     * Returns the size of the Z dimension.
+     *
+     * @return The size of Z.
+     */
+    public int getZSize() {
+        return zSize;
+    }
+
+    /**
+     * Returns the size of the W dimension.
+     *
+     * @return The size of W.
+     */
+    public int getWSize() {
+        return wSize;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("BigFloat4DArray{\n");
+        for (int x = 0; x < xSize; x++) {
+            sb.append("  Hyperlayer ").append(x).append(":\n");
+            for (int y = 0; y < ySize; y++) {
+                sb.append("    Layer ").append(y).append(":\n");
+                for (int z = 0; z < zSize; z++) {
+                    sb.append("      [");
+                    for (int w = 0; w < wSize; w++) {
+                        sb.append(get(x, y, z, w));
+                        if (w < wSize - 1) sb.append(", ");
+                    }
+                    sb.append("]\n");
+                }
+            }
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        BigFloat4DArray that = (BigFloat4DArray) o;
+
+        if (xSize != that.xSize) return false;
+        if (ySize != that.ySize) return false;
+        if (zSize != that.zSize) return false;
+        if (wSize != that.wSize) return false;
+        for (int i = 0; i < chunks.length; i++) {
+            if (!Arrays.equals(chunks[i], that.chunks[i])) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (float[] chunk : chunks) {
+            for (float value : chunk) {
+                result = 31 * result + Float.floatToIntBits(value);
+            }
+        }
+        result = 31 * result + xSize;
+        result = 31 * result + ySize;
+        result = 31 * result + zSize;
+        result = 31 * result + wSize;
+        return result;
+    }
+
+    /**
+     * Checks if the provided (x, y, z, w) coordinates are within bounds.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @param w The W-coordinate (dimension 3).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    private void checkBounds(int x, int y, int z, int w) {
+        if (x < 0 || x >= xSize) {
+            throw new IndexOutOfBoundsException(
+                    "X-coordinate " + x + " out of bounds for dimension 0 (0 to " + (xSize - 1) + ")."
+            );
+        }
+        if (y < 0 || y >= ySize) {
+            throw new IndexOutOfBoundsException(
+                    "Y-coordinate " + y + " out of bounds for dimension 1 (0 to " + (ySize - 1) + ")."
+            );
+        }
+        if (z < 0 || z >= zSize) {
+            throw new IndexOutOfBoundsException(
+                    "Z-coordinate " + z + " out of bounds for dimension 2 (0 to " + (zSize - 1) + ")."
+            );
+        }
+        if (w < 0 || w >= wSize) {
+            throw new IndexOutOfBoundsException(
+                    "W-coordinate " + w + " out of bounds for dimension 3 (0 to " + (wSize - 1) + ")."
+            );
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package com.nogenericgames.community.arrays.floats;
+
+import com.nogenericgames.community.arrays.utils.DirectBuffers;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * Represents a three-dimensional array of floats stored off-heap in a native-order direct {@link ByteBuffer}.
+ * <p>
+ * Offers the same API and row-major layout as {@link Float3DArray}, but the data can be handed to native code such as
+ * OpenGL texture or buffer uploads without an intermediate copy. The native memory is released by the buffer's
+ * cleaner when the array becomes unreachable, or immediately with {@link #free()}.
+ * After that, every method other than {@code free}, {@code isFreed} and the size getters throws
+ * {@link IllegalStateException}.
+ */
+public class DirectFloat3DArray {
+
+    private static final int FILL_CHUNK = 4096;
+
+    private ByteBuffer buffer;
+    private FloatBuffer elements;
+    private final int xSize;
+    private final int ySize;
+    private final int zSize;
+    private final int totalSize;
+
+    /**
+     * Constructs a 3D DirectFloatArray with the specified dimensions. All elements start at 0.0f.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @throws IllegalArgumentException if any dimension is non-positive or the data does not fit in one buffer.
+     */
+    public DirectFloat3DArray(int xSize, int ySize, int zSize) {
+        if (xSize <= 0 || ySize <= 0 || zSize <= 0) {
+            throw new IllegalArgumentException("Dimensions must be positive.");
+        }
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.zSize = zSize;
+        long cells = (long) xSize * ySize * zSize;
+        if (cells * Float.BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Total size " + cells + " exceeds the maximum direct buffer capacity.");
+        }
+        this.totalSize = (int) cells;
+        this.buffer = DirectBuffers.allocate(cells * Float.BYTES);
+        this.elements = buffer.asFloatBuffer();
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y, z) coordinates with bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @return The float value at (x, y, z).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public float get(int x, int y, int z) {
+        checkBounds(x, y, z);
+        return elements.get((x * ySize * zSize) + (y * zSize) + z);
+    }
+
+    /**
+     * Sets the element at the specified (x, y, z) coordinates with bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param value The float value to set.
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public void set(int x, int y, int z, float value) {
+        checkBounds(x, y, z);
+        elements.put((x * ySize * zSize) + (y * zSize) + z, value);
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y, z) coordinates without coordinate bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @return The float value at (x, y, z).
+     */
+    public float getUnsafe(int x, int y, int z) {
+        checkLive();
+        return elements.get((x * ySize * zSize) + (y * zSize) + z);
+    }
+
+    /**
+     * Sets the element at the specified (x, y, z) coordinates without coordinate bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param value The float value to set.
+     */
+    public void setUnsafe(int x, int y, int z, float value) {
+        checkLive();
+        elements.put((x * ySize * zSize) + (y * zSize) + z, value);
+    }
+
+    /**
+     * Clears the array by setting all elements to 0.
+     */
+    public void clear() {
+        fill(0.0f);
+    }
+
+    /**
+     * Fills the array with the specified float value using bulk buffer copies.
+     *
+     * @param value The float value to fill the array with.
+     */
+    public void fill(float value) {
+        checkLive();
+        int filled = Math.min(totalSize, FILL_CHUNK);
+        for (int i = 0; i < filled; i++) {
+            elements.put(i, value);
+        }
+        // Double the filled prefix with buffer-to-buffer bulk copies, so no heap array is staged.
+        while (filled < totalSize) {
+            int count = Math.min(filled, totalSize - filled);
+            FloatBuffer source = elements.duplicate();
+            source.limit(count);
+            FloatBuffer dest = elements.duplicate();
+            dest.position(filled);
+            dest.put(source);
+            filled += count;
+        }
+    }
+
+    /**
+     * Retrieves a copy of the data as a heap array.
+     *
+     * @return A new float array containing the data.
+     */
+    public float[] getData() {
+        checkLive();
+        float[] copy = new float[totalSize];
+        elements.duplicate().get(copy);
+        return copy;
+    }
+
+    /**
+     * Returns the underlying direct buffer without copying, positioned at 0 with the limit at the end of the data.
+     * <p>
+     * The returned buffer is a native-order duplicate: its position and limit are independent of this array, but its
+     * contents are shared. It can be passed directly to native uploads and must not be used after {@link #free()}.
+     *
+     * @return A native-order duplicate of the backing buffer.
+     */
+    public ByteBuffer getBuffer() {
+        checkLive();
+        return buffer.duplicate().order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Returns a {@link FloatBuffer} view of the data without copying, positioned at 0.
+     *
+     * @return A duplicate of the float view of the backing buffer.
+     */
+    public FloatBuffer asFloatBuffer() {
+        checkLive();
+        return elements.duplicate();
+    }
+
+    /**
+     * Copies the contents of a heap array with the same dimensions into this array with one bulk write.
+     *
+     * @param source The array to copy from.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void copyFrom(Float3DArray source) {
+        checkLive();
+        checkSameShape(source.getXSize(), source.getYSize(), source.getZSize());
+        source.copyInto(elements.duplicate());
+    }
+
+    /**
+     * Copies the contents of this array into a heap array with the same dimensions with one bulk read.
+     *
+     * @param dest The array to copy into.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void copyInto(Float3DArray dest) {
+        checkLive();
+        checkSameShape(dest.getXSize(), dest.getYSize(), dest.getZSize());
+        elements.duplicate().get(dest.unwrapUnsafe(), dest.getOffset(), elements.capacity());
+    }
+
+    /**
+     * Creates a copy of this DirectFloat3DArray in a newly allocated direct buffer.
+     *
+     * @return A new DirectFloat3DArray instance with copied data.
+     */
+    public DirectFloat3DArray copy() {
+        checkLive();
+        DirectFloat3DArray copy = new DirectFloat3DArray(xSize, ySize, zSize);
+        copy.buffer.duplicate().put(buffer.duplicate());
+        return copy;
+    }
+
+    /**
+     * Releases the native memory now instead of waiting for the garbage collector.
+     * <p>
+     * After this call the array, and any buffer obtained from {@link #getBuffer()} or {@link #asFloatBuffer()}, must not
+     * be used. Calling it more than once has no effect.
+     */
+    public void free() {
+        if (buffer == null) {
+            return;
+        }
+        ByteBuffer released = buffer;
+        buffer = null;
+        elements = null;
+        DirectBuffers.free(released);
+    }
+
+    /**
+     * Returns whether {@link #free()} has been called.
+     *
+     * @return True if the native memory has been released.
+     */
+    public boolean isFreed() {
+        return buffer == null;
+    }
+
+    /**
+     * Returns the size of the X dimension.
+     *
+     * @return The size of X.
+     */
+    public int getXSize() {
+        return xSize;
+    }
+
+    /**
+     * Returns the size of the Y dimension.
+     *
+     * @return The size of Y.
+     */
+    public int getYSize() {
+        return ySize;
+    }
+
+    /**
+     * Returns the size of the Z dimension.
+     *
+     * @return The size of Z.
+     */
+    public int getZSize() {
+        return zSize;
+    }
+
+    @Override
+    public String toString() {
+        checkLive();
+        StringBuilder sb = new StringBuilder("DirectFloat3DArray{\n");
+        for (int x = 0; x < xSize; x++) {
+            sb.append("  Layer ").append(x).append(":\n");
+            for (int y = 0; y < ySize; y++) {
+                sb.append("    [");
+                for (int z = 0; z < zSize; z++) {
+                    sb.append(get(x, y, z));
+                    if (z < zSize - 1) sb.append(", ");
+                }
+                sb.append("]\n");
+            }
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        DirectFloat3DArray that = (DirectFloat3DArray) o;
+        checkLive();
+        that.checkLive();
+
+        if (xSize != that.xSize) return false;
+        if (ySize != that.ySize) return false;
+        if (zSize != that.zSize) return false;
+        if (buffer.duplicate().equals(that.buffer.duplicate())) return true;
+        // Bytes differ: unequal unless only the encodings of NaN values differ, as Arrays.equals treats them.
+        FloatBuffer these = elements.duplicate();
+        FloatBuffer those = that.elements.duplicate();
+        float[] a = new float[Math.min(FILL_CHUNK, totalSize)];
+        float[] b = new float[a.length];
+        while (these.hasRemaining()) {
+            int n = Math.min(a.length, these.remaining());
+            these.get(a, 0, n);
+            those.get(b, 0, n);
+            for (int i = 0; i < n; i++) {
+                if (Float.floatToIntBits(a[i]) != Float.floatToIntBits(b[i])) return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        checkLive();
+        int result = 1;
+        FloatBuffer source = elements.duplicate();
+        float[] chunk = new float[Math.min(FILL_CHUNK, totalSize)];
+        while (source.hasRemaining()) {
+            int n = Math.min(chunk.length, source.remaining());
+            source.get(chunk, 0, n);
+            for (int i = 0; i < n; i++) {
+                result = 31 * result + Float.floatToIntBits(chunk[i]);
+            }
+        }
+        result = 31 * result + xSize;
+        result = 31 * result + ySize;
+        result = 31 * result + zSize;
+        return result;
+    }
+
+    private void checkSameShape(int xSize, int ySize, int zSize) {
+        if (xSize != this.xSize || ySize != this.ySize || zSize != this.zSize) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+    }
+
+    /**
+     * Throws if the native memory has been released.
+     *
+     * @throws IllegalStateException if the array has been freed.
+     */
+    private void checkLive() {
+        if (buffer == null) {
+            throw new IllegalStateException("Array has been freed.");
+        }
+    }
+
+    /**
+     * Checks if the provided (x, y, z) coordinates are within bounds and the array has not been freed.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     * @throws IllegalStateException     if the array has been freed.
+     */
+    private void checkBounds(int x, int y, int z) {
+        checkLive();
+        if (x < 0 || x >= xSize) {
+            throw new IndexOutOfBoundsException(
+                    "X-coordinate " + x + " out of bounds for dimension 0 (0 to " + (xSize - 1) + ")."
+            );
+        }
+        if (y < 0 || y >= ySize) {
+            throw new IndexOutOfBoundsException(
+                    "Y-coordinate " + y + " out of bounds for dimension 1 (0 to " + (ySize - 1) + ")."
+            );
+        }
+        if (z < 0 || z >= zSize) {
+            throw new IndexOutOfBoundsException(
+                    "Z-coordinate " + z + " out of bounds for dimension 2 (0 to " + (zSize - 1) + ")."
+            );
+        }
+    }
+}
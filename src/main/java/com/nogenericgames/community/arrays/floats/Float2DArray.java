@@ -1,5 +1,14 @@
 package com.nogenericgames.community.arrays.floats;
 
+import com.nogenericgames.community.arrays.utils.ArrayCursor;
+import com.nogenericgames.community.arrays.utils.FlatArrayUtils;
+import com.nogenericgames.community.arrays.utils.Matrices;
+import com.nogenericgames.community.arrays.utils.Moments;
+import com.nogenericgames.community.arrays.utils.ParallelArrays;
+import com.nogenericgames.community.arrays.utils.Permutations;
+import com.nogenericgames.community.arrays.utils.Reductions;
+import com.nogenericgames.community.arrays.utils.Summation;
+import java.nio.FloatBuffer;
 import java.util.Arrays;
 
 /**
@@ -8,6 +17,7 @@ import java.util.Arrays;
 public class Float2DArray {
 
     private final float[] data;
+    private final int offset;
     private final int xSize;
     private final int ySize;
     private final int totalSize;
@@ -17,7 +27,8 @@ public class Float2DArray {
      *
      * @param xSize Size of the X dimension.
      * @param ySize Size of the Y dimension.
-     * @throws IllegalArgumentException if any dimension is non-positive.
+     * @throws IllegalArgumentException if any dimension is non-positive or the total size exceeds the maximum
+     *                                  array length.
      */
     public Float2DArray(int xSize, int ySize) {
         if (xSize <= 0 || ySize <= 0) {
@@ -25,8 +36,35 @@ public class Float2DArray {
         }
         this.xSize = xSize;
         this.ySize = ySize;
-        this.totalSize = xSize * ySize;
+        this.totalSize = FlatArrayUtils.checkedSize(xSize, ySize);
         this.data = new float[totalSize];
+        this.offset = 0;
+    }
+
+    /**
+     * Constructs a 2D FloatArray over an existing backing array, which is shared rather than copied. The caller
+     * guarantees that the dimensions are positive and multiply to the array's length.
+     *
+     * @param data The backing array.
+     */
+    Float2DArray(float[] data, int xSize, int ySize) {
+        this(data, 0, xSize, ySize);
+    }
+
+    /**
+     * Constructs a 2D FloatArray over a range of an existing backing array, which is shared rather than copied: the
+     * cells are the elements from offset on, in row-major order. The caller guarantees that the dimensions are
+     * positive and that the range fits in the array.
+     *
+     * @param data   The backing array.
+     * @param offset The index of cell (0, 0) in the backing array.
+     */
+    Float2DArray(float[] data, int offset, int xSize, int ySize) {
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.totalSize = xSize * ySize;
+        this.data = data;
+        this.offset = offset;
     }
 
     /**
@@ -39,7 +77,7 @@ public class Float2DArray {
      */
     public float get(int x, int y) {
         checkBounds(x, y);
-        return data[x * ySize + y];
+        return data[offset + x * ySize + y];
     }
 
     /**
@@ -52,7 +90,7 @@ public class Float2DArray {
      */
     public void set(int x, int y, float value) {
         checkBounds(x, y);
-        data[x * ySize + y] = value;
+        data[offset + x * ySize + y] = value;
     }
 
     /**
@@ -63,7 +101,7 @@ public class Float2DArray {
      * @return The float value at (x, y).
      */
     public float getUnsafe(int x, int y) {
-        return data[x * ySize + y];
+        return data[offset + x * ySize + y];
     }
 
     /**
@@ -74,23 +112,89 @@ public class Float2DArray {
      * @param value The float value to set.
      */
     public void setUnsafe(int x, int y, float value) {
-        data[x * ySize + y] = value;
+        data[offset + x * ySize + y] = value;
     }
 
     /**
      * Clears the array by setting all elements to 0.0f.
      */
     public void clear() {
-        Arrays.fill(data, 0.0f);
+        Arrays.fill(data, offset, offset + totalSize, 0.0f);
     }
 
     /**
      * Retrieves a copy of the underlying data array.
+     * <p>
+     * Use {@link #asReadOnlyBuffer()} or {@link #unwrapUnsafe()} to access the data without copying.
      *
      * @return A new float array containing the data.
      */
     public float[] getData() {
-        return data.clone();
+        return Arrays.copyOfRange(data, offset, offset + totalSize);
+    }
+
+    /**
+     * Returns a read-only {@link FloatBuffer} view of the underlying data without copying.
+     * <p>
+     * The view shares storage with this array, so later writes are visible through it. Buffer index {@code i} is
+     * the cell at row-major linear index {@code i}.
+     *
+     * @return A read-only buffer backed by the data array.
+     */
+    public FloatBuffer asReadOnlyBuffer() {
+        return FloatBuffer.wrap(data, offset, totalSize).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns the underlying data array itself, without copying.
+     * <p>
+     * The cells are laid out in row-major order from index {@link #getOffset()} on, and writes to them are writes to
+     * this array. An array bridged from a view may share a larger backing array, whose other elements belong to its
+     * source. Unlike {@link #getData()}, this does not allocate, which makes it suitable for handing large arrays to
+     * renderers or serializers every frame.
+     *
+     * @return The backing data array.
+     */
+    public float[] unwrapUnsafe() {
+        return data;
+    }
+
+    /**
+     * Returns the index of the first cell in the array returned by {@link #unwrapUnsafe()}. It is 0 unless this
+     * array shares the backing array of a larger one.
+     *
+     * @return The offset of the first cell.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Copies a range of cells, in row-major linear order, into a caller-supplied array.
+     *
+     * @param srcPos  The linear index of the first cell to copy.
+     * @param dest    The destination array.
+     * @param destPos The first index to write in the destination array.
+     * @param length  The number of cells to copy.
+     * @throws IndexOutOfBoundsException if either range is out of bounds.
+     */
+    public void copyInto(int srcPos, float[] dest, int destPos, int length) {
+        if (srcPos < 0 || length > totalSize - srcPos) {
+            throw new IndexOutOfBoundsException(
+                    "Range of " + length + " cells at " + srcPos + " out of bounds for " + totalSize + " cells."
+            );
+        }
+        System.arraycopy(data, offset + srcPos, dest, destPos, length);
+    }
+
+    /**
+     * Copies all cells, in row-major linear order, into a caller-supplied buffer at its current position.
+     *
+     * @param dest The destination buffer; its position is advanced by the number of cells.
+     * @throws java.nio.BufferOverflowException if the buffer has less remaining space than the number of cells.
+     */
+    public void copyInto(FloatBuffer dest) {
+        dest.put(data, offset, totalSize);
     }
 
     /**
@@ -99,7 +203,7 @@ public class Float2DArray {
      * @param value The float value to fill the array with.
      */
     public void fill(float value) {
-        Arrays.fill(data, value);
+        Arrays.fill(data, offset, offset + totalSize, value);
     }
 
     /**
@@ -109,10 +213,871 @@ public class Float2DArray {
      */
     public Float2DArray copy() {
         Float2DArray copy = new Float2DArray(xSize, ySize);
-        System.arraycopy(this.data, 0, copy.data, 0, this.totalSize);
+        System.arraycopy(this.data, offset, copy.data, 0, this.totalSize);
         return copy;
     }
 
+    /**
+     * Returns a view of a sub-rectangle of this array without copying. Ranges are half-open: {@code [x0, x1)}.
+     *
+     * @param x0 First X-coordinate, inclusive.
+     * @param x1 Last X-coordinate, exclusive.
+     * @param y0 First Y-coordinate, inclusive.
+     * @param y1 Last Y-coordinate, exclusive.
+     * @return A view sharing this array's storage.
+     * @throws IndexOutOfBoundsException if a range is empty or out of bounds.
+     */
+    public Float2DArrayView slice(int x0, int x1, int y0, int y1) {
+        checkRange(x0, x1, xSize, 0);
+        checkRange(y0, y1, ySize, 1);
+        return new Float2DArrayView(data, offset + x0 * ySize + y0, x1 - x0, y1 - y0, ySize, 1);
+    }
+
+    /**
+     * Calls the consumer for every cell in row-major order, passing its coordinates and value.
+     * <p>
+     * The linear index advances by one per cell, so no index product is computed and no bounds are checked.
+     *
+     * @param consumer The consumer to call.
+     */
+    public void forEach(FloatCellConsumer2 consumer) {
+        int i = offset;
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                consumer.accept(x, y, data[i++]);
+            }
+        }
+    }
+
+    /**
+     * Replaces every cell, in row-major order, with the result of applying the operator to its coordinates and value.
+     *
+     * @param operator The operator computing each new value.
+     */
+    public void replaceAll(FloatCellOperator2 operator) {
+        int i = offset;
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                data[i] = operator.applyAsFloat(x, y, data[i]);
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Returns a cursor that walks this array's cells in row-major order, carrying coordinates and the linear index.
+     * Use it with {@link #getLinear(int)} and {@link #setLinear(int, float)}.
+     *
+     * @return A new cursor positioned before the first cell.
+     */
+    public ArrayCursor cursor() {
+        return new ArrayCursor(xSize, ySize);
+    }
+
+    /**
+     * Retrieves the element at the specified row-major linear index without bounds checking beyond the backing
+     * array's own.
+     *
+     * @param index The linear index, between 0 and the total size - 1.
+     * @return The float value at the index.
+     */
+    public float getLinear(int index) {
+        return data[offset + index];
+    }
+
+    /**
+     * Sets the element at the specified row-major linear index without bounds checking beyond the backing array's
+     * own.
+     *
+     * @param index The linear index, between 0 and the total size - 1.
+     * @param value The float value to set.
+     */
+    public void setLinear(int index, float value) {
+        data[offset + index] = value;
+    }
+
+    /**
+     * Fills the array with the specified float value, splitting the work across the fork/join pool for large arrays.
+     *
+     * @param value The float value to fill the array with.
+     * @see ParallelArrays
+     */
+    public void parallelFill(float value) {
+        ParallelArrays.forEachChunk(totalSize, 4,
+                (chunk, from, to) -> Arrays.fill(data, offset + from, offset + to, value));
+    }
+
+    /**
+     * Replaces every element with the result of applying the operator to it, splitting the work across the
+     * fork/join pool for large arrays. The operator may be called concurrently and in any order.
+     *
+     * @param operator The operator computing each new value.
+     * @see ParallelArrays
+     */
+    public void parallelReplaceAll(FloatUnaryOperator operator) {
+        ParallelArrays.forEachChunk(totalSize, 4, (chunk, from, to) -> {
+            for (int i = offset + from; i < offset + to; i++) {
+                data[i] = operator.applyAsFloat(data[i]);
+            }
+        });
+    }
+
+    /**
+     * Combines all elements with an associative operator, reducing chunks in parallel and then combining the
+     * per-chunk results in order.
+     *
+     * @param identity The identity of the operator, used as the starting value of every chunk.
+     * @param operator An associative operator.
+     * @return The combined value.
+     * @see ParallelArrays
+     */
+    public float parallelReduce(float identity, FloatBinaryOperator operator) {
+        float[] partials = new float[ParallelArrays.chunkCount(totalSize, 4)];
+        ParallelArrays.forEachChunk(totalSize, 4, (chunk, from, to) -> {
+            float result = identity;
+            for (int i = offset + from; i < offset + to; i++) {
+                result = operator.applyAsFloat(result, data[i]);
+            }
+            partials[chunk] = result;
+        });
+        float result = identity;
+        for (float partial : partials) {
+            result = operator.applyAsFloat(result, partial);
+        }
+        return result;
+    }
+
+    /**
+     * Copies this array's contents into another array of the same dimensions, splitting the work across the
+     * fork/join pool for large arrays.
+     *
+     * @param dest The destination array.
+     * @throws IllegalArgumentException if the dimensions differ.
+     * @see ParallelArrays
+     */
+    public void parallelCopyInto(Float2DArray dest) {
+        if (xSize != dest.xSize || ySize != dest.ySize) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+        ParallelArrays.forEachChunk(totalSize, 4,
+                (chunk, from, to) -> System.arraycopy(data, offset + from, dest.data, dest.offset + from, to - from));
+    }
+
+    /**
+     * Replaces each element with the sum of it and the matching element of other, in place.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void add(Float2DArray other) {
+        checkSameShape(other);
+        FlatArrayUtils.add(data, offset, other.data, other.offset, data, offset, totalSize);
+    }
+
+    /**
+     * Stores the element-wise sum of this array and other in dest, leaving this array unchanged.
+     *
+     * @param other An array with the same dimensions.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void add(Float2DArray other, Float2DArray dest) {
+        checkSameShape(other);
+        checkSameShape(dest);
+        FlatArrayUtils.add(data, offset, other.data, other.offset, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with the difference of it and the matching element of other, in place.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void sub(Float2DArray other) {
+        checkSameShape(other);
+        FlatArrayUtils.sub(data, offset, other.data, other.offset, data, offset, totalSize);
+    }
+
+    /**
+     * Stores the element-wise difference of this array and other in dest, leaving this array unchanged.
+     *
+     * @param other An array with the same dimensions.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void sub(Float2DArray other, Float2DArray dest) {
+        checkSameShape(other);
+        checkSameShape(dest);
+        FlatArrayUtils.sub(data, offset, other.data, other.offset, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with the product of it and the matching element of other, in place.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void mul(Float2DArray other) {
+        checkSameShape(other);
+        FlatArrayUtils.mul(data, offset, other.data, other.offset, data, offset, totalSize);
+    }
+
+    /**
+     * Stores the element-wise product of this array and other in dest, leaving this array unchanged.
+     *
+     * @param other An array with the same dimensions.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void mul(Float2DArray other, Float2DArray dest) {
+        checkSameShape(other);
+        checkSameShape(dest);
+        FlatArrayUtils.mul(data, offset, other.data, other.offset, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with its quotient by the matching element of other, in place.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void div(Float2DArray other) {
+        checkSameShape(other);
+        FlatArrayUtils.div(data, offset, other.data, other.offset, data, offset, totalSize);
+    }
+
+    /**
+     * Stores the element-wise quotient of this array by other in dest, leaving this array unchanged.
+     *
+     * @param other An array with the same dimensions.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void div(Float2DArray other, Float2DArray dest) {
+        checkSameShape(other);
+        checkSameShape(dest);
+        FlatArrayUtils.div(data, offset, other.data, other.offset, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with the smaller of it and the matching element of other, in place.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void min(Float2DArray other) {
+        checkSameShape(other);
+        FlatArrayUtils.min(data, offset, other.data, other.offset, data, offset, totalSize);
+    }
+
+    /**
+     * Stores the element-wise minimum of this array and other in dest, leaving this array unchanged.
+     *
+     * @param other An array with the same dimensions.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void min(Float2DArray other, Float2DArray dest) {
+        checkSameShape(other);
+        checkSameShape(dest);
+        FlatArrayUtils.min(data, offset, other.data, other.offset, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with the larger of it and the matching element of other, in place.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void max(Float2DArray other) {
+        checkSameShape(other);
+        FlatArrayUtils.max(data, offset, other.data, other.offset, data, offset, totalSize);
+    }
+
+    /**
+     * Stores the element-wise maximum of this array and other in dest, leaving this array unchanged.
+     *
+     * @param other An array with the same dimensions.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void max(Float2DArray other, Float2DArray dest) {
+        checkSameShape(other);
+        checkSameShape(dest);
+        FlatArrayUtils.max(data, offset, other.data, other.offset, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with its product with factor, in place.
+     *
+     * @param factor The factor.
+     */
+    public void scale(float factor) {
+        FlatArrayUtils.scale(data, offset, factor, data, offset, totalSize);
+    }
+
+    /**
+     * Stores the product of each element and factor in dest, leaving this array unchanged.
+     *
+     * @param factor The factor.
+     * @param dest   The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void scale(float factor, Float2DArray dest) {
+        checkSameShape(dest);
+        FlatArrayUtils.scale(data, offset, factor, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with {@code alpha * x + element}, in place.
+     *
+     * @param alpha The factor applied to x.
+     * @param x     An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void axpy(float alpha, Float2DArray x) {
+        checkSameShape(x);
+        FlatArrayUtils.axpy(alpha, x.data, x.offset, data, offset, data, offset, totalSize);
+    }
+
+    /**
+     * Stores {@code alpha * x + element} for each element in dest, leaving this array unchanged.
+     *
+     * @param alpha The factor applied to x.
+     * @param x     An array with the same dimensions.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void axpy(float alpha, Float2DArray x, Float2DArray dest) {
+        checkSameShape(x);
+        checkSameShape(dest);
+        FlatArrayUtils.axpy(alpha, x.data, x.offset, data, offset, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with {@code element * b + c}, in place.
+     *
+     * @param b The factor, with the same dimensions.
+     * @param c The addend, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void fma(Float2DArray b, Float2DArray c) {
+        checkSameShape(b);
+        checkSameShape(c);
+        FlatArrayUtils.fma(data, offset, b.data, b.offset, c.data, c.offset, data, offset, totalSize);
+    }
+
+    /**
+     * Stores {@code element * b + c} for each element in dest, leaving this array unchanged.
+     *
+     * @param b    The factor, with the same dimensions.
+     * @param c    The addend, with the same dimensions.
+     * @param dest The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void fma(Float2DArray b, Float2DArray c, Float2DArray dest) {
+        checkSameShape(b);
+        checkSameShape(c);
+        checkSameShape(dest);
+        FlatArrayUtils.fma(data, offset, b.data, b.offset, c.data, c.offset, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with {@code element + t * (other - element)}, in place.
+     *
+     * @param other The end values, with the same dimensions.
+     * @param t     The interpolation factor.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void lerp(Float2DArray other, float t) {
+        checkSameShape(other);
+        FlatArrayUtils.lerp(data, offset, other.data, other.offset, t, data, offset, totalSize);
+    }
+
+    /**
+     * Stores {@code element + t * (other - element)} for each element in dest, leaving this array unchanged.
+     *
+     * @param other The end values, with the same dimensions.
+     * @param t     The interpolation factor.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void lerp(Float2DArray other, float t, Float2DArray dest) {
+        checkSameShape(other);
+        checkSameShape(dest);
+        FlatArrayUtils.lerp(data, offset, other.data, other.offset, t, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with itself clamped to {@code [min, max]}, in place.
+     *
+     * @param min The lower bound.
+     * @param max The upper bound.
+     * @throws IllegalArgumentException if min is greater than max.
+     */
+    public void clamp(float min, float max) {
+        FlatArrayUtils.clamp(data, offset, min, max, data, offset, totalSize);
+    }
+
+    /**
+     * Stores each element clamped to {@code [min, max]} in dest, leaving this array unchanged.
+     *
+     * @param min  The lower bound.
+     * @param max  The upper bound.
+     * @param dest The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ or min is greater than max.
+     */
+    public void clamp(float min, float max, Float2DArray dest) {
+        checkSameShape(dest);
+        FlatArrayUtils.clamp(data, offset, min, max, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with its absolute value, in place.
+     */
+    public void abs() {
+        FlatArrayUtils.abs(data, offset, data, offset, totalSize);
+    }
+
+    /**
+     * Stores the absolute value of each element in dest, leaving this array unchanged.
+     *
+     * @param dest The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void abs(Float2DArray dest) {
+        checkSameShape(dest);
+        FlatArrayUtils.abs(data, offset, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with its square root, in place.
+     */
+    public void sqrt() {
+        FlatArrayUtils.sqrt(data, offset, data, offset, totalSize);
+    }
+
+    /**
+     * Stores the square root of each element in dest, leaving this array unchanged.
+     *
+     * @param dest The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void sqrt(Float2DArray dest) {
+        checkSameShape(dest);
+        FlatArrayUtils.sqrt(data, offset, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Returns the sum of all elements using pairwise summation, accumulated in {@code double}.
+     *
+     * @return The sum.
+     */
+    public double sum() {
+        return Reductions.sum(data, offset, offset + totalSize, Summation.PAIRWISE);
+    }
+
+    /**
+     * Returns the sum of all elements, accumulated in {@code double}.
+     *
+     * @param mode The summation algorithm.
+     * @return The sum.
+     */
+    public double sum(Summation mode) {
+        return Reductions.sum(data, offset, offset + totalSize, mode);
+    }
+
+    /**
+     * Returns the sum of all elements using pairwise summation, summing chunks in parallel.
+     *
+     * @return The sum.
+     */
+    public double parallelSum() {
+        return Reductions.parallelSum(data, offset, offset + totalSize, Summation.PAIRWISE);
+    }
+
+    /**
+     * Returns the sum of all elements, summing chunks in parallel.
+     *
+     * @param mode The summation algorithm used within each chunk.
+     * @return The sum.
+     */
+    public double parallelSum(Summation mode) {
+        return Reductions.parallelSum(data, offset, offset + totalSize, mode);
+    }
+
+    /**
+     * Returns the smallest element. NaN elements are ignored unless all elements are NaN.
+     *
+     * @return The minimum value.
+     */
+    public float minValue() {
+        return data[Reductions.indexOfMin(data, offset, offset + totalSize)];
+    }
+
+    /**
+     * Returns the largest element. NaN elements are ignored unless all elements are NaN.
+     *
+     * @return The maximum value.
+     */
+    public float maxValue() {
+        return data[Reductions.indexOfMax(data, offset, offset + totalSize)];
+    }
+
+    /**
+     * Returns the coordinates of the smallest element, the first in row-major order on ties.
+     *
+     * @return A new array holding (x, y).
+     */
+    public int[] argMin() {
+        return coordinatesOf(Reductions.indexOfMin(data, offset, offset + totalSize) - offset);
+    }
+
+    /**
+     * Returns the coordinates of the largest element, the first in row-major order on ties.
+     *
+     * @return A new array holding (x, y).
+     */
+    public int[] argMax() {
+        return coordinatesOf(Reductions.indexOfMax(data, offset, offset + totalSize) - offset);
+    }
+
+    /**
+     * Returns the coordinates of the smallest element like {@link #argMin()}, scanning chunks in parallel.
+     *
+     * @return A new array holding (x, y).
+     */
+    public int[] parallelArgMin() {
+        return coordinatesOf(Reductions.parallelIndexOfMin(data, offset, offset + totalSize) - offset);
+    }
+
+    /**
+     * Returns the coordinates of the largest element like {@link #argMax()}, scanning chunks in parallel.
+     *
+     * @return A new array holding (x, y).
+     */
+    public int[] parallelArgMax() {
+        return coordinatesOf(Reductions.parallelIndexOfMax(data, offset, offset + totalSize) - offset);
+    }
+
+    /**
+     * Computes the count, mean and variance of all elements in one pass.
+     *
+     * @return The moments of the elements.
+     */
+    public Moments moments() {
+        return Reductions.moments(data, offset, offset + totalSize);
+    }
+
+    /**
+     * Computes the count, mean and variance of all elements in one pass, processing chunks in parallel.
+     *
+     * @return The moments of the elements.
+     */
+    public Moments parallelMoments() {
+        return Reductions.parallelMoments(data, offset, offset + totalSize);
+    }
+
+    /**
+     * Returns the arithmetic mean of all elements.
+     *
+     * @return The mean.
+     */
+    public double mean() {
+        return Reductions.moments(data, offset, offset + totalSize).getMean();
+    }
+
+    /**
+     * Returns the population variance of all elements.
+     *
+     * @return The variance.
+     */
+    public double variance() {
+        return Reductions.moments(data, offset, offset + totalSize).getVariance();
+    }
+
+    /**
+     * Counts the elements equal to a value. A NaN value counts NaN elements.
+     *
+     * @param value The value to count.
+     * @return The number of matching elements.
+     */
+    public int count(float value) {
+        return Reductions.count(data, offset, offset + totalSize, value);
+    }
+
+    /**
+     * Counts the elements equal to a value, scanning chunks in parallel.
+     *
+     * @param value The value to count.
+     * @return The number of matching elements.
+     */
+    public int parallelCount(float value) {
+        return Reductions.parallelCount(data, offset, offset + totalSize, value);
+    }
+
+    /**
+     * Returns the transpose of this array: a new ySize x xSize array whose element (y, x) is element (x, y) of this
+     * one.
+     *
+     * @return The transposed copy.
+     * @see Permutations
+     */
+    public Float2DArray transpose() {
+        Float2DArray result = new Float2DArray(ySize, xSize);
+        Permutations.permute(data, offset, new int[]{xSize, ySize}, new int[]{1, 0}, result.data, result.offset);
+        return result;
+    }
+
+    /**
+     * Returns the transpose of this array like {@link #transpose()}, splitting the work across the fork/join pool
+     * for large arrays.
+     *
+     * @return The transposed copy.
+     * @see Permutations
+     */
+    public Float2DArray parallelTranspose() {
+        Float2DArray result = new Float2DArray(ySize, xSize);
+        Permutations.parallelPermute(data, offset, new int[]{xSize, ySize}, new int[]{1, 0},
+                result.data, result.offset);
+        return result;
+    }
+
+    /**
+     * Writes the transpose of this array into a ySize x xSize destination.
+     *
+     * @param dest The destination array, not this array.
+     * @throws IllegalArgumentException if the destination is not ySize x xSize or is this array.
+     */
+    public void transposeInto(Float2DArray dest) {
+        checkTransposed(dest);
+        Permutations.permute(data, offset, new int[]{xSize, ySize}, new int[]{1, 0}, dest.data, dest.offset);
+    }
+
+    /**
+     * Writes the transpose of this array into a ySize x xSize destination, splitting the work across the fork/join
+     * pool for large arrays.
+     *
+     * @param dest The destination array, not this array.
+     * @throws IllegalArgumentException if the destination is not ySize x xSize or is this array.
+     */
+    public void parallelTransposeInto(Float2DArray dest) {
+        checkTransposed(dest);
+        Permutations.parallelPermute(data, offset, new int[]{xSize, ySize}, new int[]{1, 0}, dest.data, dest.offset);
+    }
+
+    /**
+     * Transposes this square array in place by swapping tiles across the diagonal.
+     *
+     * @throws IllegalStateException if the array is not square.
+     */
+    public void transposeInPlace() {
+        checkSquare();
+        Permutations.transposeInPlace(data, offset, xSize);
+    }
+
+    /**
+     * Transposes this square array in place like {@link #transposeInPlace()}, splitting the work across the
+     * fork/join pool for large arrays.
+     *
+     * @throws IllegalStateException if the array is not square.
+     */
+    public void parallelTransposeInPlace() {
+        checkSquare();
+        Permutations.parallelTransposeInPlace(data, offset, xSize);
+    }
+
+    /**
+     * Returns the matrix product of this array and another, treating X as the row and Y as the column index.
+     *
+     * @param other A matrix with as many rows (X size) as this array has columns (Y size).
+     * @return A new xSize x other.ySize array.
+     * @throws IllegalArgumentException if the inner dimensions differ.
+     * @see Matrices
+     */
+    public Float2DArray multiply(Float2DArray other) {
+        checkInner(other);
+        Float2DArray result = new Float2DArray(xSize, other.ySize);
+        Matrices.gemm(1, data, offset, other.data, other.offset, 0, result.data, result.offset,
+                xSize, other.ySize, ySize);
+        return result;
+    }
+
+    /**
+     * Returns the matrix product of this array and another like {@link #multiply(Float2DArray)}, splitting the
+     * rows of the result across the fork/join pool.
+     *
+     * @param other A matrix with as many rows (X size) as this array has columns (Y size).
+     * @return A new xSize x other.ySize array.
+     * @throws IllegalArgumentException if the inner dimensions differ.
+     * @see Matrices
+     */
+    public Float2DArray parallelMultiply(Float2DArray other) {
+        checkInner(other);
+        Float2DArray result = new Float2DArray(xSize, other.ySize);
+        Matrices.parallelGemm(1, data, offset, other.data, other.offset, 0, result.data, result.offset,
+                xSize, other.ySize, ySize);
+        return result;
+    }
+
+    /**
+     * Writes the matrix product of this array and another into a destination, without allocating.
+     *
+     * @param other A matrix with as many rows (X size) as this array has columns (Y size).
+     * @param dest  An xSize x other.ySize array, neither this array nor other.
+     * @throws IllegalArgumentException if the dimensions do not match or dest is an operand.
+     */
+    public void multiplyInto(Float2DArray other, Float2DArray dest) {
+        checkProduct(other, dest);
+        Matrices.gemm(1, data, offset, other.data, other.offset, 0, dest.data, dest.offset,
+                xSize, other.ySize, ySize);
+    }
+
+    /**
+     * Writes the matrix product of this array and another into a destination like
+     * {@link #multiplyInto(Float2DArray, Float2DArray)}, splitting the rows of the result across the fork/join pool.
+     *
+     * @param other A matrix with as many rows (X size) as this array has columns (Y size).
+     * @param dest  An xSize x other.ySize array, neither this array nor other.
+     * @throws IllegalArgumentException if the dimensions do not match or dest is an operand.
+     */
+    public void parallelMultiplyInto(Float2DArray other, Float2DArray dest) {
+        checkProduct(other, dest);
+        Matrices.parallelGemm(1, data, offset, other.data, other.offset, 0, dest.data, dest.offset,
+                xSize, other.ySize, ySize);
+    }
+
+    /**
+     * Returns the product of this matrix and a column vector.
+     *
+     * @param vector A vector of length ySize.
+     * @return A new vector of length xSize.
+     * @throws IllegalArgumentException if the vector length differs from ySize.
+     * @see Matrices
+     */
+    public float[] multiply(float[] vector) {
+        float[] result = new float[xSize];
+        multiplyInto(vector, result);
+        return result;
+    }
+
+    /**
+     * Writes the product of this matrix and a column vector into a destination, without allocating.
+     *
+     * @param vector A vector of length ySize.
+     * @param dest   A vector of length xSize, not the same array as vector.
+     * @throws IllegalArgumentException if a vector length does not match or dest is vector.
+     */
+    public void multiplyInto(float[] vector, float[] dest) {
+        checkVectors(vector, dest);
+        Matrices.gemv(1, data, offset, vector, 0, 0, dest, 0, xSize, ySize);
+    }
+
+    /**
+     * Writes the product of this matrix and a column vector into a destination like
+     * {@link #multiplyInto(float[], float[])}, splitting the rows across the fork/join pool.
+     *
+     * @param vector A vector of length ySize.
+     * @param dest   A vector of length xSize, not the same array as vector.
+     * @throws IllegalArgumentException if a vector length does not match or dest is vector.
+     */
+    public void parallelMultiplyInto(float[] vector, float[] dest) {
+        checkVectors(vector, dest);
+        Matrices.parallelGemv(1, data, offset, vector, 0, 0, dest, 0, xSize, ySize);
+    }
+
+    /**
+     * Returns a 2D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     * It can also give this array different dimensions of the same rank.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @return A Float2DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     */
+    public Float2DArray reshape(int xSize, int ySize) {
+        checkReshape(xSize, ySize);
+        return new Float2DArray(data, offset, xSize, ySize);
+    }
+
+    /**
+     * Returns a 3D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @return A Float3DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     */
+    public Float3DArray reshape(int xSize, int ySize, int zSize) {
+        checkReshape(xSize, ySize, zSize);
+        return new Float3DArray(data, offset, xSize, ySize, zSize);
+    }
+
+    /**
+     * Returns a 4D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @param wSize Size of the W dimension.
+     * @return A Float4DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     * @throws IllegalStateException    if this array does not span its whole backing array.
+     */
+    public Float4DArray reshape(int xSize, int ySize, int zSize, int wSize) {
+        checkWhole();
+        checkReshape(xSize, ySize, zSize, wSize);
+        return new Float4DArray(data, xSize, ySize, zSize, wSize);
+    }
+
+    /**
+     * Returns a 5D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @param wSize Size of the W dimension.
+     * @param uSize Size of the U dimension.
+     * @return A Float5DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     * @throws IllegalStateException    if this array does not span its whole backing array.
+     */
+    public Float5DArray reshape(int xSize, int ySize, int zSize, int wSize, int uSize) {
+        checkWhole();
+        checkReshape(xSize, ySize, zSize, wSize, uSize);
+        return new Float5DArray(data, xSize, ySize, zSize, wSize, uSize);
+    }
+
+    /**
+     * Returns a 6D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @param wSize Size of the W dimension.
+     * @param uSize Size of the U dimension.
+     * @param vSize Size of the V dimension.
+     * @return A Float6DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     * @throws IllegalStateException    if this array does not span its whole backing array.
+     */
+    public Float6DArray reshape(int xSize, int ySize, int zSize, int wSize, int uSize, int vSize) {
+        checkWhole();
+        checkReshape(xSize, ySize, zSize, wSize, uSize, vSize);
+        return new Float6DArray(data, xSize, ySize, zSize, wSize, uSize, vSize);
+    }
+
     /**
      * Returns the size of the X dimension.
      *
@@ -155,17 +1120,79 @@ public class Float2DArray {
 
         if (xSize != that.xSize) return false;
         if (ySize != that.ySize) return false;
-        return Arrays.equals(data, that.data);
+        return FlatArrayUtils.equals(data, offset, that.data, that.offset, totalSize);
     }
 
     @Override
     public int hashCode() {
-        int result = Arrays.hashCode(data);
+        int result = FlatArrayUtils.hashCode(data, offset, totalSize);
         result = 31 * result + xSize;
         result = 31 * result + ySize;
         return result;
     }
 
+    private void checkSameShape(Float2DArray other) {
+        if (xSize != other.xSize || ySize != other.ySize) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+    }
+
+    private int[] coordinatesOf(int index) {
+        int[] coordinates = new int[2];
+        coordinates[1] = index % ySize;
+        index /= ySize;
+        coordinates[0] = index;
+        return coordinates;
+    }
+
+    private void checkTransposed(Float2DArray dest) {
+        if (dest.xSize != ySize || dest.ySize != xSize) {
+            throw new IllegalArgumentException("Dimensions must match the transpose.");
+        }
+    }
+
+    private void checkSquare() {
+        if (xSize != ySize) {
+            throw new IllegalStateException("Array must be square to transpose in place.");
+        }
+    }
+
+    private void checkInner(Float2DArray other) {
+        if (ySize != other.xSize) {
+            throw new IllegalArgumentException("Inner dimensions must match.");
+        }
+    }
+
+    private void checkProduct(Float2DArray other, Float2DArray dest) {
+        checkInner(other);
+        if (dest.xSize != xSize || dest.ySize != other.ySize) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+    }
+
+    private void checkWhole() {
+        if (offset != 0 || data.length != totalSize) {
+            throw new IllegalStateException("Array must span its backing array to reshape to 4 or more dimensions.");
+        }
+    }
+
+    private void checkVectors(float[] vector, float[] dest) {
+        if (vector.length != ySize || dest.length != xSize) {
+            throw new IllegalArgumentException("Array lengths must match the dimensions.");
+        }
+    }
+
+    private void checkReshape(int... dimensions) {
+        for (int dimension : dimensions) {
+            if (dimension <= 0) {
+                throw new IllegalArgumentException("Dimensions must be positive.");
+            }
+        }
+        if (FlatArrayUtils.checkedSize(dimensions) != totalSize) {
+            throw new IllegalArgumentException("Reshaped dimensions must hold " + totalSize + " elements.");
+        }
+    }
+
     /**
      * Checks if the provided (x, y) coordinates are within bounds.
      *
@@ -185,4 +1212,12 @@ public class Float2DArray {
             );
         }
     }
+
+    private static void checkRange(int from, int to, int size, int dimension) {
+        if (from < 0 || to > size || from >= to) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + from + ", " + to + ") out of bounds for dimension " + dimension + " (0 to " + (size - 1) + ")."
+            );
+        }
+    }
 }
@@ -1,5 +1,13 @@
 package com.nogenericgames.community.arrays.floats;
 
+import com.nogenericgames.community.arrays.utils.ArrayCursor;
+import com.nogenericgames.community.arrays.utils.FlatArrayUtils;
+import com.nogenericgames.community.arrays.utils.Moments;
+import com.nogenericgames.community.arrays.utils.ParallelArrays;
+import com.nogenericgames.community.arrays.utils.Permutations;
+import com.nogenericgames.community.arrays.utils.Reductions;
+import com.nogenericgames.community.arrays.utils.Summation;
+import java.nio.FloatBuffer;
 import java.util.Arrays;
 
 /**
@@ -8,6 +16,7 @@ import java.util.Arrays;
 public class Float3DArray {
 
     private final float[] data;
+    private final int offset;
     private final int xSize;
     private final int ySize;
     private final int zSize;
@@ -19,7 +28,8 @@ public class Float3DArray {
      * @param xSize Size of the X dimension.
      * @param ySize Size of the Y dimension.
      * @param zSize Size of the Z dimension.
-     * @throws IllegalArgumentException if any dimension is non-positive.
+     * @throws IllegalArgumentException if any dimension is non-positive or the total size exceeds the maximum
+     *                                  array length.
      */
     public Float3DArray(int xSize, int ySize, int zSize) {
         if (xSize <= 0 || ySize <= 0 || zSize <= 0) {
@@ -28,8 +38,36 @@ public class Float3DArray {
         this.xSize = xSize;
         this.ySize = ySize;
         this.zSize = zSize;
-        this.totalSize = xSize * ySize * zSize;
+        this.totalSize = FlatArrayUtils.checkedSize(xSize, ySize, zSize);
         this.data = new float[totalSize];
+        this.offset = 0;
+    }
+
+    /**
+     * Constructs a 3D FloatArray over an existing backing array, which is shared rather than copied. The caller
+     * guarantees that the dimensions are positive and multiply to the array's length.
+     *
+     * @param data The backing array.
+     */
+    Float3DArray(float[] data, int xSize, int ySize, int zSize) {
+        this(data, 0, xSize, ySize, zSize);
+    }
+
+    /**
+     * Constructs a 3D FloatArray over a range of an existing backing array, which is shared rather than copied: the
+     * cells are the elements from offset on, in row-major order. The caller guarantees that the dimensions are
+     * positive and that the range fits in the array.
+     *
+     * @param data   The backing array.
+     * @param offset The index of cell (0, 0, 0) in the backing array.
+     */
+    Float3DArray(float[] data, int offset, int xSize, int ySize, int zSize) {
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.zSize = zSize;
+        this.totalSize = xSize * ySize * zSize;
+        this.data = data;
+        this.offset = offset;
     }
 
     /**
@@ -43,7 +81,7 @@ public class Float3DArray {
      */
     public float get(int x, int y, int z) {
         checkBounds(x, y, z);
-        return data[(x * ySize * zSize) + (y * zSize) + z];
+        return data[offset + (x * ySize * zSize) + (y * zSize) + z];
     }
 
     /**
@@ -57,7 +95,7 @@ public class Float3DArray {
      */
     public void set(int x, int y, int z, float value) {
         checkBounds(x, y, z);
-        data[(x * ySize * zSize) + (y * zSize) + z] = value;
+        data[offset + (x * ySize * zSize) + (y * zSize) + z] = value;
     }
 
     /**
@@ -69,7 +107,7 @@ public class Float3DArray {
      * @return The float value at (x, y, z).
      */
     public float getUnsafe(int x, int y, int z) {
-        return data[(x * ySize * zSize) + (y * zSize) + z];
+        return data[offset + (x * ySize * zSize) + (y * zSize) + z];
     }
 
     /**
@@ -81,23 +119,89 @@ public class Float3DArray {
      * @param value The float value to set.
      */
     public void setUnsafe(int x, int y, int z, float value) {
-        data[(x * ySize * zSize) + (y * zSize) + z] = value;
+        data[offset + (x * ySize * zSize) + (y * zSize) + z] = value;
     }
 
     /**
      * Clears the array by setting all elements to 0.0f.
      */
     public void clear() {
-        Arrays.fill(data, 0.0f);
+        Arrays.fill(data, offset, offset + totalSize, 0.0f);
     }
 
     /**
      * Retrieves a copy of the underlying data array.
+     * <p>
+     * Use {@link #asReadOnlyBuffer()} or {@link #unwrapUnsafe()} to access the data without copying.
      *
      * @return A new float array containing the data.
      */
     public float[] getData() {
-        return data.clone();
+        return Arrays.copyOfRange(data, offset, offset + totalSize);
+    }
+
+    /**
+     * Returns a read-only {@link FloatBuffer} view of the underlying data without copying.
+     * <p>
+     * The view shares storage with this array, so later writes are visible through it. Buffer index {@code i} is
+     * the cell at row-major linear index {@code i}.
+     *
+     * @return A read-only buffer backed by the data array.
+     */
+    public FloatBuffer asReadOnlyBuffer() {
+        return FloatBuffer.wrap(data, offset, totalSize).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns the underlying data array itself, without copying.
+     * <p>
+     * The cells are laid out in row-major order from index {@link #getOffset()} on, and writes to them are writes to
+     * this array. An array bridged from a view may share a larger backing array, whose other elements belong to its
+     * source. Unlike {@link #getData()}, this does not allocate, which makes it suitable for handing large arrays to
+     * renderers or serializers every frame.
+     *
+     * @return The backing data array.
+     */
+    public float[] unwrapUnsafe() {
+        return data;
+    }
+
+    /**
+     * Returns the index of the first cell in the array returned by {@link #unwrapUnsafe()}. It is 0 unless this
+     * array shares the backing array of a larger one.
+     *
+     * @return The offset of the first cell.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Copies a range of cells, in row-major linear order, into a caller-supplied array.
+     *
+     * @param srcPos  The linear index of the first cell to copy.
+     * @param dest    The destination array.
+     * @param destPos The first index to write in the destination array.
+     * @param length  The number of cells to copy.
+     * @throws IndexOutOfBoundsException if either range is out of bounds.
+     */
+    public void copyInto(int srcPos, float[] dest, int destPos, int length) {
+        if (srcPos < 0 || length > totalSize - srcPos) {
+            throw new IndexOutOfBoundsException(
+                    "Range of " + length + " cells at " + srcPos + " out of bounds for " + totalSize + " cells."
+            );
+        }
+        System.arraycopy(data, offset + srcPos, dest, destPos, length);
+    }
+
+    /**
+     * Copies all cells, in row-major linear order, into a caller-supplied buffer at its current position.
+     *
+     * @param dest The destination buffer; its position is advanced by the number of cells.
+     * @throws java.nio.BufferOverflowException if the buffer has less remaining space than the number of cells.
+     */
+    public void copyInto(FloatBuffer dest) {
+        dest.put(data, offset, totalSize);
     }
 
     /**
@@ -106,7 +210,7 @@ public class Float3DArray {
      * @param value The float value to fill the array with.
      */
     public void fill(float value) {
-        Arrays.fill(data, value);
+        Arrays.fill(data, offset, offset + totalSize, value);
     }
 
     /**
@@ -116,10 +220,809 @@ public class Float3DArray {
      */
     public Float3DArray copy() {
         Float3DArray copy = new Float3DArray(xSize, ySize, zSize);
-        System.arraycopy(this.data, 0, copy.data, 0, this.totalSize);
+        System.arraycopy(this.data, offset, copy.data, 0, this.totalSize);
         return copy;
     }
 
+    /**
+     * Returns a view of a sub-box of this array without copying. Ranges are half-open: {@code [x0, x1)}.
+     * <p>
+     * The view shares this array's storage, so chunk processing can hand sub-boxes to other code without extracting
+     * them into temporary arrays. If the slice spans whole rows it is contiguous and bulk operations on it use a
+     * single range of the backing array.
+     *
+     * @param x0 First X-coordinate, inclusive.
+     * @param x1 Last X-coordinate, exclusive.
+     * @param y0 First Y-coordinate, inclusive.
+     * @param y1 Last Y-coordinate, exclusive.
+     * @param z0 First Z-coordinate, inclusive.
+     * @param z1 Last Z-coordinate, exclusive.
+     * @return A view sharing this array's storage.
+     * @throws IndexOutOfBoundsException if a range is empty or out of bounds.
+     */
+    public Float3DArrayView slice(int x0, int x1, int y0, int y1, int z0, int z1) {
+        checkRange(x0, x1, xSize, 0);
+        checkRange(y0, y1, ySize, 1);
+        checkRange(z0, z1, zSize, 2);
+        return new Float3DArrayView(data, offset + (x0 * ySize * zSize) + (y0 * zSize) + z0,
+                x1 - x0, y1 - y0, z1 - z0, ySize * zSize, zSize, 1);
+    }
+
+    /**
+     * Returns the (y, z) plane at the given X-coordinate as a two-dimensional view without copying.
+     * The plane is always contiguous.
+     *
+     * @param x The X-coordinate of the plane.
+     * @return A view whose (x, y) coordinates address this array's (y, z) coordinates.
+     * @throws IndexOutOfBoundsException if x is out of bounds.
+     */
+    public Float2DArrayView planeX(int x) {
+        checkRange(x, x + 1, xSize, 0);
+        return new Float2DArrayView(data, offset + x * ySize * zSize, ySize, zSize, zSize, 1);
+    }
+
+    /**
+     * Returns the (x, z) plane at the given Y-coordinate as a two-dimensional view without copying.
+     *
+     * @param y The Y-coordinate of the plane.
+     * @return A view whose (x, y) coordinates address this array's (x, z) coordinates.
+     * @throws IndexOutOfBoundsException if y is out of bounds.
+     */
+    public Float2DArrayView planeY(int y) {
+        checkRange(y, y + 1, ySize, 1);
+        return new Float2DArrayView(data, offset + y * zSize, xSize, zSize, ySize * zSize, 1);
+    }
+
+    /**
+     * Returns the (x, y) plane at the given Z-coordinate as a two-dimensional view without copying.
+     *
+     * @param z The Z-coordinate of the plane.
+     * @return A view whose (x, y) coordinates address this array's (x, y) coordinates.
+     * @throws IndexOutOfBoundsException if z is out of bounds.
+     */
+    public Float2DArrayView planeZ(int z) {
+        checkRange(z, z + 1, zSize, 2);
+        return new Float2DArrayView(data, offset + z, xSize, ySize, ySize * zSize, zSize);
+    }
+
+    /**
+     * Calls the consumer for every cell in row-major order, passing its coordinates and value.
+     * <p>
+     * The linear index advances by one per cell, so no index product is computed and no bounds are checked.
+     *
+     * @param consumer The consumer to call.
+     */
+    public void forEach(FloatCellConsumer3 consumer) {
+        int i = offset;
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                for (int z = 0; z < zSize; z++) {
+                    consumer.accept(x, y, z, data[i++]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces every cell, in row-major order, with the result of applying the operator to its coordinates and value.
+     *
+     * @param operator The operator computing each new value.
+     */
+    public void replaceAll(FloatCellOperator3 operator) {
+        int i = offset;
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                for (int z = 0; z < zSize; z++) {
+                    data[i] = operator.applyAsFloat(x, y, z, data[i]);
+                    i++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a cursor that walks this array's cells in row-major order, carrying coordinates and the linear index.
+     * Use it with {@link #getLinear(int)} and {@link #setLinear(int, float)}.
+     *
+     * @return A new cursor positioned before the first cell.
+     */
+    public ArrayCursor cursor() {
+        return new ArrayCursor(xSize, ySize, zSize);
+    }
+
+    /**
+     * Retrieves the element at the specified row-major linear index without bounds checking beyond the backing
+     * array's own.
+     *
+     * @param index The linear index, between 0 and the total size - 1.
+     * @return The float value at the index.
+     */
+    public float getLinear(int index) {
+        return data[offset + index];
+    }
+
+    /**
+     * Sets the element at the specified row-major linear index without bounds checking beyond the backing array's
+     * own.
+     *
+     * @param index The linear index, between 0 and the total size - 1.
+     * @param value The float value to set.
+     */
+    public void setLinear(int index, float value) {
+        data[offset + index] = value;
+    }
+
+    /**
+     * Fills the array with the specified float value, splitting the work across the fork/join pool for large arrays.
+     *
+     * @param value The float value to fill the array with.
+     * @see ParallelArrays
+     */
+    public void parallelFill(float value) {
+        ParallelArrays.forEachChunk(totalSize, 4,
+                (chunk, from, to) -> Arrays.fill(data, offset + from, offset + to, value));
+    }
+
+    /**
+     * Replaces every element with the result of applying the operator to it, splitting the work across the
+     * fork/join pool for large arrays. The operator may be called concurrently and in any order.
+     *
+     * @param operator The operator computing each new value.
+     * @see ParallelArrays
+     */
+    public void parallelReplaceAll(FloatUnaryOperator operator) {
+        ParallelArrays.forEachChunk(totalSize, 4, (chunk, from, to) -> {
+            for (int i = offset + from; i < offset + to; i++) {
+                data[i] = operator.applyAsFloat(data[i]);
+            }
+        });
+    }
+
+    /**
+     * Combines all elements with an associative operator, reducing chunks in parallel and then combining the
+     * per-chunk results in order.
+     *
+     * @param identity The identity of the operator, used as the starting value of every chunk.
+     * @param operator An associative operator.
+     * @return The combined value.
+     * @see ParallelArrays
+     */
+    public float parallelReduce(float identity, FloatBinaryOperator operator) {
+        float[] partials = new float[ParallelArrays.chunkCount(totalSize, 4)];
+        ParallelArrays.forEachChunk(totalSize, 4, (chunk, from, to) -> {
+            float result = identity;
+            for (int i = offset + from; i < offset + to; i++) {
+                result = operator.applyAsFloat(result, data[i]);
+            }
+            partials[chunk] = result;
+        });
+        float result = identity;
+        for (float partial : partials) {
+            result = operator.applyAsFloat(result, partial);
+        }
+        return result;
+    }
+
+    /**
+     * Copies this array's contents into another array of the same dimensions, splitting the work across the
+     * fork/join pool for large arrays.
+     *
+     * @param dest The destination array.
+     * @throws IllegalArgumentException if the dimensions differ.
+     * @see ParallelArrays
+     */
+    public void parallelCopyInto(Float3DArray dest) {
+        if (xSize != dest.xSize || ySize != dest.ySize || zSize != dest.zSize) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+        ParallelArrays.forEachChunk(totalSize, 4,
+                (chunk, from, to) -> System.arraycopy(data, offset + from, dest.data, dest.offset + from, to - from));
+    }
+
+    /**
+     * Replaces each element with the sum of it and the matching element of other, in place.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void add(Float3DArray other) {
+        checkSameShape(other);
+        FlatArrayUtils.add(data, offset, other.data, other.offset, data, offset, totalSize);
+    }
+
+    /**
+     * Stores the element-wise sum of this array and other in dest, leaving this array unchanged.
+     *
+     * @param other An array with the same dimensions.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void add(Float3DArray other, Float3DArray dest) {
+        checkSameShape(other);
+        checkSameShape(dest);
+        FlatArrayUtils.add(data, offset, other.data, other.offset, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with the difference of it and the matching element of other, in place.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void sub(Float3DArray other) {
+        checkSameShape(other);
+        FlatArrayUtils.sub(data, offset, other.data, other.offset, data, offset, totalSize);
+    }
+
+    /**
+     * Stores the element-wise difference of this array and other in dest, leaving this array unchanged.
+     *
+     * @param other An array with the same dimensions.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void sub(Float3DArray other, Float3DArray dest) {
+        checkSameShape(other);
+        checkSameShape(dest);
+        FlatArrayUtils.sub(data, offset, other.data, other.offset, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with the product of it and the matching element of other, in place.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void mul(Float3DArray other) {
+        checkSameShape(other);
+        FlatArrayUtils.mul(data, offset, other.data, other.offset, data, offset, totalSize);
+    }
+
+    /**
+     * Stores the element-wise product of this array and other in dest, leaving this array unchanged.
+     *
+     * @param other An array with the same dimensions.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void mul(Float3DArray other, Float3DArray dest) {
+        checkSameShape(other);
+        checkSameShape(dest);
+        FlatArrayUtils.mul(data, offset, other.data, other.offset, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with its quotient by the matching element of other, in place.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void div(Float3DArray other) {
+        checkSameShape(other);
+        FlatArrayUtils.div(data, offset, other.data, other.offset, data, offset, totalSize);
+    }
+
+    /**
+     * Stores the element-wise quotient of this array by other in dest, leaving this array unchanged.
+     *
+     * @param other An array with the same dimensions.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void div(Float3DArray other, Float3DArray dest) {
+        checkSameShape(other);
+        checkSameShape(dest);
+        FlatArrayUtils.div(data, offset, other.data, other.offset, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with the smaller of it and the matching element of other, in place.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void min(Float3DArray other) {
+        checkSameShape(other);
+        FlatArrayUtils.min(data, offset, other.data, other.offset, data, offset, totalSize);
+    }
+
+    /**
+     * Stores the element-wise minimum of this array and other in dest, leaving this array unchanged.
+     *
+     * @param other An array with the same dimensions.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void min(Float3DArray other, Float3DArray dest) {
+        checkSameShape(other);
+        checkSameShape(dest);
+        FlatArrayUtils.min(data, offset, other.data, other.offset, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with the larger of it and the matching element of other, in place.
+     *
+     * @param other An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void max(Float3DArray other) {
+        checkSameShape(other);
+        FlatArrayUtils.max(data, offset, other.data, other.offset, data, offset, totalSize);
+    }
+
+    /**
+     * Stores the element-wise maximum of this array and other in dest, leaving this array unchanged.
+     *
+     * @param other An array with the same dimensions.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void max(Float3DArray other, Float3DArray dest) {
+        checkSameShape(other);
+        checkSameShape(dest);
+        FlatArrayUtils.max(data, offset, other.data, other.offset, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with its product with factor, in place.
+     *
+     * @param factor The factor.
+     */
+    public void scale(float factor) {
+        FlatArrayUtils.scale(data, offset, factor, data, offset, totalSize);
+    }
+
+    /**
+     * Stores the product of each element and factor in dest, leaving this array unchanged.
+     *
+     * @param factor The factor.
+     * @param dest   The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void scale(float factor, Float3DArray dest) {
+        checkSameShape(dest);
+        FlatArrayUtils.scale(data, offset, factor, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with {@code alpha * x + element}, in place.
+     *
+     * @param alpha The factor applied to x.
+     * @param x     An array with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void axpy(float alpha, Float3DArray x) {
+        checkSameShape(x);
+        FlatArrayUtils.axpy(alpha, x.data, x.offset, data, offset, data, offset, totalSize);
+    }
+
+    /**
+     * Stores {@code alpha * x + element} for each element in dest, leaving this array unchanged.
+     *
+     * @param alpha The factor applied to x.
+     * @param x     An array with the same dimensions.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void axpy(float alpha, Float3DArray x, Float3DArray dest) {
+        checkSameShape(x);
+        checkSameShape(dest);
+        FlatArrayUtils.axpy(alpha, x.data, x.offset, data, offset, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with {@code element * b + c}, in place.
+     *
+     * @param b The factor, with the same dimensions.
+     * @param c The addend, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void fma(Float3DArray b, Float3DArray c) {
+        checkSameShape(b);
+        checkSameShape(c);
+        FlatArrayUtils.fma(data, offset, b.data, b.offset, c.data, c.offset, data, offset, totalSize);
+    }
+
+    /**
+     * Stores {@code element * b + c} for each element in dest, leaving this array unchanged.
+     *
+     * @param b    The factor, with the same dimensions.
+     * @param c    The addend, with the same dimensions.
+     * @param dest The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void fma(Float3DArray b, Float3DArray c, Float3DArray dest) {
+        checkSameShape(b);
+        checkSameShape(c);
+        checkSameShape(dest);
+        FlatArrayUtils.fma(data, offset, b.data, b.offset, c.data, c.offset, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with {@code element + t * (other - element)}, in place.
+     *
+     * @param other The end values, with the same dimensions.
+     * @param t     The interpolation factor.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void lerp(Float3DArray other, float t) {
+        checkSameShape(other);
+        FlatArrayUtils.lerp(data, offset, other.data, other.offset, t, data, offset, totalSize);
+    }
+
+    /**
+     * Stores {@code element + t * (other - element)} for each element in dest, leaving this array unchanged.
+     *
+     * @param other The end values, with the same dimensions.
+     * @param t     The interpolation factor.
+     * @param dest  The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void lerp(Float3DArray other, float t, Float3DArray dest) {
+        checkSameShape(other);
+        checkSameShape(dest);
+        FlatArrayUtils.lerp(data, offset, other.data, other.offset, t, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with itself clamped to {@code [min, max]}, in place.
+     *
+     * @param min The lower bound.
+     * @param max The upper bound.
+     * @throws IllegalArgumentException if min is greater than max.
+     */
+    public void clamp(float min, float max) {
+        FlatArrayUtils.clamp(data, offset, min, max, data, offset, totalSize);
+    }
+
+    /**
+     * Stores each element clamped to {@code [min, max]} in dest, leaving this array unchanged.
+     *
+     * @param min  The lower bound.
+     * @param max  The upper bound.
+     * @param dest The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ or min is greater than max.
+     */
+    public void clamp(float min, float max, Float3DArray dest) {
+        checkSameShape(dest);
+        FlatArrayUtils.clamp(data, offset, min, max, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with its absolute value, in place.
+     */
+    public void abs() {
+        FlatArrayUtils.abs(data, offset, data, offset, totalSize);
+    }
+
+    /**
+     * Stores the absolute value of each element in dest, leaving this array unchanged.
+     *
+     * @param dest The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void abs(Float3DArray dest) {
+        checkSameShape(dest);
+        FlatArrayUtils.abs(data, offset, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Replaces each element with its square root, in place.
+     */
+    public void sqrt() {
+        FlatArrayUtils.sqrt(data, offset, data, offset, totalSize);
+    }
+
+    /**
+     * Stores the square root of each element in dest, leaving this array unchanged.
+     *
+     * @param dest The destination, with the same dimensions.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    public void sqrt(Float3DArray dest) {
+        checkSameShape(dest);
+        FlatArrayUtils.sqrt(data, offset, dest.data, dest.offset, totalSize);
+    }
+
+    /**
+     * Returns the sum of all elements using pairwise summation, accumulated in {@code double}.
+     *
+     * @return The sum.
+     */
+    public double sum() {
+        return Reductions.sum(data, offset, offset + totalSize, Summation.PAIRWISE);
+    }
+
+    /**
+     * Returns the sum of all elements, accumulated in {@code double}.
+     *
+     * @param mode The summation algorithm.
+     * @return The sum.
+     */
+    public double sum(Summation mode) {
+        return Reductions.sum(data, offset, offset + totalSize, mode);
+    }
+
+    /**
+     * Returns the sum of all elements using pairwise summation, summing chunks in parallel.
+     *
+     * @return The sum.
+     */
+    public double parallelSum() {
+        return Reductions.parallelSum(data, offset, offset + totalSize, Summation.PAIRWISE);
+    }
+
+    /**
+     * Returns the sum of all elements, summing chunks in parallel.
+     *
+     * @param mode The summation algorithm used within each chunk.
+     * @return The sum.
+     */
+    public double parallelSum(Summation mode) {
+        return Reductions.parallelSum(data, offset, offset + totalSize, mode);
+    }
+
+    /**
+     * Returns the smallest element. NaN elements are ignored unless all elements are NaN.
+     *
+     * @return The minimum value.
+     */
+    public float minValue() {
+        return data[Reductions.indexOfMin(data, offset, offset + totalSize)];
+    }
+
+    /**
+     * Returns the largest element. NaN elements are ignored unless all elements are NaN.
+     *
+     * @return The maximum value.
+     */
+    public float maxValue() {
+        return data[Reductions.indexOfMax(data, offset, offset + totalSize)];
+    }
+
+    /**
+     * Returns the coordinates of the smallest element, the first in row-major order on ties.
+     *
+     * @return A new array holding (x, y, z).
+     */
+    public int[] argMin() {
+        return coordinatesOf(Reductions.indexOfMin(data, offset, offset + totalSize) - offset);
+    }
+
+    /**
+     * Returns the coordinates of the largest element, the first in row-major order on ties.
+     *
+     * @return A new array holding (x, y, z).
+     */
+    public int[] argMax() {
+        return coordinatesOf(Reductions.indexOfMax(data, offset, offset + totalSize) - offset);
+    }
+
+    /**
+     * Returns the coordinates of the smallest element like {@link #argMin()}, scanning chunks in parallel.
+     *
+     * @return A new array holding (x, y, z).
+     */
+    public int[] parallelArgMin() {
+        return coordinatesOf(Reductions.parallelIndexOfMin(data, offset, offset + totalSize) - offset);
+    }
+
+    /**
+     * Returns the coordinates of the largest element like {@link #argMax()}, scanning chunks in parallel.
+     *
+     * @return A new array holding (x, y, z).
+     */
+    public int[] parallelArgMax() {
+        return coordinatesOf(Reductions.parallelIndexOfMax(data, offset, offset + totalSize) - offset);
+    }
+
+    /**
+     * Computes the count, mean and variance of all elements in one pass.
+     *
+     * @return The moments of the elements.
+     */
+    public Moments moments() {
+        return Reductions.moments(data, offset, offset + totalSize);
+    }
+
+    /**
+     * Computes the count, mean and variance of all elements in one pass, processing chunks in parallel.
+     *
+     * @return The moments of the elements.
+     */
+    public Moments parallelMoments() {
+        return Reductions.parallelMoments(data, offset, offset + totalSize);
+    }
+
+    /**
+     * Returns the arithmetic mean of all elements.
+     *
+     * @return The mean.
+     */
+    public double mean() {
+        return Reductions.moments(data, offset, offset + totalSize).getMean();
+    }
+
+    /**
+     * Returns the population variance of all elements.
+     *
+     * @return The variance.
+     */
+    public double variance() {
+        return Reductions.moments(data, offset, offset + totalSize).getVariance();
+    }
+
+    /**
+     * Counts the elements equal to a value. A NaN value counts NaN elements.
+     *
+     * @param value The value to count.
+     * @return The number of matching elements.
+     */
+    public int count(float value) {
+        return Reductions.count(data, offset, offset + totalSize, value);
+    }
+
+    /**
+     * Counts the elements equal to a value, scanning chunks in parallel.
+     *
+     * @param value The value to count.
+     * @return The number of matching elements.
+     */
+    public int parallelCount(float value) {
+        return Reductions.parallelCount(data, offset, offset + totalSize, value);
+    }
+
+    /**
+     * Returns a copy of this array with its axes reordered: dimension i of the result is dimension {@code axes[i]}
+     * of this array, so {@code permute(2, 1, 0)} turns an x-major array into a z-major one.
+     *
+     * @param axes A permutation of 0 to 2.
+     * @return The permuted copy.
+     * @throws IllegalArgumentException if axes is not a permutation.
+     * @see Permutations
+     */
+    public Float3DArray permute(int... axes) {
+        int[] dims = Permutations.permutedDimensions(new int[]{xSize, ySize, zSize}, axes);
+        Float3DArray result = new Float3DArray(dims[0], dims[1], dims[2]);
+        Permutations.permute(data, offset, new int[]{xSize, ySize, zSize}, axes, result.data, result.offset);
+        return result;
+    }
+
+    /**
+     * Returns a copy of this array with its axes reordered like {@link #permute(int...)}, splitting the work across
+     * the fork/join pool for large arrays.
+     *
+     * @param axes A permutation of 0 to 2.
+     * @return The permuted copy.
+     * @throws IllegalArgumentException if axes is not a permutation.
+     * @see Permutations
+     */
+    public Float3DArray parallelPermute(int... axes) {
+        int[] dims = Permutations.permutedDimensions(new int[]{xSize, ySize, zSize}, axes);
+        Float3DArray result = new Float3DArray(dims[0], dims[1], dims[2]);
+        Permutations.parallelPermute(data, offset, new int[]{xSize, ySize, zSize}, axes, result.data, result.offset);
+        return result;
+    }
+
+    /**
+     * Writes this array with its axes reordered into a destination, as {@link #permute(int...)} would return it.
+     *
+     * @param dest The destination array, not this array, with the permuted dimensions.
+     * @param axes A permutation of 0 to 2.
+     * @throws IllegalArgumentException if axes is not a permutation or the destination has the wrong dimensions or
+     *                                  is this array.
+     */
+    public void permuteInto(Float3DArray dest, int... axes) {
+        checkPermuted(dest, axes);
+        Permutations.permute(data, offset, new int[]{xSize, ySize, zSize}, axes, dest.data, dest.offset);
+    }
+
+    /**
+     * Writes this array with its axes reordered into a destination like {@link #permuteInto(Float3DArray, int...)},
+     * splitting the work across the fork/join pool for large arrays.
+     *
+     * @param dest The destination array, not this array, with the permuted dimensions.
+     * @param axes A permutation of 0 to 2.
+     * @throws IllegalArgumentException if axes is not a permutation or the destination has the wrong dimensions or
+     *                                  is this array.
+     */
+    public void parallelPermuteInto(Float3DArray dest, int... axes) {
+        checkPermuted(dest, axes);
+        Permutations.parallelPermute(data, offset, new int[]{xSize, ySize, zSize}, axes, dest.data, dest.offset);
+    }
+
+    /**
+     * Returns a 2D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @return A Float2DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     */
+    public Float2DArray reshape(int xSize, int ySize) {
+        checkReshape(xSize, ySize);
+        return new Float2DArray(data, offset, xSize, ySize);
+    }
+
+    /**
+     * Returns a 3D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     * It can also give this array different dimensions of the same rank.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @return A Float3DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     */
+    public Float3DArray reshape(int xSize, int ySize, int zSize) {
+        checkReshape(xSize, ySize, zSize);
+        return new Float3DArray(data, offset, xSize, ySize, zSize);
+    }
+
+    /**
+     * Returns a 4D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @param wSize Size of the W dimension.
+     * @return A Float4DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     * @throws IllegalStateException    if this array does not span its whole backing array.
+     */
+    public Float4DArray reshape(int xSize, int ySize, int zSize, int wSize) {
+        checkWhole();
+        checkReshape(xSize, ySize, zSize, wSize);
+        return new Float4DArray(data, xSize, ySize, zSize, wSize);
+    }
+
+    /**
+     * Returns a 5D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @param wSize Size of the W dimension.
+     * @param uSize Size of the U dimension.
+     * @return A Float5DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     * @throws IllegalStateException    if this array does not span its whole backing array.
+     */
+    public Float5DArray reshape(int xSize, int ySize, int zSize, int wSize, int uSize) {
+        checkWhole();
+        checkReshape(xSize, ySize, zSize, wSize, uSize);
+        return new Float5DArray(data, xSize, ySize, zSize, wSize, uSize);
+    }
+
+    /**
+     * Returns a 6D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @param wSize Size of the W dimension.
+     * @param uSize Size of the U dimension.
+     * @param vSize Size of the V dimension.
+     * @return A Float6DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     * @throws IllegalStateException    if this array does not span its whole backing array.
+     */
+    public Float6DArray reshape(int xSize, int ySize, int zSize, int wSize, int uSize, int vSize) {
+        checkWhole();
+        checkReshape(xSize, ySize, zSize, wSize, uSize, vSize);
+        return new Float6DArray(data, xSize, ySize, zSize, wSize, uSize, vSize);
+    }
+
     /**
      * Returns the size of the X dimension.
      *
@@ -175,18 +1078,58 @@ public class Float3DArray {
         if (xSize != that.xSize) return false;
         if (ySize != that.ySize) return false;
         if (zSize != that.zSize) return false;
-        return Arrays.equals(data, that.data);
+        return FlatArrayUtils.equals(data, offset, that.data, that.offset, totalSize);
     }
 
     @Override
     public int hashCode() {
-        int result = Arrays.hashCode(data);
+        int result = FlatArrayUtils.hashCode(data, offset, totalSize);
         result = 31 * result + xSize;
         result = 31 * result + ySize;
         result = 31 * result + zSize;
         return result;
     }
 
+    private void checkSameShape(Float3DArray other) {
+        if (xSize != other.xSize || ySize != other.ySize || zSize != other.zSize) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+    }
+
+    private int[] coordinatesOf(int index) {
+        int[] coordinates = new int[3];
+        coordinates[2] = index % zSize;
+        index /= zSize;
+        coordinates[1] = index % ySize;
+        index /= ySize;
+        coordinates[0] = index;
+        return coordinates;
+    }
+
+    private void checkPermuted(Float3DArray dest, int[] axes) {
+        int[] dims = Permutations.permutedDimensions(new int[]{xSize, ySize, zSize}, axes);
+        if (dest.xSize != dims[0] || dest.ySize != dims[1] || dest.zSize != dims[2]) {
+            throw new IllegalArgumentException("Dimensions must match the permutation.");
+        }
+    }
+
+    private void checkWhole() {
+        if (offset != 0 || data.length != totalSize) {
+            throw new IllegalStateException("Array must span its backing array to reshape to 4 or more dimensions.");
+        }
+    }
+
+    private void checkReshape(int... dimensions) {
+        for (int dimension : dimensions) {
+            if (dimension <= 0) {
+                throw new IllegalArgumentException("Dimensions must be positive.");
+            }
+        }
+        if (FlatArrayUtils.checkedSize(dimensions) != totalSize) {
+            throw new IllegalArgumentException("Reshaped dimensions must hold " + totalSize + " elements.");
+        }
+    }
+
     /**
      * Checks if the provided (x, y, z) coordinates are within bounds.
      *
@@ -212,4 +1155,12 @@ public class Float3DArray {
             );
         }
     }
+
+    private static void checkRange(int from, int to, int size, int dimension) {
+        if (from < 0 || to > size || from >= to) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + from + ", " + to + ") out of bounds for dimension " + dimension + " (0 to " + (size - 1) + ")."
+            );
+        }
+    }
 }
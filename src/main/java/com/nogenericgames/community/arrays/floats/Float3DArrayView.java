@@ -0,0 +1,414 @@
+package com.nogenericgames.community.arrays.floats;
+
+import java.util.Arrays;
+
+/**
+ * A three-dimensional window onto the storage of a {@link Float3DArray} (or of another view).
+ * <p>
+ * Views never copy: they address the shared backing array through an offset and one stride per dimension, so writes
+ * through a view are visible in the array it was taken from and vice versa. Views are created with
+ * {@link Float3DArray#slice(int, int, int, int, int, int)} and offer the same element API as {@link Float3DArray}.
+ * <p>
+ * The algorithms of this library take the dense classes, not views. To run one on a view, pass
+ * {@link #toFloat3DArray()}, which shares storage with a contiguous view and copies any other, or copy into a
+ * reusable array with {@link #copyTo(Float3DArray)} and write results back through the view.
+ */
+public class Float3DArrayView {
+
+    private final float[] data;
+    private final int offset;
+    private final int xSize;
+    private final int ySize;
+    private final int zSize;
+    private final int xStride;
+    private final int yStride;
+    private final int zStride;
+
+    Float3DArrayView(float[] data, int offset, int xSize, int ySize, int zSize, int xStride, int yStride, int zStride) {
+        this.data = data;
+        this.offset = offset;
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.zSize = zSize;
+        this.xStride = xStride;
+        this.yStride = yStride;
+        this.zStride = zStride;
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y, z) view coordinates with bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @return The float value at (x, y, z).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public float get(int x, int y, int z) {
+        checkBounds(x, y, z);
+        return data[offset + (x * xStride) + (y * yStride) + (z * zStride)];
+    }
+
+    /**
+     * Sets the element at the specified (x, y, z) view coordinates with bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param value The float value to set.
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public void set(int x, int y, int z, float value) {
+        checkBounds(x, y, z);
+        data[offset + (x * xStride) + (y * yStride) + (z * zStride)] = value;
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y, z) view coordinates without bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @return The float value at (x, y, z).
+     */
+    public float getUnsafe(int x, int y, int z) {
+        return data[offset + (x * xStride) + (y * yStride) + (z * zStride)];
+    }
+
+    /**
+     * Sets the element at the specified (x, y, z) view coordinates without bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param value The float value to set.
+     */
+    public void setUnsafe(int x, int y, int z, float value) {
+        data[offset + (x * xStride) + (y * yStride) + (z * zStride)] = value;
+    }
+
+    /**
+     * Clears the view by setting all of its elements to 0.0f.
+     */
+    public void clear() {
+        fill(0.0f);
+    }
+
+    /**
+     * Fills the view with the specified float value.
+     * <p>
+     * A contiguous view is filled with a single {@link Arrays#fill(float[], int, int, float)}; otherwise each
+     * contiguous row is filled separately.
+     *
+     * @param value The float value to fill the view with.
+     */
+    public void fill(float value) {
+        if (isContiguous()) {
+            Arrays.fill(data, offset, offset + xSize * ySize * zSize, value);
+            return;
+        }
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                int base = offset + (x * xStride) + (y * yStride);
+                if (zStride == 1) {
+                    Arrays.fill(data, base, base + zSize, value);
+                } else {
+                    for (int z = 0; z < zSize; z++) {
+                        data[base + z * zStride] = value;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a dense copy of the cells covered by this view.
+     *
+     * @return A new Float3DArray with the view's dimensions and contents.
+     */
+    public Float3DArray copy() {
+        Float3DArray copy = new Float3DArray(xSize, ySize, zSize);
+        copyTo(copy);
+        return copy;
+    }
+
+    /**
+     * Copies the cells covered by this view into a dense array of the same dimensions, for algorithms that take a
+     * {@link Float3DArray}. Reusing the destination avoids an allocation per call.
+     *
+     * @param dest The array to copy into.
+     * @throws IllegalArgumentException if the dimensions do not match.
+     */
+    public void copyTo(Float3DArray dest) {
+        if (dest.getXSize() != xSize || dest.getYSize() != ySize || dest.getZSize() != zSize) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+        float[] target = dest.unwrapUnsafe();
+        if (isContiguous()) {
+            System.arraycopy(data, offset, target, dest.getOffset(), xSize * ySize * zSize);
+            return;
+        }
+        int i = dest.getOffset();
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                int base = offset + (x * xStride) + (y * yStride);
+                if (zStride == 1) {
+                    System.arraycopy(data, base, target, i, zSize);
+                    i += zSize;
+                } else {
+                    for (int z = 0; z < zSize; z++) {
+                        target[i++] = data[base + z * zStride];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the view as a {@link Float3DArray}, for code that takes the dense class. If the view is contiguous (see
+     * {@link #isContiguous()}) the result shares the view's backing array and nothing is copied, so writes through
+     * either are visible in both; otherwise the result is a dense copy, as from {@link #copy()}.
+     *
+     * @return A Float3DArray with the view's dimensions and contents.
+     */
+    public Float3DArray toFloat3DArray() {
+        if (isContiguous()) {
+            return new Float3DArray(data, offset, xSize, ySize, zSize);
+        }
+        return copy();
+    }
+
+    /**
+     * Returns a view of a sub-box of this view. Ranges are half-open: {@code [x0, x1)}.
+     *
+     * @param x0 First X-coordinate, inclusive.
+     * @param x1 Last X-coordinate, exclusive.
+     * @param y0 First Y-coordinate, inclusive.
+     * @param y1 Last Y-coordinate, exclusive.
+     * @param z0 First Z-coordinate, inclusive.
+     * @param z1 Last Z-coordinate, exclusive.
+     * @return A view sharing this view's storage.
+     * @throws IndexOutOfBoundsException if a range is empty or out of bounds.
+     */
+    public Float3DArrayView slice(int x0, int x1, int y0, int y1, int z0, int z1) {
+        checkRange(x0, x1, xSize, 0);
+        checkRange(y0, y1, ySize, 1);
+        checkRange(z0, z1, zSize, 2);
+        return new Float3DArrayView(data, offset + (x0 * xStride) + (y0 * yStride) + (z0 * zStride),
+                x1 - x0, y1 - y0, z1 - z0, xStride, yStride, zStride);
+    }
+
+    /**
+     * Returns the (y, z) plane at the given X-coordinate as a two-dimensional view.
+     *
+     * @param x The X-coordinate of the plane.
+     * @return A view whose (x, y) coordinates address this view's (y, z) coordinates.
+     * @throws IndexOutOfBoundsException if x is out of bounds.
+     */
+    public Float2DArrayView planeX(int x) {
+        checkRange(x, x + 1, xSize, 0);
+        return new Float2DArrayView(data, offset + x * xStride, ySize, zSize, yStride, zStride);
+    }
+
+    /**
+     * Returns the (x, z) plane at the given Y-coordinate as a two-dimensional view.
+     *
+     * @param y The Y-coordinate of the plane.
+     * @return A view whose (x, y) coordinates address this view's (x, z) coordinates.
+     * @throws IndexOutOfBoundsException if y is out of bounds.
+     */
+    public Float2DArrayView planeY(int y) {
+        checkRange(y, y + 1, ySize, 1);
+        return new Float2DArrayView(data, offset + y * yStride, xSize, zSize, xStride, zStride);
+    }
+
+    /**
+     * Returns the (x, y) plane at the given Z-coordinate as a two-dimensional view.
+     *
+     * @param z The Z-coordinate of the plane.
+     * @return A view whose (x, y) coordinates address this view's (x, y) coordinates.
+     * @throws IndexOutOfBoundsException if z is out of bounds.
+     */
+    public Float2DArrayView planeZ(int z) {
+        checkRange(z, z + 1, zSize, 2);
+        return new Float2DArrayView(data, offset + z * zStride, xSize, ySize, xStride, yStride);
+    }
+
+    /**
+     * Returns whether the view covers one dense run of the backing array, i.e. it spans whole rows of its source.
+     * Contiguous views can be processed as the range {@code [getOffset(), getOffset() + size)} of
+     * {@link #unwrapUnsafe()}.
+     *
+     * @return True if the view's cells are contiguous in row-major order.
+     */
+    public boolean isContiguous() {
+        return zStride == 1
+                && (ySize == 1 || yStride == zSize)
+                && (xSize == 1 || xStride == ySize * zSize);
+    }
+
+    /**
+     * Returns the shared backing array, without copying.
+     * <p>
+     * Cell (x, y, z) of the view lives at
+     * {@code getOffset() + x * getXStride() + y * getYStride() + z * getZStride()}.
+     *
+     * @return The backing data array.
+     */
+    public float[] unwrapUnsafe() {
+        return data;
+    }
+
+    /**
+     * Returns the index of cell (0, 0, 0) in the backing array.
+     *
+     * @return The offset of the view.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns the distance in the backing array between neighbours along X.
+     *
+     * @return The X stride.
+     */
+    public int getXStride() {
+        return xStride;
+    }
+
+    /**
+     * Returns the distance in the backing array between neighbours along Y.
+     *
+     * @return The Y stride.
+     */
+    public int getYStride() {
+        return yStride;
+    }
+
+    /**
+     * Returns the distance in the backing array between neighbours along Z.
+     *
+     * @return The Z stride.
+     */
+    public int getZStride() {
+        return zStride;
+    }
+
+    /**
+     * Returns the size of the X dimension.
+     *
+     * @return The size of X.
+     */
+    public int getXSize() {
+        return xSize;
+    }
+
+    /**
+     * Returns the size of the Y dimension.
+     *
+     * @return The size of Y.
+     */
+    public int getYSize() {
+        return ySize;
+    }
+
+    /**
+     * Returns the size of the Z dimension.
+     *
+     * @return The size of Z.
+     */
+    public int getZSize() {
+        return zSize;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Float3DArrayView{\n");
+        for (int x = 0; x < xSize; x++) {
+            sb.append("  Layer ").append(x).append(":\n");
+            for (int y = 0; y < ySize; y++) {
+                sb.append("    [");
+                for (int z = 0; z < zSize; z++) {
+                    sb.append(getUnsafe(x, y, z));
+                    if (z < zSize - 1) sb.append(", ");
+                }
+                sb.append("]\n");
+            }
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Float3DArrayView that = (Float3DArrayView) o;
+
+        if (xSize != that.xSize) return false;
+        if (ySize != that.ySize) return false;
+        if (zSize != that.zSize) return false;
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                for (int z = 0; z < zSize; z++) {
+                    if (Float.floatToIntBits(getUnsafe(x, y, z)) != Float.floatToIntBits(that.getUnsafe(x, y, z))) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                for (int z = 0; z < zSize; z++) {
+                    result = 31 * result + Float.floatToIntBits(getUnsafe(x, y, z));
+                }
+            }
+        }
+        result = 31 * result + xSize;
+        result = 31 * result + ySize;
+        result = 31 * result + zSize;
+        return result;
+    }
+
+    /**
+     * Checks if the provided (x, y, z) coordinates are within bounds.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    private void checkBounds(int x, int y, int z) {
+        if (x < 0 || x >= xSize) {
+            throw new IndexOutOfBoundsException(
+                    "X-coordinate " + x + " out of bounds for dimension 0 (0 to " + (xSize - 1) + ")."
+            );
+        }
+        if (y < 0 || y >= ySize) {
+            throw new IndexOutOfBoundsException(
+                    "Y-coordinate " + y + " out of bounds for dimension 1 (0 to " + (ySize - 1) + ")."
+            );
+        }
+        if (z < 0 || z >= zSize) {
+            throw new IndexOutOfBoundsException(
+                    "Z-coordinate " + z + " out of bounds for dimension 2 (0 to " + (zSize - 1) + ")."
+            );
+        }
+    }
+
+    private static void checkRange(int from, int to, int size, int dimension) {
+        if (from < 0 || to > size || from >= to) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + from + ", " + to + ") out of bounds for dimension " + dimension + " (0 to " + (size - 1) + ")."
+            );
+        }
+    }
+}
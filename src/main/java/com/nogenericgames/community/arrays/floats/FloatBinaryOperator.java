@@ -0,0 +1,18 @@
+package com.nogenericgames.community.arrays.floats;
+
+/**
+ * An operation on two float operands that produces a float result, the float counterpart of
+ * {@link java.util.function.IntBinaryOperator}.
+ */
+@FunctionalInterface
+public interface FloatBinaryOperator {
+
+    /**
+     * Applies this operator to the given operands.
+     *
+     * @param left  The first operand.
+     * @param right The second operand.
+     * @return The result.
+     */
+    float applyAsFloat(float left, float right);
+}
@@ -0,0 +1,17 @@
+package com.nogenericgames.community.arrays.floats;
+
+/**
+ * Receives the cells of a two-dimensional float array together with their coordinates.
+ */
+@FunctionalInterface
+public interface FloatCellConsumer2 {
+
+    /**
+     * Accepts one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param value The float value at (x, y).
+     */
+    void accept(int x, int y, float value);
+}
@@ -0,0 +1,18 @@
+package com.nogenericgames.community.arrays.floats;
+
+/**
+ * Computes a new value for a cell of a two-dimensional float array from its coordinates and current value.
+ */
+@FunctionalInterface
+public interface FloatCellOperator2 {
+
+    /**
+     * Computes the new value of one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param value The current float value at (x, y).
+     * @return The new value of the cell.
+     */
+    float applyAsFloat(int x, int y, float value);
+}
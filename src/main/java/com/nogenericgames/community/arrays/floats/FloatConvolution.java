@@ -0,0 +1,570 @@
+package com.nogenericgames.community.arrays.floats;
+
+import com.nogenericgames.community.arrays.utils.BoundaryMode;
+import com.nogenericgames.community.arrays.utils.ParallelArrays;
+
+/**
+ * Convolution and stencil operations on {@link Float2DArray} and {@link Float3DArray} grids.
+ * <p>
+ * Kernels are given in row-major order with odd sizes and are centred on the output cell. They are applied as a
+ * correlation, i.e. without flipping, which is the same as convolution for the symmetric kernels used for blurring
+ * and differentiation; flip asymmetric kernels first if a true convolution is needed.
+ * <p>
+ * Cells whose whole neighbourhood lies inside the grid are computed with unchecked index arithmetic, one kernel tap
+ * at a time across a full row, which HotSpot vectorizes. Only the border cells go through the {@link BoundaryMode}.
+ * Taps with a zero weight are skipped. Source and destination must have the same shape and must not overlap.
+ * <p>
+ * The {@code parallel*} variants partition the output into ranges of rows (2D) or rows of planes (3D) and process them
+ * with {@link ParallelArrays}; small grids stay on the calling thread.
+ */
+public final class FloatConvolution {
+
+    private FloatConvolution() {
+    }
+
+    /**
+     * Applies a 2D kernel.
+     *
+     * @param src         The source grid.
+     * @param dest        The destination grid, with the same dimensions and not the same instance as src.
+     * @param kernel      The kernel weights in row-major order, {@code kernelXSize * kernelYSize} of them.
+     * @param kernelXSize The kernel size along X, odd.
+     * @param kernelYSize The kernel size along Y, odd.
+     * @param mode        How cells outside the grid are read.
+     * @throws IllegalArgumentException if the kernel or array shapes are invalid.
+     */
+    public static void convolve(Float2DArray src, Float2DArray dest, float[] kernel, int kernelXSize, int kernelYSize,
+                                BoundaryMode mode) {
+        checkShapes(src, dest);
+        run(src.unwrapUnsafe(), src.getOffset(), dest.unwrapUnsafe(), dest.getOffset(), 1, src.getXSize(),
+                src.getYSize(), kernel, 1, kernelXSize, kernelYSize, mode, false);
+    }
+
+    /**
+     * Applies a 2D kernel like {@link #convolve(Float2DArray, Float2DArray, float[], int, int, BoundaryMode)},
+     * processing ranges of rows in parallel.
+     *
+     * @param src         The source grid.
+     * @param dest        The destination grid, with the same dimensions and not the same instance as src.
+     * @param kernel      The kernel weights in row-major order, {@code kernelXSize * kernelYSize} of them.
+     * @param kernelXSize The kernel size along X, odd.
+     * @param kernelYSize The kernel size along Y, odd.
+     * @param mode        How cells outside the grid are read.
+     * @throws IllegalArgumentException if the kernel or array shapes are invalid.
+     */
+    public static void parallelConvolve(Float2DArray src, Float2DArray dest, float[] kernel, int kernelXSize,
+                                        int kernelYSize, BoundaryMode mode) {
+        checkShapes(src, dest);
+        run(src.unwrapUnsafe(), src.getOffset(), dest.unwrapUnsafe(), dest.getOffset(), 1, src.getXSize(),
+                src.getYSize(), kernel, 1, kernelXSize, kernelYSize, mode, true);
+    }
+
+    /**
+     * Applies a 3D kernel.
+     *
+     * @param src         The source grid.
+     * @param dest        The destination grid, with the same dimensions and not the same instance as src.
+     * @param kernel      The kernel weights in row-major order, {@code kernelXSize * kernelYSize * kernelZSize} of them.
+     * @param kernelXSize The kernel size along X, odd.
+     * @param kernelYSize The kernel size along Y, odd.
+     * @param kernelZSize The kernel size along Z, odd.
+     * @param mode        How cells outside the grid are read.
+     * @throws IllegalArgumentException if the kernel or array shapes are invalid.
+     */
+    public static void convolve(Float3DArray src, Float3DArray dest, float[] kernel, int kernelXSize, int kernelYSize,
+                                int kernelZSize, BoundaryMode mode) {
+        checkShapes(src, dest);
+        run(src.unwrapUnsafe(), src.getOffset(), dest.unwrapUnsafe(), dest.getOffset(), src.getXSize(),
+                src.getYSize(), src.getZSize(), kernel, kernelXSize, kernelYSize, kernelZSize, mode, false);
+    }
+
+    /**
+     * Applies a 3D kernel like
+     * {@link #convolve(Float3DArray, Float3DArray, float[], int, int, int, BoundaryMode)}, processing ranges of rows in
+     * parallel.
+     *
+     * @param src         The source grid.
+     * @param dest        The destination grid, with the same dimensions and not the same instance as src.
+     * @param kernel      The kernel weights in row-major order, {@code kernelXSize * kernelYSize * kernelZSize} of them.
+     * @param kernelXSize The kernel size along X, odd.
+     * @param kernelYSize The kernel size along Y, odd.
+     * @param kernelZSize The kernel size along Z, odd.
+     * @param mode        How cells outside the grid are read.
+     * @throws IllegalArgumentException if the kernel or array shapes are invalid.
+     */
+    public static void parallelConvolve(Float3DArray src, Float3DArray dest, float[] kernel, int kernelXSize,
+                                        int kernelYSize, int kernelZSize, BoundaryMode mode) {
+        checkShapes(src, dest);
+        run(src.unwrapUnsafe(), src.getOffset(), dest.unwrapUnsafe(), dest.getOffset(), src.getXSize(),
+                src.getYSize(), src.getZSize(), kernel, kernelXSize, kernelYSize, kernelZSize, mode, true);
+    }
+
+    /**
+     * Applies a separable 2D kernel, the outer product of two 1D kernels, as two 1D passes. A k x k kernel then costs
+     * 2k instead of k^2 operations per cell.
+     *
+     * @param src     The source grid.
+     * @param dest    The destination grid, with the same dimensions and not the same instance as src.
+     * @param kernelX The 1D kernel along X, odd length.
+     * @param kernelY The 1D kernel along Y, odd length.
+     * @param mode    How cells outside the grid are read.
+     * @throws IllegalArgumentException if the kernel or array shapes are invalid.
+     */
+    public static void convolveSeparable(Float2DArray src, Float2DArray dest, float[] kernelX, float[] kernelY,
+                                         BoundaryMode mode) {
+        separable2D(src, dest, new Float2DArray(src.getXSize(), src.getYSize()), kernelX, kernelY, mode, false);
+    }
+
+    /**
+     * Applies a separable 2D kernel like
+     * {@link #convolveSeparable(Float2DArray, Float2DArray, float[], float[], BoundaryMode)}, processing ranges of rows
+     * in parallel.
+     *
+     * @param src     The source grid.
+     * @param dest    The destination grid, with the same dimensions and not the same instance as src.
+     * @param kernelX The 1D kernel along X, odd length.
+     * @param kernelY The 1D kernel along Y, odd length.
+     * @param mode    How cells outside the grid are read.
+     * @throws IllegalArgumentException if the kernel or array shapes are invalid.
+     */
+    public static void parallelConvolveSeparable(Float2DArray src, Float2DArray dest, float[] kernelX,
+                                                 float[] kernelY, BoundaryMode mode) {
+        separable2D(src, dest, new Float2DArray(src.getXSize(), src.getYSize()), kernelX, kernelY, mode, true);
+    }
+
+    /**
+     * Applies a separable 2D kernel like
+     * {@link #convolveSeparable(Float2DArray, Float2DArray, float[], float[], BoundaryMode)}, keeping the intermediate
+     * pass in a caller-owned grid instead of allocating one per call.
+     *
+     * @param src     The source grid.
+     * @param dest    The destination grid, with the same dimensions and not the same instance as src.
+     * @param scratch The grid for the intermediate pass, with the same dimensions and distinct from src and dest; its
+     *                contents are overwritten.
+     * @param kernelX The 1D kernel along X, odd length.
+     * @param kernelY The 1D kernel along Y, odd length.
+     * @param mode    How cells outside the grid are read.
+     * @throws IllegalArgumentException if the kernel or array shapes are invalid.
+     */
+    public static void convolveSeparable(Float2DArray src, Float2DArray dest, Float2DArray scratch, float[] kernelX,
+                                         float[] kernelY, BoundaryMode mode) {
+        separable2D(src, dest, scratch, kernelX, kernelY, mode, false);
+    }
+
+    /**
+     * Applies a separable 2D kernel like
+     * {@link #convolveSeparable(Float2DArray, Float2DArray, Float2DArray, float[], float[], BoundaryMode)}, processing
+     * ranges of rows in parallel.
+     *
+     * @param src     The source grid.
+     * @param dest    The destination grid, with the same dimensions and not the same instance as src.
+     * @param scratch The grid for the intermediate pass, with the same dimensions and distinct from src and dest; its
+     *                contents are overwritten.
+     * @param kernelX The 1D kernel along X, odd length.
+     * @param kernelY The 1D kernel along Y, odd length.
+     * @param mode    How cells outside the grid are read.
+     * @throws IllegalArgumentException if the kernel or array shapes are invalid.
+     */
+    public static void parallelConvolveSeparable(Float2DArray src, Float2DArray dest, Float2DArray scratch,
+                                                 float[] kernelX, float[] kernelY, BoundaryMode mode) {
+        separable2D(src, dest, scratch, kernelX, kernelY, mode, true);
+    }
+
+    /**
+     * Applies a separable 3D kernel, the outer product of three 1D kernels, as three 1D passes.
+     *
+     * @param src     The source grid.
+     * @param dest    The destination grid, with the same dimensions and not the same instance as src.
+     * @param kernelX The 1D kernel along X, odd length.
+     * @param kernelY The 1D kernel along Y, odd length.
+     * @param kernelZ The 1D kernel along Z, odd length.
+     * @param mode    How cells outside the grid are read.
+     * @throws IllegalArgumentException if the kernel or array shapes are invalid.
+     */
+    public static void convolveSeparable(Float3DArray src, Float3DArray dest, float[] kernelX, float[] kernelY,
+                                         float[] kernelZ, BoundaryMode mode) {
+        separable3D(src, dest, new Float3DArray(src.getXSize(), src.getYSize(), src.getZSize()), kernelX, kernelY,
+                kernelZ, mode, false);
+    }
+
+    /**
+     * Applies a separable 3D kernel like
+     * {@link #convolveSeparable(Float3DArray, Float3DArray, float[], float[], float[], BoundaryMode)}, processing
+     * ranges of rows in parallel.
+     *
+     * @param src     The source grid.
+     * @param dest    The destination grid, with the same dimensions and not the same instance as src.
+     * @param kernelX The 1D kernel along X, odd length.
+     * @param kernelY The 1D kernel along Y, odd length.
+     * @param kernelZ The 1D kernel along Z, odd length.
+     * @param mode    How cells outside the grid are read.
+     * @throws IllegalArgumentException if the kernel or array shapes are invalid.
+     */
+    public static void parallelConvolveSeparable(Float3DArray src, Float3DArray dest, float[] kernelX,
+                                                 float[] kernelY, float[] kernelZ, BoundaryMode mode) {
+        separable3D(src, dest, new Float3DArray(src.getXSize(), src.getYSize(), src.getZSize()), kernelX, kernelY,
+                kernelZ, mode, true);
+    }
+
+    /**
+     * Applies a separable 3D kernel like
+     * {@link #convolveSeparable(Float3DArray, Float3DArray, float[], float[], float[], BoundaryMode)}, keeping the
+     * intermediate passes in a caller-owned grid instead of allocating one per call. The passes alternate between
+     * dest and scratch, so one scratch grid is enough.
+     *
+     * @param src     The source grid.
+     * @param dest    The destination grid, with the same dimensions and not the same instance as src.
+     * @param scratch The grid for the intermediate pass, with the same dimensions and distinct from src and dest; its
+     *                contents are overwritten.
+     * @param kernelX The 1D kernel along X, odd length.
+     * @param kernelY The 1D kernel along Y, odd length.
+     * @param kernelZ The 1D kernel along Z, odd length.
+     * @param mode    How cells outside the grid are read.
+     * @throws IllegalArgumentException if the kernel or array shapes are invalid.
+     */
+    public static void convolveSeparable(Float3DArray src, Float3DArray dest, Float3DArray scratch, float[] kernelX,
+                                         float[] kernelY, float[] kernelZ, BoundaryMode mode) {
+        separable3D(src, dest, scratch, kernelX, kernelY, kernelZ, mode, false);
+    }
+
+    /**
+     * Applies a separable 3D kernel like
+     * {@link #convolveSeparable(Float3DArray, Float3DArray, Float3DArray, float[], float[], float[], BoundaryMode)},
+     * processing ranges of rows in parallel.
+     *
+     * @param src     The source grid.
+     * @param dest    The destination grid, with the same dimensions and not the same instance as src.
+     * @param scratch The grid for the intermediate pass, with the same dimensions and distinct from src and dest; its
+     *                contents are overwritten.
+     * @param kernelX The 1D kernel along X, odd length.
+     * @param kernelY The 1D kernel along Y, odd length.
+     * @param kernelZ The 1D kernel along Z, odd length.
+     * @param mode    How cells outside the grid are read.
+     * @throws IllegalArgumentException if the kernel or array shapes are invalid.
+     */
+    public static void parallelConvolveSeparable(Float3DArray src, Float3DArray dest, Float3DArray scratch,
+                                                 float[] kernelX, float[] kernelY, float[] kernelZ,
+                                                 BoundaryMode mode) {
+        separable3D(src, dest, scratch, kernelX, kernelY, kernelZ, mode, true);
+    }
+
+    /**
+     * Applies the 5-point stencil {@code center * c + neighbour * (sum of the 4 axis neighbours)}.
+     *
+     * @param src       The source grid.
+     * @param dest      The destination grid, with the same dimensions and not the same instance as src.
+     * @param center    The weight of the cell itself.
+     * @param neighbour The weight of each of its 4 neighbours.
+     * @param mode      How cells outside the grid are read.
+     * @throws IllegalArgumentException if the array shapes are invalid.
+     */
+    public static void stencil(Float2DArray src, Float2DArray dest, float center, float neighbour, BoundaryMode mode) {
+        convolve(src, dest, stencilKernel2D(center, neighbour), 3, 3, mode);
+    }
+
+    /**
+     * Applies the 7-point stencil {@code center * c + neighbour * (sum of the 6 axis neighbours)}.
+     *
+     * @param src       The source grid.
+     * @param dest      The destination grid, with the same dimensions and not the same instance as src.
+     * @param center    The weight of the cell itself.
+     * @param neighbour The weight of each of its 6 neighbours.
+     * @param mode      How cells outside the grid are read.
+     * @throws IllegalArgumentException if the array shapes are invalid.
+     */
+    public static void stencil(Float3DArray src, Float3DArray dest, float center, float neighbour, BoundaryMode mode) {
+        convolve(src, dest, stencilKernel3D(center, neighbour), 3, 3, 3, mode);
+    }
+
+    /**
+     * Applies the 5-point stencil like {@link #stencil(Float2DArray, Float2DArray, float, float, BoundaryMode)},
+     * processing ranges of rows in parallel.
+     *
+     * @param src       The source grid.
+     * @param dest      The destination grid, with the same dimensions and not the same instance as src.
+     * @param center    The weight of the cell itself.
+     * @param neighbour The weight of each of its 4 neighbours.
+     * @param mode      How cells outside the grid are read.
+     * @throws IllegalArgumentException if the array shapes are invalid.
+     */
+    public static void parallelStencil(Float2DArray src, Float2DArray dest, float center, float neighbour,
+                                       BoundaryMode mode) {
+        parallelConvolve(src, dest, stencilKernel2D(center, neighbour), 3, 3, mode);
+    }
+
+    /**
+     * Applies the 7-point stencil like {@link #stencil(Float3DArray, Float3DArray, float, float, BoundaryMode)},
+     * processing ranges of rows in parallel.
+     *
+     * @param src       The source grid.
+     * @param dest      The destination grid, with the same dimensions and not the same instance as src.
+     * @param center    The weight of the cell itself.
+     * @param neighbour The weight of each of its 6 neighbours.
+     * @param mode      How cells outside the grid are read.
+     * @throws IllegalArgumentException if the array shapes are invalid.
+     */
+    public static void parallelStencil(Float3DArray src, Float3DArray dest, float center, float neighbour,
+                                       BoundaryMode mode) {
+        parallelConvolve(src, dest, stencilKernel3D(center, neighbour), 3, 3, 3, mode);
+    }
+
+    /**
+     * Computes the discrete Laplacian with the 5-point stencil.
+     *
+     * @param src  The source grid.
+     * @param dest The destination grid, with the same dimensions and not the same instance as src.
+     * @param mode How cells outside the grid are read.
+     * @throws IllegalArgumentException if the array shapes are invalid.
+     */
+    public static void laplacian(Float2DArray src, Float2DArray dest, BoundaryMode mode) {
+        stencil(src, dest, -4.0f, 1.0f, mode);
+    }
+
+    /**
+     * Computes the discrete Laplacian with the 7-point stencil.
+     *
+     * @param src  The source grid.
+     * @param dest The destination grid, with the same dimensions and not the same instance as src.
+     * @param mode How cells outside the grid are read.
+     * @throws IllegalArgumentException if the array shapes are invalid.
+     */
+    public static void laplacian(Float3DArray src, Float3DArray dest, BoundaryMode mode) {
+        stencil(src, dest, -6.0f, 1.0f, mode);
+    }
+
+    /**
+     * Returns a normalized 1D Gaussian kernel with a radius of {@code ceil(3 * sigma)}, for use with the separable
+     * methods.
+     *
+     * @param sigma The standard deviation, positive.
+     * @return A new kernel of odd length whose weights sum to 1.
+     * @throws IllegalArgumentException if sigma is not positive.
+     */
+    public static float[] gaussianKernel(double sigma) {
+        if (!(sigma > 0.0)) {
+            throw new IllegalArgumentException("Sigma must be positive.");
+        }
+        int radius = (int) Math.ceil(3.0 * sigma);
+        float[] kernel = new float[2 * radius + 1];
+        double sum = 0.0;
+        for (int i = -radius; i <= radius; i++) {
+            double weight = Math.exp(-(i * i) / (2.0 * sigma * sigma));
+            kernel[i + radius] = (float) weight;
+            sum += weight;
+        }
+        for (int i = 0; i < kernel.length; i++) {
+            kernel[i] = (float) (kernel[i] / sum);
+        }
+        return kernel;
+    }
+
+    /**
+     * Returns the 3x3 Sobel kernel for the derivative along X.
+     *
+     * @return A new 3x3 kernel in row-major order.
+     */
+    public static float[] sobelX() {
+        return new float[]{
+                -1.0f, -2.0f, -1.0f,
+                0.0f, 0.0f, 0.0f,
+                1.0f, 2.0f, 1.0f
+        };
+    }
+
+    /**
+     * Returns the 3x3 Sobel kernel for the derivative along Y.
+     *
+     * @return A new 3x3 kernel in row-major order.
+     */
+    public static float[] sobelY() {
+        return new float[]{
+                -1.0f, 0.0f, 1.0f,
+                -2.0f, 0.0f, 2.0f,
+                -1.0f, 0.0f, 1.0f
+        };
+    }
+
+    private static void separable2D(Float2DArray src, Float2DArray dest, Float2DArray scratch, float[] kernelX,
+                                    float[] kernelY, BoundaryMode mode, boolean parallel) {
+        checkShapes(src, dest);
+        checkShapes(src, scratch);
+        checkShapes(dest, scratch);
+        int xSize = src.getXSize();
+        int ySize = src.getYSize();
+        float[] temp = scratch.unwrapUnsafe();
+        int tempPos = scratch.getOffset();
+        run(src.unwrapUnsafe(), src.getOffset(), temp, tempPos, 1, xSize, ySize, kernelY, 1, 1, kernelY.length, mode,
+                parallel);
+        run(temp, tempPos, dest.unwrapUnsafe(), dest.getOffset(), 1, xSize, ySize, kernelX, 1, kernelX.length, 1, mode,
+                parallel);
+    }
+
+    /**
+     * Runs the Z pass into dest, the Y pass into scratch and the X pass back into dest.
+     */
+    private static void separable3D(Float3DArray src, Float3DArray dest, Float3DArray scratch, float[] kernelX,
+                                    float[] kernelY, float[] kernelZ, BoundaryMode mode, boolean parallel) {
+        checkShapes(src, dest);
+        checkShapes(src, scratch);
+        checkShapes(dest, scratch);
+        int xSize = src.getXSize();
+        int ySize = src.getYSize();
+        int zSize = src.getZSize();
+        float[] out = dest.unwrapUnsafe();
+        int outPos = dest.getOffset();
+        float[] temp = scratch.unwrapUnsafe();
+        int tempPos = scratch.getOffset();
+        run(src.unwrapUnsafe(), src.getOffset(), out, outPos, xSize, ySize, zSize, kernelZ, 1, 1, kernelZ.length, mode,
+                parallel);
+        run(out, outPos, temp, tempPos, xSize, ySize, zSize, kernelY, 1, kernelY.length, 1, mode, parallel);
+        run(temp, tempPos, out, outPos, xSize, ySize, zSize, kernelX, kernelX.length, 1, 1, mode, parallel);
+    }
+
+    private static float[] stencilKernel2D(float center, float neighbour) {
+        return new float[]{
+                0.0f, neighbour, 0.0f,
+                neighbour, center, neighbour,
+                0.0f, neighbour, 0.0f
+        };
+    }
+
+    private static float[] stencilKernel3D(float center, float neighbour) {
+        float[] kernel = new float[27];
+        kernel[13] = center;
+        kernel[4] = neighbour;
+        kernel[22] = neighbour;
+        kernel[10] = neighbour;
+        kernel[16] = neighbour;
+        kernel[12] = neighbour;
+        kernel[14] = neighbour;
+        return kernel;
+    }
+
+    private static void checkShapes(Float2DArray src, Float2DArray dest) {
+        checkShapes(src.unwrapUnsafe(), src.getOffset(), dest.unwrapUnsafe(), dest.getOffset(),
+                src.getXSize() * src.getYSize(), src.getXSize() != dest.getXSize()
+                        || src.getYSize() != dest.getYSize());
+    }
+
+    private static void checkShapes(Float3DArray src, Float3DArray dest) {
+        checkShapes(src.unwrapUnsafe(), src.getOffset(), dest.unwrapUnsafe(), dest.getOffset(),
+                src.getXSize() * src.getYSize() * src.getZSize(), src.getXSize() != dest.getXSize()
+                        || src.getYSize() != dest.getYSize() || src.getZSize() != dest.getZSize());
+    }
+
+    private static void checkShapes(float[] src, int srcPos, float[] dest, int destPos, int length,
+                                    boolean mismatch) {
+        if (mismatch) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+        if (src == dest && srcPos < destPos + length && destPos < srcPos + length) {
+            throw new IllegalArgumentException("Source and destination must not overlap.");
+        }
+    }
+
+    /**
+     * Correlates a row-major {@code xSize * ySize * zSize} grid starting at srcPos with a kernel, writing the grid
+     * starting at dstPos. 2D grids are passed with xSize = 1.
+     */
+    private static void run(float[] src, int srcPos, float[] dst, int dstPos, int xSize, int ySize, int zSize,
+                            float[] kernel, int kernelXSize, int kernelYSize, int kernelZSize, BoundaryMode mode,
+                            boolean parallel) {
+        if (kernelXSize <= 0 || kernelYSize <= 0 || kernelZSize <= 0
+                || (kernelXSize & 1) == 0 || (kernelYSize & 1) == 0 || (kernelZSize & 1) == 0) {
+            throw new IllegalArgumentException("Kernel sizes must be positive and odd.");
+        }
+        if (kernel.length != kernelXSize * kernelYSize * kernelZSize) {
+            throw new IllegalArgumentException("Kernel length " + kernel.length + " does not match its dimensions.");
+        }
+        int nonZero = 0;
+        for (float weight : kernel) {
+            if (weight != 0.0f) {
+                nonZero++;
+            }
+        }
+        int taps = nonZero;
+        int[] dx = new int[taps];
+        int[] dy = new int[taps];
+        int[] dz = new int[taps];
+        int[] offsets = new int[taps];
+        float[] weights = new float[taps];
+        int rx = kernelXSize / 2;
+        int ry = kernelYSize / 2;
+        int rz = kernelZSize / 2;
+        int t = 0;
+        for (int i = 0, k = 0; i < kernelXSize; i++) {
+            for (int j = 0; j < kernelYSize; j++) {
+                for (int l = 0; l < kernelZSize; l++, k++) {
+                    if (kernel[k] != 0.0f) {
+                        dx[t] = i - rx;
+                        dy[t] = j - ry;
+                        dz[t] = l - rz;
+                        offsets[t] = (dx[t] * ySize + dy[t]) * zSize + dz[t] + srcPos - dstPos;
+                        weights[t] = kernel[k];
+                        t++;
+                    }
+                }
+            }
+        }
+        int rows = xSize * ySize;
+        ParallelArrays.ChunkAction action = (chunk, from, to) -> {
+            for (int row = from; row < to; row++) {
+                int x = row / ySize;
+                int y = row - x * ySize;
+                int base = dstPos + row * zSize;
+                boolean interiorRow = x >= rx && x < xSize - rx && y >= ry && y < ySize - ry && zSize > 2 * rz;
+                if (!interiorRow) {
+                    for (int z = 0; z < zSize; z++) {
+                        dst[base + z] = border(src, srcPos, xSize, ySize, zSize, x, y, z, dx, dy, dz, weights, mode);
+                    }
+                    continue;
+                }
+                int start = base + rz;
+                int end = base + zSize - rz;
+                if (taps == 0) {
+                    for (int i = start; i < end; i++) {
+                        dst[i] = 0.0f;
+                    }
+                } else {
+                    int offset = offsets[0];
+                    float weight = weights[0];
+                    for (int i = start; i < end; i++) {
+                        dst[i] = weight * src[i + offset];
+                    }
+                    for (int tap = 1; tap < taps; tap++) {
+                        offset = offsets[tap];
+                        weight = weights[tap];
+                        for (int i = start; i < end; i++) {
+                            dst[i] += weight * src[i + offset];
+                        }
+                    }
+                }
+                for (int z = 0; z < rz; z++) {
+                    dst[base + z] = border(src, srcPos, xSize, ySize, zSize, x, y, z, dx, dy, dz, weights, mode);
+                    int far = zSize - 1 - z;
+                    dst[base + far] = border(src, srcPos, xSize, ySize, zSize, x, y, far, dx, dy, dz, weights, mode);
+                }
+            }
+        };
+        if (parallel) {
+            ParallelArrays.forEachChunk(rows, (int) Math.min(4L * zSize, Integer.MAX_VALUE), action);
+        } else {
+            action.run(0, 0, rows);
+        }
+    }
+
+    private static float border(float[] src, int srcPos, int xSize, int ySize, int zSize, int x, int y, int z,
+                                int[] dx, int[] dy, int[] dz, float[] weights, BoundaryMode mode) {
+        float sum = 0.0f;
+        for (int tap = 0; tap < weights.length; tap++) {
+            int sx = mode.resolve(x + dx[tap], xSize);
+            int sy = mode.resolve(y + dy[tap], ySize);
+            int sz = mode.resolve(z + dz[tap], zSize);
+            if (sx < 0 || sy < 0 || sz < 0) {
+                continue;
+            }
+            sum += weights[tap] * src[srcPos + (sx * ySize + sy) * zSize + sz];
+        }
+        return sum;
+    }
+}
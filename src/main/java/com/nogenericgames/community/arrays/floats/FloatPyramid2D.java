@@ -0,0 +1,268 @@
+package com.nogenericgames.community.arrays.floats;
+
+import com.nogenericgames.community.arrays.utils.ParallelArrays;
+
+/**
+ * A resolution pyramid over a {@link Float2DArray}: level 0 is the base grid and each further level halves every
+ * dimension, down to a single texel.
+ * <p>
+ * A texel of level n reduces the 2x2 block of level n - 1 below it. Odd dimensions round up, so texels on the last
+ * row or column of an odd dimension cover fewer base cells. Averages weight every texel below by the number of base
+ * cells it covers, so each texel is the exact mean of its base region rather than treating a partial edge texel as
+ * a full one. The levels are allocated once by the factory methods and rewritten in place by {@link #build()},
+ * {@link #rebuild(Float2DArray)} for a new base grid of the same size, and {@link #update(int, int, int, int)},
+ * which recomputes only the texels above a dirty box of the base grid.
+ * <p>
+ * The base grid is referenced, not copied. Custom reducers are folded over the cells of a block in row-major order
+ * and should be associative and commutative.
+ */
+public class FloatPyramid2D {
+
+    private enum Mode {
+        AVERAGE, MIN, MAX, CUSTOM
+    }
+
+    private final Float2DArray[] levels;
+    private final Mode mode;
+    private final FloatBinaryOperator reducer;
+
+    private FloatPyramid2D(Float2DArray base, Mode mode, FloatBinaryOperator reducer) {
+        int count = 1;
+        for (int x = base.getXSize(), y = base.getYSize(); x > 1 || y > 1; x = (x + 1) >> 1, y = (y + 1) >> 1) {
+            count++;
+        }
+        this.levels = new Float2DArray[count];
+        this.levels[0] = base;
+        for (int level = 1; level < count; level++) {
+            Float2DArray below = levels[level - 1];
+            levels[level] = new Float2DArray((below.getXSize() + 1) >> 1, (below.getYSize() + 1) >> 1);
+        }
+        this.mode = mode;
+        this.reducer = reducer;
+    }
+
+    /**
+     * Builds a pyramid whose texels are the mean of the cells they cover.
+     *
+     * @param base The base grid, referenced.
+     * @return The built pyramid.
+     */
+    public static FloatPyramid2D average(Float2DArray base) {
+        FloatPyramid2D pyramid = new FloatPyramid2D(base, Mode.AVERAGE, null);
+        pyramid.build();
+        return pyramid;
+    }
+
+    /**
+     * Builds a pyramid whose texels are the minimum of the cells they cover.
+     *
+     * @param base The base grid, referenced.
+     * @return The built pyramid.
+     */
+    public static FloatPyramid2D min(Float2DArray base) {
+        FloatPyramid2D pyramid = new FloatPyramid2D(base, Mode.MIN, null);
+        pyramid.build();
+        return pyramid;
+    }
+
+    /**
+     * Builds a pyramid whose texels are the maximum of the cells they cover.
+     *
+     * @param base The base grid, referenced.
+     * @return The built pyramid.
+     */
+    public static FloatPyramid2D max(Float2DArray base) {
+        FloatPyramid2D pyramid = new FloatPyramid2D(base, Mode.MAX, null);
+        pyramid.build();
+        return pyramid;
+    }
+
+    /**
+     * Builds a pyramid whose texels fold the cells of the block below them with a custom reducer.
+     *
+     * @param base    The base grid, referenced.
+     * @param reducer The reducer, associative and commutative.
+     * @return The built pyramid.
+     */
+    public static FloatPyramid2D of(Float2DArray base, FloatBinaryOperator reducer) {
+        FloatPyramid2D pyramid = new FloatPyramid2D(base, Mode.CUSTOM, reducer);
+        pyramid.build();
+        return pyramid;
+    }
+
+    /**
+     * Recomputes every level above the base.
+     */
+    public void build() {
+        for (int level = 1; level < levels.length; level++) {
+            reduce(level, 0, levels[level].getXSize(), 0, levels[level].getYSize());
+        }
+    }
+
+    /**
+     * Replaces the base grid with another of the same dimensions and recomputes every level above it in place, so
+     * regenerating a pyramid allocates nothing.
+     *
+     * @param base The new base grid, referenced.
+     * @throws IllegalArgumentException if the dimensions differ from the current base.
+     */
+    public void rebuild(Float2DArray base) {
+        replaceBase(base);
+        build();
+    }
+
+    /**
+     * Replaces the base grid like {@link #rebuild(Float2DArray)}, processing the rows of each level in parallel.
+     *
+     * @param base The new base grid, referenced.
+     * @throws IllegalArgumentException if the dimensions differ from the current base.
+     */
+    public void parallelRebuild(Float2DArray base) {
+        replaceBase(base);
+        parallelBuild();
+    }
+
+    /**
+     * Recomputes every level above the base, processing the rows of each level in parallel.
+     */
+    public void parallelBuild() {
+        for (int level = 1; level < levels.length; level++) {
+            int xSize = levels[level].getXSize();
+            int ySize = levels[level].getYSize();
+            int current = level;
+            ParallelArrays.forEachChunk(xSize, (int) Math.min(16L * ySize, Integer.MAX_VALUE),
+                    (chunk, from, to) -> reduce(current, from, to, 0, ySize));
+        }
+    }
+
+    /**
+     * Recomputes the texels of every level above the base that cover the box {@code [x0, x1) x [y0, y1)} of the
+     * base grid, after the cells in it changed.
+     *
+     * @param x0 The first changed X-coordinate, inclusive.
+     * @param y0 The first changed Y-coordinate, inclusive.
+     * @param x1 The last changed X-coordinate, exclusive.
+     * @param y1 The last changed Y-coordinate, exclusive.
+     * @throws IndexOutOfBoundsException if the box is out of bounds.
+     */
+    public void update(int x0, int y0, int x1, int y1) {
+        checkRange(x0, x1, levels[0].getXSize(), 0);
+        checkRange(y0, y1, levels[0].getYSize(), 1);
+        for (int level = 1; level < levels.length && x0 < x1 && y0 < y1; level++) {
+            x0 >>= 1;
+            y0 >>= 1;
+            x1 = (x1 + 1) >> 1;
+            y1 = (y1 + 1) >> 1;
+            reduce(level, x0, x1, y0, y1);
+        }
+    }
+
+    /**
+     * Returns a level of the pyramid. Level 0 is the base grid; the arrays are not copied.
+     *
+     * @param level The level, from 0 to {@link #getLevelCount()} - 1.
+     * @return The level's grid.
+     * @throws IndexOutOfBoundsException if the level does not exist.
+     */
+    public Float2DArray getLevel(int level) {
+        return levels[level];
+    }
+
+    /**
+     * Returns the number of levels, including the base and the final 1x1 level.
+     *
+     * @return The level count.
+     */
+    public int getLevelCount() {
+        return levels.length;
+    }
+
+    private void replaceBase(Float2DArray base) {
+        if (base.getXSize() != levels[0].getXSize() || base.getYSize() != levels[0].getYSize()) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+        levels[0] = base;
+    }
+
+    private void reduce(int level, int x0, int x1, int y0, int y1) {
+        Float2DArray below = levels[level - 1];
+        int baseXSize = levels[0].getXSize();
+        int baseYSize = levels[0].getYSize();
+        float[] src = below.unwrapUnsafe();
+        float[] dst = levels[level].unwrapUnsafe();
+        int srcXSize = below.getXSize();
+        int srcYSize = below.getYSize();
+        int dstYSize = levels[level].getYSize();
+        for (int x = x0; x < x1; x++) {
+            int rowA = below.getOffset() + 2 * x * srcYSize;
+            boolean hasRowB = 2 * x + 1 < srcXSize;
+            int rowB = hasRowB ? rowA + srcYSize : rowA;
+            int target = levels[level].getOffset() + x * dstYSize;
+            float wa = weight(level - 1, 2 * x, baseXSize);
+            float wc = weight(level - 1, 2 * x + 1, baseXSize);
+            for (int y = y0; y < y1; y++) {
+                int ya = 2 * y;
+                boolean hasB = ya + 1 < srcYSize;
+                float a = src[rowA + ya];
+                float c = src[rowB + ya];
+                float b = hasB ? src[rowA + ya + 1] : a;
+                float d = hasB ? src[rowB + ya + 1] : c;
+                float value;
+                switch (mode) {
+                    case AVERAGE:
+                        float w0 = weight(level - 1, ya, baseYSize);
+                        float w1 = weight(level - 1, ya + 1, baseYSize);
+                        value = mean(mean(a, w0, b, w1), wa, mean(c, w0, d, w1), wc);
+                        break;
+                    case MIN:
+                        value = Math.min(Math.min(a, b), Math.min(c, d));
+                        break;
+                    case MAX:
+                        value = Math.max(Math.max(a, b), Math.max(c, d));
+                        break;
+                    default:
+                        value = a;
+                        if (hasB) {
+                            value = reducer.applyAsFloat(value, b);
+                        }
+                        if (hasRowB) {
+                            value = reducer.applyAsFloat(value, c);
+                            if (hasB) {
+                                value = reducer.applyAsFloat(value, d);
+                            }
+                        }
+                }
+                dst[target + y] = value;
+            }
+        }
+    }
+
+    /**
+     * Returns how many base cells along one axis texel {@code index} of a level covers, or 0 past the edge.
+     */
+    static float weight(int level, int index, int baseSize) {
+        return Math.max(0, Math.min(1 << level, baseSize - (index << level)));
+    }
+
+    /**
+     * Returns the weighted mean of two values. A zero second weight returns the first value untouched, so missing
+     * edge neighbours never contribute, even when they alias an infinite cell.
+     */
+    static float mean(float p, float wp, float q, float wq) {
+        if (wp == wq) {
+            return (p + q) * 0.5f;
+        }
+        if (wq == 0.0f) {
+            return p;
+        }
+        return (p * wp + q * wq) / (wp + wq);
+    }
+
+    private static void checkRange(int from, int to, int size, int dimension) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + from + ", " + to + ") out of bounds for dimension " + dimension + " (0 to " + (size - 1) + ")."
+            );
+        }
+    }
+}
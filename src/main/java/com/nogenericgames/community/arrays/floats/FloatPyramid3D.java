@@ -0,0 +1,284 @@
+package com.nogenericgames.community.arrays.floats;
+
+import com.nogenericgames.community.arrays.utils.ParallelArrays;
+
+/**
+ * A resolution pyramid over a {@link Float3DArray}: level 0 is the base grid and each further level halves every
+ * dimension, down to a single texel.
+ * <p>
+ * A texel of level n reduces the 2x2x2 block of level n - 1 below it. Odd dimensions round up, so texels on the last
+ * plane, row or column of an odd dimension cover fewer base cells. Averages weight every texel below by the number of
+ * base cells it covers, so each texel is the exact mean of its base region. The levels are allocated once by the
+ * factory methods and rewritten in place by {@link #build()}, {@link #rebuild(Float3DArray)} for a new base grid of
+ * the same size, and {@link #update(int, int, int, int, int, int)}, which recomputes only the texels above a dirty
+ * box of the base grid.
+ * <p>
+ * The base grid is referenced, not copied. Custom reducers are folded over the cells of a block in row-major order
+ * and should be associative and commutative.
+ */
+public class FloatPyramid3D {
+
+    private enum Mode {
+        AVERAGE, MIN, MAX, CUSTOM
+    }
+
+    private final Float3DArray[] levels;
+    private final Mode mode;
+    private final FloatBinaryOperator reducer;
+
+    private FloatPyramid3D(Float3DArray base, Mode mode, FloatBinaryOperator reducer) {
+        int count = 1;
+        for (int x = base.getXSize(), y = base.getYSize(), z = base.getZSize(); x > 1 || y > 1 || z > 1;
+             x = (x + 1) >> 1, y = (y + 1) >> 1, z = (z + 1) >> 1) {
+            count++;
+        }
+        this.levels = new Float3DArray[count];
+        this.levels[0] = base;
+        for (int level = 1; level < count; level++) {
+            Float3DArray below = levels[level - 1];
+            levels[level] = new Float3DArray((below.getXSize() + 1) >> 1, (below.getYSize() + 1) >> 1,
+                    (below.getZSize() + 1) >> 1);
+        }
+        this.mode = mode;
+        this.reducer = reducer;
+    }
+
+    /**
+     * Builds a pyramid whose texels are the mean of the cells they cover.
+     *
+     * @param base The base grid, referenced.
+     * @return The built pyramid.
+     */
+    public static FloatPyramid3D average(Float3DArray base) {
+        FloatPyramid3D pyramid = new FloatPyramid3D(base, Mode.AVERAGE, null);
+        pyramid.build();
+        return pyramid;
+    }
+
+    /**
+     * Builds a pyramid whose texels are the minimum of the cells they cover.
+     *
+     * @param base The base grid, referenced.
+     * @return The built pyramid.
+     */
+    public static FloatPyramid3D min(Float3DArray base) {
+        FloatPyramid3D pyramid = new FloatPyramid3D(base, Mode.MIN, null);
+        pyramid.build();
+        return pyramid;
+    }
+
+    /**
+     * Builds a pyramid whose texels are the maximum of the cells they cover.
+     *
+     * @param base The base grid, referenced.
+     * @return The built pyramid.
+     */
+    public static FloatPyramid3D max(Float3DArray base) {
+        FloatPyramid3D pyramid = new FloatPyramid3D(base, Mode.MAX, null);
+        pyramid.build();
+        return pyramid;
+    }
+
+    /**
+     * Builds a pyramid whose texels fold the cells of the block below them with a custom reducer.
+     *
+     * @param base    The base grid, referenced.
+     * @param reducer The reducer, associative and commutative.
+     * @return The built pyramid.
+     */
+    public static FloatPyramid3D of(Float3DArray base, FloatBinaryOperator reducer) {
+        FloatPyramid3D pyramid = new FloatPyramid3D(base, Mode.CUSTOM, reducer);
+        pyramid.build();
+        return pyramid;
+    }
+
+    /**
+     * Recomputes every level above the base.
+     */
+    public void build() {
+        for (int level = 1; level < levels.length; level++) {
+            Float3DArray target = levels[level];
+            reduce(level, 0, target.getXSize(), 0, target.getYSize(), 0, target.getZSize());
+        }
+    }
+
+    /**
+     * Replaces the base grid with another of the same dimensions and recomputes every level above it in place, so
+     * regenerating a pyramid allocates nothing.
+     *
+     * @param base The new base grid, referenced.
+     * @throws IllegalArgumentException if the dimensions differ from the current base.
+     */
+    public void rebuild(Float3DArray base) {
+        replaceBase(base);
+        build();
+    }
+
+    /**
+     * Replaces the base grid like {@link #rebuild(Float3DArray)}, processing the planes of each level in parallel.
+     *
+     * @param base The new base grid, referenced.
+     * @throws IllegalArgumentException if the dimensions differ from the current base.
+     */
+    public void parallelRebuild(Float3DArray base) {
+        replaceBase(base);
+        parallelBuild();
+    }
+
+    /**
+     * Recomputes every level above the base, processing the planes of each level in parallel.
+     */
+    public void parallelBuild() {
+        for (int level = 1; level < levels.length; level++) {
+            Float3DArray target = levels[level];
+            int ySize = target.getYSize();
+            int zSize = target.getZSize();
+            int current = level;
+            ParallelArrays.forEachChunk(target.getXSize(), (int) Math.min(32L * ySize * zSize, Integer.MAX_VALUE),
+                    (chunk, from, to) -> reduce(current, from, to, 0, ySize, 0, zSize));
+        }
+    }
+
+    /**
+     * Recomputes the texels of every level above the base that cover the box
+     * {@code [x0, x1) x [y0, y1) x [z0, z1)} of the base grid, after the cells in it changed.
+     *
+     * @param x0 The first changed X-coordinate, inclusive.
+     * @param y0 The first changed Y-coordinate, inclusive.
+     * @param z0 The first changed Z-coordinate, inclusive.
+     * @param x1 The last changed X-coordinate, exclusive.
+     * @param y1 The last changed Y-coordinate, exclusive.
+     * @param z1 The last changed Z-coordinate, exclusive.
+     * @throws IndexOutOfBoundsException if the box is out of bounds.
+     */
+    public void update(int x0, int y0, int z0, int x1, int y1, int z1) {
+        checkRange(x0, x1, levels[0].getXSize(), 0);
+        checkRange(y0, y1, levels[0].getYSize(), 1);
+        checkRange(z0, z1, levels[0].getZSize(), 2);
+        for (int level = 1; level < levels.length && x0 < x1 && y0 < y1 && z0 < z1; level++) {
+            x0 >>= 1;
+            y0 >>= 1;
+            z0 >>= 1;
+            x1 = (x1 + 1) >> 1;
+            y1 = (y1 + 1) >> 1;
+            z1 = (z1 + 1) >> 1;
+            reduce(level, x0, x1, y0, y1, z0, z1);
+        }
+    }
+
+    /**
+     * Returns a level of the pyramid. Level 0 is the base grid; the arrays are not copied.
+     *
+     * @param level The level, from 0 to {@link #getLevelCount()} - 1.
+     * @return The level's grid.
+     * @throws IndexOutOfBoundsException if the level does not exist.
+     */
+    public Float3DArray getLevel(int level) {
+        return levels[level];
+    }
+
+    /**
+     * Returns the number of levels, including the base and the final 1x1x1 level.
+     *
+     * @return The level count.
+     */
+    public int getLevelCount() {
+        return levels.length;
+    }
+
+    private void replaceBase(Float3DArray base) {
+        Float3DArray current = levels[0];
+        if (base.getXSize() != current.getXSize() || base.getYSize() != current.getYSize()
+                || base.getZSize() != current.getZSize()) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+        levels[0] = base;
+    }
+
+    private void reduce(int level, int x0, int x1, int y0, int y1, int z0, int z1) {
+        Float3DArray below = levels[level - 1];
+        int baseXSize = levels[0].getXSize();
+        int baseYSize = levels[0].getYSize();
+        int baseZSize = levels[0].getZSize();
+        float[] src = below.unwrapUnsafe();
+        float[] dst = levels[level].unwrapUnsafe();
+        int srcXSize = below.getXSize();
+        int srcYSize = below.getYSize();
+        int srcZSize = below.getZSize();
+        int dstYSize = levels[level].getYSize();
+        int dstZSize = levels[level].getZSize();
+        int plane = srcYSize * srcZSize;
+        for (int x = x0; x < x1; x++) {
+            boolean hasX = 2 * x + 1 < srcXSize;
+            float wx0 = FloatPyramid2D.weight(level - 1, 2 * x, baseXSize);
+            float wx1 = FloatPyramid2D.weight(level - 1, 2 * x + 1, baseXSize);
+            for (int y = y0; y < y1; y++) {
+                boolean hasY = 2 * y + 1 < srcYSize;
+                float wy0 = FloatPyramid2D.weight(level - 1, 2 * y, baseYSize);
+                float wy1 = FloatPyramid2D.weight(level - 1, 2 * y + 1, baseYSize);
+                int r00 = below.getOffset() + (2 * x * srcYSize + 2 * y) * srcZSize;
+                int r01 = hasY ? r00 + srcZSize : r00;
+                int r10 = hasX ? r00 + plane : r00;
+                int r11 = hasX ? r01 + plane : r01;
+                int target = levels[level].getOffset() + (x * dstYSize + y) * dstZSize;
+                for (int z = z0; z < z1; z++) {
+                    int za = 2 * z;
+                    int zb = za + 1 < srcZSize ? za + 1 : za;
+                    boolean hasZ = zb != za;
+                    float value;
+                    switch (mode) {
+                        case AVERAGE:
+                            // The weights are separable, so nested weighted means along Z, Y and X give the mean
+                            // of the whole base region. Missing neighbours alias a present cell and weigh 0.
+                            float wz0 = FloatPyramid2D.weight(level - 1, za, baseZSize);
+                            float wz1 = FloatPyramid2D.weight(level - 1, za + 1, baseZSize);
+                            float m0 = FloatPyramid2D.mean(
+                                    FloatPyramid2D.mean(src[r00 + za], wz0, src[r00 + zb], wz1), wy0,
+                                    FloatPyramid2D.mean(src[r01 + za], wz0, src[r01 + zb], wz1), wy1);
+                            float m1 = FloatPyramid2D.mean(
+                                    FloatPyramid2D.mean(src[r10 + za], wz0, src[r10 + zb], wz1), wy0,
+                                    FloatPyramid2D.mean(src[r11 + za], wz0, src[r11 + zb], wz1), wy1);
+                            value = FloatPyramid2D.mean(m0, wx0, m1, wx1);
+                            break;
+                        case MIN:
+                            value = Math.min(Math.min(Math.min(src[r00 + za], src[r00 + zb]),
+                                    Math.min(src[r01 + za], src[r01 + zb])),
+                                    Math.min(Math.min(src[r10 + za], src[r10 + zb]),
+                                            Math.min(src[r11 + za], src[r11 + zb])));
+                            break;
+                        case MAX:
+                            value = Math.max(Math.max(Math.max(src[r00 + za], src[r00 + zb]),
+                                    Math.max(src[r01 + za], src[r01 + zb])),
+                                    Math.max(Math.max(src[r10 + za], src[r10 + zb]),
+                                            Math.max(src[r11 + za], src[r11 + zb])));
+                            break;
+                        default:
+                            value = fold(src[r00 + za], src[r00 + zb], hasZ);
+                            if (hasY) {
+                                value = reducer.applyAsFloat(value, fold(src[r01 + za], src[r01 + zb], hasZ));
+                            }
+                            if (hasX) {
+                                value = reducer.applyAsFloat(value, fold(src[r10 + za], src[r10 + zb], hasZ));
+                                if (hasY) {
+                                    value = reducer.applyAsFloat(value, fold(src[r11 + za], src[r11 + zb], hasZ));
+                                }
+                            }
+                    }
+                    dst[target + z] = value;
+                }
+            }
+        }
+    }
+
+    private float fold(float a, float b, boolean hasB) {
+        return hasB ? reducer.applyAsFloat(a, b) : a;
+    }
+
+    private static void checkRange(int from, int to, int size, int dimension) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + from + ", " + to + ") out of bounds for dimension " + dimension + " (0 to " + (size - 1) + ")."
+            );
+        }
+    }
+}
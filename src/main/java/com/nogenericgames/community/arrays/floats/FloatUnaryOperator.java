@@ -0,0 +1,17 @@
+package com.nogenericgames.community.arrays.floats;
+
+/**
+ * An operation on a single float operand that produces a float result, the float counterpart of
+ * {@link java.util.function.IntUnaryOperator}.
+ */
+@FunctionalInterface
+public interface FloatUnaryOperator {
+
+    /**
+     * Applies this operator to the given operand.
+     *
+     * @param operand The operand.
+     * @return The result.
+     */
+    float applyAsFloat(float operand);
+}
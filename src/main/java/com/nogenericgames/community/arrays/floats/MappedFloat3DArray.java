@@ -0,0 +1,226 @@
+package com.nogenericgames.community.arrays.floats;
+
+import com.nogenericgames.community.arrays.utils.MappedStorage;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+/**
+ * Represents a three-dimensional array of floats stored in a memory-mapped file.
+ * <p>
+ * Uses the same row-major index layout as {@link Float3DArray} but indexes with {@code long} arithmetic and maps the file
+ * in segments, so tables larger than the heap or than 2 GB can be opened in constant time and paged in on demand.
+ * Values are stored little-endian. Call {@link #force()} to make writes durable and {@link #close()} to unmap.
+ */
+public class MappedFloat3DArray implements Closeable {
+
+    private final MappedStorage storage;
+    private final int xSize;
+    private final int ySize;
+    private final int zSize;
+    private final long totalSize;
+
+    /**
+     * Opens (creating or growing if necessary) a read-write 3D mapped array over the given file.
+     *
+     * @param file  The backing file.
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @throws IOException              if the file cannot be opened or mapped.
+     * @throws IllegalArgumentException if any dimension is non-positive.
+     */
+    public MappedFloat3DArray(Path file, int xSize, int ySize, int zSize) throws IOException {
+        this(file, FileChannel.MapMode.READ_WRITE, xSize, ySize, zSize);
+    }
+
+    /**
+     * Opens a 3D mapped array over the given file with the given mapping mode.
+     * <p>
+     * {@link FileChannel.MapMode#READ_ONLY} and {@link FileChannel.MapMode#PRIVATE} require the file to already hold
+     * all cells; {@link FileChannel.MapMode#READ_WRITE} creates or grows it.
+     *
+     * @param file  The backing file.
+     * @param mode  The mapping mode.
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @throws IOException              if the file cannot be opened or mapped, or is too small.
+     * @throws IllegalArgumentException if any dimension is non-positive.
+     */
+    public MappedFloat3DArray(Path file, FileChannel.MapMode mode, int xSize, int ySize, int zSize) throws IOException {
+        if (xSize <= 0 || ySize <= 0 || zSize <= 0) {
+            throw new IllegalArgumentException("Dimensions must be positive.");
+        }
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.zSize = zSize;
+        this.totalSize = (long) xSize * ySize * zSize;
+        this.storage = new MappedStorage(file, mode, totalSize, Float.BYTES);
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y, z) coordinates with bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @return The float value at (x, y, z).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     * @throws IllegalStateException     if the array has been closed.
+     */
+    public float get(int x, int y, int z) {
+        checkBounds(x, y, z);
+        return storage.getFloat(((long) x * ySize * zSize) + ((long) y * zSize) + z);
+    }
+
+    /**
+     * Sets the element at the specified (x, y, z) coordinates with bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param value The float value to set.
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     * @throws IllegalStateException     if the array has been closed.
+     * @throws java.nio.ReadOnlyBufferException if the file was mapped read-only.
+     */
+    public void set(int x, int y, int z, float value) {
+        checkBounds(x, y, z);
+        storage.putFloat(((long) x * ySize * zSize) + ((long) y * zSize) + z, value);
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y, z) coordinates without bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @return The float value at (x, y, z).
+     */
+    public float getUnsafe(int x, int y, int z) {
+        return storage.getFloat(((long) x * ySize * zSize) + ((long) y * zSize) + z);
+    }
+
+    /**
+     * Sets the element at the specified (x, y, z) coordinates without bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param value The float value to set.
+     */
+    public void setUnsafe(int x, int y, int z, float value) {
+        storage.putFloat(((long) x * ySize * zSize) + ((long) y * zSize) + z, value);
+    }
+
+    /**
+     * Writes modified cells back to the file and waits until they reach the storage device.
+     *
+     * @throws IllegalStateException if the array has been closed.
+     */
+    public void force() {
+        storage.force();
+    }
+
+    /**
+     * Unmaps the file. The array must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        storage.close();
+    }
+
+    /**
+     * Returns whether {@link #close()} has been called.
+     *
+     * @return True if the file has been unmapped.
+     */
+    public boolean isClosed() {
+        return storage.isClosed();
+    }
+
+    /**
+     * Returns the backing file.
+     *
+     * @return The mapped file.
+     */
+    public Path getFile() {
+        return storage.getFile();
+    }
+
+    /**
+     * Returns the total number of cells.
+     *
+     * @return The product of all dimension sizes.
+     */
+    public long getTotalSize() {
+        return totalSize;
+    }
+
+    /**
+     * Returns the size of the X dimension.
+     *
+     * @return The size of X.
+     */
+    public int getXSize() {
+        return xSize;
+    }
+
+    /**
+     * Returns the size of the Y dimension.
+     *
+     * @return The size of Y.
+     */
+    public int getYSize() {
+        return ySize;
+    }
+
+    /**
+     * Returns the size of the Z dimension.
+     *
+     * @return The size of Z.
+     */
+    public int getZSize() {
+        return zSize;
+    }
+
+    @Override
+    public String toString() {
+        return "MappedFloat3DArray{" +
+                "file=" + storage.getFile() +
+                ", xSize=" + xSize +
+                ", ySize=" + ySize +
+                ", zSize=" + zSize +
+                '}';
+    }
+
+    /**
+     * Checks if the provided (x, y, z) coordinates are within bounds and the file is still mapped.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     * @throws IllegalStateException     if the array has been closed.
+     */
+    private void checkBounds(int x, int y, int z) {
+        storage.ensureOpen();
+        if (x < 0 || x >= xSize) {
+            throw new IndexOutOfBoundsException(
+                    "X-coordinate " + x + " out of bounds for dimension 0 (0 to " + (xSize - 1) + ")."
+            );
+        }
+        if (y < 0 || y >= ySize) {
+            throw new IndexOutOfBoundsException(
+                    "Y-coordinate " + y + " out of bounds for dimension 1 (0 to " + (ySize - 1) + ")."
+            );
+        }
+        if (z < 0 || z >= zSize) {
+            throw new IndexOutOfBoundsException(
+                    "Z-coordinate " + z + " out of bounds for dimension 2 (0 to " + (zSize - 1) + ")."
+            );
+        }
+    }
+}
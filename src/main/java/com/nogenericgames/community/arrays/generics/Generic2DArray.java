@@ -1,7 +1,13 @@
 package com.nogenericgames.community.arrays.generics;
 
+import com.nogenericgames.community.arrays.utils.ArrayCursor;
+import com.nogenericgames.community.arrays.utils.FlatArrayUtils;
+import com.nogenericgames.community.arrays.utils.ParallelArrays;
+import com.nogenericgames.community.arrays.utils.Permutations;
 import java.lang.reflect.Array;
 import java.util.Arrays;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
 
 /**
  * Represents a generic two-dimensional array.
@@ -22,7 +28,8 @@ public class Generic2DArray<T> {
      * @param type  The Class object of the generic type T.
      * @param xSize Size of the X dimension.
      * @param ySize Size of the Y dimension.
-     * @throws IllegalArgumentException if any dimension is non-positive.
+     * @throws IllegalArgumentException if any dimension is non-positive or the total size exceeds the maximum
+     *                                  array length.
      */
     public Generic2DArray(Class<T> type, int xSize, int ySize) {
         if (xSize <= 0 || ySize <= 0) {
@@ -31,12 +38,27 @@ public class Generic2DArray<T> {
         this.type = type;
         this.xSize = xSize;
         this.ySize = ySize;
-        this.totalSize = xSize * ySize;
+        this.totalSize = FlatArrayUtils.checkedSize(xSize, ySize);
         @SuppressWarnings("unchecked")
         T[] temp = (T[]) Array.newInstance(type, totalSize);
         this.data = temp;
     }
 
+    /**
+     * Constructs a 2D GenericArray over an existing backing array, which is shared rather than copied. The caller
+     * guarantees that the dimensions are positive and multiply to the array's length.
+     *
+     * @param type The Class object of the generic type T.
+     * @param data The backing array.
+     */
+    Generic2DArray(Class<T> type, T[] data, int xSize, int ySize) {
+        this.type = type;
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.totalSize = data.length;
+        this.data = data;
+    }
+
     /**
      * Retrieves the element at the specified (x, y) coordinates with bounds checking.
      *
@@ -94,6 +116,8 @@ public class Generic2DArray<T> {
 
     /**
      * Retrieves the underlying data array.
+     * <p>
+     * Use {@link #unwrapUnsafe()} to access the data without copying.
      *
      * @return A clone of the data array.
      */
@@ -101,6 +125,32 @@ public class Generic2DArray<T> {
         return data.clone();
     }
 
+    /**
+     * Returns the underlying data array itself, without copying.
+     * <p>
+     * The array is laid out in row-major order and writes to it are writes to this array. Unlike
+     * {@link #getData()}, this does not allocate, which makes it suitable for handing large arrays to renderers or
+     * serializers every frame.
+     *
+     * @return The backing data array.
+     */
+    public T[] unwrapUnsafe() {
+        return data;
+    }
+
+    /**
+     * Copies a range of cells, in row-major linear order, into a caller-supplied array.
+     *
+     * @param srcPos  The linear index of the first cell to copy.
+     * @param dest    The destination array.
+     * @param destPos The first index to write in the destination array.
+     * @param length  The number of cells to copy.
+     * @throws IndexOutOfBoundsException if either range is out of bounds.
+     */
+    public void copyInto(int srcPos, T[] dest, int destPos, int length) {
+        System.arraycopy(data, srcPos, dest, destPos, length);
+    }
+
     /**
      * Fills the array with the specified value.
      *
@@ -121,6 +171,293 @@ public class Generic2DArray<T> {
         return copy;
     }
 
+    /**
+     * Calls the consumer for every cell in row-major order, passing its coordinates and value.
+     * <p>
+     * The linear index advances by one per cell, so no index product is computed and no bounds are checked.
+     *
+     * @param consumer The consumer to call.
+     */
+    public void forEach(GenericCellConsumer2<? super T> consumer) {
+        int i = 0;
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                consumer.accept(x, y, data[i++]);
+            }
+        }
+    }
+
+    /**
+     * Replaces every cell, in row-major order, with the result of applying the operator to its coordinates and value.
+     *
+     * @param operator The operator computing each new value.
+     */
+    public void replaceAll(GenericCellOperator2<T> operator) {
+        int i = 0;
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                data[i] = operator.apply(x, y, data[i]);
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Returns a cursor that walks this array's cells in row-major order, carrying coordinates and the linear index.
+     * Use it with {@link #getLinear(int)} and {@link #setLinear(int, Object)}.
+     *
+     * @return A new cursor positioned before the first cell.
+     */
+    public ArrayCursor cursor() {
+        return new ArrayCursor(xSize, ySize);
+    }
+
+    /**
+     * Retrieves the element at the specified row-major linear index without bounds checking beyond the backing
+     * array's own.
+     *
+     * @param index The linear index, between 0 and the total size - 1.
+     * @return The value at the index.
+     */
+    public T getLinear(int index) {
+        return data[index];
+    }
+
+    /**
+     * Sets the element at the specified row-major linear index without bounds checking beyond the backing array's
+     * own.
+     *
+     * @param index The linear index, between 0 and the total size - 1.
+     * @param value The value to set.
+     */
+    public void setLinear(int index, T value) {
+        data[index] = value;
+    }
+
+    /**
+     * Fills the array with the specified value, splitting the work across the fork/join pool for large arrays.
+     *
+     * @param value The value to fill the array with.
+     * @see ParallelArrays
+     */
+    public void parallelFill(T value) {
+        ParallelArrays.forEachChunk(totalSize, 4, (chunk, from, to) -> Arrays.fill(data, from, to, value));
+    }
+
+    /**
+     * Replaces every element with the result of applying the operator to it, splitting the work across the
+     * fork/join pool for large arrays. The operator may be called concurrently and in any order.
+     *
+     * @param operator The operator computing each new value.
+     * @see ParallelArrays
+     */
+    public void parallelReplaceAll(UnaryOperator<T> operator) {
+        ParallelArrays.forEachChunk(totalSize, 4, (chunk, from, to) -> {
+            for (int i = from; i < to; i++) {
+                data[i] = operator.apply(data[i]);
+            }
+        });
+    }
+
+    /**
+     * Combines all elements with an associative operator, reducing chunks in parallel and then combining the
+     * per-chunk results in order.
+     *
+     * @param identity The identity of the operator, used as the starting value of every chunk.
+     * @param operator An associative operator.
+     * @return The combined value.
+     * @see ParallelArrays
+     */
+    public T parallelReduce(T identity, BinaryOperator<T> operator) {
+        Object[] partials = new Object[ParallelArrays.chunkCount(totalSize, 4)];
+        ParallelArrays.forEachChunk(totalSize, 4, (chunk, from, to) -> {
+            T result = identity;
+            for (int i = from; i < to; i++) {
+                result = operator.apply(result, data[i]);
+            }
+            partials[chunk] = result;
+        });
+        T result = identity;
+        for (Object partial : partials) {
+            @SuppressWarnings("unchecked")
+            T value = (T) partial;
+            result = operator.apply(result, value);
+        }
+        return result;
+    }
+
+    /**
+     * Copies this array's contents into another array of the same dimensions, splitting the work across the
+     * fork/join pool for large arrays.
+     *
+     * @param dest The destination array.
+     * @throws IllegalArgumentException if the dimensions differ.
+     * @see ParallelArrays
+     */
+    public void parallelCopyInto(Generic2DArray<T> dest) {
+        if (xSize != dest.xSize || ySize != dest.ySize) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+        ParallelArrays.forEachChunk(totalSize, 4,
+                (chunk, from, to) -> System.arraycopy(data, from, dest.data, from, to - from));
+    }
+
+    /**
+     * Returns the transpose of this array: a new ySize x xSize array whose element (y, x) is element (x, y) of this
+     * one.
+     *
+     * @return The transposed copy.
+     * @see Permutations
+     */
+    public Generic2DArray<T> transpose() {
+        Generic2DArray<T> result = new Generic2DArray<>(type, ySize, xSize);
+        Permutations.permute(data, new int[]{xSize, ySize}, new int[]{1, 0}, result.data);
+        return result;
+    }
+
+    /**
+     * Returns the transpose of this array like {@link #transpose()}, splitting the work across the fork/join pool
+     * for large arrays.
+     *
+     * @return The transposed copy.
+     * @see Permutations
+     */
+    public Generic2DArray<T> parallelTranspose() {
+        Generic2DArray<T> result = new Generic2DArray<>(type, ySize, xSize);
+        Permutations.parallelPermute(data, new int[]{xSize, ySize}, new int[]{1, 0}, result.data);
+        return result;
+    }
+
+    /**
+     * Writes the transpose of this array into a ySize x xSize destination.
+     *
+     * @param dest The destination array, not this array.
+     * @throws IllegalArgumentException if the destination is not ySize x xSize or is this array.
+     */
+    public void transposeInto(Generic2DArray<T> dest) {
+        checkTransposed(dest);
+        Permutations.permute(data, new int[]{xSize, ySize}, new int[]{1, 0}, dest.data);
+    }
+
+    /**
+     * Writes the transpose of this array into a ySize x xSize destination, splitting the work across the fork/join
+     * pool for large arrays.
+     *
+     * @param dest The destination array, not this array.
+     * @throws IllegalArgumentException if the destination is not ySize x xSize or is this array.
+     */
+    public void parallelTransposeInto(Generic2DArray<T> dest) {
+        checkTransposed(dest);
+        Permutations.parallelPermute(data, new int[]{xSize, ySize}, new int[]{1, 0}, dest.data);
+    }
+
+    /**
+     * Transposes this square array in place by swapping tiles across the diagonal.
+     *
+     * @throws IllegalStateException if the array is not square.
+     */
+    public void transposeInPlace() {
+        checkSquare();
+        Permutations.transposeInPlace(data, xSize);
+    }
+
+    /**
+     * Transposes this square array in place like {@link #transposeInPlace()}, splitting the work across the
+     * fork/join pool for large arrays.
+     *
+     * @throws IllegalStateException if the array is not square.
+     */
+    public void parallelTransposeInPlace() {
+        checkSquare();
+        Permutations.parallelTransposeInPlace(data, xSize);
+    }
+
+    /**
+     * Returns a 2D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     * It can also give this array different dimensions of the same rank.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @return A Generic2DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     */
+    public Generic2DArray<T> reshape(int xSize, int ySize) {
+        checkReshape(xSize, ySize);
+        return new Generic2DArray<>(type, data, xSize, ySize);
+    }
+
+    /**
+     * Returns a 3D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @return A Generic3DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     */
+    public Generic3DArray<T> reshape(int xSize, int ySize, int zSize) {
+        checkReshape(xSize, ySize, zSize);
+        return new Generic3DArray<>(type, data, xSize, ySize, zSize);
+    }
+
+    /**
+     * Returns a 4D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @param wSize Size of the W dimension.
+     * @return A Generic4DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     */
+    public Generic4DArray<T> reshape(int xSize, int ySize, int zSize, int wSize) {
+        checkReshape(xSize, ySize, zSize, wSize);
+        return new Generic4DArray<>(type, data, xSize, ySize, zSize, wSize);
+    }
+
+    /**
+     * Returns a 5D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @param wSize Size of the W dimension.
+     * @param uSize Size of the U dimension.
+     * @return A Generic5DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     */
+    public Generic5DArray<T> reshape(int xSize, int ySize, int zSize, int wSize, int uSize) {
+        checkReshape(xSize, ySize, zSize, wSize, uSize);
+        return new Generic5DArray<>(type, data, xSize, ySize, zSize, wSize, uSize);
+    }
+
+    /**
+     * Returns a 6D view of this array's elements, which keep their row-major order. The view shares this array's
+     * backing array, so nothing is copied and writes through either array are visible in both.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @param wSize Size of the W dimension.
+     * @param uSize Size of the U dimension.
+     * @param vSize Size of the V dimension.
+     * @return A Generic6DArray over the same data.
+     * @throws IllegalArgumentException if any dimension is non-positive or the dimensions do not multiply to this
+     *                                  array's total size.
+     */
+    public Generic6DArray<T> reshape(int xSize, int ySize, int zSize, int wSize, int uSize, int vSize) {
+        checkReshape(xSize, ySize, zSize, wSize, uSize, vSize);
+        return new Generic6DArray<>(type, data, xSize, ySize, zSize, wSize, uSize, vSize);
+    }
+
     /**
      * Returns the size of the X dimension.
      *
@@ -174,6 +511,29 @@ public class Generic2DArray<T> {
         return result;
     }
 
+    private void checkTransposed(Generic2DArray<T> dest) {
+        if (dest.xSize != ySize || dest.ySize != xSize) {
+            throw new IllegalArgumentException("Dimensions must match the transpose.");
+        }
+    }
+
+    private void checkSquare() {
+        if (xSize != ySize) {
+            throw new IllegalStateException("Array must be square to transpose in place.");
+        }
+    }
+
+    private void checkReshape(int... dimensions) {
+        for (int dimension : dimensions) {
+            if (dimension <= 0) {
+                throw new IllegalArgumentException("Dimensions must be positive.");
+            }
+        }
+        if (FlatArrayUtils.checkedSize(dimensions) != totalSize) {
+            throw new IllegalArgumentException("Reshaped dimensions must hold " + totalSize + " elements.");
+        }
+    }
+
     /**
      * Checks if the provided (x, y) coordinates are within bounds.
      *
@@ -0,0 +1,19 @@
+package com.nogenericgames.community.arrays.generics;
+
+/**
+ * Receives the cells of a two-dimensional generic array together with their coordinates.
+ *
+ * @param <T> The element type.
+ */
+@FunctionalInterface
+public interface GenericCellConsumer2<T> {
+
+    /**
+     * Accepts one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param value The value at (x, y).
+     */
+    void accept(int x, int y, T value);
+}
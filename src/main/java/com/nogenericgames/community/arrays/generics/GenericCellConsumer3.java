@@ -0,0 +1,20 @@
+package com.nogenericgames.community.arrays.generics;
+
+/**
+ * Receives the cells of a three-dimensional generic array together with their coordinates.
+ *
+ * @param <T> The element type.
+ */
+@FunctionalInterface
+public interface GenericCellConsumer3<T> {
+
+    /**
+     * Accepts one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param value The value at (x, y, z).
+     */
+    void accept(int x, int y, int z, T value);
+}
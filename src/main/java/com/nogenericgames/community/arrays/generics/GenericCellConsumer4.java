@@ -0,0 +1,21 @@
+package com.nogenericgames.community.arrays.generics;
+
+/**
+ * Receives the cells of a four-dimensional generic array together with their coordinates.
+ *
+ * @param <T> The element type.
+ */
+@FunctionalInterface
+public interface GenericCellConsumer4<T> {
+
+    /**
+     * Accepts one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param w     The W-coordinate (dimension 3).
+     * @param value The value at (x, y, z, w).
+     */
+    void accept(int x, int y, int z, int w, T value);
+}
@@ -0,0 +1,20 @@
+package com.nogenericgames.community.arrays.generics;
+
+/**
+ * Computes a new value for a cell of a two-dimensional generic array from its coordinates and current value.
+ *
+ * @param <T> The element type.
+ */
+@FunctionalInterface
+public interface GenericCellOperator2<T> {
+
+    /**
+     * Computes the new value of one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param value The current value at (x, y).
+     * @return The new value of the cell.
+     */
+    T apply(int x, int y, T value);
+}
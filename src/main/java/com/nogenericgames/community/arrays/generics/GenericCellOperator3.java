@@ -0,0 +1,21 @@
+package com.nogenericgames.community.arrays.generics;
+
+/**
+ * Computes a new value for a cell of a three-dimensional generic array from its coordinates and current value.
+ *
+ * @param <T> The element type.
+ */
+@FunctionalInterface
+public interface GenericCellOperator3<T> {
+
+    /**
+     * Computes the new value of one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param value The current value at (x, y, z).
+     * @return The new value of the cell.
+     */
+    T apply(int x, int y, int z, T value);
+}
@@ -0,0 +1,475 @@
+package com.nogenericgames.community.arrays.ints;
+
+import com.nogenericgames.community.arrays.utils.FlatArrayUtils;
+import java.util.Arrays;
+
+/**
+ * Represents a sparse three-dimensional array of integers split into cubic chunks that are allocated on demand.
+ * <p>
+ * Space is divided into chunks of 16^3 (or 32^3) cells. A chunk that has never received a value different from its
+ * uniform value costs no cell storage: it is represented by that single value. The first write of a different value
+ * allocates the chunk, and once every cell of an allocated chunk is back at the chunk's uniform value the storage is
+ * dropped again. {@link #compact()} additionally collapses chunks that became uniform at some other value.
+ * <p>
+ * The coordinate API matches {@link Int3DArray}. Inside a chunk, cells are stored in row-major order.
+ */
+public class ChunkedInt3DArray {
+
+    /**
+     * Visits the allocated chunks of a {@link ChunkedInt3DArray}.
+     */
+    @FunctionalInterface
+    public interface ChunkConsumer {
+
+        /**
+         * Accepts one allocated chunk.
+         *
+         * @param chunkX The X-coordinate of the chunk (cell X divided by the chunk size).
+         * @param chunkY The Y-coordinate of the chunk.
+         * @param chunkZ The Z-coordinate of the chunk.
+         * @param cells  The chunk's cells in row-major order, edge length {@link #getChunkSize()}; shared, not copied.
+         */
+        void accept(int chunkX, int chunkY, int chunkZ, int[] cells);
+    }
+
+    private final int xSize;
+    private final int ySize;
+    private final int zSize;
+    private final int chunkShift;
+    private final int chunkMask;
+    private final int xChunks;
+    private final int yChunks;
+    private final int zChunks;
+
+    /**
+     * Allocated chunks, or null where the chunk is uniform.
+     */
+    private final int[][] chunks;
+
+    /**
+     * The value every cell of an unallocated chunk has, and the value an allocated chunk was filled with.
+     */
+    private final int[] uniform;
+
+    /**
+     * Number of cells in each allocated chunk that differ from the chunk's uniform value.
+     */
+    private final int[] divergent;
+
+    private int allocatedChunks;
+
+    /**
+     * Constructs a chunked 3D IntArray with 16^3 chunks.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @throws IllegalArgumentException if any dimension is non-positive.
+     */
+    public ChunkedInt3DArray(int xSize, int ySize, int zSize) {
+        this(xSize, ySize, zSize, 4);
+    }
+
+    /**
+     * Constructs a chunked 3D IntArray with chunks of edge length {@code 1 << chunkShift}.
+     *
+     * @param xSize      Size of the X dimension.
+     * @param ySize      Size of the Y dimension.
+     * @param zSize      Size of the Z dimension.
+     * @param chunkShift Log2 of the chunk edge length: 4 for 16^3 chunks, 5 for 32^3 chunks.
+     * @throws IllegalArgumentException if any dimension is non-positive or the chunk shift is not 4 or 5.
+     */
+    public ChunkedInt3DArray(int xSize, int ySize, int zSize, int chunkShift) {
+        if (xSize <= 0 || ySize <= 0 || zSize <= 0) {
+            throw new IllegalArgumentException("Dimensions must be positive.");
+        }
+        if (chunkShift != 4 && chunkShift != 5) {
+            throw new IllegalArgumentException("Chunk shift must be 4 (16^3 chunks) or 5 (32^3 chunks).");
+        }
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.zSize = zSize;
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+        this.xChunks = (xSize + chunkMask) >> chunkShift;
+        this.yChunks = (ySize + chunkMask) >> chunkShift;
+        this.zChunks = (zSize + chunkMask) >> chunkShift;
+        int chunkCount = FlatArrayUtils.checkedSize(xChunks, yChunks, zChunks);
+        this.chunks = new int[chunkCount][];
+        this.uniform = new int[chunkCount];
+        this.divergent = new int[chunkCount];
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y, z) coordinates with bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @return The integer value at (x, y, z).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public int get(int x, int y, int z) {
+        checkBounds(x, y, z);
+        return getUnsafe(x, y, z);
+    }
+
+    /**
+     * Sets the element at the specified (x, y, z) coordinates with bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param value The integer value to set.
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public void set(int x, int y, int z, int value) {
+        checkBounds(x, y, z);
+        setUnsafe(x, y, z, value);
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y, z) coordinates without bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @return The integer value at (x, y, z).
+     */
+    public int getUnsafe(int x, int y, int z) {
+        int chunk = chunkIndex(x, y, z);
+        int[] cells = chunks[chunk];
+        if (cells == null) {
+            return uniform[chunk];
+        }
+        return cells[cellIndex(x, y, z)];
+    }
+
+    /**
+     * Sets the element at the specified (x, y, z) coordinates without bounds checking.
+     * <p>
+     * Writing a chunk's uniform value into an unallocated chunk is free; writing any other value allocates it. When the
+     * last divergent cell of a chunk is reset to the uniform value, the chunk's storage is released.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param value The integer value to set.
+     */
+    public void setUnsafe(int x, int y, int z, int value) {
+        int chunk = chunkIndex(x, y, z);
+        int[] cells = chunks[chunk];
+        int base = uniform[chunk];
+        if (cells == null) {
+            if (value == base) {
+                return;
+            }
+            cells = new int[1 << (3 * chunkShift)];
+            if (base != 0) {
+                Arrays.fill(cells, base);
+            }
+            chunks[chunk] = cells;
+            allocatedChunks++;
+        }
+        int cell = cellIndex(x, y, z);
+        int old = cells[cell];
+        if (old == value) {
+            return;
+        }
+        cells[cell] = value;
+        if (old == base) {
+            divergent[chunk]++;
+        } else if (value == base && --divergent[chunk] == 0) {
+            chunks[chunk] = null;
+            allocatedChunks--;
+        }
+    }
+
+    /**
+     * Clears the array by setting all elements to 0 and releasing every chunk.
+     */
+    public void clear() {
+        fill(0);
+    }
+
+    /**
+     * Fills the array with the specified integer value. Releases every chunk, so this costs no cell storage.
+     *
+     * @param value The integer value to fill the array with.
+     */
+    public void fill(int value) {
+        Arrays.fill(chunks, null);
+        Arrays.fill(uniform, value);
+        Arrays.fill(divergent, 0);
+        allocatedChunks = 0;
+    }
+
+    /**
+     * Releases every allocated chunk whose cells all hold the same value, whichever value that is.
+     * <p>
+     * Chunks that return to the value they were allocated from are released automatically by {@link #setUnsafe};
+     * this pass also catches chunks that were overwritten with a different uniform value. Only cells inside the array
+     * count, so the padding of edge chunks does not keep them allocated.
+     *
+     * @return The number of chunks released.
+     */
+    public int compact() {
+        int released = 0;
+        int edge = 1 << chunkShift;
+        int chunk = 0;
+        for (int cx = 0; cx < xChunks; cx++) {
+            int xExtent = Math.min(edge, xSize - (cx << chunkShift));
+            for (int cy = 0; cy < yChunks; cy++) {
+                int yExtent = Math.min(edge, ySize - (cy << chunkShift));
+                for (int cz = 0; cz < zChunks; cz++, chunk++) {
+                    int[] cells = chunks[chunk];
+                    if (cells == null) {
+                        continue;
+                    }
+                    int zExtent = Math.min(edge, zSize - (cz << chunkShift));
+                    // Edge chunks are only partly inside the array; their padding keeps the allocation value and
+                    // must not count.
+                    int first = cells[0];
+                    boolean same = true;
+                    for (int x = 0; x < xExtent && same; x++) {
+                        for (int y = 0; y < yExtent && same; y++) {
+                            int row = (x << (2 * chunkShift)) + (y << chunkShift);
+                            for (int z = 0; z < zExtent && same; z++) {
+                                same = cells[row + z] == first;
+                            }
+                        }
+                    }
+                    if (same) {
+                        chunks[chunk] = null;
+                        uniform[chunk] = first;
+                        divergent[chunk] = 0;
+                        allocatedChunks--;
+                        released++;
+                    }
+                }
+            }
+        }
+        return released;
+    }
+
+    /**
+     * Calls the consumer for every allocated chunk, in chunk row-major order. Uniform chunks are skipped, so the cost
+     * is proportional to the content rather than the volume.
+     * <p>
+     * Cells of a chunk that lie beyond the array bounds (at the upper edges) hold the chunk's uniform value and
+     * must be ignored. The consumer must not set cells of this array.
+     *
+     * @param consumer The consumer to call.
+     */
+    public void forEachAllocatedChunk(ChunkConsumer consumer) {
+        int chunk = 0;
+        for (int cx = 0; cx < xChunks; cx++) {
+            for (int cy = 0; cy < yChunks; cy++) {
+                for (int cz = 0; cz < zChunks; cz++, chunk++) {
+                    int[] cells = chunks[chunk];
+                    if (cells != null) {
+                        consumer.accept(cx, cy, cz, cells);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the uniform value of a chunk, which every cell of the chunk holds if it is not allocated.
+     *
+     * @param chunkX The X-coordinate of the chunk.
+     * @param chunkY The Y-coordinate of the chunk.
+     * @param chunkZ The Z-coordinate of the chunk.
+     * @return The chunk's uniform value.
+     */
+    public int getChunkUniformValue(int chunkX, int chunkY, int chunkZ) {
+        return uniform[(chunkX * yChunks * zChunks) + (chunkY * zChunks) + chunkZ];
+    }
+
+    /**
+     * Returns whether a chunk currently has cell storage.
+     *
+     * @param chunkX The X-coordinate of the chunk.
+     * @param chunkY The Y-coordinate of the chunk.
+     * @param chunkZ The Z-coordinate of the chunk.
+     * @return True if the chunk is allocated.
+     */
+    public boolean isChunkAllocated(int chunkX, int chunkY, int chunkZ) {
+        return chunks[(chunkX * yChunks * zChunks) + (chunkY * zChunks) + chunkZ] != null;
+    }
+
+    /**
+     * Returns the number of chunks that currently have cell storage.
+     *
+     * @return The allocated chunk count.
+     */
+    public int getAllocatedChunkCount() {
+        return allocatedChunks;
+    }
+
+    /**
+     * Returns the edge length of a chunk.
+     *
+     * @return The number of cells along each axis of a chunk.
+     */
+    public int getChunkSize() {
+        return 1 << chunkShift;
+    }
+
+    /**
+     * Creates a dense copy of this array.
+     *
+     * @return A new Int3DArray with the same contents.
+     */
+    public Int3DArray toInt3DArray() {
+        Int3DArray dense = new Int3DArray(xSize, ySize, zSize);
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                for (int z = 0; z < zSize; z++) {
+                    dense.setUnsafe(x, y, z, getUnsafe(x, y, z));
+                }
+            }
+        }
+        return dense;
+    }
+
+    /**
+     * Creates a copy of this ChunkedInt3DArray. Only allocated chunks are copied.
+     *
+     * @return A new ChunkedInt3DArray instance with copied data.
+     */
+    public ChunkedInt3DArray copy() {
+        ChunkedInt3DArray copy = new ChunkedInt3DArray(xSize, ySize, zSize, chunkShift);
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            if (chunks[chunk] != null) {
+                copy.chunks[chunk] = chunks[chunk].clone();
+            }
+        }
+        System.arraycopy(uniform, 0, copy.uniform, 0, uniform.length);
+        System.arraycopy(divergent, 0, copy.divergent, 0, divergent.length);
+        copy.allocatedChunks = allocatedChunks;
+        return copy;
+    }
+
+    /**
+     * Returns the size of the X dimension.
+     *
+     * @return The size of X.
+     */
+    public int getXSize() {
+        return xSize;
+    }
+
+    /**
+     * Returns the size of the Y dimension.
+     *
+     * @return The size of Y.
+     */
+    public int getYSize() {
+        return ySize;
+    }
+
+    /**
+     * Returns the size of the Z dimension.
+     *
+     * @return The size of Z.
+     */
+    public int getZSize() {
+        return zSize;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("ChunkedInt3DArray{\n");
+        for (int x = 0; x < xSize; x++) {
+            sb.append("  Layer ").append(x).append(":\n");
+            for (int y = 0; y < ySize; y++) {
+                sb.append("    [");
+                for (int z = 0; z < zSize; z++) {
+                    sb.append(getUnsafe(x, y, z));
+                    if (z < zSize - 1) sb.append(", ");
+                }
+                sb.append("]\n");
+            }
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+     * Compares cell values, independent of which chunks happen to be allocated.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ChunkedInt3DArray that = (ChunkedInt3DArray) o;
+
+        if (xSize != that.xSize) return false;
+        if (ySize != that.ySize) return false;
+        if (zSize != that.zSize) return false;
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                for (int z = 0; z < zSize; z++) {
+                    if (getUnsafe(x, y, z) != that.getUnsafe(x, y, z)) return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hashes cell values in row-major order, so the result matches {@link Int3DArray#hashCode()} for the same contents.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                for (int z = 0; z < zSize; z++) {
+                    result = 31 * result + getUnsafe(x, y, z);
+                }
+            }
+        }
+        result = 31 * result + xSize;
+        result = 31 * result + ySize;
+        result = 31 * result + zSize;
+        return result;
+    }
+
+    private int chunkIndex(int x, int y, int z) {
+        return ((x >> chunkShift) * yChunks * zChunks) + ((y >> chunkShift) * zChunks) + (z >> chunkShift);
+    }
+
+    private int cellIndex(int x, int y, int z) {
+        return ((x & chunkMask) << (2 * chunkShift)) + ((y & chunkMask) << chunkShift) + (z & chunkMask);
+    }
+
+    /**
+     * Checks if the provided (x, y, z) coordinates are within bounds.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    private void checkBounds(int x, int y, int z) {
+        if (x < 0 || x >= xSize) {
+            throw new IndexOutOfBoundsException(
+                    "X-coordinate " + x + " out of bounds for dimension 0 (0 to " + (xSize - 1) + ")."
+            );
+        }
+        if (y < 0 || y >= ySize) {
+            throw new IndexOutOfBoundsException(
+                    "Y-coordinate " + y + " out of bounds for dimension 1 (0 to " + (ySize - 1) + ")."
+            );
+        }
+        if (z < 0 || z >= zSize) {
+            throw new IndexOutOfBoundsException(
+                    "Z-coordinate " + z + " out of bounds for dimension 2 (0 to " + (zSize - 1) + ")."
+            );
+        }
+    }
+}
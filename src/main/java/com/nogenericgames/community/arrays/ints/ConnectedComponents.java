@@ -0,0 +1,333 @@
+package com.nogenericgames.community.arrays.ints;
+
+import com.nogenericgames.community.arrays.bytes.Byte3DArray;
+import com.nogenericgames.community.arrays.utils.ParallelArrays;
+
+/**
+ * Two-pass union-find connected-component labelling over {@link Int2DArray} and {@link Byte3DArray} grids.
+ * <p>
+ * Neighbouring cells with the same value belong to the same component; cells holding the background value belong to
+ * none and are labelled 0. Components are labelled 1 to n in the row-major order of their first cell, so the serial and
+ * parallel variants produce identical label grids.
+ * <p>
+ * The first pass gives every cell a provisional label, joining it with the already visited neighbours through a
+ * union-find forest that always keeps the smaller label as the root. The second pass replaces provisional labels with
+ * the final ones. The parallel variants run the first pass on independent slabs of the outermost dimension, merge the
+ * slabs by joining the cells on each side of every slab boundary, and run the second pass in parallel. The forest is
+ * indexed by provisional label and takes one extra int per cell.
+ * <p>
+ * Connectivity is 4 or 8 in 2D and 6 or 26 in 3D.
+ */
+public final class ConnectedComponents {
+
+    private ConnectedComponents() {
+    }
+
+    /**
+     * Labels the connected components of a grid.
+     *
+     * @param grid         The grid whose values define the components.
+     * @param background   The value of cells that belong to no component.
+     * @param labels       The label grid written to, with the same dimensions as grid.
+     * @param connectivity 4 or 8.
+     * @return The number of components.
+     * @throws IllegalArgumentException if the dimensions do not match or the connectivity is invalid.
+     */
+    public static int label(Int2DArray grid, int background, Int2DArray labels, int connectivity) {
+        return label2D(grid, background, labels, connectivity, false);
+    }
+
+    /**
+     * Labels the connected components of a grid like {@link #label(Int2DArray, int, Int2DArray, int)}, processing
+     * slabs of rows in parallel.
+     *
+     * @param grid         The grid whose values define the components.
+     * @param background   The value of cells that belong to no component.
+     * @param labels       The label grid written to, with the same dimensions as grid.
+     * @param connectivity 4 or 8.
+     * @return The number of components.
+     * @throws IllegalArgumentException if the dimensions do not match or the connectivity is invalid.
+     */
+    public static int parallelLabel(Int2DArray grid, int background, Int2DArray labels, int connectivity) {
+        return label2D(grid, background, labels, connectivity, true);
+    }
+
+    /**
+     * Labels the connected components of a grid.
+     *
+     * @param grid         The grid whose values define the components.
+     * @param background   The value of cells that belong to no component.
+     * @param labels       The label grid written to, with the same dimensions as grid.
+     * @param connectivity 6 or 26.
+     * @return The number of components.
+     * @throws IllegalArgumentException if the dimensions do not match or the connectivity is invalid.
+     */
+    public static int label(Byte3DArray grid, byte background, Int3DArray labels, int connectivity) {
+        return label3D(grid, background, labels, connectivity, false);
+    }
+
+    /**
+     * Labels the connected components of a grid like {@link #label(Byte3DArray, byte, Int3DArray, int)}, processing
+     * slabs of X planes in parallel.
+     *
+     * @param grid         The grid whose values define the components.
+     * @param background   The value of cells that belong to no component.
+     * @param labels       The label grid written to, with the same dimensions as grid.
+     * @param connectivity 6 or 26.
+     * @return The number of components.
+     * @throws IllegalArgumentException if the dimensions do not match or the connectivity is invalid.
+     */
+    public static int parallelLabel(Byte3DArray grid, byte background, Int3DArray labels, int connectivity) {
+        return label3D(grid, background, labels, connectivity, true);
+    }
+
+    private static int label2D(Int2DArray grid, int background, Int2DArray labels, int connectivity,
+                               boolean parallel) {
+        boolean full = FloodFill.checkConnectivity(connectivity, 4, 8);
+        if (grid.getXSize() != labels.getXSize() || grid.getYSize() != labels.getYSize()) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+        return new Labeller(grid.unwrapUnsafe(), null, grid.getOffset(), background, labels.unwrapUnsafe(),
+                labels.getOffset(), 1, grid.getXSize(), grid.getYSize(), full).run(parallel);
+    }
+
+    private static int label3D(Byte3DArray grid, byte background, Int3DArray labels, int connectivity,
+                               boolean parallel) {
+        boolean full = FloodFill.checkConnectivity(connectivity, 6, 26);
+        if (grid.getXSize() != labels.getXSize() || grid.getYSize() != labels.getYSize()
+                || grid.getZSize() != labels.getZSize()) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+        return new Labeller(null, grid.unwrapUnsafe(), grid.getOffset(), background, labels.unwrapUnsafe(),
+                labels.getOffset(), grid.getXSize(), grid.getYSize(), grid.getZSize(), full).run(parallel);
+    }
+
+    /**
+     * Labels a row-major {@code xSize * ySize * zSize} grid whose values come from exactly one of ints and bytes,
+     * starting at gridPos, into labels starting at labelsPos. 2D grids are passed with xSize = 1, and slabs are then
+     * taken along Y.
+     */
+    private static final class Labeller {
+
+        private final int[] ints;
+        private final byte[] bytes;
+        private final int gridPos;
+        private final int background;
+        private final int[] labels;
+        private final int labelsPos;
+        private final int cells;
+        private final int xSize;
+        private final int ySize;
+        private final int zSize;
+        private final int slabCount;
+        private final int slabStride;
+        private final int[] dx;
+        private final int[] dy;
+        private final int[] dz;
+        private final int[] offsets;
+        private final int[] parent;
+
+        Labeller(int[] ints, byte[] bytes, int gridPos, int background, int[] labels, int labelsPos, int xSize,
+                 int ySize, int zSize, boolean full) {
+            this.ints = ints;
+            this.bytes = bytes;
+            this.gridPos = gridPos;
+            this.background = background;
+            this.labels = labels;
+            this.labelsPos = labelsPos;
+            this.cells = xSize * ySize * zSize;
+            this.xSize = xSize;
+            this.ySize = ySize;
+            this.zSize = zSize;
+            this.slabCount = xSize == 1 ? ySize : xSize;
+            this.slabStride = xSize == 1 ? zSize : ySize * zSize;
+            int count = 0;
+            int[] ox = new int[13];
+            int[] oy = new int[13];
+            int[] oz = new int[13];
+            for (int i = -1; i <= 1; i++) {
+                for (int j = -1; j <= 1; j++) {
+                    for (int k = -1; k <= 1; k++) {
+                        boolean backward = i < 0 || (i == 0 && (j < 0 || (j == 0 && k < 0)));
+                        int distance = Math.abs(i) + Math.abs(j) + Math.abs(k);
+                        if (backward && (xSize > 1 || i == 0) && (full || distance == 1)) {
+                            ox[count] = i;
+                            oy[count] = j;
+                            oz[count] = k;
+                            count++;
+                        }
+                    }
+                }
+            }
+            this.dx = new int[count];
+            this.dy = new int[count];
+            this.dz = new int[count];
+            this.offsets = new int[count];
+            for (int n = 0; n < count; n++) {
+                dx[n] = ox[n];
+                dy[n] = oy[n];
+                dz[n] = oz[n];
+                offsets[n] = (ox[n] * ySize + oy[n]) * zSize + oz[n];
+            }
+            this.parent = new int[cells + 1];
+        }
+
+        int run(boolean parallel) {
+            int slabBytes = (int) Math.min(8L * slabStride, Integer.MAX_VALUE);
+            int chunks = parallel ? ParallelArrays.chunkCount(slabCount, slabBytes) : 1;
+            int[] starts = new int[chunks];
+            int[] ends = new int[chunks];
+            int[] used = new int[chunks];
+            if (parallel) {
+                ParallelArrays.forEachChunk(slabCount, slabBytes, (chunk, from, to) -> {
+                    starts[chunk] = from;
+                    ends[chunk] = to;
+                    used[chunk] = firstPass(from, to);
+                });
+            } else {
+                starts[0] = 0;
+                ends[0] = slabCount;
+                used[0] = firstPass(0, slabCount);
+            }
+            for (int chunk = 1; chunk < chunks; chunk++) {
+                mergeBoundary(starts[chunk]);
+            }
+            int components = 0;
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int first = starts[chunk] * slabStride + 1;
+                for (int label = first, end = first + used[chunk]; label < end; label++) {
+                    int root = parent[label];
+                    if (root == label) {
+                        parent[label] = -(++components);
+                    } else {
+                        parent[label] = parent[root];
+                    }
+                }
+            }
+            ParallelArrays.ChunkAction relabel = (chunk, from, to) -> {
+                for (int i = labelsPos + from; i < labelsPos + to; i++) {
+                    int label = labels[i];
+                    if (label != 0) {
+                        labels[i] = -parent[label];
+                    }
+                }
+            };
+            if (parallel) {
+                ParallelArrays.forEachChunk(cells, 4, relabel);
+            } else {
+                relabel.run(0, 0, cells);
+            }
+            return components;
+        }
+
+        /**
+         * Labels the cells of slabs [from, to), ignoring neighbours before slab from, and returns how many provisional
+         * labels were used. Labels start at the index of the first cell of the range plus one.
+         */
+        private int firstPass(int fromSlab, int toSlab) {
+            int next = fromSlab * slabStride + 1;
+            int first = next;
+            int lowX = xSize == 1 ? 0 : fromSlab;
+            int lowY = xSize == 1 ? fromSlab : 0;
+            int x = xSize == 1 ? 0 : fromSlab;
+            int y = xSize == 1 ? fromSlab : 0;
+            int z = 0;
+            for (int i = fromSlab * slabStride, end = toSlab * slabStride; i < end; i++) {
+                int value = value(i);
+                if (value == background) {
+                    labels[labelsPos + i] = 0;
+                } else {
+                    int label = 0;
+                    for (int n = 0; n < offsets.length; n++) {
+                        int nx = x + dx[n];
+                        int ny = y + dy[n];
+                        int nz = z + dz[n];
+                        if (nx < lowX || ny < lowY || ny >= ySize || nz < 0 || nz >= zSize) {
+                            continue;
+                        }
+                        int neighbour = i + offsets[n];
+                        if (value(neighbour) != value) {
+                            continue;
+                        }
+                        int neighbourLabel = labels[labelsPos + neighbour];
+                        if (label == 0) {
+                            label = neighbourLabel;
+                        } else if (neighbourLabel != label) {
+                            union(label, neighbourLabel);
+                        }
+                    }
+                    if (label == 0) {
+                        label = next++;
+                        parent[label] = label;
+                    }
+                    labels[labelsPos + i] = label;
+                }
+                if (++z == zSize) {
+                    z = 0;
+                    if (++y == ySize) {
+                        y = 0;
+                        x++;
+                    }
+                }
+            }
+            return next - first;
+        }
+
+        /**
+         * Joins the cells of the given slab with their neighbours in the slab before it.
+         */
+        private void mergeBoundary(int slab) {
+            int x = xSize == 1 ? 0 : slab;
+            int y = xSize == 1 ? slab : 0;
+            int z = 0;
+            for (int i = slab * slabStride, end = i + slabStride; i < end; i++) {
+                int label = labels[labelsPos + i];
+                if (label != 0) {
+                    int value = value(i);
+                    for (int n = 0; n < offsets.length; n++) {
+                        int nx = x + dx[n];
+                        int ny = y + dy[n];
+                        int nz = z + dz[n];
+                        boolean previousSlab = xSize == 1 ? ny == slab - 1 : nx == slab - 1;
+                        if (!previousSlab || ny < 0 || ny >= ySize || nz < 0 || nz >= zSize) {
+                            continue;
+                        }
+                        int neighbour = i + offsets[n];
+                        if (value(neighbour) == value) {
+                            union(label, labels[labelsPos + neighbour]);
+                        }
+                    }
+                }
+                if (++z == zSize) {
+                    z = 0;
+                    if (++y == ySize) {
+                        y = 0;
+                        x++;
+                    }
+                }
+            }
+        }
+
+        private int value(int index) {
+            return ints != null ? ints[gridPos + index] : bytes[gridPos + index];
+        }
+
+        private int find(int label) {
+            while (parent[label] != label) {
+                parent[label] = parent[parent[label]];
+                label = parent[label];
+            }
+            return label;
+        }
+
+        private void union(int a, int b) {
+            int rootA = find(a);
+            int rootB = find(b);
+            if (rootA < rootB) {
+                parent[rootB] = rootA;
+            } else if (rootB < rootA) {
+                parent[rootA] = rootB;
+            }
+        }
+    }
+}
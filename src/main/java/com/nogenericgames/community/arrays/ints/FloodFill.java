@@ -0,0 +1,179 @@
+package com.nogenericgames.community.arrays.ints;
+
+import com.nogenericgames.community.arrays.bytes.Byte3DArray;
+
+/**
+ * Scanline flood fill over {@link Int2DArray} and {@link Byte3DArray} grids.
+ * <p>
+ * A region is the set of cells connected to the seed that hold the same value as the seed. It is filled one span at a
+ * time along the last (contiguous) dimension; each filled span pushes one seed per run of matching cells in the
+ * neighbouring rows onto a growable {@code int[]} stack, so the fill never recurses and allocates no boxed
+ * coordinates.
+ * <p>
+ * Connectivity is 4 or 8 in 2D and 6 or 26 in 3D. The diagonal variants extend the scanned part of each neighbouring
+ * row by one cell on both sides and, in 3D, also scan the four diagonal rows.
+ */
+public final class FloodFill {
+
+    private FloodFill() {
+    }
+
+    /**
+     * Writes a label into every cell of the region containing the seed.
+     *
+     * @param grid         The grid whose values define the regions.
+     * @param x            The X-coordinate of the seed.
+     * @param y            The Y-coordinate of the seed.
+     * @param labels       The label grid written to, with the same dimensions as grid. Cells already holding the label
+     *                     are treated as visited and stop the fill. May be grid itself.
+     * @param label        The label to write.
+     * @param connectivity 4 or 8.
+     * @return The number of cells labelled.
+     * @throws IllegalArgumentException  if the dimensions do not match or the connectivity is invalid.
+     * @throws IndexOutOfBoundsException if the seed is out of bounds.
+     */
+    public static int fill(Int2DArray grid, int x, int y, Int2DArray labels, int label, int connectivity) {
+        boolean full = checkConnectivity(connectivity, 4, 8);
+        if (grid.getXSize() != labels.getXSize() || grid.getYSize() != labels.getYSize()) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+        int target = grid.get(x, y);
+        return fill(grid.unwrapUnsafe(), null, grid.getOffset(), target, labels.unwrapUnsafe(), labels.getOffset(),
+                label, 1, grid.getXSize(), grid.getYSize(), x * grid.getYSize() + y, full, false);
+    }
+
+    /**
+     * Replaces every cell of the region containing the seed.
+     *
+     * @param grid         The grid to fill.
+     * @param x            The X-coordinate of the seed.
+     * @param y            The Y-coordinate of the seed.
+     * @param replacement  The new value of the region.
+     * @param connectivity 4 or 8.
+     * @return The number of cells changed, 0 if the seed already holds the replacement.
+     * @throws IllegalArgumentException  if the connectivity is invalid.
+     * @throws IndexOutOfBoundsException if the seed is out of bounds.
+     */
+    public static int fill(Int2DArray grid, int x, int y, int replacement, int connectivity) {
+        return fill(grid, x, y, grid, replacement, connectivity);
+    }
+
+    /**
+     * Writes a label into every cell of the region containing the seed.
+     *
+     * @param grid         The grid whose values define the regions.
+     * @param x            The X-coordinate of the seed.
+     * @param y            The Y-coordinate of the seed.
+     * @param z            The Z-coordinate of the seed.
+     * @param labels       The label grid written to, with the same dimensions as grid. Cells already holding the label
+     *                     are treated as visited and stop the fill.
+     * @param label        The label to write.
+     * @param connectivity 6 or 26.
+     * @return The number of cells labelled.
+     * @throws IllegalArgumentException  if the dimensions do not match or the connectivity is invalid.
+     * @throws IndexOutOfBoundsException if the seed is out of bounds.
+     */
+    public static int fill(Byte3DArray grid, int x, int y, int z, Int3DArray labels, int label, int connectivity) {
+        boolean full = checkConnectivity(connectivity, 6, 26);
+        if (grid.getXSize() != labels.getXSize() || grid.getYSize() != labels.getYSize()
+                || grid.getZSize() != labels.getZSize()) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+        int target = grid.get(x, y, z);
+        int ySize = grid.getYSize();
+        int zSize = grid.getZSize();
+        return fill(null, grid.unwrapUnsafe(), grid.getOffset(), target, labels.unwrapUnsafe(), labels.getOffset(),
+                label, grid.getXSize(), ySize, zSize, (x * ySize + y) * zSize + z, full, true);
+    }
+
+    static boolean checkConnectivity(int connectivity, int face, int full) {
+        if (connectivity != face && connectivity != full) {
+            throw new IllegalArgumentException("Connectivity must be " + face + " or " + full + ".");
+        }
+        return connectivity == full;
+    }
+
+    /**
+     * Fills over a row-major {@code xSize * ySize * zSize} grid whose values come from exactly one of ints and bytes,
+     * starting at gridPos, writing labels starting at labelsPos. 2D grids are passed with xSize = 1.
+     */
+    private static int fill(int[] ints, byte[] bytes, int gridPos, int target, int[] labels, int labelsPos, int label,
+                            int xSize, int ySize, int zSize, int seed, boolean full, boolean threeD) {
+        if (!matches(ints, bytes, gridPos, target, labels, labelsPos, label, seed)) {
+            return 0;
+        }
+        int[] rowDX;
+        int[] rowDY;
+        if (!threeD) {
+            rowDX = new int[]{0, 0};
+            rowDY = new int[]{-1, 1};
+        } else if (!full) {
+            rowDX = new int[]{-1, 1, 0, 0};
+            rowDY = new int[]{0, 0, -1, 1};
+        } else {
+            rowDX = new int[]{-1, -1, -1, 0, 0, 1, 1, 1};
+            rowDY = new int[]{-1, 0, 1, -1, 1, -1, 0, 1};
+        }
+        int extend = full ? 1 : 0;
+        int[] stack = new int[64];
+        int size = 0;
+        stack[size++] = seed;
+        int count = 0;
+        while (size > 0) {
+            int index = stack[--size];
+            if (!matches(ints, bytes, gridPos, target, labels, labelsPos, label, index)) {
+                continue;
+            }
+            int row = index / zSize;
+            int rowStart = row * zSize;
+            int x = row / ySize;
+            int y = row - x * ySize;
+            int z0 = index - rowStart;
+            int z1 = z0;
+            while (z0 > 0 && matches(ints, bytes, gridPos, target, labels, labelsPos, label, rowStart + z0 - 1)) {
+                z0--;
+            }
+            while (z1 < zSize - 1
+                    && matches(ints, bytes, gridPos, target, labels, labelsPos, label, rowStart + z1 + 1)) {
+                z1++;
+            }
+            for (int z = z0; z <= z1; z++) {
+                labels[labelsPos + rowStart + z] = label;
+            }
+            count += z1 - z0 + 1;
+            int from = Math.max(0, z0 - extend);
+            int to = Math.min(zSize - 1, z1 + extend);
+            for (int r = 0; r < rowDX.length; r++) {
+                int nx = x + rowDX[r];
+                int ny = y + rowDY[r];
+                if (nx < 0 || nx >= xSize || ny < 0 || ny >= ySize) {
+                    continue;
+                }
+                int neighbourStart = (nx * ySize + ny) * zSize;
+                boolean inRun = false;
+                for (int z = from; z <= to; z++) {
+                    if (matches(ints, bytes, gridPos, target, labels, labelsPos, label, neighbourStart + z)) {
+                        if (!inRun) {
+                            if (size == stack.length) {
+                                int[] grown = new int[size << 1];
+                                System.arraycopy(stack, 0, grown, 0, size);
+                                stack = grown;
+                            }
+                            stack[size++] = neighbourStart + z;
+                            inRun = true;
+                        }
+                    } else {
+                        inRun = false;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    private static boolean matches(int[] ints, byte[] bytes, int gridPos, int target, int[] labels, int labelsPos,
+                                   int label, int index) {
+        return (ints != null ? ints[gridPos + index] : bytes[gridPos + index]) == target
+                && labels[labelsPos + index] != label;
+    }
+}
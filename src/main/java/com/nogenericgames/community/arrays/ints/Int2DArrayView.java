@@ -0,0 +1,326 @@
+package com.nogenericgames.community.arrays.ints;
+
+import java.util.Arrays;
+
+/**
+ * A two-dimensional window onto the storage of an {@link Int2DArray}, a {@link Int3DArray} plane, or another view.
+ * <p>
+ * Views never copy: they address the shared backing array through an offset and one stride per dimension, so writes
+ * through a view are visible in the array it was taken from and vice versa. A view offers the same element API as
+ * {@link Int2DArray}, so code written against that API can work on planes of a volume without extracting them first.
+ * <p>
+ * The algorithms of this library take the dense classes, not views. To run one on a view, pass
+ * {@link #toInt2DArray()}, which shares storage with a contiguous view and copies any other, or copy into a
+ * reusable array with {@link #copyTo(Int2DArray)} and write results back through the view.
+ */
+public class Int2DArrayView {
+
+    private final int[] data;
+    private final int offset;
+    private final int xSize;
+    private final int ySize;
+    private final int xStride;
+    private final int yStride;
+
+    Int2DArrayView(int[] data, int offset, int xSize, int ySize, int xStride, int yStride) {
+        this.data = data;
+        this.offset = offset;
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.xStride = xStride;
+        this.yStride = yStride;
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y) view coordinates with bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @return The integer value at (x, y).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public int get(int x, int y) {
+        checkBounds(x, y);
+        return data[offset + (x * xStride) + (y * yStride)];
+    }
+
+    /**
+     * Sets the element at the specified (x, y) view coordinates with bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param value The integer value to set.
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public void set(int x, int y, int value) {
+        checkBounds(x, y);
+        data[offset + (x * xStride) + (y * yStride)] = value;
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y) view coordinates without bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @return The integer value at (x, y).
+     */
+    public int getUnsafe(int x, int y) {
+        return data[offset + (x * xStride) + (y * yStride)];
+    }
+
+    /**
+     * Sets the element at the specified (x, y) view coordinates without bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param value The integer value to set.
+     */
+    public void setUnsafe(int x, int y, int value) {
+        data[offset + (x * xStride) + (y * yStride)] = value;
+    }
+
+    /**
+     * Clears the view by setting all of its elements to 0.
+     */
+    public void clear() {
+        fill(0);
+    }
+
+    /**
+     * Fills the view with the specified int value.
+     * <p>
+     * A contiguous view is filled with a single {@link Arrays#fill(int[], int, int, int)}; otherwise each
+     * contiguous row is filled separately.
+     *
+     * @param value The integer value to fill the view with.
+     */
+    public void fill(int value) {
+        if (isContiguous()) {
+            Arrays.fill(data, offset, offset + xSize * ySize, value);
+            return;
+        }
+        for (int x = 0; x < xSize; x++) {
+            int base = offset + x * xStride;
+            if (yStride == 1) {
+                Arrays.fill(data, base, base + ySize, value);
+            } else {
+                for (int y = 0; y < ySize; y++) {
+                    data[base + y * yStride] = value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a dense copy of the cells covered by this view.
+     *
+     * @return A new Int2DArray with the view's dimensions and contents.
+     */
+    public Int2DArray copy() {
+        Int2DArray copy = new Int2DArray(xSize, ySize);
+        copyTo(copy);
+        return copy;
+    }
+
+    /**
+     * Copies the cells covered by this view into a dense array of the same dimensions, for algorithms that take a
+     * {@link Int2DArray}. Reusing the destination avoids an allocation per call.
+     *
+     * @param dest The array to copy into.
+     * @throws IllegalArgumentException if the dimensions do not match.
+     */
+    public void copyTo(Int2DArray dest) {
+        if (dest.getXSize() != xSize || dest.getYSize() != ySize) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+        int[] target = dest.unwrapUnsafe();
+        if (isContiguous()) {
+            System.arraycopy(data, offset, target, dest.getOffset(), xSize * ySize);
+            return;
+        }
+        int i = dest.getOffset();
+        for (int x = 0; x < xSize; x++) {
+            int base = offset + x * xStride;
+            if (yStride == 1) {
+                System.arraycopy(data, base, target, i, ySize);
+                i += ySize;
+            } else {
+                for (int y = 0; y < ySize; y++) {
+                    target[i++] = data[base + y * yStride];
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the view as an {@link Int2DArray}, for code that takes the dense class. If the view is contiguous (see
+     * {@link #isContiguous()}) the result shares the view's backing array and nothing is copied, so writes through
+     * either are visible in both; otherwise the result is a dense copy, as from {@link #copy()}.
+     *
+     * @return An Int2DArray with the view's dimensions and contents.
+     */
+    public Int2DArray toInt2DArray() {
+        if (isContiguous()) {
+            return new Int2DArray(data, offset, xSize, ySize);
+        }
+        return copy();
+    }
+
+    /**
+     * Returns a view of a sub-rectangle of this view. Ranges are half-open: {@code [x0, x1)}.
+     *
+     * @param x0 First X-coordinate, inclusive.
+     * @param x1 Last X-coordinate, exclusive.
+     * @param y0 First Y-coordinate, inclusive.
+     * @param y1 Last Y-coordinate, exclusive.
+     * @return A view sharing this view's storage.
+     * @throws IndexOutOfBoundsException if a range is empty or out of bounds.
+     */
+    public Int2DArrayView slice(int x0, int x1, int y0, int y1) {
+        checkRange(x0, x1, xSize, 0);
+        checkRange(y0, y1, ySize, 1);
+        return new Int2DArrayView(data, offset + (x0 * xStride) + (y0 * yStride), x1 - x0, y1 - y0, xStride, yStride);
+    }
+
+    /**
+     * Returns whether the view covers one dense run of the backing array, i.e. it spans whole rows of its source.
+     * Contiguous views can be processed as the range {@code [getOffset(), getOffset() + size)} of
+     * {@link #unwrapUnsafe()}.
+     *
+     * @return True if the view's cells are contiguous in row-major order.
+     */
+    public boolean isContiguous() {
+        return yStride == 1 && (xSize == 1 || xStride == ySize);
+    }
+
+    /**
+     * Returns the shared backing array, without copying.
+     * <p>
+     * Cell (x, y) of the view lives at {@code getOffset() + x * getXStride() + y * getYStride()}.
+     *
+     * @return The backing data array.
+     */
+    public int[] unwrapUnsafe() {
+        return data;
+    }
+
+    /**
+     * Returns the index of cell (0, 0) in the backing array.
+     *
+     * @return The offset of the view.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns the distance in the backing array between neighbours along X.
+     *
+     * @return The X stride.
+     */
+    public int getXStride() {
+        return xStride;
+    }
+
+    /**
+     * Returns the distance in the backing array between neighbours along Y.
+     *
+     * @return The Y stride.
+     */
+    public int getYStride() {
+        return yStride;
+    }
+
+    /**
+     * Returns the size of the X dimension.
+     *
+     * @return The size of X.
+     */
+    public int getXSize() {
+        return xSize;
+    }
+
+    /**
+     * Returns the size of the Y dimension.
+     *
+     * @return The size of Y.
+     */
+    public int getYSize() {
+        return ySize;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Int2DArrayView{\n");
+        for (int x = 0; x < xSize; x++) {
+            sb.append(" [");
+            for (int y = 0; y < ySize; y++) {
+                sb.append(getUnsafe(x, y));
+                if (y < ySize - 1) sb.append(", ");
+            }
+            sb.append("]\n");
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Int2DArrayView that = (Int2DArrayView) o;
+
+        if (xSize != that.xSize) return false;
+        if (ySize != that.ySize) return false;
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                if (getUnsafe(x, y) != that.getUnsafe(x, y)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                result = 31 * result + getUnsafe(x, y);
+            }
+        }
+        result = 31 * result + xSize;
+        result = 31 * result + ySize;
+        return result;
+    }
+
+    /**
+     * Checks if the provided (x, y) coordinates are within bounds.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    private void checkBounds(int x, int y) {
+        if (x < 0 || x >= xSize) {
+            throw new IndexOutOfBoundsException(
+                    "X-coordinate " + x + " out of bounds for dimension 0 (0 to " + (xSize - 1) + ")."
+            );
+        }
+        if (y < 0 || y >= ySize) {
+            throw new IndexOutOfBoundsException(
+                    "Y-coordinate " + y + " out of bounds for dimension 1 (0 to " + (ySize - 1) + ")."
+            );
+        }
+    }
+
+    private static void checkRange(int from, int to, int size, int dimension) {
+        if (from < 0 || to > size || from >= to) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + from + ", " + to + ") out of bounds for dimension " + dimension + " (0 to " + (size - 1) + ")."
+            );
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.nogenericgames.community.arrays.ints;
+
+/**
+ * Receives the cells of a two-dimensional integer array together with their coordinates.
+ */
+@FunctionalInterface
+public interface IntCellConsumer2 {
+
+    /**
+     * Accepts one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param value The integer value at (x, y).
+     */
+    void accept(int x, int y, int value);
+}
@@ -0,0 +1,18 @@
+package com.nogenericgames.community.arrays.ints;
+
+/**
+ * Receives the cells of a three-dimensional integer array together with their coordinates.
+ */
+@FunctionalInterface
+public interface IntCellConsumer3 {
+
+    /**
+     * Accepts one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param value The integer value at (x, y, z).
+     */
+    void accept(int x, int y, int z, int value);
+}
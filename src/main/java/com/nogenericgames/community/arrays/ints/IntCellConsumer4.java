@@ -0,0 +1,19 @@
+package com.nogenericgames.community.arrays.ints;
+
+/**
+ * Receives the cells of a four-dimensional integer array together with their coordinates.
+ */
+@FunctionalInterface
+public interface IntCellConsumer4 {
+
+    /**
+     * Accepts one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param w     The W-coordinate (dimension 3).
+     * @param value The integer value at (x, y, z, w).
+     */
+    void accept(int x, int y, int z, int w, int value);
+}
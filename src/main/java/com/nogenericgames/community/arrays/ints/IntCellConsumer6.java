@@ -0,0 +1,21 @@
+package com.nogenericgames.community.arrays.ints;
+
+/**
+ * Receives the cells of a six-dimensional integer array together with their coordinates.
+ */
+@FunctionalInterface
+public interface IntCellConsumer6 {
+
+    /**
+     * Accepts one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param w     The W-coordinate (dimension 3).
+     * @param u     The U-coordinate (dimension 4).
+     * @param v     The V-coordinate (dimension 5).
+     * @param value The integer value at (x, y, z, w, u, v).
+     */
+    void accept(int x, int y, int z, int w, int u, int v, int value);
+}
@@ -0,0 +1,18 @@
+package com.nogenericgames.community.arrays.ints;
+
+/**
+ * Computes a new value for a cell of a two-dimensional integer array from its coordinates and current value.
+ */
+@FunctionalInterface
+public interface IntCellOperator2 {
+
+    /**
+     * Computes the new value of one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param value The current integer value at (x, y).
+     * @return The new value of the cell.
+     */
+    int applyAsInt(int x, int y, int value);
+}
@@ -0,0 +1,468 @@
+package com.nogenericgames.community.arrays.ints;
+
+import com.nogenericgames.community.arrays.utils.FlatArrayUtils;
+import java.util.Arrays;
+
+/**
+ * Represents a three-dimensional array of integers that stores palette indices instead of values.
+ * <p>
+ * Every distinct value written to the array gets an entry in a per-instance palette, and cells store the index of
+ * their value bit-packed into a {@code long[]}. The number of bits per entry starts at 1 and doubles whenever the
+ * palette outgrows it (1, 2, 4, 8), re-packing the cells. Entry widths are powers of two, so entries never straddle
+ * two words. Once more than 256 distinct values are in use the array switches to a direct {@code int[]} and the
+ * palette is discarded.
+ * <p>
+ * Regions that use a handful of block types therefore take 1 to 8 bits per cell instead of 32. Palette entries are
+ * not removed when their last cell is overwritten; {@link #compact()} rebuilds the palette from the values in use.
+ * Cells are addressed in row-major order, like {@link Int3DArray}.
+ */
+public class PalettedInt3DArray {
+
+    private static final int MAX_PALETTE_BITS = 8;
+
+    private final int xSize;
+    private final int ySize;
+    private final int zSize;
+    private final int totalSize;
+
+    /**
+     * Log2 of the bits per entry while palettized; 0 to 3.
+     */
+    private int bitsShift;
+
+    /**
+     * Packed palette indices, or null in direct mode.
+     */
+    private long[] words;
+
+    /**
+     * Raw cell values in direct mode, otherwise null.
+     */
+    private int[] direct;
+
+    /**
+     * Palette values in index order; the first paletteSize entries are in use.
+     */
+    private int[] palette;
+    private int paletteSize;
+
+    /**
+     * Open-addressing lookup from value to palette index: slot i is used when lookupIndices[i] is non-zero, and then
+     * holds palette index lookupIndices[i] - 1 for value lookupKeys[i].
+     */
+    private int[] lookupKeys;
+    private int[] lookupIndices;
+
+    /**
+     * Constructs a PalettedInt3DArray with all cells set to 0.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @throws IllegalArgumentException if any dimension is non-positive or the total size exceeds the maximum array
+     *                                  length.
+     */
+    public PalettedInt3DArray(int xSize, int ySize, int zSize) {
+        if (xSize <= 0 || ySize <= 0 || zSize <= 0) {
+            throw new IllegalArgumentException("Dimensions must be positive.");
+        }
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.zSize = zSize;
+        this.totalSize = FlatArrayUtils.checkedSize(xSize, ySize, zSize);
+        reset(0);
+    }
+
+    /**
+     * Creates a paletted copy of a dense array.
+     *
+     * @param source The array to copy.
+     * @return A new PalettedInt3DArray with the same dimensions and contents.
+     */
+    public static PalettedInt3DArray of(Int3DArray source) {
+        PalettedInt3DArray array = new PalettedInt3DArray(source.getXSize(), source.getYSize(), source.getZSize());
+        int[] values = source.unwrapUnsafe();
+        int offset = source.getOffset();
+        for (int i = 0; i < array.totalSize; i++) {
+            array.setIndex(i, values[offset + i]);
+        }
+        return array;
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y, z) coordinates with bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @return The integer value at (x, y, z).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public int get(int x, int y, int z) {
+        checkBounds(x, y, z);
+        return getIndex((x * ySize * zSize) + (y * zSize) + z);
+    }
+
+    /**
+     * Sets the element at the specified (x, y, z) coordinates with bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param value The integer value to set.
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    public void set(int x, int y, int z, int value) {
+        checkBounds(x, y, z);
+        setIndex((x * ySize * zSize) + (y * zSize) + z, value);
+    }
+
+    /**
+     * Retrieves the element at the specified (x, y, z) coordinates without bounds checking.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @return The integer value at (x, y, z).
+     */
+    public int getUnsafe(int x, int y, int z) {
+        return getIndex((x * ySize * zSize) + (y * zSize) + z);
+    }
+
+    /**
+     * Sets the element at the specified (x, y, z) coordinates without bounds checking.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param value The integer value to set.
+     */
+    public void setUnsafe(int x, int y, int z, int value) {
+        setIndex((x * ySize * zSize) + (y * zSize) + z, value);
+    }
+
+    /**
+     * Clears the array by setting all elements to 0.
+     */
+    public void clear() {
+        fill(0);
+    }
+
+    /**
+     * Fills the array with the specified integer value. The palette is reset to that single value and storage drops
+     * back to one bit per cell.
+     *
+     * @param value The integer value to fill the array with.
+     */
+    public void fill(int value) {
+        reset(value);
+    }
+
+    /**
+     * Rebuilds the palette from the values currently in use and re-packs the cells at the smallest entry width that
+     * fits. Also converts a direct-mode array back to a paletted one if it now holds 256 or fewer distinct values.
+     */
+    public void compact() {
+        int[] values = new int[totalSize];
+        for (int i = 0; i < totalSize; i++) {
+            values[i] = getIndex(i);
+        }
+        int first = values[0];
+        reset(first);
+        for (int i = 1; i < totalSize; i++) {
+            if (values[i] != first) {
+                setIndex(i, values[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of palette entries, including entries no longer used by any cell.
+     *
+     * @return The palette size, or 0 in direct mode.
+     */
+    public int getPaletteSize() {
+        return direct != null ? 0 : paletteSize;
+    }
+
+    /**
+     * Returns the number of bits each cell currently takes.
+     *
+     * @return 1, 2, 4 or 8 while palettized, 32 in direct mode.
+     */
+    public int getBitsPerEntry() {
+        return direct != null ? Integer.SIZE : 1 << bitsShift;
+    }
+
+    /**
+     * Returns whether the array has fallen back to storing raw values.
+     *
+     * @return True in direct mode.
+     */
+    public boolean isDirect() {
+        return direct != null;
+    }
+
+    /**
+     * Creates a dense copy of this array.
+     *
+     * @return A new Int3DArray with the same contents.
+     */
+    public Int3DArray toInt3DArray() {
+        Int3DArray dense = new Int3DArray(xSize, ySize, zSize);
+        int[] dest = dense.unwrapUnsafe();
+        if (direct != null) {
+            System.arraycopy(direct, 0, dest, 0, totalSize);
+        } else {
+            for (int i = 0; i < totalSize; i++) {
+                dest[i] = getIndex(i);
+            }
+        }
+        return dense;
+    }
+
+    /**
+     * Creates a copy of this PalettedInt3DArray, keeping its palette and entry width.
+     *
+     * @return A new PalettedInt3DArray instance with copied data.
+     */
+    public PalettedInt3DArray copy() {
+        PalettedInt3DArray copy = new PalettedInt3DArray(xSize, ySize, zSize);
+        copy.bitsShift = bitsShift;
+        copy.words = words != null ? words.clone() : null;
+        copy.direct = direct != null ? direct.clone() : null;
+        copy.palette = palette != null ? palette.clone() : null;
+        copy.paletteSize = paletteSize;
+        copy.lookupKeys = lookupKeys != null ? lookupKeys.clone() : null;
+        copy.lookupIndices = lookupIndices != null ? lookupIndices.clone() : null;
+        return copy;
+    }
+
+    /**
+     * Returns the size of the X dimension.
+     *
+     * @return The size of X.
+     */
+    public int getXSize() {
+        return xSize;
+    }
+
+    /**
+     * Returns the size of the Y dimension.
+     *
+     * @return The size of Y.
+     */
+    public int getYSize() {
+        return ySize;
+    }
+
+    /**
+     * Returns the size of the Z dimension.
+     *
+     * @return The size of Z.
+     */
+    public int getZSize() {
+        return zSize;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("PalettedInt3DArray{\n");
+        for (int x = 0; x < xSize; x++) {
+            sb.append("  Layer ").append(x).append(":\n");
+            for (int y = 0; y < ySize; y++) {
+                sb.append("    [");
+                for (int z = 0; z < zSize; z++) {
+                    sb.append(getUnsafe(x, y, z));
+                    if (z < zSize - 1) sb.append(", ");
+                }
+                sb.append("]\n");
+            }
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+     * Compares cell values, independent of palette order and entry width.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        PalettedInt3DArray that = (PalettedInt3DArray) o;
+
+        if (xSize != that.xSize) return false;
+        if (ySize != that.ySize) return false;
+        if (zSize != that.zSize) return false;
+        for (int i = 0; i < totalSize; i++) {
+            if (getIndex(i) != that.getIndex(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes cell values in row-major order, so the result matches {@link Int3DArray#hashCode()} for the same contents.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < totalSize; i++) {
+            result = 31 * result + getIndex(i);
+        }
+        result = 31 * result + xSize;
+        result = 31 * result + ySize;
+        result = 31 * result + zSize;
+        return result;
+    }
+
+    private int getIndex(int index) {
+        if (direct != null) {
+            return direct[index];
+        }
+        int shift = bitsShift;
+        int word = index >>> (6 - shift);
+        int bit = (index & ((64 >>> shift) - 1)) << shift;
+        return palette[(int) (words[word] >>> bit) & ((1 << (1 << shift)) - 1)];
+    }
+
+    private void setIndex(int index, int value) {
+        if (direct != null) {
+            direct[index] = value;
+            return;
+        }
+        int entry = paletteIndex(value);
+        if (direct != null) {
+            // Adding the value pushed the array into direct mode.
+            direct[index] = value;
+            return;
+        }
+        int shift = bitsShift;
+        int word = index >>> (6 - shift);
+        int bit = (index & ((64 >>> shift) - 1)) << shift;
+        long mask = ((1L << (1 << shift)) - 1) << bit;
+        words[word] = (words[word] & ~mask) | (((long) entry << bit) & mask);
+    }
+
+    /**
+     * Returns the palette index of a value, adding it and widening the entries if needed.
+     */
+    private int paletteIndex(int value) {
+        int mask = lookupKeys.length - 1;
+        int slot = mix(value) & mask;
+        while (lookupIndices[slot] != 0) {
+            if (lookupKeys[slot] == value) {
+                return lookupIndices[slot] - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        int entry = paletteSize;
+        if (entry == 1 << (1 << bitsShift)) {
+            if (bitsShift == Integer.numberOfTrailingZeros(MAX_PALETTE_BITS)) {
+                toDirect();
+                return -1;
+            }
+            repack(bitsShift + 1);
+        }
+        if (entry == palette.length) {
+            palette = Arrays.copyOf(palette, palette.length * 2);
+        }
+        palette[entry] = value;
+        paletteSize++;
+        if (paletteSize * 2 > lookupKeys.length) {
+            growLookup();
+        } else {
+            lookupKeys[slot] = value;
+            lookupIndices[slot] = entry + 1;
+        }
+        return entry;
+    }
+
+    private void repack(int newShift) {
+        long[] old = words;
+        int oldShift = bitsShift;
+        int oldMask = (1 << (1 << oldShift)) - 1;
+        int oldPerWord = 64 >>> oldShift;
+        int newPerWord = 64 >>> newShift;
+        long[] packed = new long[(totalSize + newPerWord - 1) / newPerWord];
+        for (int i = 0; i < totalSize; i++) {
+            long entry = (old[i / oldPerWord] >>> ((i % oldPerWord) << oldShift)) & oldMask;
+            packed[i / newPerWord] |= entry << ((i % newPerWord) << newShift);
+        }
+        words = packed;
+        bitsShift = newShift;
+    }
+
+    private void toDirect() {
+        int[] values = new int[totalSize];
+        for (int i = 0; i < totalSize; i++) {
+            values[i] = getIndex(i);
+        }
+        direct = values;
+        words = null;
+        palette = null;
+        paletteSize = 0;
+        lookupKeys = null;
+        lookupIndices = null;
+    }
+
+    private void growLookup() {
+        int capacity = lookupKeys.length * 2;
+        lookupKeys = new int[capacity];
+        lookupIndices = new int[capacity];
+        for (int entry = 0; entry < paletteSize; entry++) {
+            int slot = mix(palette[entry]) & (capacity - 1);
+            while (lookupIndices[slot] != 0) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            lookupKeys[slot] = palette[entry];
+            lookupIndices[slot] = entry + 1;
+        }
+    }
+
+    private void reset(int value) {
+        bitsShift = 0;
+        words = new long[(totalSize + 63) >>> 6];
+        direct = null;
+        palette = new int[4];
+        palette[0] = value;
+        paletteSize = 1;
+        lookupKeys = new int[8];
+        lookupIndices = new int[8];
+        int slot = mix(value) & 7;
+        lookupKeys[slot] = value;
+        lookupIndices[slot] = 1;
+    }
+
+    private static int mix(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Checks if the provided (x, y, z) coordinates are within bounds.
+     *
+     * @param x The X-coordinate (dimension 0).
+     * @param y The Y-coordinate (dimension 1).
+     * @param z The Z-coordinate (dimension 2).
+     * @throws IndexOutOfBoundsException if coordinates are out of bounds.
+     */
+    private void checkBounds(int x, int y, int z) {
+        if (x < 0 || x >= xSize) {
+            throw new IndexOutOfBoundsException(
+                    "X-coordinate " + x + " out of bounds for dimension 0 (0 to " + (xSize - 1) + ")."
+            );
+        }
+        if (y < 0 || y >= ySize) {
+            throw new IndexOutOfBoundsException(
+                    "Y-coordinate " + y + " out of bounds for dimension 1 (0 to " + (ySize - 1) + ")."
+            );
+        }
+        if (z < 0 || z >= zSize) {
+            throw new IndexOutOfBoundsException(
+                    "Z-coordinate " + z + " out of bounds for dimension 2 (0 to " + (zSize - 1) + ")."
+            );
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.nogenericgames.community.arrays.ints;
+
+import com.nogenericgames.community.arrays.utils.BoxConsumer2;
+import com.nogenericgames.community.arrays.utils.FlatArrayUtils;
+import java.util.Arrays;
+
+/**
+ * A fixed-size window onto an unbounded two-dimensional integer grid, addressed in world coordinates and stored as
+ * a torus.
+ * <p>
+ * The window covers {@code [originX, originX + xSize) x [originY, originY + ySize)}. World cell (x, y) is always kept
+ * in slot {@code (x mod xSize, y mod ySize)} of a flat row-major array, so moving the window with
+ * {@link #scroll(int, int, BoxConsumer2)} only changes the origin: cells that stay inside keep their slots and
+ * nothing is copied. Cells that scroll into view still hold the values of the cells that scrolled out of view in
+ * their slots; scroll reports them as at most two boxes so the caller can regenerate just those.
+ * <p>
+ * Dimensions that are powers of two are wrapped with a bit mask instead of a modulo.
+ */
+public class RingInt2DArray {
+
+    private final int[] data;
+    private final int xSize;
+    private final int ySize;
+    private final int xMask;
+    private final int yMask;
+    private int originX;
+    private int originY;
+
+    /**
+     * Constructs a ring array filled with zeros, with its origin at (0, 0).
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @throws IllegalArgumentException if any dimension is non-positive or the total size exceeds the maximum
+     *                                  array length.
+     */
+    public RingInt2DArray(int xSize, int ySize) {
+        if (xSize <= 0 || ySize <= 0) {
+            throw new IllegalArgumentException("Dimensions must be positive.");
+        }
+        this.data = new int[FlatArrayUtils.checkedSize(xSize, ySize)];
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.xMask = Integer.bitCount(xSize) == 1 ? xSize - 1 : -1;
+        this.yMask = Integer.bitCount(ySize) == 1 ? ySize - 1 : -1;
+    }
+
+    /**
+     * Retrieves the element at the specified world coordinates with bounds checking.
+     *
+     * @param x The world X-coordinate.
+     * @param y The world Y-coordinate.
+     * @return The integer value at (x, y).
+     * @throws IndexOutOfBoundsException if the coordinates are outside the window.
+     */
+    public int get(int x, int y) {
+        checkBounds(x, y);
+        return data[slotX(x) * ySize + slotY(y)];
+    }
+
+    /**
+     * Sets the element at the specified world coordinates with bounds checking.
+     *
+     * @param x     The world X-coordinate.
+     * @param y     The world Y-coordinate.
+     * @param value The integer value to set.
+     * @throws IndexOutOfBoundsException if the coordinates are outside the window.
+     */
+    public void set(int x, int y, int value) {
+        checkBounds(x, y);
+        data[slotX(x) * ySize + slotY(y)] = value;
+    }
+
+    /**
+     * Retrieves the element at the specified world coordinates without bounds checking. Coordinates outside the
+     * window read whichever cell shares their slot.
+     *
+     * @param x The world X-coordinate.
+     * @param y The world Y-coordinate.
+     * @return The integer value in the slot of (x, y).
+     */
+    public int getUnsafe(int x, int y) {
+        return data[slotX(x) * ySize + slotY(y)];
+    }
+
+    /**
+     * Sets the element at the specified world coordinates without bounds checking. Coordinates outside the window
+     * write whichever cell shares their slot.
+     *
+     * @param x     The world X-coordinate.
+     * @param y     The world Y-coordinate.
+     * @param value The integer value to set.
+     */
+    public void setUnsafe(int x, int y, int value) {
+        data[slotX(x) * ySize + slotY(y)] = value;
+    }
+
+    /**
+     * Returns whether the world coordinates are inside the window.
+     *
+     * @param x The world X-coordinate.
+     * @param y The world Y-coordinate.
+     * @return True if (x, y) is in the window.
+     */
+    public boolean contains(int x, int y) {
+        return x - originX >= 0 && x - originX < xSize && y - originY >= 0 && y - originY < ySize;
+    }
+
+    /**
+     * Moves the window by the given offsets in constant time. Cells scrolled into view keep stale values.
+     *
+     * @param dx The change of the X origin.
+     * @param dy The change of the Y origin.
+     */
+    public void scroll(int dx, int dy) {
+        originX += dx;
+        originY += dy;
+    }
+
+    /**
+     * Moves the window by the given offsets in constant time and reports the cells scrolled into view, which keep
+     * stale values until the caller writes them. They are passed as at most two disjoint boxes in world coordinates,
+     * after the origin has moved, so the consumer may call {@link #set(int, int, int)} on them directly. If the window
+     * moves by its full size or more along an axis, the whole window is reported as one box.
+     *
+     * @param dx      The change of the X origin.
+     * @param dy      The change of the Y origin.
+     * @param exposed Receives the boxes that came into view.
+     */
+    public void scroll(int dx, int dy, BoxConsumer2 exposed) {
+        scroll(dx, dy);
+        if (Math.abs((long) dx) >= xSize || Math.abs((long) dy) >= ySize) {
+            exposed.accept(originX, originY, originX + xSize, originY + ySize);
+            return;
+        }
+        int keptX0 = dx > 0 ? originX : originX - dx;
+        int keptX1 = dx > 0 ? originX + xSize - dx : originX + xSize;
+        if (dx > 0) {
+            exposed.accept(keptX1, originY, originX + xSize, originY + ySize);
+        } else if (dx < 0) {
+            exposed.accept(originX, originY, keptX0, originY + ySize);
+        }
+        if (dy > 0) {
+            exposed.accept(keptX0, originY + ySize - dy, keptX1, originY + ySize);
+        } else if (dy < 0) {
+            exposed.accept(keptX0, originY, keptX1, originY - dy);
+        }
+    }
+
+    /**
+     * Moves the window so that its origin is at the given world coordinates, reporting the cells scrolled into view
+     * like {@link #scroll(int, int, BoxConsumer2)}.
+     *
+     * @param x       The new world X-coordinate of the origin.
+     * @param y       The new world Y-coordinate of the origin.
+     * @param exposed Receives the boxes that came into view.
+     */
+    public void moveTo(int x, int y, BoxConsumer2 exposed) {
+        scroll(x - originX, y - originY, exposed);
+    }
+
+    /**
+     * Sets all elements to the specified value.
+     *
+     * @param value The integer value to fill with.
+     */
+    public void fill(int value) {
+        Arrays.fill(data, value);
+    }
+
+    /**
+     * Copies the window into a new dense array, with the origin at (0, 0).
+     *
+     * @return A new Int2DArray holding the window.
+     */
+    public Int2DArray toInt2DArray() {
+        Int2DArray result = new Int2DArray(xSize, ySize);
+        int[] target = result.unwrapUnsafe();
+        int startY = slotY(originY);
+        int head = ySize - startY;
+        for (int x = 0; x < xSize; x++) {
+            int row = slotX(originX + x) * ySize;
+            System.arraycopy(data, row + startY, target, x * ySize, head);
+            System.arraycopy(data, row, target, x * ySize + head, startY);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the world X-coordinate of the first column of the window.
+     *
+     * @return The X origin.
+     */
+    public int getOriginX() {
+        return originX;
+    }
+
+    /**
+     * Returns the world Y-coordinate of the first row of the window.
+     *
+     * @return The Y origin.
+     */
+    public int getOriginY() {
+        return originY;
+    }
+
+    /**
+     * Returns the size of the X dimension.
+     *
+     * @return The size of the X dimension.
+     */
+    public int getXSize() {
+        return xSize;
+    }
+
+    /**
+     * Returns the size of the Y dimension.
+     *
+     * @return The size of the Y dimension.
+     */
+    public int getYSize() {
+        return ySize;
+    }
+
+    private int slotX(int x) {
+        return xMask >= 0 ? x & xMask : Math.floorMod(x, xSize);
+    }
+
+    private int slotY(int y) {
+        return yMask >= 0 ? y & yMask : Math.floorMod(y, ySize);
+    }
+
+    /**
+     * Checks if the provided world coordinates are inside the window.
+     *
+     * @param x The world X-coordinate.
+     * @param y The world Y-coordinate.
+     * @throws IndexOutOfBoundsException if the coordinates are outside the window.
+     */
+    private void checkBounds(int x, int y) {
+        if (x - originX < 0 || x - originX >= xSize) {
+            throw new IndexOutOfBoundsException(
+                    "X-coordinate " + x + " out of window for dimension 0 (" + originX + " to "
+                            + (originX + xSize - 1) + ")."
+            );
+        }
+        if (y - originY < 0 || y - originY >= ySize) {
+            throw new IndexOutOfBoundsException(
+                    "Y-coordinate " + y + " out of window for dimension 1 (" + originY + " to "
+                            + (originY + ySize - 1) + ")."
+            );
+        }
+    }
+}
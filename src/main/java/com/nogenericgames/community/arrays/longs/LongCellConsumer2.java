@@ -0,0 +1,17 @@
+package com.nogenericgames.community.arrays.longs;
+
+/**
+ * Receives the cells of a two-dimensional long array together with their coordinates.
+ */
+@FunctionalInterface
+public interface LongCellConsumer2 {
+
+    /**
+     * Accepts one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param value The long value at (x, y).
+     */
+    void accept(int x, int y, long value);
+}
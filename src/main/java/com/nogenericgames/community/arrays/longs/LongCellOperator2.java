@@ -0,0 +1,18 @@
+package com.nogenericgames.community.arrays.longs;
+
+/**
+ * Computes a new value for a cell of a two-dimensional long array from its coordinates and current value.
+ */
+@FunctionalInterface
+public interface LongCellOperator2 {
+
+    /**
+     * Computes the new value of one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param value The current long value at (x, y).
+     * @return The new value of the cell.
+     */
+    long applyAsLong(int x, int y, long value);
+}
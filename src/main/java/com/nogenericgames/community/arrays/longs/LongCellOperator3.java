@@ -0,0 +1,19 @@
+package com.nogenericgames.community.arrays.longs;
+
+/**
+ * Computes a new value for a cell of a three-dimensional long array from its coordinates and current value.
+ */
+@FunctionalInterface
+public interface LongCellOperator3 {
+
+    /**
+     * Computes the new value of one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param value The current long value at (x, y, z).
+     * @return The new value of the cell.
+     */
+    long applyAsLong(int x, int y, int z, long value);
+}
@@ -0,0 +1,20 @@
+package com.nogenericgames.community.arrays.longs;
+
+/**
+ * Computes a new value for a cell of a four-dimensional long array from its coordinates and current value.
+ */
+@FunctionalInterface
+public interface LongCellOperator4 {
+
+    /**
+     * Computes the new value of one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param w     The W-coordinate (dimension 3).
+     * @param value The current long value at (x, y, z, w).
+     * @return The new value of the cell.
+     */
+    long applyAsLong(int x, int y, int z, int w, long value);
+}
@@ -0,0 +1,240 @@
+package com.nogenericgames.community.arrays.longs;
+
+import com.nogenericgames.community.arrays.ints.Int2DArray;
+import com.nogenericgames.community.arrays.utils.ParallelArrays;
+
+/**
+ * A summed-area table over a two-dimensional grid, answering the sum of any box in constant time.
+ * <p>
+ * The table is a {@link Long2DArray} one larger than the source in each dimension, where entry (i, j) holds the sum
+ * of the source cells in {@code [0, i) x [0, j)}; row and column 0 are zero, so queries need no edge cases. Sums wrap
+ * on long overflow.
+ * <p>
+ * The table is built in two passes, a prefix sum along each row and then an accumulation down the columns, each of
+ * which splits into independent rows or column ranges for {@link #parallelOf(Long2DArray)}. After local edits to the
+ * source, {@link #update(Long2DArray, int, int, int, int)} recomputes the rows of the table crossing the edited box and
+ * shifts the rows after it by the change of the box's last row, instead of rebuilding everything.
+ */
+public class SummedArea2D {
+
+    private final Long2DArray table;
+    private final long[] data;
+    private final int xSize;
+    private final int ySize;
+    private final int stride;
+
+    private SummedArea2D(int xSize, int ySize) {
+        this.table = new Long2DArray(xSize + 1, ySize + 1);
+        this.data = table.unwrapUnsafe();
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.stride = ySize + 1;
+    }
+
+    /**
+     * Builds the table of a grid.
+     *
+     * @param src The source grid.
+     * @return The new table.
+     */
+    public static SummedArea2D of(Int2DArray src) {
+        SummedArea2D sat = new SummedArea2D(src.getXSize(), src.getYSize());
+        sat.build(src.unwrapUnsafe(), null, src.getOffset(), false);
+        return sat;
+    }
+
+    /**
+     * Builds the table of a grid.
+     *
+     * @param src The source grid.
+     * @return The new table.
+     */
+    public static SummedArea2D of(Long2DArray src) {
+        SummedArea2D sat = new SummedArea2D(src.getXSize(), src.getYSize());
+        sat.build(null, src.unwrapUnsafe(), 0, false);
+        return sat;
+    }
+
+    /**
+     * Builds the table of a grid, running both passes in parallel.
+     *
+     * @param src The source grid.
+     * @return The new table.
+     */
+    public static SummedArea2D parallelOf(Int2DArray src) {
+        SummedArea2D sat = new SummedArea2D(src.getXSize(), src.getYSize());
+        sat.build(src.unwrapUnsafe(), null, src.getOffset(), true);
+        return sat;
+    }
+
+    /**
+     * Builds the table of a grid, running both passes in parallel.
+     *
+     * @param src The source grid.
+     * @return The new table.
+     */
+    public static SummedArea2D parallelOf(Long2DArray src) {
+        SummedArea2D sat = new SummedArea2D(src.getXSize(), src.getYSize());
+        sat.build(null, src.unwrapUnsafe(), 0, true);
+        return sat;
+    }
+
+    /**
+     * Returns the sum of the source cells in {@code [x0, x1) x [y0, y1)}.
+     *
+     * @param x0 The first X-coordinate, inclusive.
+     * @param y0 The first Y-coordinate, inclusive.
+     * @param x1 The last X-coordinate, exclusive.
+     * @param y1 The last Y-coordinate, exclusive.
+     * @return The sum, 0 for an empty box.
+     * @throws IndexOutOfBoundsException if the box is out of bounds.
+     */
+    public long sum(int x0, int y0, int x1, int y1) {
+        checkRange(x0, x1, xSize, 0);
+        checkRange(y0, y1, ySize, 1);
+        int top = x0 * stride;
+        int bottom = x1 * stride;
+        return data[bottom + y1] - data[top + y1] - data[bottom + y0] + data[top + y0];
+    }
+
+    /**
+     * Returns the sum of all source cells.
+     *
+     * @return The total.
+     */
+    public long total() {
+        return data[data.length - 1];
+    }
+
+    /**
+     * Brings the table up to date after the source cells in {@code [x0, x1) x [y0, y1)} changed.
+     *
+     * @param src The source grid the table was built from, with its new values.
+     * @param x0  The first edited X-coordinate, inclusive.
+     * @param y0  The first edited Y-coordinate, inclusive.
+     * @param x1  The last edited X-coordinate, exclusive.
+     * @param y1  The last edited Y-coordinate, exclusive.
+     * @throws IllegalArgumentException  if the source dimensions do not match.
+     * @throws IndexOutOfBoundsException if the box is out of bounds.
+     */
+    public void update(Int2DArray src, int x0, int y0, int x1, int y1) {
+        checkSource(src.getXSize(), src.getYSize());
+        update(src.unwrapUnsafe(), null, src.getOffset(), x0, y0, x1, y1);
+    }
+
+    /**
+     * Brings the table up to date after the source cells in {@code [x0, x1) x [y0, y1)} changed.
+     *
+     * @param src The source grid the table was built from, with its new values.
+     * @param x0  The first edited X-coordinate, inclusive.
+     * @param y0  The first edited Y-coordinate, inclusive.
+     * @param x1  The last edited X-coordinate, exclusive.
+     * @param y1  The last edited Y-coordinate, exclusive.
+     * @throws IllegalArgumentException  if the source dimensions do not match.
+     * @throws IndexOutOfBoundsException if the box is out of bounds.
+     */
+    public void update(Long2DArray src, int x0, int y0, int x1, int y1) {
+        checkSource(src.getXSize(), src.getYSize());
+        update(null, src.unwrapUnsafe(), 0, x0, y0, x1, y1);
+    }
+
+    /**
+     * Returns the table, of size {@code (xSize + 1) x (ySize + 1)}. It is not copied.
+     *
+     * @return The backing table.
+     */
+    public Long2DArray getTable() {
+        return table;
+    }
+
+    /**
+     * Returns the size of the X dimension of the source.
+     *
+     * @return The size of the X dimension.
+     */
+    public int getXSize() {
+        return xSize;
+    }
+
+    /**
+     * Returns the size of the Y dimension of the source.
+     *
+     * @return The size of the Y dimension.
+     */
+    public int getYSize() {
+        return ySize;
+    }
+
+    private void build(int[] ints, long[] longs, int pos, boolean parallel) {
+        ParallelArrays.ChunkAction rows = (chunk, from, to) -> {
+            for (int x = from; x < to; x++) {
+                int source = pos + x * ySize;
+                int target = (x + 1) * stride + 1;
+                long running = 0L;
+                for (int y = 0; y < ySize; y++) {
+                    running += ints != null ? ints[source + y] : longs[source + y];
+                    data[target + y] = running;
+                }
+            }
+        };
+        ParallelArrays.ChunkAction columns = (chunk, from, to) -> {
+            for (int x = 2; x <= xSize; x++) {
+                int above = (x - 1) * stride;
+                int row = x * stride;
+                for (int y = from; y < to; y++) {
+                    data[row + y] += data[above + y];
+                }
+            }
+        };
+        if (parallel) {
+            ParallelArrays.forEachChunk(xSize, (int) Math.min(8L * ySize, Integer.MAX_VALUE), rows);
+            ParallelArrays.forEachChunk(stride, (int) Math.min(8L * xSize, Integer.MAX_VALUE), columns);
+        } else {
+            rows.run(0, 0, xSize);
+            columns.run(0, 0, stride);
+        }
+    }
+
+    private void update(int[] ints, long[] longs, int pos, int x0, int y0, int x1, int y1) {
+        checkRange(x0, x1, xSize, 0);
+        checkRange(y0, y1, ySize, 1);
+        if (x0 == x1 || y0 == y1) {
+            return;
+        }
+        long[] delta = new long[stride - y0 - 1];
+        for (int x = x0 + 1; x <= x1; x++) {
+            int above = (x - 1) * stride;
+            int row = x * stride;
+            int source = pos + (x - 1) * ySize;
+            long running = data[row + y0] - data[above + y0];
+            for (int y = y0 + 1; y < stride; y++) {
+                running += ints != null ? ints[source + y - 1] : longs[source + y - 1];
+                long value = data[above + y] + running;
+                if (x == x1) {
+                    delta[y - y0 - 1] = value - data[row + y];
+                }
+                data[row + y] = value;
+            }
+        }
+        for (int x = x1 + 1; x <= xSize; x++) {
+            int row = x * stride + y0 + 1;
+            for (int i = 0; i < delta.length; i++) {
+                data[row + i] += delta[i];
+            }
+        }
+    }
+
+    private void checkSource(int srcXSize, int srcYSize) {
+        if (srcXSize != xSize || srcYSize != ySize) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+    }
+
+    private static void checkRange(int from, int to, int size, int dimension) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + from + ", " + to + ") out of bounds for dimension " + dimension + " (0 to " + (size - 1) + ")."
+            );
+        }
+    }
+}
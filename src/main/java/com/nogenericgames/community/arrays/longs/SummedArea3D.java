@@ -0,0 +1,238 @@
+package com.nogenericgames.community.arrays.longs;
+
+import com.nogenericgames.community.arrays.utils.ParallelArrays;
+
+/**
+ * A summed-area table over a three-dimensional grid, answering the sum of any box in constant time.
+ * <p>
+ * The table is a {@link Long3DArray} one larger than the source in each dimension, where entry (i, j, k) holds the sum
+ * of the source cells in {@code [0, i) x [0, j) x [0, k)}; the planes at index 0 are zero, so a query is a fixed
+ * inclusion-exclusion of eight entries. Sums wrap on long overflow.
+ * <p>
+ * The table is built in three passes, one prefix sum per dimension, each of which splits into independent rows,
+ * planes or ranges for {@link #parallelOf(Long3DArray)}. After local edits to the source,
+ * {@link #update(Long3DArray, int, int, int, int, int, int)} recomputes the planes of the table crossing the edited
+ * box and shifts the planes after it by the change of the box's last plane, instead of rebuilding everything.
+ */
+public class SummedArea3D {
+
+    private final Long3DArray table;
+    private final long[] data;
+    private final int xSize;
+    private final int ySize;
+    private final int zSize;
+    private final int rowStride;
+    private final int planeStride;
+
+    private SummedArea3D(int xSize, int ySize, int zSize) {
+        this.table = new Long3DArray(xSize + 1, ySize + 1, zSize + 1);
+        this.data = table.unwrapUnsafe();
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.zSize = zSize;
+        this.rowStride = zSize + 1;
+        this.planeStride = (ySize + 1) * rowStride;
+    }
+
+    /**
+     * Builds the table of a grid.
+     *
+     * @param src The source grid.
+     * @return The new table.
+     */
+    public static SummedArea3D of(Long3DArray src) {
+        SummedArea3D sat = new SummedArea3D(src.getXSize(), src.getYSize(), src.getZSize());
+        sat.build(src.unwrapUnsafe(), false);
+        return sat;
+    }
+
+    /**
+     * Builds the table of a grid, running all three passes in parallel.
+     *
+     * @param src The source grid.
+     * @return The new table.
+     */
+    public static SummedArea3D parallelOf(Long3DArray src) {
+        SummedArea3D sat = new SummedArea3D(src.getXSize(), src.getYSize(), src.getZSize());
+        sat.build(src.unwrapUnsafe(), true);
+        return sat;
+    }
+
+    /**
+     * Returns the sum of the source cells in {@code [x0, x1) x [y0, y1) x [z0, z1)}.
+     *
+     * @param x0 The first X-coordinate, inclusive.
+     * @param y0 The first Y-coordinate, inclusive.
+     * @param z0 The first Z-coordinate, inclusive.
+     * @param x1 The last X-coordinate, exclusive.
+     * @param y1 The last Y-coordinate, exclusive.
+     * @param z1 The last Z-coordinate, exclusive.
+     * @return The sum, 0 for an empty box.
+     * @throws IndexOutOfBoundsException if the box is out of bounds.
+     */
+    public long sum(int x0, int y0, int z0, int x1, int y1, int z1) {
+        checkRange(x0, x1, xSize, 0);
+        checkRange(y0, y1, ySize, 1);
+        checkRange(z0, z1, zSize, 2);
+        int a0 = x0 * planeStride;
+        int a1 = x1 * planeStride;
+        int b0 = y0 * rowStride;
+        int b1 = y1 * rowStride;
+        return data[a1 + b1 + z1] - data[a0 + b1 + z1] - data[a1 + b0 + z1] - data[a1 + b1 + z0]
+                + data[a0 + b0 + z1] + data[a0 + b1 + z0] + data[a1 + b0 + z0] - data[a0 + b0 + z0];
+    }
+
+    /**
+     * Returns the sum of all source cells.
+     *
+     * @return The total.
+     */
+    public long total() {
+        return data[data.length - 1];
+    }
+
+    /**
+     * Brings the table up to date after the source cells in {@code [x0, x1) x [y0, y1) x [z0, z1)} changed.
+     *
+     * @param src The source grid the table was built from, with its new values.
+     * @param x0  The first edited X-coordinate, inclusive.
+     * @param y0  The first edited Y-coordinate, inclusive.
+     * @param z0  The first edited Z-coordinate, inclusive.
+     * @param x1  The last edited X-coordinate, exclusive.
+     * @param y1  The last edited Y-coordinate, exclusive.
+     * @param z1  The last edited Z-coordinate, exclusive.
+     * @throws IllegalArgumentException  if the source dimensions do not match.
+     * @throws IndexOutOfBoundsException if the box is out of bounds.
+     */
+    public void update(Long3DArray src, int x0, int y0, int z0, int x1, int y1, int z1) {
+        if (src.getXSize() != xSize || src.getYSize() != ySize || src.getZSize() != zSize) {
+            throw new IllegalArgumentException("Dimensions must match.");
+        }
+        checkRange(x0, x1, xSize, 0);
+        checkRange(y0, y1, ySize, 1);
+        checkRange(z0, z1, zSize, 2);
+        if (x0 == x1 || y0 == y1 || z0 == z1) {
+            return;
+        }
+        long[] values = src.unwrapUnsafe();
+        int width = zSize - z0;
+        long[] delta = new long[(ySize - y0) * width];
+        for (int x = x0 + 1; x <= x1; x++) {
+            int plane = x * planeStride;
+            for (int y = y0 + 1; y <= ySize; y++) {
+                int row = plane + y * rowStride;
+                int previousRow = row - rowStride;
+                int source = ((x - 1) * ySize + (y - 1)) * zSize;
+                long running = (data[row + z0] - data[row - planeStride + z0])
+                        - (data[previousRow + z0] - data[previousRow - planeStride + z0]);
+                for (int z = z0 + 1; z <= zSize; z++) {
+                    running += values[source + z - 1];
+                    long value = data[row - planeStride + z] + data[previousRow + z]
+                            - data[previousRow - planeStride + z] + running;
+                    if (x == x1) {
+                        delta[(y - y0 - 1) * width + (z - z0 - 1)] = value - data[row + z];
+                    }
+                    data[row + z] = value;
+                }
+            }
+        }
+        for (int x = x1 + 1; x <= xSize; x++) {
+            int plane = x * planeStride;
+            for (int y = y0 + 1, i = 0; y <= ySize; y++) {
+                int row = plane + y * rowStride + z0 + 1;
+                for (int z = 0; z < width; z++, i++) {
+                    data[row + z] += delta[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the table, of size {@code (xSize + 1) x (ySize + 1) x (zSize + 1)}. It is not copied.
+     *
+     * @return The backing table.
+     */
+    public Long3DArray getTable() {
+        return table;
+    }
+
+    /**
+     * Returns the size of the X dimension of the source.
+     *
+     * @return The size of the X dimension.
+     */
+    public int getXSize() {
+        return xSize;
+    }
+
+    /**
+     * Returns the size of the Y dimension of the source.
+     *
+     * @return The size of the Y dimension.
+     */
+    public int getYSize() {
+        return ySize;
+    }
+
+    /**
+     * Returns the size of the Z dimension of the source.
+     *
+     * @return The size of the Z dimension.
+     */
+    public int getZSize() {
+        return zSize;
+    }
+
+    private void build(long[] values, boolean parallel) {
+        int rows = xSize * ySize;
+        ParallelArrays.ChunkAction alongZ = (chunk, from, to) -> {
+            for (int r = from; r < to; r++) {
+                int x = r / ySize;
+                int y = r - x * ySize;
+                int source = r * zSize;
+                int target = (x + 1) * planeStride + (y + 1) * rowStride + 1;
+                long running = 0L;
+                for (int z = 0; z < zSize; z++) {
+                    running += values[source + z];
+                    data[target + z] = running;
+                }
+            }
+        };
+        ParallelArrays.ChunkAction alongY = (chunk, from, to) -> {
+            for (int x = from + 1; x <= to; x++) {
+                int plane = x * planeStride;
+                for (int y = 2; y <= ySize; y++) {
+                    int row = plane + y * rowStride;
+                    for (int z = 1; z < rowStride; z++) {
+                        data[row + z] += data[row - rowStride + z];
+                    }
+                }
+            }
+        };
+        ParallelArrays.ChunkAction alongX = (chunk, from, to) -> {
+            for (int x = 2; x <= xSize; x++) {
+                int plane = x * planeStride;
+                for (int i = from; i < to; i++) {
+                    data[plane + i] += data[plane - planeStride + i];
+                }
+            }
+        };
+        if (parallel) {
+            ParallelArrays.forEachChunk(rows, (int) Math.min(8L * zSize, Integer.MAX_VALUE), alongZ);
+            ParallelArrays.forEachChunk(xSize, (int) Math.min(8L * planeStride, Integer.MAX_VALUE), alongY);
+            ParallelArrays.forEachChunk(planeStride, (int) Math.min(8L * xSize, Integer.MAX_VALUE), alongX);
+        } else {
+            alongZ.run(0, 0, rows);
+            alongY.run(0, 0, xSize);
+            alongX.run(0, 0, planeStride);
+        }
+    }
+
+    private static void checkRange(int from, int to, int size, int dimension) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + from + ", " + to + ") out of bounds for dimension " + dimension + " (0 to " + (size - 1) + ")."
+            );
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.nogenericgames.community.arrays.shorts;
+
+/**
+ * An operation on two short operands that produces a short result, the short counterpart of
+ * {@link java.util.function.IntBinaryOperator}.
+ */
+@FunctionalInterface
+public interface ShortBinaryOperator {
+
+    /**
+     * Applies this operator to the given operands.
+     *
+     * @param left  The first operand.
+     * @param right The second operand.
+     * @return The result.
+     */
+    short applyAsShort(short left, short right);
+}
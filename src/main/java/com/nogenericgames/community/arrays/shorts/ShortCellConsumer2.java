@@ -0,0 +1,17 @@
+package com.nogenericgames.community.arrays.shorts;
+
+/**
+ * Receives the cells of a two-dimensional short array together with their coordinates.
+ */
+@FunctionalInterface
+public interface ShortCellConsumer2 {
+
+    /**
+     * Accepts one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param value The short value at (x, y).
+     */
+    void accept(int x, int y, short value);
+}
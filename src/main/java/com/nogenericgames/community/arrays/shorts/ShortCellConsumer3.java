@@ -0,0 +1,18 @@
+package com.nogenericgames.community.arrays.shorts;
+
+/**
+ * Receives the cells of a three-dimensional short array together with their coordinates.
+ */
+@FunctionalInterface
+public interface ShortCellConsumer3 {
+
+    /**
+     * Accepts one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param value The short value at (x, y, z).
+     */
+    void accept(int x, int y, int z, short value);
+}
@@ -0,0 +1,19 @@
+package com.nogenericgames.community.arrays.shorts;
+
+/**
+ * Receives the cells of a four-dimensional short array together with their coordinates.
+ */
+@FunctionalInterface
+public interface ShortCellConsumer4 {
+
+    /**
+     * Accepts one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param w     The W-coordinate (dimension 3).
+     * @param value The short value at (x, y, z, w).
+     */
+    void accept(int x, int y, int z, int w, short value);
+}
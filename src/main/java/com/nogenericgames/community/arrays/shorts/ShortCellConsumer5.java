@@ -0,0 +1,20 @@
+package com.nogenericgames.community.arrays.shorts;
+
+/**
+ * Receives the cells of a five-dimensional short array together with their coordinates.
+ */
+@FunctionalInterface
+public interface ShortCellConsumer5 {
+
+    /**
+     * Accepts one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param z     The Z-coordinate (dimension 2).
+     * @param w     The W-coordinate (dimension 3).
+     * @param u     The U-coordinate (dimension 4).
+     * @param value The short value at (x, y, z, w, u).
+     */
+    void accept(int x, int y, int z, int w, int u, short value);
+}
@@ -0,0 +1,18 @@
+package com.nogenericgames.community.arrays.shorts;
+
+/**
+ * Computes a new value for a cell of a two-dimensional short array from its coordinates and current value.
+ */
+@FunctionalInterface
+public interface ShortCellOperator2 {
+
+    /**
+     * Computes the new value of one cell.
+     *
+     * @param x     The X-coordinate (dimension 0).
+     * @param y     The Y-coordinate (dimension 1).
+     * @param value The current short value at (x, y).
+     * @return The new value of the cell.
+     */
+    short applyAsShort(int x, int y, short value);
+}
@@ -0,0 +1,17 @@
+package com.nogenericgames.community.arrays.shorts;
+
+/**
+ * An operation on a single short operand that produces a short result, the short counterpart of
+ * {@link java.util.function.IntUnaryOperator}.
+ */
+@FunctionalInterface
+public interface ShortUnaryOperator {
+
+    /**
+     * Applies this operator to the given operand.
+     *
+     * @param operand The operand.
+     * @return The result.
+     */
+    short applyAsShort(short operand);
+}
@@ -0,0 +1,155 @@
+package com.nogenericgames.community.arrays.utils;
+
+import java.util.Arrays;
+
+/**
+ * A reusable, mutable position in a row-major array of rank 2 to 6.
+ * <p>
+ * A cursor carries both the coordinates of a cell and its linear index. {@link #next()} advances the linear index by
+ * one and updates the coordinates with a carry, like an odometer, so a full scan performs no multiplications and no
+ * bounds checks. Pair it with the {@code getLinear}/{@code setLinear} accessors of an array:
+ * <pre>{@code
+ * ArrayCursor c = array.cursor();
+ * while (c.next()) {
+ *     array.setLinear(c.getIndex(), array.getLinear(c.getIndex()) + c.getX());
+ * }
+ * }</pre>
+ * Call {@link #reset()} to scan again without allocating a new cursor.
+ */
+public final class ArrayCursor {
+
+    private final int[] sizes;
+    private final int[] coordinates;
+    private final int totalSize;
+    private int index;
+
+    /**
+     * Creates a cursor for an array with the given dimension sizes, positioned before the first cell.
+     *
+     * @param sizes The size of each dimension, outermost first.
+     * @throws IllegalArgumentException if any dimension is non-positive or the total size exceeds the maximum
+     *                                  array length.
+     */
+    public ArrayCursor(int... sizes) {
+        for (int size : sizes) {
+            if (size <= 0) {
+                throw new IllegalArgumentException("Dimensions must be positive.");
+            }
+        }
+        this.sizes = sizes.clone();
+        this.coordinates = new int[sizes.length];
+        this.totalSize = FlatArrayUtils.checkedSize(sizes);
+        reset();
+    }
+
+    /**
+     * Moves the cursor to the next cell in row-major order.
+     *
+     * @return True if the cursor is on a cell, false once every cell has been visited.
+     */
+    public boolean next() {
+        if (index + 1 >= totalSize) {
+            index = totalSize;
+            return false;
+        }
+        if (++index == 0) {
+            return true;
+        }
+        int[] c = coordinates;
+        int d = c.length - 1;
+        while (++c[d] == sizes[d]) {
+            c[d--] = 0;
+        }
+        return true;
+    }
+
+    /**
+     * Moves the cursor back before the first cell.
+     */
+    public void reset() {
+        Arrays.fill(coordinates, 0);
+        index = -1;
+    }
+
+    /**
+     * Returns the linear (row-major) index of the current cell.
+     *
+     * @return The linear index.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the coordinate of the current cell along a dimension.
+     *
+     * @param dimension The dimension, 0 for X.
+     * @return The coordinate.
+     */
+    public int get(int dimension) {
+        return coordinates[dimension];
+    }
+
+    /**
+     * Returns the X-coordinate (dimension 0) of the current cell.
+     *
+     * @return The X-coordinate.
+     */
+    public int getX() {
+        return coordinates[0];
+    }
+
+    /**
+     * Returns the Y-coordinate (dimension 1) of the current cell.
+     *
+     * @return The Y-coordinate.
+     */
+    public int getY() {
+        return coordinates[1];
+    }
+
+    /**
+     * Returns the Z-coordinate (dimension 2) of the current cell. Requires rank 3 or higher.
+     *
+     * @return The Z-coordinate.
+     */
+    public int getZ() {
+        return coordinates[2];
+    }
+
+    /**
+     * Returns the W-coordinate (dimension 3) of the current cell. Requires rank 4 or higher.
+     *
+     * @return The W-coordinate.
+     */
+    public int getW() {
+        return coordinates[3];
+    }
+
+    /**
+     * Returns the U-coordinate (dimension 4) of the current cell. Requires rank 5 or higher.
+     *
+     * @return The U-coordinate.
+     */
+    public int getU() {
+        return coordinates[4];
+    }
+
+    /**
+     * Returns the V-coordinate (dimension 5) of the current cell. Requires rank 6.
+     *
+     * @return The V-coordinate.
+     */
+    public int getV() {
+        return coordinates[5];
+    }
+
+    /**
+     * Returns the number of dimensions.
+     *
+     * @return The rank of the array the cursor walks.
+     */
+    public int getRank() {
+        return sizes.length;
+    }
+}
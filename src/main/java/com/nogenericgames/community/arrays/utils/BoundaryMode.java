@@ -0,0 +1,59 @@
+package com.nogenericgames.community.arrays.utils;
+
+/**
+ * How coordinates outside an array are mapped back inside it when a stencil or kernel reaches past the border.
+ */
+public enum BoundaryMode {
+
+    /**
+     * Out-of-range coordinates are clamped to the nearest edge cell: {@code ... 0 0 | 0 1 2 ... n-1 | n-1 n-1 ...}.
+     */
+    CLAMP,
+
+    /**
+     * The array is treated as periodic: {@code ... n-2 n-1 | 0 1 2 ... n-1 | 0 1 ...}.
+     */
+    WRAP,
+
+    /**
+     * Cells outside the array read as zero.
+     */
+    ZERO,
+
+    /**
+     * The array is reflected at its edges without repeating the edge cell: {@code ... 2 1 | 0 1 2 ... n-1 | n-2 ...}.
+     */
+    MIRROR;
+
+    /**
+     * Maps a possibly out-of-range coordinate into {@code [0, size)}.
+     *
+     * @param index The coordinate.
+     * @param size  The size of the dimension, positive.
+     * @return The coordinate to read, or -1 if the cell reads as zero ({@link #ZERO} only).
+     */
+    public int resolve(int index, int size) {
+        if (index >= 0 && index < size) {
+            return index;
+        }
+        switch (this) {
+            case CLAMP:
+                return index < 0 ? 0 : size - 1;
+            case WRAP:
+                int wrapped = index % size;
+                return wrapped < 0 ? wrapped + size : wrapped;
+            case ZERO:
+                return -1;
+            default:
+                if (size == 1) {
+                    return 0;
+                }
+                int period = 2 * size - 2;
+                int folded = index % period;
+                if (folded < 0) {
+                    folded += period;
+                }
+                return folded < size ? folded : period - folded;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.nogenericgames.community.arrays.utils;
+
+/**
+ * Receives an axis-aligned, half-open box {@code [x0, x1) x [y0, y1)} of a two-dimensional grid.
+ */
+@FunctionalInterface
+public interface BoxConsumer2 {
+
+    /**
+     * Accepts one box.
+     *
+     * @param x0 The first X-coordinate, inclusive.
+     * @param y0 The first Y-coordinate, inclusive.
+     * @param x1 The last X-coordinate, exclusive.
+     * @param y1 The last Y-coordinate, exclusive.
+     */
+    void accept(int x0, int y0, int x1, int y1);
+}
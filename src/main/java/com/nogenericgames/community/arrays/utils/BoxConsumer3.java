@@ -0,0 +1,20 @@
+package com.nogenericgames.community.arrays.utils;
+
+/**
+ * Receives an axis-aligned, half-open box {@code [x0, x1) x [y0, y1) x [z0, z1)} of a three-dimensional grid.
+ */
+@FunctionalInterface
+public interface BoxConsumer3 {
+
+    /**
+     * Accepts one box.
+     *
+     * @param x0 The first X-coordinate, inclusive.
+     * @param y0 The first Y-coordinate, inclusive.
+     * @param z0 The first Z-coordinate, inclusive.
+     * @param x1 The last X-coordinate, exclusive.
+     * @param y1 The last Y-coordinate, exclusive.
+     * @param z1 The last Z-coordinate, exclusive.
+     */
+    void accept(int x0, int y0, int z0, int x1, int y1, int z1);
+}
@@ -0,0 +1,78 @@
+package com.nogenericgames.community.arrays.utils;
+
+/**
+ * Packs three signed chunk coordinates into one {@code long} key.
+ * <p>
+ * Each coordinate keeps its low 21 bits, two's complement, so chunk coordinates from {@link #MIN_COORDINATE} to
+ * {@link #MAX_COORDINATE} round-trip exactly. The key is {@code x << 42 | y << 21 | z} over the 21-bit fields, which
+ * needs no allocation and no boxing when used with {@link LongObjectMap}.
+ */
+public final class ChunkKeys {
+
+    /**
+     * The smallest chunk coordinate that can be packed.
+     */
+    public static final int MIN_COORDINATE = -(1 << 20);
+
+    /**
+     * The largest chunk coordinate that can be packed.
+     */
+    public static final int MAX_COORDINATE = (1 << 20) - 1;
+
+    private static final long FIELD_MASK = (1L << 21) - 1;
+
+    private ChunkKeys() {
+    }
+
+    /**
+     * Packs three chunk coordinates into a key. Bits above the low 21 of each coordinate are ignored.
+     *
+     * @param x The chunk X-coordinate.
+     * @param y The chunk Y-coordinate.
+     * @param z The chunk Z-coordinate.
+     * @return The packed key.
+     */
+    public static long pack(int x, int y, int z) {
+        return ((x & FIELD_MASK) << 42) | ((y & FIELD_MASK) << 21) | (z & FIELD_MASK);
+    }
+
+    /**
+     * Extracts the chunk X-coordinate of a key.
+     *
+     * @param key The packed key.
+     * @return The sign-extended X-coordinate.
+     */
+    public static int unpackX(long key) {
+        return (int) (key << 1 >> 43);
+    }
+
+    /**
+     * Extracts the chunk Y-coordinate of a key.
+     *
+     * @param key The packed key.
+     * @return The sign-extended Y-coordinate.
+     */
+    public static int unpackY(long key) {
+        return (int) (key << 22 >> 43);
+    }
+
+    /**
+     * Extracts the chunk Z-coordinate of a key.
+     *
+     * @param key The packed key.
+     * @return The sign-extended Z-coordinate.
+     */
+    public static int unpackZ(long key) {
+        return (int) (key << 43 >> 43);
+    }
+
+    /**
+     * Returns whether a chunk coordinate fits in a key without loss.
+     *
+     * @param coordinate The chunk coordinate.
+     * @return True if the coordinate is between {@link #MIN_COORDINATE} and {@link #MAX_COORDINATE}.
+     */
+    public static boolean fits(int coordinate) {
+        return coordinate >= MIN_COORDINATE && coordinate <= MAX_COORDINATE;
+    }
+}
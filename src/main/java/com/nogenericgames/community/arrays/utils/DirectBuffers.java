@@ -0,0 +1,94 @@
+package com.nogenericgames.community.arrays.utils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Allocation and explicit release of direct (off-heap) and memory-mapped buffers.
+ * <p>
+ * Direct buffers are normally released by their own cleaner once the garbage collector finds them unreachable, which
+ * can take a long time for large buffers held by long-lived objects. {@link #free(ByteBuffer)} runs that cleaner
+ * immediately. It uses {@code sun.misc.Unsafe.invokeCleaner} on Java 9 and later and the buffer's
+ * {@code cleaner().clean()} on Java 8; if neither is reachable, freeing is left to the garbage collector.
+ */
+public final class DirectBuffers {
+
+    private static final Cleaner CLEANER = findCleaner();
+
+    private DirectBuffers() {
+    }
+
+    /**
+     * Allocates a zeroed direct buffer in native byte order.
+     *
+     * @param bytes The capacity in bytes.
+     * @return A new direct buffer.
+     * @throws IllegalArgumentException if bytes is negative or larger than {@link Integer#MAX_VALUE}.
+     */
+    public static ByteBuffer allocate(long bytes) {
+        if (bytes < 0 || bytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Direct buffer size " + bytes + " exceeds the maximum buffer capacity.");
+        }
+        return ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Releases the native memory of a direct or mapped buffer immediately.
+     * <p>
+     * The buffer, and every view or duplicate derived from it, must not be accessed afterwards. Must be called on the
+     * buffer returned by the allocation or mapping, not on a slice or duplicate of it.
+     *
+     * @param buffer The buffer to release; ignored if null or not direct.
+     */
+    public static void free(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect()) {
+            return;
+        }
+        CLEANER.clean(buffer);
+    }
+
+    private interface Cleaner {
+        void clean(ByteBuffer buffer);
+    }
+
+    private static Cleaner findCleaner() {
+        try {
+            // Java 9+: sun.misc.Unsafe.invokeCleaner(ByteBuffer)
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            final Object unsafe = theUnsafe.get(null);
+            final Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            return buffer -> {
+                try {
+                    invokeCleaner.invoke(unsafe, buffer);
+                } catch (ReflectiveOperationException e) {
+                    // Leave the buffer to the garbage collector.
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Not available; fall through to the Java 8 path.
+        }
+        try {
+            // Java 8: ((sun.nio.ch.DirectBuffer) buffer).cleaner().clean()
+            final Method cleanerMethod = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+            final Method cleanMethod = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            return buffer -> {
+                try {
+                    Object cleaner = cleanerMethod.invoke(buffer);
+                    if (cleaner != null) {
+                        cleanMethod.invoke(cleaner);
+                    }
+                } catch (ReflectiveOperationException e) {
+                    // Leave the buffer to the garbage collector.
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return buffer -> {
+                // No explicit release available; the garbage collector frees the memory.
+            };
+        }
+    }
+}
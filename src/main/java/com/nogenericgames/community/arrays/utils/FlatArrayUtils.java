@@ -1,5 +1,1227 @@
 package com.nogenericgames.community.arrays.utils;
 
+import java.util.Arrays;
+
+/**
+ * Shared helpers for the flat, row-major array classes.
+ * <p>
+ * The element-wise kernels operate on whole backing arrays and are what the arithmetic methods of the float and double
+ * array classes delegate to. Each has an overload that takes a start position per array and a length, for arrays that
+ * occupy a range of a larger backing array. They are written as plain counted loops over local array references:
+ * HotSpot's C2 compiler removes the bounds checks of such loops, unrolls them and turns them into SIMD instructions
+ * (superword vectorization). Hand-unrolled loops with several statements per iteration vectorize less reliably, so none
+ * of the kernels are unrolled manually.
+ */
 public class FlatArrayUtils {
-    // Stub
+
+    private FlatArrayUtils() {
+    }
+
+    /**
+     * Computes the number of cells of a flat array with the given (positive) dimensions.
+     * <p>
+     * The product is accumulated in a {@code long} and checked after every factor, so sizes that would silently wrap
+     * around in {@code int} arithmetic are rejected instead of allocating a smaller array than the dimensions imply.
+     *
+     * @param dimensions The dimension sizes, each positive.
+     * @return The product of the dimensions.
+     * @throws IllegalArgumentException if the product does not fit in a Java array.
+     */
+    public static int checkedSize(int... dimensions) {
+        long size = 1;
+        for (int dimension : dimensions) {
+            size *= dimension;
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Total size exceeds the maximum array length.");
+            }
+        }
+        return (int) size;
+    }
+
+    /**
+     * Computes {@code dest[i] = a[i] + b[i]}. Any of the arrays may be the same instance.
+     *
+     * @param a    The first operand.
+     * @param b    The second operand.
+     * @param dest The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void add(float[] a, float[] b, float[] dest) {
+        int n = dest.length;
+        checkLength(n, a.length);
+        checkLength(n, b.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = a[i] + b[i];
+        }
+    }
+
+    /**
+     * Like {@link #add(float[], float[], float[])}, but over {@code length} elements starting at a separate position in
+     * each array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The first operand.
+     * @param aPos    The first index used in a.
+     * @param b       The second operand.
+     * @param bPos    The first index used in b.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void add(float[] a, int aPos, float[] b, int bPos, float[] dest, int destPos, int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(b.length, bPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = a[aPos + i] + b[bPos + i];
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = a[i] - b[i]}. Any of the arrays may be the same instance.
+     *
+     * @param a    The first operand.
+     * @param b    The second operand.
+     * @param dest The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void sub(float[] a, float[] b, float[] dest) {
+        int n = dest.length;
+        checkLength(n, a.length);
+        checkLength(n, b.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = a[i] - b[i];
+        }
+    }
+
+    /**
+     * Like {@link #sub(float[], float[], float[])}, but over {@code length} elements starting at a separate position in
+     * each array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The first operand.
+     * @param aPos    The first index used in a.
+     * @param b       The second operand.
+     * @param bPos    The first index used in b.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void sub(float[] a, int aPos, float[] b, int bPos, float[] dest, int destPos, int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(b.length, bPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = a[aPos + i] - b[bPos + i];
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = a[i] * b[i]}. Any of the arrays may be the same instance.
+     *
+     * @param a    The first operand.
+     * @param b    The second operand.
+     * @param dest The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void mul(float[] a, float[] b, float[] dest) {
+        int n = dest.length;
+        checkLength(n, a.length);
+        checkLength(n, b.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = a[i] * b[i];
+        }
+    }
+
+    /**
+     * Like {@link #mul(float[], float[], float[])}, but over {@code length} elements starting at a separate position in
+     * each array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The first operand.
+     * @param aPos    The first index used in a.
+     * @param b       The second operand.
+     * @param bPos    The first index used in b.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void mul(float[] a, int aPos, float[] b, int bPos, float[] dest, int destPos, int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(b.length, bPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = a[aPos + i] * b[bPos + i];
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = a[i] / b[i]}. Any of the arrays may be the same instance.
+     *
+     * @param a    The first operand.
+     * @param b    The second operand.
+     * @param dest The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void div(float[] a, float[] b, float[] dest) {
+        int n = dest.length;
+        checkLength(n, a.length);
+        checkLength(n, b.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = a[i] / b[i];
+        }
+    }
+
+    /**
+     * Like {@link #div(float[], float[], float[])}, but over {@code length} elements starting at a separate position in
+     * each array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The first operand.
+     * @param aPos    The first index used in a.
+     * @param b       The second operand.
+     * @param bPos    The first index used in b.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void div(float[] a, int aPos, float[] b, int bPos, float[] dest, int destPos, int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(b.length, bPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = a[aPos + i] / b[bPos + i];
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = Math.min(a[i], b[i])}. Any of the arrays may be the same instance.
+     *
+     * @param a    The first operand.
+     * @param b    The second operand.
+     * @param dest The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void min(float[] a, float[] b, float[] dest) {
+        int n = dest.length;
+        checkLength(n, a.length);
+        checkLength(n, b.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = Math.min(a[i], b[i]);
+        }
+    }
+
+    /**
+     * Like {@link #min(float[], float[], float[])}, but over {@code length} elements starting at a separate position in
+     * each array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The first operand.
+     * @param aPos    The first index used in a.
+     * @param b       The second operand.
+     * @param bPos    The first index used in b.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void min(float[] a, int aPos, float[] b, int bPos, float[] dest, int destPos, int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(b.length, bPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = Math.min(a[aPos + i], b[bPos + i]);
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = Math.max(a[i], b[i])}. Any of the arrays may be the same instance.
+     *
+     * @param a    The first operand.
+     * @param b    The second operand.
+     * @param dest The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void max(float[] a, float[] b, float[] dest) {
+        int n = dest.length;
+        checkLength(n, a.length);
+        checkLength(n, b.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = Math.max(a[i], b[i]);
+        }
+    }
+
+    /**
+     * Like {@link #max(float[], float[], float[])}, but over {@code length} elements starting at a separate position in
+     * each array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The first operand.
+     * @param aPos    The first index used in a.
+     * @param b       The second operand.
+     * @param bPos    The first index used in b.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void max(float[] a, int aPos, float[] b, int bPos, float[] dest, int destPos, int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(b.length, bPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = Math.max(a[aPos + i], b[bPos + i]);
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = a[i] * factor}. Any of the arrays may be the same instance.
+     *
+     * @param a      The operand.
+     * @param factor The factor.
+     * @param dest   The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void scale(float[] a, float factor, float[] dest) {
+        int n = dest.length;
+        checkLength(n, a.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = a[i] * factor;
+        }
+    }
+
+    /**
+     * Like {@link #scale(float[], float, float[])}, but over {@code length} elements starting at a separate position in
+     * each array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The operand.
+     * @param aPos    The first index used in a.
+     * @param factor  The factor.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void scale(float[] a, int aPos, float factor, float[] dest, int destPos, int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = a[aPos + i] * factor;
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = alpha * x[i] + y[i]}. Any of the arrays may be the same instance.
+     *
+     * @param alpha The factor applied to x.
+     * @param x     The scaled operand.
+     * @param y     The added operand.
+     * @param dest  The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void axpy(float alpha, float[] x, float[] y, float[] dest) {
+        int n = dest.length;
+        checkLength(n, x.length);
+        checkLength(n, y.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = alpha * x[i] + y[i];
+        }
+    }
+
+    /**
+     * Like {@link #axpy(float, float[], float[], float[])}, but over {@code length} elements starting at a separate
+     * position in each array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param alpha   The factor applied to x.
+     * @param x       The scaled operand.
+     * @param xPos    The first index used in x.
+     * @param y       The added operand.
+     * @param yPos    The first index used in y.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void axpy(float alpha, float[] x, int xPos, float[] y, int yPos, float[] dest, int destPos,
+                            int length) {
+        checkRange(x.length, xPos, length);
+        checkRange(y.length, yPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = alpha * x[xPos + i] + y[yPos + i];
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = a[i] * b[i] + c[i]}. Any of the arrays may be the same instance.
+     * <p>
+     * The product is rounded before the addition. {@code Math.fma} is not used: it does not exist on Java 8 and is
+     * slow where the CPU has no fused multiply-add.
+     *
+     * @param a    The first factor.
+     * @param b    The second factor.
+     * @param c    The addend.
+     * @param dest The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void fma(float[] a, float[] b, float[] c, float[] dest) {
+        int n = dest.length;
+        checkLength(n, a.length);
+        checkLength(n, b.length);
+        checkLength(n, c.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = a[i] * b[i] + c[i];
+        }
+    }
+
+    /**
+     * Like {@link #fma(float[], float[], float[], float[])}, but over {@code length} elements starting at a separate
+     * position in each array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The first factor.
+     * @param aPos    The first index used in a.
+     * @param b       The second factor.
+     * @param bPos    The first index used in b.
+     * @param c       The addend.
+     * @param cPos    The first index used in c.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void fma(float[] a, int aPos, float[] b, int bPos, float[] c, int cPos, float[] dest, int destPos,
+                           int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(b.length, bPos, length);
+        checkRange(c.length, cPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = a[aPos + i] * b[bPos + i] + c[cPos + i];
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = a[i] + t * (b[i] - a[i])}. Any of the arrays may be the same instance.
+     *
+     * @param a    The start values, returned for t = 0.
+     * @param b    The end values, returned for t = 1.
+     * @param t    The interpolation factor.
+     * @param dest The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void lerp(float[] a, float[] b, float t, float[] dest) {
+        int n = dest.length;
+        checkLength(n, a.length);
+        checkLength(n, b.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = a[i] + t * (b[i] - a[i]);
+        }
+    }
+
+    /**
+     * Like {@link #lerp(float[], float[], float, float[])}, but over {@code length} elements starting at a separate
+     * position in each array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The start values, returned for t = 0.
+     * @param aPos    The first index used in a.
+     * @param b       The end values, returned for t = 1.
+     * @param bPos    The first index used in b.
+     * @param t       The interpolation factor.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void lerp(float[] a, int aPos, float[] b, int bPos, float t, float[] dest, int destPos, int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(b.length, bPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = a[aPos + i] + t * (b[bPos + i] - a[aPos + i]);
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = Math.abs(a[i])}. Any of the arrays may be the same instance.
+     *
+     * @param a    The operand.
+     * @param dest The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void abs(float[] a, float[] dest) {
+        int n = dest.length;
+        checkLength(n, a.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = Math.abs(a[i]);
+        }
+    }
+
+    /**
+     * Like {@link #abs(float[], float[])}, but over {@code length} elements starting at a separate position in each
+     * array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The operand.
+     * @param aPos    The first index used in a.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void abs(float[] a, int aPos, float[] dest, int destPos, int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = Math.abs(a[aPos + i]);
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = Math.sqrt(a[i])}. Any of the arrays may be the same instance.
+     *
+     * @param a    The operand.
+     * @param dest The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void sqrt(float[] a, float[] dest) {
+        int n = dest.length;
+        checkLength(n, a.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = (float) Math.sqrt(a[i]);
+        }
+    }
+
+    /**
+     * Like {@link #sqrt(float[], float[])}, but over {@code length} elements starting at a separate position in each
+     * array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The operand.
+     * @param aPos    The first index used in a.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void sqrt(float[] a, int aPos, float[] dest, int destPos, int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = (float) Math.sqrt(a[aPos + i]);
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = Math.min(Math.max(a[i], min), max)}. The arrays may be the same instance.
+     *
+     * @param a    The operand.
+     * @param min  The lower bound.
+     * @param max  The upper bound.
+     * @param dest The destination.
+     * @throws IllegalArgumentException if the array lengths differ or min is greater than max.
+     */
+    public static void clamp(float[] a, float min, float max, float[] dest) {
+        if (min > max) {
+            throw new IllegalArgumentException("Lower bound " + min + " exceeds upper bound " + max + ".");
+        }
+        int n = dest.length;
+        checkLength(n, a.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = Math.min(Math.max(a[i], min), max);
+        }
+    }
+
+    /**
+     * Like {@link #clamp(float[], float, float, float[])}, but over {@code length} elements starting at a separate
+     * position in each array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The operand.
+     * @param aPos    The first index used in a.
+     * @param min     The lower bound.
+     * @param max     The upper bound.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IllegalArgumentException  if min is greater than max.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void clamp(float[] a, int aPos, float min, float max, float[] dest, int destPos, int length) {
+        if (min > max) {
+            throw new IllegalArgumentException("Lower bound " + min + " exceeds upper bound " + max + ".");
+        }
+        checkRange(a.length, aPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = Math.min(Math.max(a[aPos + i], min), max);
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = a[i] + b[i]}. Any of the arrays may be the same instance.
+     *
+     * @param a    The first operand.
+     * @param b    The second operand.
+     * @param dest The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void add(double[] a, double[] b, double[] dest) {
+        int n = dest.length;
+        checkLength(n, a.length);
+        checkLength(n, b.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = a[i] + b[i];
+        }
+    }
+
+    /**
+     * Like {@link #add(double[], double[], double[])}, but over {@code length} elements starting at a separate position
+     * in each array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The first operand.
+     * @param aPos    The first index used in a.
+     * @param b       The second operand.
+     * @param bPos    The first index used in b.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void add(double[] a, int aPos, double[] b, int bPos, double[] dest, int destPos, int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(b.length, bPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = a[aPos + i] + b[bPos + i];
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = a[i] - b[i]}. Any of the arrays may be the same instance.
+     *
+     * @param a    The first operand.
+     * @param b    The second operand.
+     * @param dest The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void sub(double[] a, double[] b, double[] dest) {
+        int n = dest.length;
+        checkLength(n, a.length);
+        checkLength(n, b.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = a[i] - b[i];
+        }
+    }
+
+    /**
+     * Like {@link #sub(double[], double[], double[])}, but over {@code length} elements starting at a separate position
+     * in each array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The first operand.
+     * @param aPos    The first index used in a.
+     * @param b       The second operand.
+     * @param bPos    The first index used in b.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void sub(double[] a, int aPos, double[] b, int bPos, double[] dest, int destPos, int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(b.length, bPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = a[aPos + i] - b[bPos + i];
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = a[i] * b[i]}. Any of the arrays may be the same instance.
+     *
+     * @param a    The first operand.
+     * @param b    The second operand.
+     * @param dest The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void mul(double[] a, double[] b, double[] dest) {
+        int n = dest.length;
+        checkLength(n, a.length);
+        checkLength(n, b.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = a[i] * b[i];
+        }
+    }
+
+    /**
+     * Like {@link #mul(double[], double[], double[])}, but over {@code length} elements starting at a separate position
+     * in each array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The first operand.
+     * @param aPos    The first index used in a.
+     * @param b       The second operand.
+     * @param bPos    The first index used in b.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void mul(double[] a, int aPos, double[] b, int bPos, double[] dest, int destPos, int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(b.length, bPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = a[aPos + i] * b[bPos + i];
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = a[i] / b[i]}. Any of the arrays may be the same instance.
+     *
+     * @param a    The first operand.
+     * @param b    The second operand.
+     * @param dest The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void div(double[] a, double[] b, double[] dest) {
+        int n = dest.length;
+        checkLength(n, a.length);
+        checkLength(n, b.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = a[i] / b[i];
+        }
+    }
+
+    /**
+     * Like {@link #div(double[], double[], double[])}, but over {@code length} elements starting at a separate position
+     * in each array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The first operand.
+     * @param aPos    The first index used in a.
+     * @param b       The second operand.
+     * @param bPos    The first index used in b.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void div(double[] a, int aPos, double[] b, int bPos, double[] dest, int destPos, int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(b.length, bPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = a[aPos + i] / b[bPos + i];
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = Math.min(a[i], b[i])}. Any of the arrays may be the same instance.
+     *
+     * @param a    The first operand.
+     * @param b    The second operand.
+     * @param dest The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void min(double[] a, double[] b, double[] dest) {
+        int n = dest.length;
+        checkLength(n, a.length);
+        checkLength(n, b.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = Math.min(a[i], b[i]);
+        }
+    }
+
+    /**
+     * Like {@link #min(double[], double[], double[])}, but over {@code length} elements starting at a separate position
+     * in each array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The first operand.
+     * @param aPos    The first index used in a.
+     * @param b       The second operand.
+     * @param bPos    The first index used in b.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void min(double[] a, int aPos, double[] b, int bPos, double[] dest, int destPos, int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(b.length, bPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = Math.min(a[aPos + i], b[bPos + i]);
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = Math.max(a[i], b[i])}. Any of the arrays may be the same instance.
+     *
+     * @param a    The first operand.
+     * @param b    The second operand.
+     * @param dest The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void max(double[] a, double[] b, double[] dest) {
+        int n = dest.length;
+        checkLength(n, a.length);
+        checkLength(n, b.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = Math.max(a[i], b[i]);
+        }
+    }
+
+    /**
+     * Like {@link #max(double[], double[], double[])}, but over {@code length} elements starting at a separate position
+     * in each array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The first operand.
+     * @param aPos    The first index used in a.
+     * @param b       The second operand.
+     * @param bPos    The first index used in b.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void max(double[] a, int aPos, double[] b, int bPos, double[] dest, int destPos, int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(b.length, bPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = Math.max(a[aPos + i], b[bPos + i]);
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = a[i] * factor}. Any of the arrays may be the same instance.
+     *
+     * @param a      The operand.
+     * @param factor The factor.
+     * @param dest   The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void scale(double[] a, double factor, double[] dest) {
+        int n = dest.length;
+        checkLength(n, a.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = a[i] * factor;
+        }
+    }
+
+    /**
+     * Like {@link #scale(double[], double, double[])}, but over {@code length} elements starting at a separate position
+     * in each array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The operand.
+     * @param aPos    The first index used in a.
+     * @param factor  The factor.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void scale(double[] a, int aPos, double factor, double[] dest, int destPos, int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = a[aPos + i] * factor;
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = alpha * x[i] + y[i]}. Any of the arrays may be the same instance.
+     *
+     * @param alpha The factor applied to x.
+     * @param x     The scaled operand.
+     * @param y     The added operand.
+     * @param dest  The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void axpy(double alpha, double[] x, double[] y, double[] dest) {
+        int n = dest.length;
+        checkLength(n, x.length);
+        checkLength(n, y.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = alpha * x[i] + y[i];
+        }
+    }
+
+    /**
+     * Like {@link #axpy(double, double[], double[], double[])}, but over {@code length} elements starting at a separate
+     * position in each array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param alpha   The factor applied to x.
+     * @param x       The scaled operand.
+     * @param xPos    The first index used in x.
+     * @param y       The added operand.
+     * @param yPos    The first index used in y.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void axpy(double alpha, double[] x, int xPos, double[] y, int yPos, double[] dest, int destPos,
+                            int length) {
+        checkRange(x.length, xPos, length);
+        checkRange(y.length, yPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = alpha * x[xPos + i] + y[yPos + i];
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = a[i] * b[i] + c[i]}. Any of the arrays may be the same instance.
+     * <p>
+     * The product is rounded before the addition. {@code Math.fma} is not used: it does not exist on Java 8 and is
+     * slow where the CPU has no fused multiply-add.
+     *
+     * @param a    The first factor.
+     * @param b    The second factor.
+     * @param c    The addend.
+     * @param dest The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void fma(double[] a, double[] b, double[] c, double[] dest) {
+        int n = dest.length;
+        checkLength(n, a.length);
+        checkLength(n, b.length);
+        checkLength(n, c.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = a[i] * b[i] + c[i];
+        }
+    }
+
+    /**
+     * Like {@link #fma(double[], double[], double[], double[])}, but over {@code length} elements starting at a
+     * separate position in each array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The first factor.
+     * @param aPos    The first index used in a.
+     * @param b       The second factor.
+     * @param bPos    The first index used in b.
+     * @param c       The addend.
+     * @param cPos    The first index used in c.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void fma(double[] a, int aPos, double[] b, int bPos, double[] c, int cPos, double[] dest, int destPos,
+                           int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(b.length, bPos, length);
+        checkRange(c.length, cPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = a[aPos + i] * b[bPos + i] + c[cPos + i];
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = a[i] + t * (b[i] - a[i])}. Any of the arrays may be the same instance.
+     *
+     * @param a    The start values, returned for t = 0.
+     * @param b    The end values, returned for t = 1.
+     * @param t    The interpolation factor.
+     * @param dest The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void lerp(double[] a, double[] b, double t, double[] dest) {
+        int n = dest.length;
+        checkLength(n, a.length);
+        checkLength(n, b.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = a[i] + t * (b[i] - a[i]);
+        }
+    }
+
+    /**
+     * Like {@link #lerp(double[], double[], double, double[])}, but over {@code length} elements starting at a separate
+     * position in each array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The start values, returned for t = 0.
+     * @param aPos    The first index used in a.
+     * @param b       The end values, returned for t = 1.
+     * @param bPos    The first index used in b.
+     * @param t       The interpolation factor.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void lerp(double[] a, int aPos, double[] b, int bPos, double t, double[] dest, int destPos,
+                            int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(b.length, bPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = a[aPos + i] + t * (b[bPos + i] - a[aPos + i]);
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = Math.abs(a[i])}. Any of the arrays may be the same instance.
+     *
+     * @param a    The operand.
+     * @param dest The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void abs(double[] a, double[] dest) {
+        int n = dest.length;
+        checkLength(n, a.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = Math.abs(a[i]);
+        }
+    }
+
+    /**
+     * Like {@link #abs(double[], double[])}, but over {@code length} elements starting at a separate position in each
+     * array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The operand.
+     * @param aPos    The first index used in a.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void abs(double[] a, int aPos, double[] dest, int destPos, int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = Math.abs(a[aPos + i]);
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = Math.sqrt(a[i])}. Any of the arrays may be the same instance.
+     *
+     * @param a    The operand.
+     * @param dest The destination.
+     * @throws IllegalArgumentException if the array lengths differ.
+     */
+    public static void sqrt(double[] a, double[] dest) {
+        int n = dest.length;
+        checkLength(n, a.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = Math.sqrt(a[i]);
+        }
+    }
+
+    /**
+     * Like {@link #sqrt(double[], double[])}, but over {@code length} elements starting at a separate position in each
+     * array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The operand.
+     * @param aPos    The first index used in a.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void sqrt(double[] a, int aPos, double[] dest, int destPos, int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = Math.sqrt(a[aPos + i]);
+        }
+    }
+
+    /**
+     * Computes {@code dest[i] = Math.min(Math.max(a[i], min), max)}. The arrays may be the same instance.
+     *
+     * @param a    The operand.
+     * @param min  The lower bound.
+     * @param max  The upper bound.
+     * @param dest The destination.
+     * @throws IllegalArgumentException if the array lengths differ or min is greater than max.
+     */
+    public static void clamp(double[] a, double min, double max, double[] dest) {
+        if (min > max) {
+            throw new IllegalArgumentException("Lower bound " + min + " exceeds upper bound " + max + ".");
+        }
+        int n = dest.length;
+        checkLength(n, a.length);
+        for (int i = 0; i < n; i++) {
+            dest[i] = Math.min(Math.max(a[i], min), max);
+        }
+    }
+
+    /**
+     * Like {@link #clamp(double[], double, double, double[])}, but over {@code length} elements starting at a separate
+     * position in each array. Ranges of the same array must either be identical or not overlap.
+     *
+     * @param a       The operand.
+     * @param aPos    The first index used in a.
+     * @param min     The lower bound.
+     * @param max     The upper bound.
+     * @param dest    The destination.
+     * @param destPos The first index used in dest.
+     * @param length  The number of elements.
+     * @throws IllegalArgumentException  if min is greater than max.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void clamp(double[] a, int aPos, double min, double max, double[] dest, int destPos, int length) {
+        if (min > max) {
+            throw new IllegalArgumentException("Lower bound " + min + " exceeds upper bound " + max + ".");
+        }
+        checkRange(a.length, aPos, length);
+        checkRange(dest.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = Math.min(Math.max(a[aPos + i], min), max);
+        }
+    }
+
+    /**
+     * Compares two ranges of byte arrays with the semantics of {@link Arrays#equals(byte[], byte[])}. Whole
+     * arrays are compared with that method itself.
+     *
+     * @param a      The first array.
+     * @param aPos   The first index compared in a.
+     * @param b      The second array.
+     * @param bPos   The first index compared in b.
+     * @param length The number of elements to compare.
+     * @return True if the ranges hold equal elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static boolean equals(byte[] a, int aPos, byte[] b, int bPos, int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(b.length, bPos, length);
+        if (aPos == 0 && bPos == 0 && a.length == length && b.length == length) {
+            return Arrays.equals(a, b);
+        }
+        for (int i = 0; i < length; i++) {
+            if (a[aPos + i] != b[bPos + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hashes a range of a byte array with the algorithm of {@link Arrays#hashCode(byte[])}, so a range hashes
+     * like an array holding the same elements. A whole array is hashed with that method itself.
+     *
+     * @param a      The array.
+     * @param pos    The first index hashed.
+     * @param length The number of elements to hash.
+     * @return The hash code of the range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int hashCode(byte[] a, int pos, int length) {
+        checkRange(a.length, pos, length);
+        if (pos == 0 && a.length == length) {
+            return Arrays.hashCode(a);
+        }
+        int result = 1;
+        for (int i = pos; i < pos + length; i++) {
+            result = 31 * result + a[i];
+        }
+        return result;
+    }
+
+    /**
+     * Compares two ranges of int arrays with the semantics of {@link Arrays#equals(int[], int[])}. Whole
+     * arrays are compared with that method itself.
+     *
+     * @param a      The first array.
+     * @param aPos   The first index compared in a.
+     * @param b      The second array.
+     * @param bPos   The first index compared in b.
+     * @param length The number of elements to compare.
+     * @return True if the ranges hold equal elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static boolean equals(int[] a, int aPos, int[] b, int bPos, int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(b.length, bPos, length);
+        if (aPos == 0 && bPos == 0 && a.length == length && b.length == length) {
+            return Arrays.equals(a, b);
+        }
+        for (int i = 0; i < length; i++) {
+            if (a[aPos + i] != b[bPos + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hashes a range of a int array with the algorithm of {@link Arrays#hashCode(int[])}, so a range hashes
+     * like an array holding the same elements. A whole array is hashed with that method itself.
+     *
+     * @param a      The array.
+     * @param pos    The first index hashed.
+     * @param length The number of elements to hash.
+     * @return The hash code of the range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int hashCode(int[] a, int pos, int length) {
+        checkRange(a.length, pos, length);
+        if (pos == 0 && a.length == length) {
+            return Arrays.hashCode(a);
+        }
+        int result = 1;
+        for (int i = pos; i < pos + length; i++) {
+            result = 31 * result + a[i];
+        }
+        return result;
+    }
+
+    /**
+     * Compares two ranges of float arrays with the semantics of {@link Arrays#equals(float[], float[])}. Whole
+     * arrays are compared with that method itself.
+     *
+     * @param a      The first array.
+     * @param aPos   The first index compared in a.
+     * @param b      The second array.
+     * @param bPos   The first index compared in b.
+     * @param length The number of elements to compare.
+     * @return True if the ranges hold equal elements.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static boolean equals(float[] a, int aPos, float[] b, int bPos, int length) {
+        checkRange(a.length, aPos, length);
+        checkRange(b.length, bPos, length);
+        if (aPos == 0 && bPos == 0 && a.length == length && b.length == length) {
+            return Arrays.equals(a, b);
+        }
+        for (int i = 0; i < length; i++) {
+            if (Float.floatToIntBits(a[aPos + i]) != Float.floatToIntBits(b[bPos + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hashes a range of a float array with the algorithm of {@link Arrays#hashCode(float[])}, so a range hashes
+     * like an array holding the same elements. A whole array is hashed with that method itself.
+     *
+     * @param a      The array.
+     * @param pos    The first index hashed.
+     * @param length The number of elements to hash.
+     * @return The hash code of the range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int hashCode(float[] a, int pos, int length) {
+        checkRange(a.length, pos, length);
+        if (pos == 0 && a.length == length) {
+            return Arrays.hashCode(a);
+        }
+        int result = 1;
+        for (int i = pos; i < pos + length; i++) {
+            result = 31 * result + Float.floatToIntBits(a[i]);
+        }
+        return result;
+    }
+
+    private static void checkRange(int length, int from, int count) {
+        if (from < 0 || count < 0 || from > length - count) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + from + ", " + ((long) from + count) + ") out of bounds for length " + length + "."
+            );
+        }
+    }
+
+    private static void checkLength(int expected, int actual) {
+        if (actual != expected) {
+            throw new IllegalArgumentException("Array lengths must match (" + expected + " and " + actual + ").");
+        }
+    }
 }
@@ -0,0 +1,233 @@
+package com.nogenericgames.community.arrays.utils;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from primitive {@code long} keys to non-null object values.
+ * <p>
+ * Keys and values live in two parallel arrays with open addressing and linear probing, so a lookup touches no
+ * boxed {@link Long} and no entry object. The table size is a power of two; the slot of a key is taken from the high
+ * bits of the key multiplied by the 64-bit golden ratio (Fibonacci hashing), which spreads packed coordinates whose
+ * low bits change together. Removal shifts the following entries of the probe run back instead of leaving
+ * tombstones, so lookups never slow down after many removals. The table doubles when it is three quarters full.
+ *
+ * @param <V> The value type.
+ */
+public final class LongObjectMap<V> {
+
+    /**
+     * Visits the entries of a {@link LongObjectMap}.
+     *
+     * @param <V> The value type.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+
+        /**
+         * Accepts one entry.
+         *
+         * @param key   The key.
+         * @param value The value.
+         */
+        void accept(long key, V value);
+    }
+
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    private long[] keys;
+    private Object[] values;
+    private int shift;
+    private int mask;
+    private int size;
+
+    /**
+     * Constructs an empty map with room for 16 entries before it grows.
+     */
+    public LongObjectMap() {
+        this(16);
+    }
+
+    /**
+     * Constructs an empty map with room for the given number of entries before it grows.
+     *
+     * @param expectedSize The number of entries expected.
+     * @throws IllegalArgumentException if the expected size is negative or too large.
+     */
+    public LongObjectMap(int expectedSize) {
+        if (expectedSize < 0 || expectedSize > (1 << 29)) {
+            throw new IllegalArgumentException("Expected size must be between 0 and " + (1 << 29) + ".");
+        }
+        int capacity = 4;
+        while (capacity * 3L < expectedSize * 4L) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Returns the value of a key.
+     *
+     * @param key The key.
+     * @return The value, or null if the key is absent.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            Object value = values[slot];
+            if (value == null || keys[slot] == key) {
+                return (V) value;
+            }
+        }
+    }
+
+    /**
+     * Returns whether a key is present.
+     *
+     * @param key The key.
+     * @return True if the map holds a value for the key.
+     */
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Associates a value with a key, replacing any previous value.
+     *
+     * @param key   The key.
+     * @param value The value.
+     * @return The previous value, or null if the key was absent.
+     * @throws IllegalArgumentException if the value is null.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Values must not be null.");
+        }
+        int slot = slot(key);
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                V old = (V) values[slot];
+                values[slot] = value;
+                return old;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size * 4L > values.length * 3L) {
+            rehash(values.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key The key.
+     * @return The removed value, or null if the key was absent.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int slot = slot(key);
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                V old = (V) values[slot];
+                shiftBack(slot);
+                size--;
+                return old;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Removes every entry, keeping the current capacity.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Calls the consumer for every entry, in table order. The consumer must not modify the map.
+     *
+     * @param consumer The consumer to call.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> consumer) {
+        for (int slot = 0; slot < values.length; slot++) {
+            if (values[slot] != null) {
+                consumer.accept(keys[slot], (V) values[slot]);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return The entry count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the map has no entries.
+     *
+     * @return True if the map is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int slot(long key) {
+        return (int) ((key * GOLDEN) >>> shift);
+    }
+
+    /**
+     * Empties a slot and moves later entries of the same probe run into the gap, so every remaining key is still
+     * reachable from its home slot without crossing an empty slot.
+     */
+    private void shiftBack(int gap) {
+        int slot = gap;
+        while (true) {
+            slot = (slot + 1) & mask;
+            Object value = values[slot];
+            if (value == null) {
+                break;
+            }
+            int home = slot(keys[slot]);
+            // The entry may move into the gap only if its home is not cyclically inside (gap, slot].
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = keys[slot];
+                values[gap] = value;
+                gap = slot;
+            }
+        }
+        values[gap] = null;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        shift = 64 - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = slot(oldKeys[i]);
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
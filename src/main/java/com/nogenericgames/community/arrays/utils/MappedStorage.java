@@ -0,0 +1,290 @@
+package com.nogenericgames.community.arrays.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Fixed-size element storage backed by a memory-mapped file.
+ * <p>
+ * A single {@link MappedByteBuffer} is limited to 2 GB, so the file is mapped as a sequence of 1 GB segments and an
+ * element index is split into a segment number and an offset with a shift and a mask. Element sizes are powers of two
+ * that divide the segment size, so no element straddles two segments. Data is stored little-endian, which is the
+ * native order on all common platforms and keeps files portable between them.
+ * <p>
+ * Mapping is lazy: opening a file only sets up the mappings, and pages are read from disk when first touched.
+ */
+public final class MappedStorage implements Closeable {
+
+    private static final int SEGMENT_SHIFT_BYTES = 30;
+
+    private final Path file;
+    private final FileChannel.MapMode mode;
+    private final long elements;
+    private final int elementShift;
+    private final int segmentShift;
+    private final long segmentMask;
+    private ByteBuffer[] segments;
+
+    /**
+     * Maps a file as storage for the given number of elements.
+     * <p>
+     * In {@link FileChannel.MapMode#READ_WRITE} mode the file is created if missing and grown to the required size;
+     * new space reads as zero. In the other modes the file must already be large enough.
+     *
+     * @param file         The file to map.
+     * @param mode         The mapping mode.
+     * @param elements     The number of elements.
+     * @param elementBytes The size of one element in bytes: 1, 2, 4 or 8.
+     * @throws IOException              if the file cannot be opened or mapped.
+     * @throws IllegalArgumentException if the element size is unsupported or the element count is not positive.
+     */
+    public MappedStorage(Path file, FileChannel.MapMode mode, long elements, int elementBytes) throws IOException {
+        if (elementBytes != 1 && elementBytes != 2 && elementBytes != 4 && elementBytes != 8) {
+            throw new IllegalArgumentException("Element size must be 1, 2, 4 or 8 bytes.");
+        }
+        if (elements <= 0) {
+            throw new IllegalArgumentException("Element count must be positive.");
+        }
+        this.file = file;
+        this.mode = mode;
+        this.elements = elements;
+        this.elementShift = Integer.numberOfTrailingZeros(elementBytes);
+        this.segmentShift = SEGMENT_SHIFT_BYTES - elementShift;
+        this.segmentMask = (1L << segmentShift) - 1;
+
+        long bytes = elements << elementShift;
+        long segmentBytes = 1L << SEGMENT_SHIFT_BYTES;
+        int count = (int) ((bytes + segmentBytes - 1) >>> SEGMENT_SHIFT_BYTES);
+        ByteBuffer[] mapped = new ByteBuffer[count];
+        try (FileChannel channel = open(file, mode)) {
+            if (mode != FileChannel.MapMode.READ_WRITE && channel.size() < bytes) {
+                throw new IOException("File " + file + " holds " + channel.size() + " bytes but " + bytes + " are required.");
+            }
+            for (int i = 0; i < count; i++) {
+                long position = (long) i << SEGMENT_SHIFT_BYTES;
+                long size = Math.min(segmentBytes, bytes - position);
+                mapped[i] = channel.map(mode, position, size).order(ByteOrder.LITTLE_ENDIAN);
+            }
+        } catch (IOException | RuntimeException e) {
+            for (ByteBuffer segment : mapped) {
+                DirectBuffers.free(segment);
+            }
+            throw e;
+        }
+        // Mappings stay valid after the channel is closed.
+        this.segments = mapped;
+    }
+
+    private static FileChannel open(Path file, FileChannel.MapMode mode) throws IOException {
+        if (mode == FileChannel.MapMode.READ_WRITE) {
+            return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        return FileChannel.open(file, StandardOpenOption.READ);
+    }
+
+    /**
+     * Reads the long element at the given index.
+     *
+     * @param index The element index.
+     * @return The stored value.
+     */
+    public long getLong(long index) {
+        return segments[(int) (index >>> segmentShift)].getLong((int) (index & segmentMask) << elementShift);
+    }
+
+    /**
+     * Writes the long element at the given index.
+     *
+     * @param index The element index.
+     * @param value The value to store.
+     */
+    public void putLong(long index, long value) {
+        segments[(int) (index >>> segmentShift)].putLong((int) (index & segmentMask) << elementShift, value);
+    }
+
+    /**
+     * Reads the int element at the given index.
+     *
+     * @param index The element index.
+     * @return The stored value.
+     */
+    public int getInt(long index) {
+        return segments[(int) (index >>> segmentShift)].getInt((int) (index & segmentMask) << elementShift);
+    }
+
+    /**
+     * Writes the int element at the given index.
+     *
+     * @param index The element index.
+     * @param value The value to store.
+     */
+    public void putInt(long index, int value) {
+        segments[(int) (index >>> segmentShift)].putInt((int) (index & segmentMask) << elementShift, value);
+    }
+
+    /**
+     * Reads the float element at the given index.
+     *
+     * @param index The element index.
+     * @return The stored value.
+     */
+    public float getFloat(long index) {
+        return segments[(int) (index >>> segmentShift)].getFloat((int) (index & segmentMask) << elementShift);
+    }
+
+    /**
+     * Writes the float element at the given index.
+     *
+     * @param index The element index.
+     * @param value The value to store.
+     */
+    public void putFloat(long index, float value) {
+        segments[(int) (index >>> segmentShift)].putFloat((int) (index & segmentMask) << elementShift, value);
+    }
+
+    /**
+     * Reads the double element at the given index.
+     *
+     * @param index The element index.
+     * @return The stored value.
+     */
+    public double getDouble(long index) {
+        return segments[(int) (index >>> segmentShift)].getDouble((int) (index & segmentMask) << elementShift);
+    }
+
+    /**
+     * Writes the double element at the given index.
+     *
+     * @param index The element index.
+     * @param value The value to store.
+     */
+    public void putDouble(long index, double value) {
+        segments[(int) (index >>> segmentShift)].putDouble((int) (index & segmentMask) << elementShift, value);
+    }
+
+    /**
+     * Reads the short element at the given index.
+     *
+     * @param index The element index.
+     * @return The stored value.
+     */
+    public short getShort(long index) {
+        return segments[(int) (index >>> segmentShift)].getShort((int) (index & segmentMask) << elementShift);
+    }
+
+    /**
+     * Writes the short element at the given index.
+     *
+     * @param index The element index.
+     * @param value The value to store.
+     */
+    public void putShort(long index, short value) {
+        segments[(int) (index >>> segmentShift)].putShort((int) (index & segmentMask) << elementShift, value);
+    }
+
+    /**
+     * Reads the byte element at the given index.
+     *
+     * @param index The element index.
+     * @return The stored value.
+     */
+    public byte getByte(long index) {
+        return segments[(int) (index >>> segmentShift)].get((int) (index & segmentMask));
+    }
+
+    /**
+     * Writes the byte element at the given index.
+     *
+     * @param index The element index.
+     * @param value The value to store.
+     */
+    public void putByte(long index, byte value) {
+        segments[(int) (index >>> segmentShift)].put((int) (index & segmentMask), value);
+    }
+
+    /**
+     * Writes all modified pages back to the file, blocking until they are on the storage device.
+     * Has no effect for read-only and private mappings.
+     *
+     * @throws IllegalStateException if the storage has been closed.
+     */
+    public void force() {
+        ensureOpen();
+        if (mode != FileChannel.MapMode.READ_WRITE) {
+            return;
+        }
+        for (ByteBuffer segment : segments) {
+            ((MappedByteBuffer) segment).force();
+        }
+    }
+
+    /**
+     * Throws if the storage has been closed.
+     *
+     * @throws IllegalStateException if the storage has been closed.
+     */
+    public void ensureOpen() {
+        if (segments == null) {
+            throw new IllegalStateException("Mapped storage for " + file + " has been closed.");
+        }
+    }
+
+    /**
+     * Returns whether {@link #close()} has been called.
+     *
+     * @return True if the mappings have been released.
+     */
+    public boolean isClosed() {
+        return segments == null;
+    }
+
+    /**
+     * Returns the mapped file.
+     *
+     * @return The file path.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the mapping mode.
+     *
+     * @return The mode the file was mapped with.
+     */
+    public FileChannel.MapMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return The element count.
+     */
+    public long getElementCount() {
+        return elements;
+    }
+
+    /**
+     * Unmaps the file. Modified pages of a read-write mapping are written back by the operating system; call
+     * {@link #force()} first to wait for them. The storage must not be accessed afterwards: unchecked accessors on
+     * an unmapped segment would read freed memory, so the segment table is dropped and later accesses fail instead.
+     */
+    @Override
+    public void close() {
+        ByteBuffer[] released = segments;
+        if (released == null) {
+            return;
+        }
+        segments = null;
+        for (ByteBuffer segment : released) {
+            DirectBuffers.free(segment);
+        }
+    }
+}
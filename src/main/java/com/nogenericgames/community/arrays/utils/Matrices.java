@@ -0,0 +1,897 @@
+package com.nogenericgames.community.arrays.utils;
+
+import java.util.Arrays;
+
+/**
+ * Dense matrix multiplication (GEMM) and matrix-vector multiplication (GEMV) over row-major double and float arrays,
+ * used by the {@code multiply} methods of {@code Double2DArray} and {@code Float2DArray}.
+ * <p>
+ * GEMM walks c in blocks of {@value #NC} columns and a in blocks of {@value #KC} columns. For each block pair, the
+ * matching {@value #KC} x {@value #NC} panel of b is packed once into a per-thread buffer, as micro-panels of
+ * {@value #NR} columns stored row after row. A register-blocked micro-kernel then computes each {@value #MR} x
+ * {@value #NR} block of c: it keeps the block in local variables across the whole panel depth, reading one element of
+ * a per row and one micro-panel row per step, and adds it to c once, so c is loaded and stored once per panel instead
+ * of once per few multiply-adds. The parallel variant packs each panel on the calling thread and shares it while the
+ * fork/join pool computes the blocks of rows of c, so b is packed once per panel whatever the number of workers.
+ * <p>
+ * GEMV computes four rows at once with one independent accumulator per row, sharing each load of x.
+ * <p>
+ * Both have overloads taking a start position per array, for matrices stored inside larger arrays.
+ * <p>
+ * Products accumulate in the element type, in a different order from a naive triple loop, so floating point results
+ * may differ from it in the last bits.
+ */
+public final class Matrices {
+
+    /**
+     * The number of columns of a, and rows of b, in one packed panel.
+     */
+    public static final int KC = 128;
+
+    /**
+     * The number of columns of b and c in one packed panel.
+     */
+    public static final int NC = 256;
+
+    /**
+     * The number of rows of c computed at once by the micro-kernel.
+     */
+    public static final int MR = 4;
+
+    /**
+     * The number of columns of c computed at once by the micro-kernel, and the width of a packed micro-panel of b.
+     */
+    public static final int NR = 4;
+
+    private static final ThreadLocal<double[]> DOUBLE_PANEL = ThreadLocal.withInitial(() -> new double[KC * NC]);
+    private static final ThreadLocal<float[]> FLOAT_PANEL = ThreadLocal.withInitial(() -> new float[KC * NC]);
+
+    private Matrices() {
+    }
+
+    /**
+     * Computes {@code c = alpha * a * b + beta * c} for row-major double matrices.
+     *
+     * @param alpha The scale of the product.
+     * @param a     The m x k left operand.
+     * @param b     The k x n right operand.
+     * @param beta  The scale of the existing c; when 0, c is overwritten without being read.
+     * @param c     The m x n result, a different array from a and b.
+     * @param m     The number of rows of a and c.
+     * @param n     The number of columns of b and c.
+     * @param k     The number of columns of a and rows of b.
+     * @throws IllegalArgumentException if an array length does not match its dimensions or c is an operand.
+     */
+    public static void gemm(double alpha, double[] a, double[] b, double beta, double[] c, int m, int n, int k) {
+        checkGemm(a.length, b.length, c.length, m, n, k);
+        checkResult(c == a || c == b);
+        gemm(alpha, a, 0, b, 0, beta, c, 0, m, n, k, false);
+    }
+
+    /**
+     * Like {@link #gemm(double, double[], double[], double, double[], int, int, int)}, but for matrices stored from a
+     * start position in larger arrays.
+     *
+     * @param alpha The scale of the product.
+     * @param a     The array holding the m x k left operand.
+     * @param aPos  The index of the first element of a.
+     * @param b     The array holding the k x n right operand.
+     * @param bPos  The index of the first element of b.
+     * @param beta  The scale of the existing c; when 0, c is overwritten without being read.
+     * @param c     The array holding the m x n result, which must not overlap a or b.
+     * @param cPos  The index of the first element of c.
+     * @param m     The number of rows of a and c.
+     * @param n     The number of columns of b and c.
+     * @param k     The number of columns of a and rows of b.
+     * @throws IllegalArgumentException  if a dimension is negative or c overlaps an operand.
+     * @throws IndexOutOfBoundsException if a matrix does not fit in its array.
+     */
+    public static void gemm(double alpha, double[] a, int aPos, double[] b, int bPos, double beta, double[] c, int cPos,
+                            int m, int n, int k) {
+        checkGemm(a.length, aPos, b.length, bPos, c.length, cPos, m, n, k);
+        checkResult(overlaps(c == a, cPos, (long) m * n, aPos, (long) m * k)
+                || overlaps(c == b, cPos, (long) m * n, bPos, (long) k * n));
+        gemm(alpha, a, aPos, b, bPos, beta, c, cPos, m, n, k, false);
+    }
+
+    /**
+     * Computes {@code c = alpha * a * b + beta * c} like
+     * {@link #gemm(double, double[], double[], double, double[], int, int, int)}, splitting the rows of c across the fork/join pool.
+     *
+     * @param alpha The scale of the product.
+     * @param a     The m x k left operand.
+     * @param b     The k x n right operand.
+     * @param beta  The scale of the existing c; when 0, c is overwritten without being read.
+     * @param c     The m x n result, a different array from a and b.
+     * @param m     The number of rows of a and c.
+     * @param n     The number of columns of b and c.
+     * @param k     The number of columns of a and rows of b.
+     * @throws IllegalArgumentException if an array length does not match its dimensions or c is an operand.
+     */
+    public static void parallelGemm(double alpha, double[] a, double[] b, double beta, double[] c, int m, int n, int k) {
+        checkGemm(a.length, b.length, c.length, m, n, k);
+        checkResult(c == a || c == b);
+        gemm(alpha, a, 0, b, 0, beta, c, 0, m, n, k, true);
+    }
+
+    /**
+     * Like {@link #parallelGemm(double, double[], double[], double, double[], int, int, int)}, but for matrices stored
+     * from a start position in larger arrays.
+     *
+     * @param alpha The scale of the product.
+     * @param a     The array holding the m x k left operand.
+     * @param aPos  The index of the first element of a.
+     * @param b     The array holding the k x n right operand.
+     * @param bPos  The index of the first element of b.
+     * @param beta  The scale of the existing c; when 0, c is overwritten without being read.
+     * @param c     The array holding the m x n result, which must not overlap a or b.
+     * @param cPos  The index of the first element of c.
+     * @param m     The number of rows of a and c.
+     * @param n     The number of columns of b and c.
+     * @param k     The number of columns of a and rows of b.
+     * @throws IllegalArgumentException  if a dimension is negative or c overlaps an operand.
+     * @throws IndexOutOfBoundsException if a matrix does not fit in its array.
+     */
+    public static void parallelGemm(double alpha, double[] a, int aPos, double[] b, int bPos, double beta, double[] c,
+                                    int cPos, int m, int n, int k) {
+        checkGemm(a.length, aPos, b.length, bPos, c.length, cPos, m, n, k);
+        checkResult(overlaps(c == a, cPos, (long) m * n, aPos, (long) m * k)
+                || overlaps(c == b, cPos, (long) m * n, bPos, (long) k * n));
+        gemm(alpha, a, aPos, b, bPos, beta, c, cPos, m, n, k, true);
+    }
+
+    /**
+     * Computes {@code y = alpha * a * x + beta * y} for a row-major double matrix.
+     *
+     * @param alpha The scale of the product.
+     * @param a     The m x n matrix.
+     * @param x     The vector of length n.
+     * @param beta  The scale of the existing y; when 0, y is overwritten without being read.
+     * @param y     The result of length m, a different array from x.
+     * @param m     The number of rows of a.
+     * @param n     The number of columns of a.
+     * @throws IllegalArgumentException if an array length does not match its dimensions or y is x.
+     */
+    public static void gemv(double alpha, double[] a, double[] x, double beta, double[] y, int m, int n) {
+        checkGemv(a.length, x.length, y.length, m, n);
+        checkResult(y == x);
+        gemv(alpha, a, 0, x, 0, beta, y, 0, m, n, false);
+    }
+
+    /**
+     * Like {@link #gemv(double, double[], double[], double, double[], int, int)}, but for a matrix and vectors stored
+     * from a start position in larger arrays.
+     *
+     * @param alpha The scale of the product.
+     * @param a     The array holding the m x n matrix.
+     * @param aPos  The index of the first element of a.
+     * @param x     The array holding the vector of length n.
+     * @param xPos  The index of the first element of x.
+     * @param beta  The scale of the existing y; when 0, y is overwritten without being read.
+     * @param y     The array holding the result of length m, which must not overlap x.
+     * @param yPos  The index of the first element of y.
+     * @param m     The number of rows of a.
+     * @param n     The number of columns of a.
+     * @throws IllegalArgumentException  if a dimension is negative or y overlaps x.
+     * @throws IndexOutOfBoundsException if the matrix or a vector does not fit in its array.
+     */
+    public static void gemv(double alpha, double[] a, int aPos, double[] x, int xPos, double beta, double[] y, int yPos,
+                            int m, int n) {
+        checkGemv(a.length, aPos, x.length, xPos, y.length, yPos, m, n);
+        checkResult(overlaps(y == x, yPos, m, xPos, n));
+        gemv(alpha, a, aPos, x, xPos, beta, y, yPos, m, n, false);
+    }
+
+    /**
+     * Computes {@code y = alpha * a * x + beta * y} like {@link #gemv(double, double[], double[], double, double[], int, int)},
+     * splitting the rows of a across the fork/join pool.
+     *
+     * @param alpha The scale of the product.
+     * @param a     The m x n matrix.
+     * @param x     The vector of length n.
+     * @param beta  The scale of the existing y; when 0, y is overwritten without being read.
+     * @param y     The result of length m, a different array from x.
+     * @param m     The number of rows of a.
+     * @param n     The number of columns of a.
+     * @throws IllegalArgumentException if an array length does not match its dimensions or y is x.
+     */
+    public static void parallelGemv(double alpha, double[] a, double[] x, double beta, double[] y, int m, int n) {
+        checkGemv(a.length, x.length, y.length, m, n);
+        checkResult(y == x);
+        gemv(alpha, a, 0, x, 0, beta, y, 0, m, n, true);
+    }
+
+    /**
+     * Like {@link #parallelGemv(double, double[], double[], double, double[], int, int)}, but for a matrix and vectors
+     * stored from a start position in larger arrays.
+     *
+     * @param alpha The scale of the product.
+     * @param a     The array holding the m x n matrix.
+     * @param aPos  The index of the first element of a.
+     * @param x     The array holding the vector of length n.
+     * @param xPos  The index of the first element of x.
+     * @param beta  The scale of the existing y; when 0, y is overwritten without being read.
+     * @param y     The array holding the result of length m, which must not overlap x.
+     * @param yPos  The index of the first element of y.
+     * @param m     The number of rows of a.
+     * @param n     The number of columns of a.
+     * @throws IllegalArgumentException  if a dimension is negative or y overlaps x.
+     * @throws IndexOutOfBoundsException if the matrix or a vector does not fit in its array.
+     */
+    public static void parallelGemv(double alpha, double[] a, int aPos, double[] x, int xPos, double beta, double[] y,
+                                    int yPos, int m, int n) {
+        checkGemv(a.length, aPos, x.length, xPos, y.length, yPos, m, n);
+        checkResult(overlaps(y == x, yPos, m, xPos, n));
+        gemv(alpha, a, aPos, x, xPos, beta, y, yPos, m, n, true);
+    }
+
+    private static void gemm(double alpha, double[] a, int aPos, double[] b, int bPos, double beta, double[] c,
+                             int cPos, int m, int n, int k, boolean parallel) {
+        ParallelArrays.ChunkAction scale = (chunk, from, to) -> scaleRows(c, beta, cPos + from * n, cPos + to * n);
+        if (parallel) {
+            ParallelArrays.forEachChunk(m, (int) Math.min((long) n * Double.BYTES, Integer.MAX_VALUE), scale);
+        } else {
+            scale.run(0, 0, m);
+        }
+        if (alpha == 0.0 || k == 0) {
+            return;
+        }
+        double[] panel = DOUBLE_PANEL.get();
+        int blocks = (m + MR - 1) / MR;
+        for (int j0 = 0; j0 < n; j0 += NC) {
+            int width = Math.min(NC, n - j0);
+            for (int k0 = 0; k0 < k; k0 += KC) {
+                int depth = Math.min(KC, k - k0);
+                packPanel(b, bPos, n, k0, j0, depth, width, panel);
+                int panelRow = k0;
+                int panelColumn = j0;
+                ParallelArrays.ChunkAction action = (chunk, from, to) -> {
+                    for (int block = from; block < to; block++) {
+                        multiplyPanel(alpha, a, aPos, block * MR, Math.min(MR, m - block * MR), k, panelRow, panel,
+                                width, depth, c, cPos, n, panelColumn);
+                    }
+                };
+                if (parallel) {
+                    ParallelArrays.forEachChunk(blocks, MR * width * depth, action);
+                } else {
+                    action.run(0, 0, blocks);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies a depth x width block of b into NR-column micro-panels, each stored row after row, so the micro-kernel
+     * reads the panel sequentially. The last micro-panel is padded with zeros.
+     */
+    private static void packPanel(double[] b, int bPos, int n, int k0, int j0, int depth, int width, double[] panel) {
+        for (int q = 0; q < width; q += NR) {
+            int cols = Math.min(NR, width - q);
+            int base = q * depth;
+            for (int p = 0; p < depth; p++) {
+                int at = base + p * NR;
+                System.arraycopy(b, bPos + (k0 + p) * n + j0 + q, panel, at, cols);
+                for (int j = cols; j < NR; j++) {
+                    panel[at + j] = 0.0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds alpha times a block of rows of a times a packed panel of b to c: MR rows at a time through the
+     * register-blocked micro-kernel, fewer for the last block of rows.
+     */
+    private static void multiplyPanel(double alpha, double[] a, int aPos, int i, int rows, int k, int k0,
+                                      double[] panel, int width, int depth, double[] c, int cPos, int n, int j0) {
+        int aRow = aPos + i * k + k0;
+        int cRow = cPos + i * n + j0;
+        for (int q = 0; q < width; q += NR) {
+            int cols = Math.min(NR, width - q);
+            if (rows == MR) {
+                multiplyBlock(alpha, a, aRow, k, panel, q * depth, depth, c, cRow + q, n, cols);
+            } else {
+                for (int r = 0; r < rows; r++) {
+                    multiplyRow(alpha, a, aRow + r * k, panel, q * depth, depth, c, cRow + r * n + q, cols);
+                }
+            }
+        }
+    }
+
+    /**
+     * The micro-kernel: accumulates an MR x NR block of c in locals, which stay in registers across the whole panel
+     * depth, then adds the block to c once. Each step loads one element of a per row and one row of the micro-panel,
+     * and performs MR * NR multiply-adds.
+     */
+    private static void multiplyBlock(double alpha, double[] a, int aRow, int k, double[] panel, int at, int depth,
+                                      double[] c, int cRow, int n, int cols) {
+        double c00 = 0.0;
+        double c01 = 0.0;
+        double c02 = 0.0;
+        double c03 = 0.0;
+        double c10 = 0.0;
+        double c11 = 0.0;
+        double c12 = 0.0;
+        double c13 = 0.0;
+        double c20 = 0.0;
+        double c21 = 0.0;
+        double c22 = 0.0;
+        double c23 = 0.0;
+        double c30 = 0.0;
+        double c31 = 0.0;
+        double c32 = 0.0;
+        double c33 = 0.0;
+        int a0 = aRow;
+        int a1 = a0 + k;
+        int a2 = a1 + k;
+        int a3 = a2 + k;
+        for (int p = 0; p < depth; p++, at += NR) {
+            double b0 = panel[at];
+            double b1 = panel[at + 1];
+            double b2 = panel[at + 2];
+            double b3 = panel[at + 3];
+            double x0 = a[a0 + p];
+            c00 += x0 * b0;
+            c01 += x0 * b1;
+            c02 += x0 * b2;
+            c03 += x0 * b3;
+            double x1 = a[a1 + p];
+            c10 += x1 * b0;
+            c11 += x1 * b1;
+            c12 += x1 * b2;
+            c13 += x1 * b3;
+            double x2 = a[a2 + p];
+            c20 += x2 * b0;
+            c21 += x2 * b1;
+            c22 += x2 * b2;
+            c23 += x2 * b3;
+            double x3 = a[a3 + p];
+            c30 += x3 * b0;
+            c31 += x3 * b1;
+            c32 += x3 * b2;
+            c33 += x3 * b3;
+        }
+        addRow(alpha, c, cRow, cols, c00, c01, c02, c03);
+        addRow(alpha, c, cRow + n, cols, c10, c11, c12, c13);
+        addRow(alpha, c, cRow + 2 * n, cols, c20, c21, c22, c23);
+        addRow(alpha, c, cRow + 3 * n, cols, c30, c31, c32, c33);
+    }
+
+    /**
+     * The micro-kernel for a single row, used for the rows left over when m is not a multiple of MR.
+     */
+    private static void multiplyRow(double alpha, double[] a, int aRow, double[] panel, int at, int depth, double[] c,
+                                    int cRow, int cols) {
+        double c0 = 0.0;
+        double c1 = 0.0;
+        double c2 = 0.0;
+        double c3 = 0.0;
+        for (int p = 0; p < depth; p++, at += NR) {
+            double x = a[aRow + p];
+            c0 += x * panel[at];
+            c1 += x * panel[at + 1];
+            c2 += x * panel[at + 2];
+            c3 += x * panel[at + 3];
+        }
+        addRow(alpha, c, cRow, cols, c0, c1, c2, c3);
+    }
+
+    /**
+     * Adds alpha times the first cols of four accumulated values to a row segment of c.
+     */
+    private static void addRow(double alpha, double[] c, int at, int cols, double v0, double v1, double v2, double v3) {
+        c[at] += alpha * v0;
+        if (cols > 1) {
+            c[at + 1] += alpha * v1;
+        }
+        if (cols > 2) {
+            c[at + 2] += alpha * v2;
+        }
+        if (cols > 3) {
+            c[at + 3] += alpha * v3;
+        }
+    }
+
+    private static void scaleRows(double[] c, double beta, int from, int to) {
+        if (beta == 0.0) {
+            Arrays.fill(c, from, to, 0.0);
+        } else if (beta != 1) {
+            for (int i = from; i < to; i++) {
+                c[i] *= beta;
+            }
+        }
+    }
+
+    private static void gemv(double alpha, double[] a, int aPos, double[] x, int xPos, double beta, double[] y,
+                             int yPos, int m, int n, boolean parallel) {
+        ParallelArrays.ChunkAction action = (chunk, from, to) -> {
+            int i = from;
+            for (; i + 3 < to; i += 4) {
+                int r0 = aPos + i * n;
+                int r1 = r0 + n;
+                int r2 = r1 + n;
+                int r3 = r2 + n;
+                double s0 = 0.0;
+                double s1 = 0.0;
+                double s2 = 0.0;
+                double s3 = 0.0;
+                for (int j = 0; j < n; j++) {
+                    double xj = x[xPos + j];
+                    s0 += a[r0 + j] * xj;
+                    s1 += a[r1 + j] * xj;
+                    s2 += a[r2 + j] * xj;
+                    s3 += a[r3 + j] * xj;
+                }
+                y[yPos + i] = combine(alpha, s0, beta, y[yPos + i]);
+                y[yPos + i + 1] = combine(alpha, s1, beta, y[yPos + i + 1]);
+                y[yPos + i + 2] = combine(alpha, s2, beta, y[yPos + i + 2]);
+                y[yPos + i + 3] = combine(alpha, s3, beta, y[yPos + i + 3]);
+            }
+            for (; i < to; i++) {
+                int r0 = aPos + i * n;
+                double s0 = 0.0;
+                for (int j = 0; j < n; j++) {
+                    s0 += a[r0 + j] * x[xPos + j];
+                }
+                y[yPos + i] = combine(alpha, s0, beta, y[yPos + i]);
+            }
+        };
+        if (parallel) {
+            ParallelArrays.forEachChunk(m, (int) Math.min(8L * n, Integer.MAX_VALUE), action);
+        } else {
+            action.run(0, 0, m);
+        }
+    }
+
+    private static double combine(double alpha, double sum, double beta, double previous) {
+        return beta == 0.0 ? alpha * sum : alpha * sum + beta * previous;
+    }
+
+    /**
+     * Computes {@code c = alpha * a * b + beta * c} for row-major float matrices.
+     *
+     * @param alpha The scale of the product.
+     * @param a     The m x k left operand.
+     * @param b     The k x n right operand.
+     * @param beta  The scale of the existing c; when 0, c is overwritten without being read.
+     * @param c     The m x n result, a different array from a and b.
+     * @param m     The number of rows of a and c.
+     * @param n     The number of columns of b and c.
+     * @param k     The number of columns of a and rows of b.
+     * @throws IllegalArgumentException if an array length does not match its dimensions or c is an operand.
+     */
+    public static void gemm(float alpha, float[] a, float[] b, float beta, float[] c, int m, int n, int k) {
+        checkGemm(a.length, b.length, c.length, m, n, k);
+        checkResult(c == a || c == b);
+        gemm(alpha, a, 0, b, 0, beta, c, 0, m, n, k, false);
+    }
+
+    /**
+     * Like {@link #gemm(float, float[], float[], float, float[], int, int, int)}, but for matrices stored from a start
+     * position in larger arrays.
+     *
+     * @param alpha The scale of the product.
+     * @param a     The array holding the m x k left operand.
+     * @param aPos  The index of the first element of a.
+     * @param b     The array holding the k x n right operand.
+     * @param bPos  The index of the first element of b.
+     * @param beta  The scale of the existing c; when 0, c is overwritten without being read.
+     * @param c     The array holding the m x n result, which must not overlap a or b.
+     * @param cPos  The index of the first element of c.
+     * @param m     The number of rows of a and c.
+     * @param n     The number of columns of b and c.
+     * @param k     The number of columns of a and rows of b.
+     * @throws IllegalArgumentException  if a dimension is negative or c overlaps an operand.
+     * @throws IndexOutOfBoundsException if a matrix does not fit in its array.
+     */
+    public static void gemm(float alpha, float[] a, int aPos, float[] b, int bPos, float beta, float[] c, int cPos,
+                            int m, int n, int k) {
+        checkGemm(a.length, aPos, b.length, bPos, c.length, cPos, m, n, k);
+        checkResult(overlaps(c == a, cPos, (long) m * n, aPos, (long) m * k)
+                || overlaps(c == b, cPos, (long) m * n, bPos, (long) k * n));
+        gemm(alpha, a, aPos, b, bPos, beta, c, cPos, m, n, k, false);
+    }
+
+    /**
+     * Computes {@code c = alpha * a * b + beta * c} like
+     * {@link #gemm(float, float[], float[], float, float[], int, int, int)}, splitting the rows of c across the fork/join pool.
+     *
+     * @param alpha The scale of the product.
+     * @param a     The m x k left operand.
+     * @param b     The k x n right operand.
+     * @param beta  The scale of the existing c; when 0, c is overwritten without being read.
+     * @param c     The m x n result, a different array from a and b.
+     * @param m     The number of rows of a and c.
+     * @param n     The number of columns of b and c.
+     * @param k     The number of columns of a and rows of b.
+     * @throws IllegalArgumentException if an array length does not match its dimensions or c is an operand.
+     */
+    public static void parallelGemm(float alpha, float[] a, float[] b, float beta, float[] c, int m, int n, int k) {
+        checkGemm(a.length, b.length, c.length, m, n, k);
+        checkResult(c == a || c == b);
+        gemm(alpha, a, 0, b, 0, beta, c, 0, m, n, k, true);
+    }
+
+    /**
+     * Like {@link #parallelGemm(float, float[], float[], float, float[], int, int, int)}, but for matrices stored from
+     * a start position in larger arrays.
+     *
+     * @param alpha The scale of the product.
+     * @param a     The array holding the m x k left operand.
+     * @param aPos  The index of the first element of a.
+     * @param b     The array holding the k x n right operand.
+     * @param bPos  The index of the first element of b.
+     * @param beta  The scale of the existing c; when 0, c is overwritten without being read.
+     * @param c     The array holding the m x n result, which must not overlap a or b.
+     * @param cPos  The index of the first element of c.
+     * @param m     The number of rows of a and c.
+     * @param n     The number of columns of b and c.
+     * @param k     The number of columns of a and rows of b.
+     * @throws IllegalArgumentException  if a dimension is negative or c overlaps an operand.
+     * @throws IndexOutOfBoundsException if a matrix does not fit in its array.
+     */
+    public static void parallelGemm(float alpha, float[] a, int aPos, float[] b, int bPos, float beta, float[] c,
+                                    int cPos, int m, int n, int k) {
+        checkGemm(a.length, aPos, b.length, bPos, c.length, cPos, m, n, k);
+        checkResult(overlaps(c == a, cPos, (long) m * n, aPos, (long) m * k)
+                || overlaps(c == b, cPos, (long) m * n, bPos, (long) k * n));
+        gemm(alpha, a, aPos, b, bPos, beta, c, cPos, m, n, k, true);
+    }
+
+    /**
+     * Computes {@code y = alpha * a * x + beta * y} for a row-major float matrix.
+     *
+     * @param alpha The scale of the product.
+     * @param a     The m x n matrix.
+     * @param x     The vector of length n.
+     * @param beta  The scale of the existing y; when 0, y is overwritten without being read.
+     * @param y     The result of length m, a different array from x.
+     * @param m     The number of rows of a.
+     * @param n     The number of columns of a.
+     * @throws IllegalArgumentException if an array length does not match its dimensions or y is x.
+     */
+    public static void gemv(float alpha, float[] a, float[] x, float beta, float[] y, int m, int n) {
+        checkGemv(a.length, x.length, y.length, m, n);
+        checkResult(y == x);
+        gemv(alpha, a, 0, x, 0, beta, y, 0, m, n, false);
+    }
+
+    /**
+     * Like {@link #gemv(float, float[], float[], float, float[], int, int)}, but for a matrix and vectors stored from a
+     * start position in larger arrays.
+     *
+     * @param alpha The scale of the product.
+     * @param a     The array holding the m x n matrix.
+     * @param aPos  The index of the first element of a.
+     * @param x     The array holding the vector of length n.
+     * @param xPos  The index of the first element of x.
+     * @param beta  The scale of the existing y; when 0, y is overwritten without being read.
+     * @param y     The array holding the result of length m, which must not overlap x.
+     * @param yPos  The index of the first element of y.
+     * @param m     The number of rows of a.
+     * @param n     The number of columns of a.
+     * @throws IllegalArgumentException  if a dimension is negative or y overlaps x.
+     * @throws IndexOutOfBoundsException if the matrix or a vector does not fit in its array.
+     */
+    public static void gemv(float alpha, float[] a, int aPos, float[] x, int xPos, float beta, float[] y, int yPos,
+                            int m, int n) {
+        checkGemv(a.length, aPos, x.length, xPos, y.length, yPos, m, n);
+        checkResult(overlaps(y == x, yPos, m, xPos, n));
+        gemv(alpha, a, aPos, x, xPos, beta, y, yPos, m, n, false);
+    }
+
+    /**
+     * Computes {@code y = alpha * a * x + beta * y} like {@link #gemv(float, float[], float[], float, float[], int, int)},
+     * splitting the rows of a across the fork/join pool.
+     *
+     * @param alpha The scale of the product.
+     * @param a     The m x n matrix.
+     * @param x     The vector of length n.
+     * @param beta  The scale of the existing y; when 0, y is overwritten without being read.
+     * @param y     The result of length m, a different array from x.
+     * @param m     The number of rows of a.
+     * @param n     The number of columns of a.
+     * @throws IllegalArgumentException if an array length does not match its dimensions or y is x.
+     */
+    public static void parallelGemv(float alpha, float[] a, float[] x, float beta, float[] y, int m, int n) {
+        checkGemv(a.length, x.length, y.length, m, n);
+        checkResult(y == x);
+        gemv(alpha, a, 0, x, 0, beta, y, 0, m, n, true);
+    }
+
+    /**
+     * Like {@link #parallelGemv(float, float[], float[], float, float[], int, int)}, but for a matrix and vectors
+     * stored from a start position in larger arrays.
+     *
+     * @param alpha The scale of the product.
+     * @param a     The array holding the m x n matrix.
+     * @param aPos  The index of the first element of a.
+     * @param x     The array holding the vector of length n.
+     * @param xPos  The index of the first element of x.
+     * @param beta  The scale of the existing y; when 0, y is overwritten without being read.
+     * @param y     The array holding the result of length m, which must not overlap x.
+     * @param yPos  The index of the first element of y.
+     * @param m     The number of rows of a.
+     * @param n     The number of columns of a.
+     * @throws IllegalArgumentException  if a dimension is negative or y overlaps x.
+     * @throws IndexOutOfBoundsException if the matrix or a vector does not fit in its array.
+     */
+    public static void parallelGemv(float alpha, float[] a, int aPos, float[] x, int xPos, float beta, float[] y,
+                                    int yPos, int m, int n) {
+        checkGemv(a.length, aPos, x.length, xPos, y.length, yPos, m, n);
+        checkResult(overlaps(y == x, yPos, m, xPos, n));
+        gemv(alpha, a, aPos, x, xPos, beta, y, yPos, m, n, true);
+    }
+
+    private static void gemm(float alpha, float[] a, int aPos, float[] b, int bPos, float beta, float[] c, int cPos,
+                             int m, int n, int k, boolean parallel) {
+        ParallelArrays.ChunkAction scale = (chunk, from, to) -> scaleRows(c, beta, cPos + from * n, cPos + to * n);
+        if (parallel) {
+            ParallelArrays.forEachChunk(m, (int) Math.min((long) n * Float.BYTES, Integer.MAX_VALUE), scale);
+        } else {
+            scale.run(0, 0, m);
+        }
+        if (alpha == 0.0f || k == 0) {
+            return;
+        }
+        float[] panel = FLOAT_PANEL.get();
+        int blocks = (m + MR - 1) / MR;
+        for (int j0 = 0; j0 < n; j0 += NC) {
+            int width = Math.min(NC, n - j0);
+            for (int k0 = 0; k0 < k; k0 += KC) {
+                int depth = Math.min(KC, k - k0);
+                packPanel(b, bPos, n, k0, j0, depth, width, panel);
+                int panelRow = k0;
+                int panelColumn = j0;
+                ParallelArrays.ChunkAction action = (chunk, from, to) -> {
+                    for (int block = from; block < to; block++) {
+                        multiplyPanel(alpha, a, aPos, block * MR, Math.min(MR, m - block * MR), k, panelRow, panel,
+                                width, depth, c, cPos, n, panelColumn);
+                    }
+                };
+                if (parallel) {
+                    ParallelArrays.forEachChunk(blocks, MR * width * depth, action);
+                } else {
+                    action.run(0, 0, blocks);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies a depth x width block of b into NR-column micro-panels, each stored row after row, so the micro-kernel
+     * reads the panel sequentially. The last micro-panel is padded with zeros.
+     */
+    private static void packPanel(float[] b, int bPos, int n, int k0, int j0, int depth, int width, float[] panel) {
+        for (int q = 0; q < width; q += NR) {
+            int cols = Math.min(NR, width - q);
+            int base = q * depth;
+            for (int p = 0; p < depth; p++) {
+                int at = base + p * NR;
+                System.arraycopy(b, bPos + (k0 + p) * n + j0 + q, panel, at, cols);
+                for (int j = cols; j < NR; j++) {
+                    panel[at + j] = 0.0f;
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds alpha times a block of rows of a times a packed panel of b to c: MR rows at a time through the
+     * register-blocked micro-kernel, fewer for the last block of rows.
+     */
+    private static void multiplyPanel(float alpha, float[] a, int aPos, int i, int rows, int k, int k0, float[] panel,
+                                      int width, int depth, float[] c, int cPos, int n, int j0) {
+        int aRow = aPos + i * k + k0;
+        int cRow = cPos + i * n + j0;
+        for (int q = 0; q < width; q += NR) {
+            int cols = Math.min(NR, width - q);
+            if (rows == MR) {
+                multiplyBlock(alpha, a, aRow, k, panel, q * depth, depth, c, cRow + q, n, cols);
+            } else {
+                for (int r = 0; r < rows; r++) {
+                    multiplyRow(alpha, a, aRow + r * k, panel, q * depth, depth, c, cRow + r * n + q, cols);
+                }
+            }
+        }
+    }
+
+    /**
+     * The micro-kernel: accumulates an MR x NR block of c in locals, which stay in registers across the whole panel
+     * depth, then adds the block to c once. Each step loads one element of a per row and one row of the micro-panel,
+     * and performs MR * NR multiply-adds.
+     */
+    private static void multiplyBlock(float alpha, float[] a, int aRow, int k, float[] panel, int at, int depth,
+                                      float[] c, int cRow, int n, int cols) {
+        float c00 = 0.0f;
+        float c01 = 0.0f;
+        float c02 = 0.0f;
+        float c03 = 0.0f;
+        float c10 = 0.0f;
+        float c11 = 0.0f;
+        float c12 = 0.0f;
+        float c13 = 0.0f;
+        float c20 = 0.0f;
+        float c21 = 0.0f;
+        float c22 = 0.0f;
+        float c23 = 0.0f;
+        float c30 = 0.0f;
+        float c31 = 0.0f;
+        float c32 = 0.0f;
+        float c33 = 0.0f;
+        int a0 = aRow;
+        int a1 = a0 + k;
+        int a2 = a1 + k;
+        int a3 = a2 + k;
+        for (int p = 0; p < depth; p++, at += NR) {
+            float b0 = panel[at];
+            float b1 = panel[at + 1];
+            float b2 = panel[at + 2];
+            float b3 = panel[at + 3];
+            float x0 = a[a0 + p];
+            c00 += x0 * b0;
+            c01 += x0 * b1;
+            c02 += x0 * b2;
+            c03 += x0 * b3;
+            float x1 = a[a1 + p];
+            c10 += x1 * b0;
+            c11 += x1 * b1;
+            c12 += x1 * b2;
+            c13 += x1 * b3;
+            float x2 = a[a2 + p];
+            c20 += x2 * b0;
+            c21 += x2 * b1;
+            c22 += x2 * b2;
+            c23 += x2 * b3;
+            float x3 = a[a3 + p];
+            c30 += x3 * b0;
+            c31 += x3 * b1;
+            c32 += x3 * b2;
+            c33 += x3 * b3;
+        }
+        addRow(alpha, c, cRow, cols, c00, c01, c02, c03);
+        addRow(alpha, c, cRow + n, cols, c10, c11, c12, c13);
+        addRow(alpha, c, cRow + 2 * n, cols, c20, c21, c22, c23);
+        addRow(alpha, c, cRow + 3 * n, cols, c30, c31, c32, c33);
+    }
+
+    /**
+     * The micro-kernel for a single row, used for the rows left over when m is not a multiple of MR.
+     */
+    private static void multiplyRow(float alpha, float[] a, int aRow, float[] panel, int at, int depth, float[] c,
+                                    int cRow, int cols) {
+        float c0 = 0.0f;
+        float c1 = 0.0f;
+        float c2 = 0.0f;
+        float c3 = 0.0f;
+        for (int p = 0; p < depth; p++, at += NR) {
+            float x = a[aRow + p];
+            c0 += x * panel[at];
+            c1 += x * panel[at + 1];
+            c2 += x * panel[at + 2];
+            c3 += x * panel[at + 3];
+        }
+        addRow(alpha, c, cRow, cols, c0, c1, c2, c3);
+    }
+
+    /**
+     * Adds alpha times the first cols of four accumulated values to a row segment of c.
+     */
+    private static void addRow(float alpha, float[] c, int at, int cols, float v0, float v1, float v2, float v3) {
+        c[at] += alpha * v0;
+        if (cols > 1) {
+            c[at + 1] += alpha * v1;
+        }
+        if (cols > 2) {
+            c[at + 2] += alpha * v2;
+        }
+        if (cols > 3) {
+            c[at + 3] += alpha * v3;
+        }
+    }
+
+    private static void scaleRows(float[] c, float beta, int from, int to) {
+        if (beta == 0.0f) {
+            Arrays.fill(c, from, to, 0.0f);
+        } else if (beta != 1) {
+            for (int i = from; i < to; i++) {
+                c[i] *= beta;
+            }
+        }
+    }
+
+    private static void gemv(float alpha, float[] a, int aPos, float[] x, int xPos, float beta, float[] y, int yPos,
+                             int m, int n, boolean parallel) {
+        ParallelArrays.ChunkAction action = (chunk, from, to) -> {
+            int i = from;
+            for (; i + 3 < to; i += 4) {
+                int r0 = aPos + i * n;
+                int r1 = r0 + n;
+                int r2 = r1 + n;
+                int r3 = r2 + n;
+                float s0 = 0.0f;
+                float s1 = 0.0f;
+                float s2 = 0.0f;
+                float s3 = 0.0f;
+                for (int j = 0; j < n; j++) {
+                    float xj = x[xPos + j];
+                    s0 += a[r0 + j] * xj;
+                    s1 += a[r1 + j] * xj;
+                    s2 += a[r2 + j] * xj;
+                    s3 += a[r3 + j] * xj;
+                }
+                y[yPos + i] = combine(alpha, s0, beta, y[yPos + i]);
+                y[yPos + i + 1] = combine(alpha, s1, beta, y[yPos + i + 1]);
+                y[yPos + i + 2] = combine(alpha, s2, beta, y[yPos + i + 2]);
+                y[yPos + i + 3] = combine(alpha, s3, beta, y[yPos + i + 3]);
+            }
+            for (; i < to; i++) {
+                int r0 = aPos + i * n;
+                float s0 = 0.0f;
+                for (int j = 0; j < n; j++) {
+                    s0 += a[r0 + j] * x[xPos + j];
+                }
+                y[yPos + i] = combine(alpha, s0, beta, y[yPos + i]);
+            }
+        };
+        if (parallel) {
+            ParallelArrays.forEachChunk(m, (int) Math.min(4L * n, Integer.MAX_VALUE), action);
+        } else {
+            action.run(0, 0, m);
+        }
+    }
+
+    private static float combine(float alpha, float sum, float beta, float previous) {
+        return beta == 0.0f ? alpha * sum : alpha * sum + beta * previous;
+    }
+
+    private static void checkGemm(int aLength, int bLength, int cLength, int m, int n, int k) {
+        if (m < 0 || n < 0 || k < 0 || (long) m * k != aLength || (long) k * n != bLength
+                || (long) m * n != cLength) {
+            throw new IllegalArgumentException("Array lengths must match the dimensions.");
+        }
+    }
+
+    private static void checkGemv(int aLength, int xLength, int yLength, int m, int n) {
+        if (m < 0 || n < 0 || (long) m * n != aLength || xLength != n || yLength != m) {
+            throw new IllegalArgumentException("Array lengths must match the dimensions.");
+        }
+    }
+
+    private static void checkGemm(int aLength, int aPos, int bLength, int bPos, int cLength, int cPos, int m, int n,
+                                  int k) {
+        if (m < 0 || n < 0 || k < 0) {
+            throw new IllegalArgumentException("Dimensions must not be negative.");
+        }
+        checkRange(aLength, aPos, (long) m * k);
+        checkRange(bLength, bPos, (long) k * n);
+        checkRange(cLength, cPos, (long) m * n);
+    }
+
+    private static void checkGemv(int aLength, int aPos, int xLength, int xPos, int yLength, int yPos, int m, int n) {
+        if (m < 0 || n < 0) {
+            throw new IllegalArgumentException("Dimensions must not be negative.");
+        }
+        checkRange(aLength, aPos, (long) m * n);
+        checkRange(xLength, xPos, n);
+        checkRange(yLength, yPos, m);
+    }
+
+    private static void checkRange(int length, int pos, long size) {
+        if (pos < 0 || size > length - pos) {
+            throw new IndexOutOfBoundsException(
+                    "Range of " + size + " elements at " + pos + " out of bounds for length " + length + "."
+            );
+        }
+    }
+
+    private static boolean overlaps(boolean sameArray, int pos1, long size1, int pos2, long size2) {
+        return sameArray && pos1 < pos2 + size2 && pos2 < pos1 + size1;
+    }
+
+    private static void checkResult(boolean operand) {
+        if (operand) {
+            throw new IllegalArgumentException("Result must not be an operand.");
+        }
+    }
+}
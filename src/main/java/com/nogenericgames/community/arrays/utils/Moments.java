@@ -0,0 +1,99 @@
+package com.nogenericgames.community.arrays.utils;
+
+/**
+ * Count, mean and variance of a set of values, computed in a single pass.
+ * <p>
+ * Values are accumulated relative to a shift (the first value of each block), which avoids the catastrophic
+ * cancellation of the textbook {@code E[x^2] - E[x]^2} formula for data with a large offset. Partial results from
+ * separate blocks are merged with the pairwise update of Chan, Golub and LeVeque, so parallel and serial results agree
+ * to rounding.
+ */
+public final class Moments {
+
+    private final long count;
+    private final double mean;
+    private final double m2;
+
+    /**
+     * Creates moments from a count, a mean and a sum of squared deviations from the mean.
+     *
+     * @param count The number of values.
+     * @param mean  The mean of the values.
+     * @param m2    The sum of squared deviations from the mean.
+     */
+    public Moments(long count, double mean, double m2) {
+        this.count = count;
+        this.mean = mean;
+        this.m2 = m2;
+    }
+
+    /**
+     * Combines the moments of two disjoint sets of values.
+     *
+     * @param other The moments of the other set.
+     * @return The moments of the union of both sets.
+     */
+    public Moments merge(Moments other) {
+        if (other.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            return other;
+        }
+        long n = count + other.count;
+        double delta = other.mean - mean;
+        double newMean = mean + delta * other.count / n;
+        double newM2 = m2 + other.m2 + delta * delta * ((double) count * other.count / n);
+        return new Moments(n, newMean, newM2);
+    }
+
+    /**
+     * Returns the number of values.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the arithmetic mean.
+     *
+     * @return The mean, or NaN if there are no values.
+     */
+    public double getMean() {
+        return count == 0 ? Double.NaN : mean;
+    }
+
+    /**
+     * Returns the population variance, {@code sum((x - mean)^2) / n}.
+     *
+     * @return The variance, or NaN if there are no values.
+     */
+    public double getVariance() {
+        return count == 0 ? Double.NaN : m2 / count;
+    }
+
+    /**
+     * Returns the sample variance, {@code sum((x - mean)^2) / (n - 1)}.
+     *
+     * @return The sample variance, or NaN if there are fewer than two values.
+     */
+    public double getSampleVariance() {
+        return count < 2 ? Double.NaN : m2 / (count - 1);
+    }
+
+    /**
+     * Returns the population standard deviation.
+     *
+     * @return The square root of {@link #getVariance()}.
+     */
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    @Override
+    public String toString() {
+        return "Moments{count=" + count + ", mean=" + getMean() + ", variance=" + getVariance() + "}";
+    }
+}
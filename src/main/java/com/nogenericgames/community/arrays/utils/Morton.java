@@ -0,0 +1,205 @@
+package com.nogenericgames.community.arrays.utils;
+
+/**
+ * Three-dimensional Morton (Z-order) codes.
+ * <p>
+ * A Morton code interleaves the bits of the coordinates, {@code ... x1 y1 z1 x0 y0 z0}, so cells that are close in
+ * space are usually close in memory along every axis, not only along the last one. Coordinates are limited to 10
+ * bits (0 to 1023), which keeps every code inside a non-negative {@code int}. Bits are spread with the usual
+ * shift-and-mask ("magic number") sequence instead of a loop.
+ */
+public final class Morton {
+
+    /**
+     * The largest coordinate that can be encoded.
+     */
+    public static final int MAX_COORDINATE = 1023;
+
+    /**
+     * Log2 of the largest tile edge used by {@link #tileShifts(int, int, int)}: tiles are at most 32^3 cells.
+     */
+    public static final int MAX_TILE_SHIFT = 5;
+
+    private Morton() {
+    }
+
+    /**
+     * Interleaves three 10-bit coordinates into a 30-bit Morton code. Higher coordinate bits are ignored.
+     *
+     * @param x The X-coordinate, the most significant of each bit triple.
+     * @param y The Y-coordinate.
+     * @param z The Z-coordinate, the least significant of each bit triple.
+     * @return The Morton code.
+     */
+    public static int encode(int x, int y, int z) {
+        return (spread(x) << 2) | (spread(y) << 1) | spread(z);
+    }
+
+    /**
+     * Extracts the X-coordinate from a Morton code.
+     *
+     * @param code The Morton code.
+     * @return The X-coordinate.
+     */
+    public static int decodeX(int code) {
+        return compact(code >>> 2);
+    }
+
+    /**
+     * Extracts the Y-coordinate from a Morton code.
+     *
+     * @param code The Morton code.
+     * @return The Y-coordinate.
+     */
+    public static int decodeY(int code) {
+        return compact(code >>> 1);
+    }
+
+    /**
+     * Extracts the Z-coordinate from a Morton code.
+     *
+     * @param code The Morton code.
+     * @return The Z-coordinate.
+     */
+    public static int decodeZ(int code) {
+        return compact(code);
+    }
+
+    /**
+     * Returns log2 of the tile edges used to store a box with the given dimensions in tiled Morton order.
+     * <p>
+     * Interleaving the coordinates of a whole box wastes space unless it is a cube with a power-of-two edge: a
+     * 1024 x 1 x 1 box would span the codes up to {@code encode(1023, 0, 0)}, over 600 million slots. Boxes are
+     * therefore split into tiles with power-of-two edges, chosen per axis so that a thin axis does not shrink the
+     * others. Each edge starts as the largest power of two not above its dimension, capped at
+     * {@code 1 << MAX_TILE_SHIFT}; while the padded box is more than 1/8 larger than the box, the edge of the axis
+     * padded most, relative to its size, is halved. Cells are Morton-ordered inside a tile and tiles are stored in
+     * row-major order.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @return The X, Y and Z tile shifts, each between 0 and {@link #MAX_TILE_SHIFT}.
+     * @throws IllegalArgumentException if any dimension is non-positive or larger than 1024.
+     */
+    public static int[] tileShifts(int xSize, int ySize, int zSize) {
+        if (xSize <= 0 || ySize <= 0 || zSize <= 0) {
+            throw new IllegalArgumentException("Dimensions must be positive.");
+        }
+        if (xSize > MAX_COORDINATE + 1 || ySize > MAX_COORDINATE + 1 || zSize > MAX_COORDINATE + 1) {
+            throw new IllegalArgumentException("Morton-ordered dimensions are limited to " + (MAX_COORDINATE + 1) + ".");
+        }
+        int[] sizes = {xSize, ySize, zSize};
+        int[] shifts = new int[3];
+        int[] padded = new int[3];
+        for (int axis = 0; axis < 3; axis++) {
+            shifts[axis] = Math.min(MAX_TILE_SHIFT, 31 - Integer.numberOfLeadingZeros(sizes[axis]));
+            padded[axis] = pad(sizes[axis], shifts[axis]);
+        }
+        long volume = (long) xSize * ySize * zSize;
+        while ((long) padded[0] * padded[1] * padded[2] * 8 > volume * 9) {
+            int worst = -1;
+            for (int axis = 0; axis < 3; axis++) {
+                if (padded[axis] > sizes[axis] && (worst < 0
+                        || (long) padded[axis] * sizes[worst] > (long) padded[worst] * sizes[axis])) {
+                    worst = axis;
+                }
+            }
+            shifts[worst]--;
+            padded[worst] = pad(sizes[worst], shifts[worst]);
+        }
+        return shifts;
+    }
+
+    /**
+     * Returns the storage length of a box with the given dimensions in tiled Morton order (see
+     * {@link #tileShifts(int, int, int)}): the box padded to whole tiles, at most 1/8 more than its volume.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @return The required storage length.
+     * @throws IllegalArgumentException if any dimension is non-positive or larger than 1024.
+     */
+    public static int capacity(int xSize, int ySize, int zSize) {
+        int[] shifts = tileShifts(xSize, ySize, zSize);
+        return pad(xSize, shifts[0]) * pad(ySize, shifts[1]) * pad(zSize, shifts[2]);
+    }
+
+    /**
+     * Returns the per-axis contributions to the storage index of a box in tiled Morton order (see
+     * {@link #tileShifts(int, int, int)}). The bits the axes contribute are disjoint and the tile offsets add up, so
+     * cell (x, y, z) lives at {@code offsets[0][x] + offsets[1][y] + offsets[2][z]}. Inside a tile the coordinate bits
+     * are interleaved like {@link #encode(int, int, int)}, skipping the axes whose tile edge has run out of bits.
+     *
+     * @param xSize Size of the X dimension.
+     * @param ySize Size of the Y dimension.
+     * @param zSize Size of the Z dimension.
+     * @return The X, Y and Z offset tables, of lengths xSize, ySize and zSize.
+     * @throws IllegalArgumentException if any dimension is non-positive or larger than 1024.
+     */
+    public static int[][] offsets(int xSize, int ySize, int zSize) {
+        int[] sizes = {xSize, ySize, zSize};
+        int[] shifts = tileShifts(xSize, ySize, zSize);
+        int tileBits = shifts[0] + shifts[1] + shifts[2];
+        int[][] bitPositions = new int[3][MAX_TILE_SHIFT];
+        int position = 0;
+        for (int bit = 0; bit < MAX_TILE_SHIFT; bit++) {
+            for (int axis = 2; axis >= 0; axis--) {
+                if (bit < shifts[axis]) {
+                    bitPositions[axis][bit] = position++;
+                }
+            }
+        }
+        int[] tileStrides = {
+                (pad(ySize, shifts[1]) >> shifts[1]) * (pad(zSize, shifts[2]) >> shifts[2]),
+                pad(zSize, shifts[2]) >> shifts[2],
+                1
+        };
+        int[][] offsets = new int[3][];
+        for (int axis = 0; axis < 3; axis++) {
+            int shift = shifts[axis];
+            offsets[axis] = new int[sizes[axis]];
+            for (int c = 0; c < sizes[axis]; c++) {
+                int offset = ((c >> shift) * tileStrides[axis]) << tileBits;
+                for (int bit = 0; bit < shift; bit++) {
+                    offset |= ((c >> bit) & 1) << bitPositions[axis][bit];
+                }
+                offsets[axis][c] = offset;
+            }
+        }
+        return offsets;
+    }
+
+    /**
+     * Rounds a size up to a multiple of {@code 1 << shift}.
+     */
+    private static int pad(int size, int shift) {
+        int mask = (1 << shift) - 1;
+        return (size + mask) & ~mask;
+    }
+
+    /**
+     * Inserts two zero bits between each of the low 10 bits of a value.
+     */
+    private static int spread(int value) {
+        int v = value & 0x000003FF;
+        v = (v | (v << 16)) & 0x030000FF;
+        v = (v | (v << 8)) & 0x0300F00F;
+        v = (v | (v << 4)) & 0x030C30C3;
+        v = (v | (v << 2)) & 0x09249249;
+        return v;
+    }
+
+    /**
+     * Inverse of {@link #spread(int)}: gathers every third bit into the low 10 bits.
+     */
+    private static int compact(int code) {
+        int v = code & 0x09249249;
+        v = (v | (v >>> 2)) & 0x030C30C3;
+        v = (v | (v >>> 4)) & 0x0300F00F;
+        v = (v | (v >>> 8)) & 0x030000FF;
+        v = (v | (v >>> 16)) & 0x000003FF;
+        return v;
+    }
+}
@@ -0,0 +1,56 @@
+package com.nogenericgames.community.arrays.utils;
+
+/**
+ * The cells around a cell of a two-dimensional grid that a cellular automaton rule or a connectivity test looks at.
+ * <p>
+ * Neighbours are listed in row-major order of their offsets, skipping the cell itself.
+ */
+public enum Neighbourhood {
+
+    /**
+     * The 4 cells sharing an edge: (-1, 0), (0, -1), (0, 1), (1, 0).
+     */
+    VON_NEUMANN(new int[]{-1, 0, 0, 1}, new int[]{0, -1, 1, 0}),
+
+    /**
+     * The 8 cells sharing an edge or a corner: (-1, -1), (-1, 0), (-1, 1), (0, -1), (0, 1), (1, -1), (1, 0), (1, 1).
+     */
+    MOORE(new int[]{-1, -1, -1, 0, 0, 1, 1, 1}, new int[]{-1, 0, 1, -1, 1, -1, 0, 1});
+
+    private final int[] dx;
+    private final int[] dy;
+
+    Neighbourhood(int[] dx, int[] dy) {
+        this.dx = dx;
+        this.dy = dy;
+    }
+
+    /**
+     * Returns the number of neighbours.
+     *
+     * @return 4 or 8.
+     */
+    public int size() {
+        return dx.length;
+    }
+
+    /**
+     * Returns the X offset of a neighbour.
+     *
+     * @param neighbour The neighbour number, from 0 to {@link #size()} - 1.
+     * @return -1, 0 or 1.
+     */
+    public int getDX(int neighbour) {
+        return dx[neighbour];
+    }
+
+    /**
+     * Returns the Y offset of a neighbour.
+     *
+     * @param neighbour The neighbour number, from 0 to {@link #size()} - 1.
+     * @return -1, 0 or 1.
+     */
+    public int getDY(int neighbour) {
+        return dy[neighbour];
+    }
+}
@@ -0,0 +1,133 @@
+package com.nogenericgames.community.arrays.utils;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join splitting of flat element ranges for the {@code parallel*} bulk operations of the array classes.
+ * <p>
+ * A range is cut into chunks whose lengths are multiples of a 64-byte cache line, so two threads never write the same
+ * line (measured from the start of the array) and no false sharing occurs between neighbouring chunks. Ranges smaller
+ * than {@link #SERIAL_THRESHOLD_BYTES} are processed as a single chunk on the calling thread, where the cost of
+ * forking would exceed the gain.
+ * <p>
+ * Work runs in the pool of the calling thread when called from a fork/join task, so callers can pick the parallelism
+ * by submitting the operation to their own {@link ForkJoinPool}; otherwise it runs in the common pool.
+ */
+public final class ParallelArrays {
+
+    /**
+     * Ranges below this many bytes are processed serially.
+     */
+    public static final int SERIAL_THRESHOLD_BYTES = 1 << 18;
+
+    private static final int CACHE_LINE_BYTES = 64;
+
+    /**
+     * Chunks per worker thread, so uneven progress between threads can be balanced by work stealing.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private ParallelArrays() {
+    }
+
+    /**
+     * Processes one chunk of a range.
+     */
+    @FunctionalInterface
+    public interface ChunkAction {
+
+        /**
+         * Processes the elements in {@code [from, to)}.
+         *
+         * @param chunk The chunk number, from 0 to {@link #chunkCount(int, int)} - 1.
+         * @param from  The first element index, inclusive.
+         * @param to    The last element index, exclusive.
+         */
+        void run(int chunk, int from, int to);
+    }
+
+    /**
+     * Returns the number of chunks {@link #forEachChunk(int, int, ChunkAction)} splits a range into, so callers can
+     * allocate one slot per chunk for partial results.
+     *
+     * @param length       The number of elements.
+     * @param elementBytes The size of one element in bytes.
+     * @return The chunk count, at least 1.
+     */
+    public static int chunkCount(int length, int elementBytes) {
+        int chunk = chunkLength(length, elementBytes);
+        return (int) (((long) length + chunk - 1) / chunk);
+    }
+
+    /**
+     * Runs the action on every chunk of {@code [0, length)}, in parallel when the range is large enough. Returns when
+     * every chunk is done.
+     *
+     * @param length       The number of elements.
+     * @param elementBytes The size of one element in bytes.
+     * @param action       The action to run per chunk.
+     */
+    public static void forEachChunk(int length, int elementBytes, ChunkAction action) {
+        int chunk = chunkLength(length, elementBytes);
+        int count = (int) (((long) length + chunk - 1) / chunk);
+        if (count <= 1) {
+            action.run(0, 0, length);
+            return;
+        }
+        ChunkTask task = new ChunkTask(action, length, chunk, 0, count);
+        if (ForkJoinTask.inForkJoinPool()) {
+            task.invoke();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+    }
+
+    private static int chunkLength(int length, int elementBytes) {
+        long bytes = (long) length * elementBytes;
+        if (bytes < SERIAL_THRESHOLD_BYTES) {
+            return Math.max(length, 1);
+        }
+        int line = Math.max(1, CACHE_LINE_BYTES / elementBytes);
+        int parallelism = ForkJoinTask.inForkJoinPool()
+                ? ForkJoinTask.getPool().getParallelism()
+                : ForkJoinPool.getCommonPoolParallelism();
+        long target = (long) length / ((long) parallelism * CHUNKS_PER_THREAD);
+        long minimum = SERIAL_THRESHOLD_BYTES / elementBytes;
+        long chunk = Math.max(target, minimum);
+        chunk = (chunk + line - 1) / line * line;
+        return (int) Math.min(chunk, length);
+    }
+
+    private static final class ChunkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final ChunkAction action;
+        private final int length;
+        private final int chunkLength;
+        private final int firstChunk;
+        private final int endChunk;
+
+        ChunkTask(ChunkAction action, int length, int chunkLength, int firstChunk, int endChunk) {
+            this.action = action;
+            this.length = length;
+            this.chunkLength = chunkLength;
+            this.firstChunk = firstChunk;
+            this.endChunk = endChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (endChunk - firstChunk == 1) {
+                int from = firstChunk * chunkLength;
+                action.run(firstChunk, from, (int) Math.min((long) from + chunkLength, length));
+                return;
+            }
+            int middle = (firstChunk + endChunk) >>> 1;
+            invokeAll(new ChunkTask(action, length, chunkLength, firstChunk, middle),
+                    new ChunkTask(action, length, chunkLength, middle, endChunk));
+        }
+    }
+}
@@ -0,0 +1,1421 @@
+package com.nogenericgames.community.arrays.utils;
+
+/**
+ * Axis permutation and transposition of row-major arrays, used by the {@code transpose} and {@code permute}
+ * methods of the array classes.
+ * <p>
+ * A permutation is a batch of 2D transposes: for every combination of the other axes, the source's contiguous axis
+ * becomes the destination's strided one and the axis that ends up contiguous in the destination is read with a stride.
+ * Each transpose is done in {@value #TILE} x {@value #TILE} tiles, staged through a small buffer: the tile's rows
+ * are copied in contiguously, then written out column by column as contiguous runs of the destination. Every cache
+ * line on either side is touched once per tile, even when both strides are large powers of two and the lines of a
+ * tile would otherwise evict each other from the same cache sets. When the last axis stays last, whole rows are
+ * copied with {@link System#arraycopy}. The parallel variants split the batch into strips of tiles with
+ * {@link ParallelArrays}. Overloads taking start positions work on ranges of larger arrays.
+ */
+public final class Permutations {
+
+    /**
+     * The tile edge, in elements.
+     */
+    public static final int TILE = 32;
+
+    /**
+     * The assumed size of an object reference when sizing parallel chunks: 4 bytes with compressed references.
+     */
+    private static final int REFERENCE_BYTES = 4;
+
+    private Permutations() {
+    }
+
+    /**
+     * Returns the dimensions of an array after permuting its axes.
+     *
+     * @param dims The dimensions.
+     * @param axes The permutation: dimension i of the result is dimension {@code axes[i]} of the input.
+     * @return The permuted dimensions.
+     * @throws IllegalArgumentException if the axes are not a permutation of 0 to {@code dims.length - 1}.
+     */
+    public static int[] permutedDimensions(int[] dims, int[] axes) {
+        checkAxes(axes, dims.length);
+        int[] result = new int[dims.length];
+        for (int i = 0; i < dims.length; i++) {
+            result[i] = dims[axes[i]];
+        }
+        return result;
+    }
+
+    /**
+     * Copies a row-major byte array into another with its axes reordered.
+     *
+     * @param src  The source elements.
+     * @param dims The source dimensions.
+     * @param axes The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest The destination elements, a different array of the same length.
+     * @throws IllegalArgumentException if the axes are not a permutation, the lengths do not match the dimensions or
+     *                                  src and dest are the same array.
+     */
+    public static void permute(byte[] src, int[] dims, int[] axes, byte[] dest) {
+        permute(src, 0, dest, 0, Plan.forArrays(dims, axes, src == dest, src.length, dest.length), false);
+    }
+
+    /**
+     * Like {@link #permute(byte[], int[], int[], byte[])}, but reads the source from {@code srcPos} and writes the
+     * destination from {@code destPos}, so either can be a region of a larger array.
+     *
+     * @param src     The source elements.
+     * @param srcPos  The index of the first source element.
+     * @param dims    The source dimensions.
+     * @param axes    The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest    The destination elements.
+     * @param destPos The index of the first destination element.
+     * @throws IllegalArgumentException  if the axes are not a permutation or the two ranges overlap.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void permute(byte[] src, int srcPos, int[] dims, int[] axes, byte[] dest, int destPos) {
+        permute(src, srcPos, dest, destPos,
+                Plan.forRanges(dims, axes, src == dest, srcPos, src.length, destPos, dest.length), false);
+    }
+
+    /**
+     * Copies a row-major byte array into another with its axes reordered, splitting the work across the fork/join
+     * pool for large arrays.
+     *
+     * @param src  The source elements.
+     * @param dims The source dimensions.
+     * @param axes The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest The destination elements, a different array of the same length.
+     * @throws IllegalArgumentException if the axes are not a permutation, the lengths do not match the dimensions or
+     *                                  src and dest are the same array.
+     */
+    public static void parallelPermute(byte[] src, int[] dims, int[] axes, byte[] dest) {
+        permute(src, 0, dest, 0, Plan.forArrays(dims, axes, src == dest, src.length, dest.length), true);
+    }
+
+    /**
+     * Like {@link #parallelPermute(byte[], int[], int[], byte[])}, but reads the source from {@code srcPos} and writes
+     * the destination from {@code destPos}, so either can be a region of a larger array.
+     *
+     * @param src     The source elements.
+     * @param srcPos  The index of the first source element.
+     * @param dims    The source dimensions.
+     * @param axes    The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest    The destination elements.
+     * @param destPos The index of the first destination element.
+     * @throws IllegalArgumentException  if the axes are not a permutation or the two ranges overlap.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void parallelPermute(byte[] src, int srcPos, int[] dims, int[] axes, byte[] dest, int destPos) {
+        permute(src, srcPos, dest, destPos,
+                Plan.forRanges(dims, axes, src == dest, srcPos, src.length, destPos, dest.length), true);
+    }
+
+    /**
+     * Transposes a square row-major byte matrix in place.
+     *
+     * @param data The elements, {@code size * size} of them.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException if the length does not match the size.
+     */
+    public static void transposeInPlace(byte[] data, int size) {
+        checkSquare(data.length, size);
+        transposeInPlace(data, 0, size, false);
+    }
+
+    /**
+     * Like {@link #transposeInPlace(byte[], int)}, but for a matrix stored from {@code pos} in a larger array.
+     *
+     * @param data The array holding the elements.
+     * @param pos  The index of the first element.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException  if the size is negative.
+     * @throws IndexOutOfBoundsException if the {@code size * size} elements do not fit in the array.
+     */
+    public static void transposeInPlace(byte[] data, int pos, int size) {
+        checkSquare(data.length, pos, size);
+        transposeInPlace(data, pos, size, false);
+    }
+
+    /**
+     * Transposes a square row-major byte matrix in place, splitting the work across the fork/join pool for large
+     * matrices.
+     *
+     * @param data The elements, {@code size * size} of them.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException if the length does not match the size.
+     */
+    public static void parallelTransposeInPlace(byte[] data, int size) {
+        checkSquare(data.length, size);
+        transposeInPlace(data, 0, size, true);
+    }
+
+    /**
+     * Like {@link #parallelTransposeInPlace(byte[], int)}, but for a matrix stored from {@code pos} in a larger array.
+     *
+     * @param data The array holding the elements.
+     * @param pos  The index of the first element.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException  if the size is negative.
+     * @throws IndexOutOfBoundsException if the {@code size * size} elements do not fit in the array.
+     */
+    public static void parallelTransposeInPlace(byte[] data, int pos, int size) {
+        checkSquare(data.length, pos, size);
+        transposeInPlace(data, pos, size, true);
+    }
+
+    private static void permute(byte[] src, int srcPos, byte[] dest, int destPos, Plan plan, boolean parallel) {
+        plan.run(Byte.BYTES, parallel, (chunk, from, to) -> {
+            byte[] tile = plan.copyRows ? null : new byte[TILE * TILE];
+            for (int item = from; item < to; item++) {
+                int block = item / plan.tilesPerBlock;
+                int srcBase = srcPos + plan.offset(block, false);
+                int destBase = destPos + plan.offset(block, true);
+                if (plan.copyRows) {
+                    System.arraycopy(src, srcBase, dest, destBase, plan.columns);
+                    continue;
+                }
+                int row0 = (item - block * plan.tilesPerBlock) * TILE;
+                int height = Math.min(TILE, plan.rows - row0);
+                for (int column0 = 0; column0 < plan.columns; column0 += TILE) {
+                    int width = Math.min(TILE, plan.columns - column0);
+                    for (int row = 0; row < height; row++) {
+                        System.arraycopy(src, srcBase + (row0 + row) * plan.srcRowStride + column0,
+                                tile, row * TILE, width);
+                    }
+                    for (int column = 0; column < width; column++) {
+                        int d = destBase + (column0 + column) * plan.destColumnStride + row0;
+                        for (int row = 0; row < height; row++) {
+                            dest[d + row] = tile[row * TILE + column];
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    private static void transposeInPlace(byte[] data, int pos, int size, boolean parallel) {
+        int tiles = (size + TILE - 1) / TILE;
+        ParallelArrays.ChunkAction action = (chunk, from, to) -> {
+            for (int tile = from; tile < to; tile++) {
+                int row0 = tile * TILE;
+                int row1 = Math.min(row0 + TILE, size);
+                for (int column0 = row0; column0 < size; column0 += TILE) {
+                    int column1 = Math.min(column0 + TILE, size);
+                    for (int row = row0; row < row1; row++) {
+                        for (int column = Math.max(column0, row + 1); column < column1; column++) {
+                            int a = pos + row * size + column;
+                            int b = pos + column * size + row;
+                            byte swap = data[a];
+                            data[a] = data[b];
+                            data[b] = swap;
+                        }
+                    }
+                }
+            }
+        };
+        if (parallel) {
+            ParallelArrays.forEachChunk(tiles, (int) Math.min((long) TILE * size, Integer.MAX_VALUE), action);
+        } else {
+            action.run(0, 0, tiles);
+        }
+    }
+
+    /**
+     * Copies a row-major short array into another with its axes reordered.
+     *
+     * @param src  The source elements.
+     * @param dims The source dimensions.
+     * @param axes The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest The destination elements, a different array of the same length.
+     * @throws IllegalArgumentException if the axes are not a permutation, the lengths do not match the dimensions or
+     *                                  src and dest are the same array.
+     */
+    public static void permute(short[] src, int[] dims, int[] axes, short[] dest) {
+        permute(src, 0, dest, 0, Plan.forArrays(dims, axes, src == dest, src.length, dest.length), false);
+    }
+
+    /**
+     * Like {@link #permute(short[], int[], int[], short[])}, but reads the source from {@code srcPos} and writes the
+     * destination from {@code destPos}, so either can be a region of a larger array.
+     *
+     * @param src     The source elements.
+     * @param srcPos  The index of the first source element.
+     * @param dims    The source dimensions.
+     * @param axes    The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest    The destination elements.
+     * @param destPos The index of the first destination element.
+     * @throws IllegalArgumentException  if the axes are not a permutation or the two ranges overlap.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void permute(short[] src, int srcPos, int[] dims, int[] axes, short[] dest, int destPos) {
+        permute(src, srcPos, dest, destPos,
+                Plan.forRanges(dims, axes, src == dest, srcPos, src.length, destPos, dest.length), false);
+    }
+
+    /**
+     * Copies a row-major short array into another with its axes reordered, splitting the work across the fork/join
+     * pool for large arrays.
+     *
+     * @param src  The source elements.
+     * @param dims The source dimensions.
+     * @param axes The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest The destination elements, a different array of the same length.
+     * @throws IllegalArgumentException if the axes are not a permutation, the lengths do not match the dimensions or
+     *                                  src and dest are the same array.
+     */
+    public static void parallelPermute(short[] src, int[] dims, int[] axes, short[] dest) {
+        permute(src, 0, dest, 0, Plan.forArrays(dims, axes, src == dest, src.length, dest.length), true);
+    }
+
+    /**
+     * Like {@link #parallelPermute(short[], int[], int[], short[])}, but reads the source from {@code srcPos} and
+     * writes the destination from {@code destPos}, so either can be a region of a larger array.
+     *
+     * @param src     The source elements.
+     * @param srcPos  The index of the first source element.
+     * @param dims    The source dimensions.
+     * @param axes    The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest    The destination elements.
+     * @param destPos The index of the first destination element.
+     * @throws IllegalArgumentException  if the axes are not a permutation or the two ranges overlap.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void parallelPermute(short[] src, int srcPos, int[] dims, int[] axes, short[] dest, int destPos) {
+        permute(src, srcPos, dest, destPos,
+                Plan.forRanges(dims, axes, src == dest, srcPos, src.length, destPos, dest.length), true);
+    }
+
+    /**
+     * Transposes a square row-major short matrix in place.
+     *
+     * @param data The elements, {@code size * size} of them.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException if the length does not match the size.
+     */
+    public static void transposeInPlace(short[] data, int size) {
+        checkSquare(data.length, size);
+        transposeInPlace(data, 0, size, false);
+    }
+
+    /**
+     * Like {@link #transposeInPlace(short[], int)}, but for a matrix stored from {@code pos} in a larger array.
+     *
+     * @param data The array holding the elements.
+     * @param pos  The index of the first element.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException  if the size is negative.
+     * @throws IndexOutOfBoundsException if the {@code size * size} elements do not fit in the array.
+     */
+    public static void transposeInPlace(short[] data, int pos, int size) {
+        checkSquare(data.length, pos, size);
+        transposeInPlace(data, pos, size, false);
+    }
+
+    /**
+     * Transposes a square row-major short matrix in place, splitting the work across the fork/join pool for large
+     * matrices.
+     *
+     * @param data The elements, {@code size * size} of them.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException if the length does not match the size.
+     */
+    public static void parallelTransposeInPlace(short[] data, int size) {
+        checkSquare(data.length, size);
+        transposeInPlace(data, 0, size, true);
+    }
+
+    /**
+     * Like {@link #parallelTransposeInPlace(short[], int)}, but for a matrix stored from {@code pos} in a larger array.
+     *
+     * @param data The array holding the elements.
+     * @param pos  The index of the first element.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException  if the size is negative.
+     * @throws IndexOutOfBoundsException if the {@code size * size} elements do not fit in the array.
+     */
+    public static void parallelTransposeInPlace(short[] data, int pos, int size) {
+        checkSquare(data.length, pos, size);
+        transposeInPlace(data, pos, size, true);
+    }
+
+    private static void permute(short[] src, int srcPos, short[] dest, int destPos, Plan plan, boolean parallel) {
+        plan.run(Short.BYTES, parallel, (chunk, from, to) -> {
+            short[] tile = plan.copyRows ? null : new short[TILE * TILE];
+            for (int item = from; item < to; item++) {
+                int block = item / plan.tilesPerBlock;
+                int srcBase = srcPos + plan.offset(block, false);
+                int destBase = destPos + plan.offset(block, true);
+                if (plan.copyRows) {
+                    System.arraycopy(src, srcBase, dest, destBase, plan.columns);
+                    continue;
+                }
+                int row0 = (item - block * plan.tilesPerBlock) * TILE;
+                int height = Math.min(TILE, plan.rows - row0);
+                for (int column0 = 0; column0 < plan.columns; column0 += TILE) {
+                    int width = Math.min(TILE, plan.columns - column0);
+                    for (int row = 0; row < height; row++) {
+                        System.arraycopy(src, srcBase + (row0 + row) * plan.srcRowStride + column0,
+                                tile, row * TILE, width);
+                    }
+                    for (int column = 0; column < width; column++) {
+                        int d = destBase + (column0 + column) * plan.destColumnStride + row0;
+                        for (int row = 0; row < height; row++) {
+                            dest[d + row] = tile[row * TILE + column];
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    private static void transposeInPlace(short[] data, int pos, int size, boolean parallel) {
+        int tiles = (size + TILE - 1) / TILE;
+        ParallelArrays.ChunkAction action = (chunk, from, to) -> {
+            for (int tile = from; tile < to; tile++) {
+                int row0 = tile * TILE;
+                int row1 = Math.min(row0 + TILE, size);
+                for (int column0 = row0; column0 < size; column0 += TILE) {
+                    int column1 = Math.min(column0 + TILE, size);
+                    for (int row = row0; row < row1; row++) {
+                        for (int column = Math.max(column0, row + 1); column < column1; column++) {
+                            int a = pos + row * size + column;
+                            int b = pos + column * size + row;
+                            short swap = data[a];
+                            data[a] = data[b];
+                            data[b] = swap;
+                        }
+                    }
+                }
+            }
+        };
+        if (parallel) {
+            ParallelArrays.forEachChunk(tiles,
+                    (int) Math.min((long) TILE * size * Short.BYTES, Integer.MAX_VALUE), action);
+        } else {
+            action.run(0, 0, tiles);
+        }
+    }
+
+    /**
+     * Copies a row-major int array into another with its axes reordered.
+     *
+     * @param src  The source elements.
+     * @param dims The source dimensions.
+     * @param axes The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest The destination elements, a different array of the same length.
+     * @throws IllegalArgumentException if the axes are not a permutation, the lengths do not match the dimensions or
+     *                                  src and dest are the same array.
+     */
+    public static void permute(int[] src, int[] dims, int[] axes, int[] dest) {
+        permute(src, 0, dest, 0, Plan.forArrays(dims, axes, src == dest, src.length, dest.length), false);
+    }
+
+    /**
+     * Like {@link #permute(int[], int[], int[], int[])}, but reads the source from {@code srcPos} and writes the
+     * destination from {@code destPos}, so either can be a region of a larger array.
+     *
+     * @param src     The source elements.
+     * @param srcPos  The index of the first source element.
+     * @param dims    The source dimensions.
+     * @param axes    The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest    The destination elements.
+     * @param destPos The index of the first destination element.
+     * @throws IllegalArgumentException  if the axes are not a permutation or the two ranges overlap.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void permute(int[] src, int srcPos, int[] dims, int[] axes, int[] dest, int destPos) {
+        permute(src, srcPos, dest, destPos,
+                Plan.forRanges(dims, axes, src == dest, srcPos, src.length, destPos, dest.length), false);
+    }
+
+    /**
+     * Copies a row-major int array into another with its axes reordered, splitting the work across the fork/join
+     * pool for large arrays.
+     *
+     * @param src  The source elements.
+     * @param dims The source dimensions.
+     * @param axes The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest The destination elements, a different array of the same length.
+     * @throws IllegalArgumentException if the axes are not a permutation, the lengths do not match the dimensions or
+     *                                  src and dest are the same array.
+     */
+    public static void parallelPermute(int[] src, int[] dims, int[] axes, int[] dest) {
+        permute(src, 0, dest, 0, Plan.forArrays(dims, axes, src == dest, src.length, dest.length), true);
+    }
+
+    /**
+     * Like {@link #parallelPermute(int[], int[], int[], int[])}, but reads the source from {@code srcPos} and writes
+     * the destination from {@code destPos}, so either can be a region of a larger array.
+     *
+     * @param src     The source elements.
+     * @param srcPos  The index of the first source element.
+     * @param dims    The source dimensions.
+     * @param axes    The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest    The destination elements.
+     * @param destPos The index of the first destination element.
+     * @throws IllegalArgumentException  if the axes are not a permutation or the two ranges overlap.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void parallelPermute(int[] src, int srcPos, int[] dims, int[] axes, int[] dest, int destPos) {
+        permute(src, srcPos, dest, destPos,
+                Plan.forRanges(dims, axes, src == dest, srcPos, src.length, destPos, dest.length), true);
+    }
+
+    /**
+     * Transposes a square row-major int matrix in place.
+     *
+     * @param data The elements, {@code size * size} of them.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException if the length does not match the size.
+     */
+    public static void transposeInPlace(int[] data, int size) {
+        checkSquare(data.length, size);
+        transposeInPlace(data, 0, size, false);
+    }
+
+    /**
+     * Like {@link #transposeInPlace(int[], int)}, but for a matrix stored from {@code pos} in a larger array.
+     *
+     * @param data The array holding the elements.
+     * @param pos  The index of the first element.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException  if the size is negative.
+     * @throws IndexOutOfBoundsException if the {@code size * size} elements do not fit in the array.
+     */
+    public static void transposeInPlace(int[] data, int pos, int size) {
+        checkSquare(data.length, pos, size);
+        transposeInPlace(data, pos, size, false);
+    }
+
+    /**
+     * Transposes a square row-major int matrix in place, splitting the work across the fork/join pool for large
+     * matrices.
+     *
+     * @param data The elements, {@code size * size} of them.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException if the length does not match the size.
+     */
+    public static void parallelTransposeInPlace(int[] data, int size) {
+        checkSquare(data.length, size);
+        transposeInPlace(data, 0, size, true);
+    }
+
+    /**
+     * Like {@link #parallelTransposeInPlace(int[], int)}, but for a matrix stored from {@code pos} in a larger array.
+     *
+     * @param data The array holding the elements.
+     * @param pos  The index of the first element.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException  if the size is negative.
+     * @throws IndexOutOfBoundsException if the {@code size * size} elements do not fit in the array.
+     */
+    public static void parallelTransposeInPlace(int[] data, int pos, int size) {
+        checkSquare(data.length, pos, size);
+        transposeInPlace(data, pos, size, true);
+    }
+
+    private static void permute(int[] src, int srcPos, int[] dest, int destPos, Plan plan, boolean parallel) {
+        plan.run(Integer.BYTES, parallel, (chunk, from, to) -> {
+            int[] tile = plan.copyRows ? null : new int[TILE * TILE];
+            for (int item = from; item < to; item++) {
+                int block = item / plan.tilesPerBlock;
+                int srcBase = srcPos + plan.offset(block, false);
+                int destBase = destPos + plan.offset(block, true);
+                if (plan.copyRows) {
+                    System.arraycopy(src, srcBase, dest, destBase, plan.columns);
+                    continue;
+                }
+                int row0 = (item - block * plan.tilesPerBlock) * TILE;
+                int height = Math.min(TILE, plan.rows - row0);
+                for (int column0 = 0; column0 < plan.columns; column0 += TILE) {
+                    int width = Math.min(TILE, plan.columns - column0);
+                    for (int row = 0; row < height; row++) {
+                        System.arraycopy(src, srcBase + (row0 + row) * plan.srcRowStride + column0,
+                                tile, row * TILE, width);
+                    }
+                    for (int column = 0; column < width; column++) {
+                        int d = destBase + (column0 + column) * plan.destColumnStride + row0;
+                        for (int row = 0; row < height; row++) {
+                            dest[d + row] = tile[row * TILE + column];
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    private static void transposeInPlace(int[] data, int pos, int size, boolean parallel) {
+        int tiles = (size + TILE - 1) / TILE;
+        ParallelArrays.ChunkAction action = (chunk, from, to) -> {
+            for (int tile = from; tile < to; tile++) {
+                int row0 = tile * TILE;
+                int row1 = Math.min(row0 + TILE, size);
+                for (int column0 = row0; column0 < size; column0 += TILE) {
+                    int column1 = Math.min(column0 + TILE, size);
+                    for (int row = row0; row < row1; row++) {
+                        for (int column = Math.max(column0, row + 1); column < column1; column++) {
+                            int a = pos + row * size + column;
+                            int b = pos + column * size + row;
+                            int swap = data[a];
+                            data[a] = data[b];
+                            data[b] = swap;
+                        }
+                    }
+                }
+            }
+        };
+        if (parallel) {
+            ParallelArrays.forEachChunk(tiles,
+                    (int) Math.min((long) TILE * size * Integer.BYTES, Integer.MAX_VALUE), action);
+        } else {
+            action.run(0, 0, tiles);
+        }
+    }
+
+    /**
+     * Copies a row-major long array into another with its axes reordered.
+     *
+     * @param src  The source elements.
+     * @param dims The source dimensions.
+     * @param axes The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest The destination elements, a different array of the same length.
+     * @throws IllegalArgumentException if the axes are not a permutation, the lengths do not match the dimensions or
+     *                                  src and dest are the same array.
+     */
+    public static void permute(long[] src, int[] dims, int[] axes, long[] dest) {
+        permute(src, 0, dest, 0, Plan.forArrays(dims, axes, src == dest, src.length, dest.length), false);
+    }
+
+    /**
+     * Like {@link #permute(long[], int[], int[], long[])}, but reads the source from {@code srcPos} and writes the
+     * destination from {@code destPos}, so either can be a region of a larger array.
+     *
+     * @param src     The source elements.
+     * @param srcPos  The index of the first source element.
+     * @param dims    The source dimensions.
+     * @param axes    The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest    The destination elements.
+     * @param destPos The index of the first destination element.
+     * @throws IllegalArgumentException  if the axes are not a permutation or the two ranges overlap.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void permute(long[] src, int srcPos, int[] dims, int[] axes, long[] dest, int destPos) {
+        permute(src, srcPos, dest, destPos,
+                Plan.forRanges(dims, axes, src == dest, srcPos, src.length, destPos, dest.length), false);
+    }
+
+    /**
+     * Copies a row-major long array into another with its axes reordered, splitting the work across the fork/join
+     * pool for large arrays.
+     *
+     * @param src  The source elements.
+     * @param dims The source dimensions.
+     * @param axes The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest The destination elements, a different array of the same length.
+     * @throws IllegalArgumentException if the axes are not a permutation, the lengths do not match the dimensions or
+     *                                  src and dest are the same array.
+     */
+    public static void parallelPermute(long[] src, int[] dims, int[] axes, long[] dest) {
+        permute(src, 0, dest, 0, Plan.forArrays(dims, axes, src == dest, src.length, dest.length), true);
+    }
+
+    /**
+     * Like {@link #parallelPermute(long[], int[], int[], long[])}, but reads the source from {@code srcPos} and writes
+     * the destination from {@code destPos}, so either can be a region of a larger array.
+     *
+     * @param src     The source elements.
+     * @param srcPos  The index of the first source element.
+     * @param dims    The source dimensions.
+     * @param axes    The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest    The destination elements.
+     * @param destPos The index of the first destination element.
+     * @throws IllegalArgumentException  if the axes are not a permutation or the two ranges overlap.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void parallelPermute(long[] src, int srcPos, int[] dims, int[] axes, long[] dest, int destPos) {
+        permute(src, srcPos, dest, destPos,
+                Plan.forRanges(dims, axes, src == dest, srcPos, src.length, destPos, dest.length), true);
+    }
+
+    /**
+     * Transposes a square row-major long matrix in place.
+     *
+     * @param data The elements, {@code size * size} of them.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException if the length does not match the size.
+     */
+    public static void transposeInPlace(long[] data, int size) {
+        checkSquare(data.length, size);
+        transposeInPlace(data, 0, size, false);
+    }
+
+    /**
+     * Like {@link #transposeInPlace(long[], int)}, but for a matrix stored from {@code pos} in a larger array.
+     *
+     * @param data The array holding the elements.
+     * @param pos  The index of the first element.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException  if the size is negative.
+     * @throws IndexOutOfBoundsException if the {@code size * size} elements do not fit in the array.
+     */
+    public static void transposeInPlace(long[] data, int pos, int size) {
+        checkSquare(data.length, pos, size);
+        transposeInPlace(data, pos, size, false);
+    }
+
+    /**
+     * Transposes a square row-major long matrix in place, splitting the work across the fork/join pool for large
+     * matrices.
+     *
+     * @param data The elements, {@code size * size} of them.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException if the length does not match the size.
+     */
+    public static void parallelTransposeInPlace(long[] data, int size) {
+        checkSquare(data.length, size);
+        transposeInPlace(data, 0, size, true);
+    }
+
+    /**
+     * Like {@link #parallelTransposeInPlace(long[], int)}, but for a matrix stored from {@code pos} in a larger array.
+     *
+     * @param data The array holding the elements.
+     * @param pos  The index of the first element.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException  if the size is negative.
+     * @throws IndexOutOfBoundsException if the {@code size * size} elements do not fit in the array.
+     */
+    public static void parallelTransposeInPlace(long[] data, int pos, int size) {
+        checkSquare(data.length, pos, size);
+        transposeInPlace(data, pos, size, true);
+    }
+
+    private static void permute(long[] src, int srcPos, long[] dest, int destPos, Plan plan, boolean parallel) {
+        plan.run(Long.BYTES, parallel, (chunk, from, to) -> {
+            long[] tile = plan.copyRows ? null : new long[TILE * TILE];
+            for (int item = from; item < to; item++) {
+                int block = item / plan.tilesPerBlock;
+                int srcBase = srcPos + plan.offset(block, false);
+                int destBase = destPos + plan.offset(block, true);
+                if (plan.copyRows) {
+                    System.arraycopy(src, srcBase, dest, destBase, plan.columns);
+                    continue;
+                }
+                int row0 = (item - block * plan.tilesPerBlock) * TILE;
+                int height = Math.min(TILE, plan.rows - row0);
+                for (int column0 = 0; column0 < plan.columns; column0 += TILE) {
+                    int width = Math.min(TILE, plan.columns - column0);
+                    for (int row = 0; row < height; row++) {
+                        System.arraycopy(src, srcBase + (row0 + row) * plan.srcRowStride + column0,
+                                tile, row * TILE, width);
+                    }
+                    for (int column = 0; column < width; column++) {
+                        int d = destBase + (column0 + column) * plan.destColumnStride + row0;
+                        for (int row = 0; row < height; row++) {
+                            dest[d + row] = tile[row * TILE + column];
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    private static void transposeInPlace(long[] data, int pos, int size, boolean parallel) {
+        int tiles = (size + TILE - 1) / TILE;
+        ParallelArrays.ChunkAction action = (chunk, from, to) -> {
+            for (int tile = from; tile < to; tile++) {
+                int row0 = tile * TILE;
+                int row1 = Math.min(row0 + TILE, size);
+                for (int column0 = row0; column0 < size; column0 += TILE) {
+                    int column1 = Math.min(column0 + TILE, size);
+                    for (int row = row0; row < row1; row++) {
+                        for (int column = Math.max(column0, row + 1); column < column1; column++) {
+                            int a = pos + row * size + column;
+                            int b = pos + column * size + row;
+                            long swap = data[a];
+                            data[a] = data[b];
+                            data[b] = swap;
+                        }
+                    }
+                }
+            }
+        };
+        if (parallel) {
+            ParallelArrays.forEachChunk(tiles,
+                    (int) Math.min((long) TILE * size * Long.BYTES, Integer.MAX_VALUE), action);
+        } else {
+            action.run(0, 0, tiles);
+        }
+    }
+
+    /**
+     * Copies a row-major float array into another with its axes reordered.
+     *
+     * @param src  The source elements.
+     * @param dims The source dimensions.
+     * @param axes The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest The destination elements, a different array of the same length.
+     * @throws IllegalArgumentException if the axes are not a permutation, the lengths do not match the dimensions or
+     *                                  src and dest are the same array.
+     */
+    public static void permute(float[] src, int[] dims, int[] axes, float[] dest) {
+        permute(src, 0, dest, 0, Plan.forArrays(dims, axes, src == dest, src.length, dest.length), false);
+    }
+
+    /**
+     * Like {@link #permute(float[], int[], int[], float[])}, but reads the source from {@code srcPos} and writes the
+     * destination from {@code destPos}, so either can be a region of a larger array.
+     *
+     * @param src     The source elements.
+     * @param srcPos  The index of the first source element.
+     * @param dims    The source dimensions.
+     * @param axes    The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest    The destination elements.
+     * @param destPos The index of the first destination element.
+     * @throws IllegalArgumentException  if the axes are not a permutation or the two ranges overlap.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void permute(float[] src, int srcPos, int[] dims, int[] axes, float[] dest, int destPos) {
+        permute(src, srcPos, dest, destPos,
+                Plan.forRanges(dims, axes, src == dest, srcPos, src.length, destPos, dest.length), false);
+    }
+
+    /**
+     * Copies a row-major float array into another with its axes reordered, splitting the work across the fork/join
+     * pool for large arrays.
+     *
+     * @param src  The source elements.
+     * @param dims The source dimensions.
+     * @param axes The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest The destination elements, a different array of the same length.
+     * @throws IllegalArgumentException if the axes are not a permutation, the lengths do not match the dimensions or
+     *                                  src and dest are the same array.
+     */
+    public static void parallelPermute(float[] src, int[] dims, int[] axes, float[] dest) {
+        permute(src, 0, dest, 0, Plan.forArrays(dims, axes, src == dest, src.length, dest.length), true);
+    }
+
+    /**
+     * Like {@link #parallelPermute(float[], int[], int[], float[])}, but reads the source from {@code srcPos} and
+     * writes the destination from {@code destPos}, so either can be a region of a larger array.
+     *
+     * @param src     The source elements.
+     * @param srcPos  The index of the first source element.
+     * @param dims    The source dimensions.
+     * @param axes    The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest    The destination elements.
+     * @param destPos The index of the first destination element.
+     * @throws IllegalArgumentException  if the axes are not a permutation or the two ranges overlap.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void parallelPermute(float[] src, int srcPos, int[] dims, int[] axes, float[] dest, int destPos) {
+        permute(src, srcPos, dest, destPos,
+                Plan.forRanges(dims, axes, src == dest, srcPos, src.length, destPos, dest.length), true);
+    }
+
+    /**
+     * Transposes a square row-major float matrix in place.
+     *
+     * @param data The elements, {@code size * size} of them.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException if the length does not match the size.
+     */
+    public static void transposeInPlace(float[] data, int size) {
+        checkSquare(data.length, size);
+        transposeInPlace(data, 0, size, false);
+    }
+
+    /**
+     * Like {@link #transposeInPlace(float[], int)}, but for a matrix stored from {@code pos} in a larger array.
+     *
+     * @param data The array holding the elements.
+     * @param pos  The index of the first element.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException  if the size is negative.
+     * @throws IndexOutOfBoundsException if the {@code size * size} elements do not fit in the array.
+     */
+    public static void transposeInPlace(float[] data, int pos, int size) {
+        checkSquare(data.length, pos, size);
+        transposeInPlace(data, pos, size, false);
+    }
+
+    /**
+     * Transposes a square row-major float matrix in place, splitting the work across the fork/join pool for large
+     * matrices.
+     *
+     * @param data The elements, {@code size * size} of them.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException if the length does not match the size.
+     */
+    public static void parallelTransposeInPlace(float[] data, int size) {
+        checkSquare(data.length, size);
+        transposeInPlace(data, 0, size, true);
+    }
+
+    /**
+     * Like {@link #parallelTransposeInPlace(float[], int)}, but for a matrix stored from {@code pos} in a larger array.
+     *
+     * @param data The array holding the elements.
+     * @param pos  The index of the first element.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException  if the size is negative.
+     * @throws IndexOutOfBoundsException if the {@code size * size} elements do not fit in the array.
+     */
+    public static void parallelTransposeInPlace(float[] data, int pos, int size) {
+        checkSquare(data.length, pos, size);
+        transposeInPlace(data, pos, size, true);
+    }
+
+    private static void permute(float[] src, int srcPos, float[] dest, int destPos, Plan plan, boolean parallel) {
+        plan.run(Float.BYTES, parallel, (chunk, from, to) -> {
+            float[] tile = plan.copyRows ? null : new float[TILE * TILE];
+            for (int item = from; item < to; item++) {
+                int block = item / plan.tilesPerBlock;
+                int srcBase = srcPos + plan.offset(block, false);
+                int destBase = destPos + plan.offset(block, true);
+                if (plan.copyRows) {
+                    System.arraycopy(src, srcBase, dest, destBase, plan.columns);
+                    continue;
+                }
+                int row0 = (item - block * plan.tilesPerBlock) * TILE;
+                int height = Math.min(TILE, plan.rows - row0);
+                for (int column0 = 0; column0 < plan.columns; column0 += TILE) {
+                    int width = Math.min(TILE, plan.columns - column0);
+                    for (int row = 0; row < height; row++) {
+                        System.arraycopy(src, srcBase + (row0 + row) * plan.srcRowStride + column0,
+                                tile, row * TILE, width);
+                    }
+                    for (int column = 0; column < width; column++) {
+                        int d = destBase + (column0 + column) * plan.destColumnStride + row0;
+                        for (int row = 0; row < height; row++) {
+                            dest[d + row] = tile[row * TILE + column];
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    private static void transposeInPlace(float[] data, int pos, int size, boolean parallel) {
+        int tiles = (size + TILE - 1) / TILE;
+        ParallelArrays.ChunkAction action = (chunk, from, to) -> {
+            for (int tile = from; tile < to; tile++) {
+                int row0 = tile * TILE;
+                int row1 = Math.min(row0 + TILE, size);
+                for (int column0 = row0; column0 < size; column0 += TILE) {
+                    int column1 = Math.min(column0 + TILE, size);
+                    for (int row = row0; row < row1; row++) {
+                        for (int column = Math.max(column0, row + 1); column < column1; column++) {
+                            int a = pos + row * size + column;
+                            int b = pos + column * size + row;
+                            float swap = data[a];
+                            data[a] = data[b];
+                            data[b] = swap;
+                        }
+                    }
+                }
+            }
+        };
+        if (parallel) {
+            ParallelArrays.forEachChunk(tiles,
+                    (int) Math.min((long) TILE * size * Float.BYTES, Integer.MAX_VALUE), action);
+        } else {
+            action.run(0, 0, tiles);
+        }
+    }
+
+    /**
+     * Copies a row-major double array into another with its axes reordered.
+     *
+     * @param src  The source elements.
+     * @param dims The source dimensions.
+     * @param axes The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest The destination elements, a different array of the same length.
+     * @throws IllegalArgumentException if the axes are not a permutation, the lengths do not match the dimensions or
+     *                                  src and dest are the same array.
+     */
+    public static void permute(double[] src, int[] dims, int[] axes, double[] dest) {
+        permute(src, 0, dest, 0, Plan.forArrays(dims, axes, src == dest, src.length, dest.length), false);
+    }
+
+    /**
+     * Like {@link #permute(double[], int[], int[], double[])}, but reads the source from {@code srcPos} and writes the
+     * destination from {@code destPos}, so either can be a region of a larger array.
+     *
+     * @param src     The source elements.
+     * @param srcPos  The index of the first source element.
+     * @param dims    The source dimensions.
+     * @param axes    The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest    The destination elements.
+     * @param destPos The index of the first destination element.
+     * @throws IllegalArgumentException  if the axes are not a permutation or the two ranges overlap.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void permute(double[] src, int srcPos, int[] dims, int[] axes, double[] dest, int destPos) {
+        permute(src, srcPos, dest, destPos,
+                Plan.forRanges(dims, axes, src == dest, srcPos, src.length, destPos, dest.length), false);
+    }
+
+    /**
+     * Copies a row-major double array into another with its axes reordered, splitting the work across the fork/join
+     * pool for large arrays.
+     *
+     * @param src  The source elements.
+     * @param dims The source dimensions.
+     * @param axes The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest The destination elements, a different array of the same length.
+     * @throws IllegalArgumentException if the axes are not a permutation, the lengths do not match the dimensions or
+     *                                  src and dest are the same array.
+     */
+    public static void parallelPermute(double[] src, int[] dims, int[] axes, double[] dest) {
+        permute(src, 0, dest, 0, Plan.forArrays(dims, axes, src == dest, src.length, dest.length), true);
+    }
+
+    /**
+     * Like {@link #parallelPermute(double[], int[], int[], double[])}, but reads the source from {@code srcPos} and
+     * writes the destination from {@code destPos}, so either can be a region of a larger array.
+     *
+     * @param src     The source elements.
+     * @param srcPos  The index of the first source element.
+     * @param dims    The source dimensions.
+     * @param axes    The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest    The destination elements.
+     * @param destPos The index of the first destination element.
+     * @throws IllegalArgumentException  if the axes are not a permutation or the two ranges overlap.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void parallelPermute(double[] src, int srcPos, int[] dims, int[] axes, double[] dest, int destPos) {
+        permute(src, srcPos, dest, destPos,
+                Plan.forRanges(dims, axes, src == dest, srcPos, src.length, destPos, dest.length), true);
+    }
+
+    /**
+     * Transposes a square row-major double matrix in place.
+     *
+     * @param data The elements, {@code size * size} of them.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException if the length does not match the size.
+     */
+    public static void transposeInPlace(double[] data, int size) {
+        checkSquare(data.length, size);
+        transposeInPlace(data, 0, size, false);
+    }
+
+    /**
+     * Like {@link #transposeInPlace(double[], int)}, but for a matrix stored from {@code pos} in a larger array.
+     *
+     * @param data The array holding the elements.
+     * @param pos  The index of the first element.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException  if the size is negative.
+     * @throws IndexOutOfBoundsException if the {@code size * size} elements do not fit in the array.
+     */
+    public static void transposeInPlace(double[] data, int pos, int size) {
+        checkSquare(data.length, pos, size);
+        transposeInPlace(data, pos, size, false);
+    }
+
+    /**
+     * Transposes a square row-major double matrix in place, splitting the work across the fork/join pool for large
+     * matrices.
+     *
+     * @param data The elements, {@code size * size} of them.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException if the length does not match the size.
+     */
+    public static void parallelTransposeInPlace(double[] data, int size) {
+        checkSquare(data.length, size);
+        transposeInPlace(data, 0, size, true);
+    }
+
+    /**
+     * Like {@link #parallelTransposeInPlace(double[], int)}, but for a matrix stored from {@code pos} in a larger
+     * array.
+     *
+     * @param data The array holding the elements.
+     * @param pos  The index of the first element.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException  if the size is negative.
+     * @throws IndexOutOfBoundsException if the {@code size * size} elements do not fit in the array.
+     */
+    public static void parallelTransposeInPlace(double[] data, int pos, int size) {
+        checkSquare(data.length, pos, size);
+        transposeInPlace(data, pos, size, true);
+    }
+
+    private static void permute(double[] src, int srcPos, double[] dest, int destPos, Plan plan, boolean parallel) {
+        plan.run(Double.BYTES, parallel, (chunk, from, to) -> {
+            double[] tile = plan.copyRows ? null : new double[TILE * TILE];
+            for (int item = from; item < to; item++) {
+                int block = item / plan.tilesPerBlock;
+                int srcBase = srcPos + plan.offset(block, false);
+                int destBase = destPos + plan.offset(block, true);
+                if (plan.copyRows) {
+                    System.arraycopy(src, srcBase, dest, destBase, plan.columns);
+                    continue;
+                }
+                int row0 = (item - block * plan.tilesPerBlock) * TILE;
+                int height = Math.min(TILE, plan.rows - row0);
+                for (int column0 = 0; column0 < plan.columns; column0 += TILE) {
+                    int width = Math.min(TILE, plan.columns - column0);
+                    for (int row = 0; row < height; row++) {
+                        System.arraycopy(src, srcBase + (row0 + row) * plan.srcRowStride + column0,
+                                tile, row * TILE, width);
+                    }
+                    for (int column = 0; column < width; column++) {
+                        int d = destBase + (column0 + column) * plan.destColumnStride + row0;
+                        for (int row = 0; row < height; row++) {
+                            dest[d + row] = tile[row * TILE + column];
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    private static void transposeInPlace(double[] data, int pos, int size, boolean parallel) {
+        int tiles = (size + TILE - 1) / TILE;
+        ParallelArrays.ChunkAction action = (chunk, from, to) -> {
+            for (int tile = from; tile < to; tile++) {
+                int row0 = tile * TILE;
+                int row1 = Math.min(row0 + TILE, size);
+                for (int column0 = row0; column0 < size; column0 += TILE) {
+                    int column1 = Math.min(column0 + TILE, size);
+                    for (int row = row0; row < row1; row++) {
+                        for (int column = Math.max(column0, row + 1); column < column1; column++) {
+                            int a = pos + row * size + column;
+                            int b = pos + column * size + row;
+                            double swap = data[a];
+                            data[a] = data[b];
+                            data[b] = swap;
+                        }
+                    }
+                }
+            }
+        };
+        if (parallel) {
+            ParallelArrays.forEachChunk(tiles,
+                    (int) Math.min((long) TILE * size * Double.BYTES, Integer.MAX_VALUE), action);
+        } else {
+            action.run(0, 0, tiles);
+        }
+    }
+
+    /**
+     * Copies a row-major Object array into another with its axes reordered.
+     *
+     * @param src  The source elements.
+     * @param dims The source dimensions.
+     * @param axes The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest The destination elements, a different array of the same length.
+     * @throws IllegalArgumentException if the axes are not a permutation, the lengths do not match the dimensions or
+     *                                  src and dest are the same array.
+     */
+    public static void permute(Object[] src, int[] dims, int[] axes, Object[] dest) {
+        permute(src, 0, dest, 0, Plan.forArrays(dims, axes, src == dest, src.length, dest.length), false);
+    }
+
+    /**
+     * Like {@link #permute(Object[], int[], int[], Object[])}, but reads the source from {@code srcPos} and writes the
+     * destination from {@code destPos}, so either can be a region of a larger array.
+     *
+     * @param src     The source elements.
+     * @param srcPos  The index of the first source element.
+     * @param dims    The source dimensions.
+     * @param axes    The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest    The destination elements.
+     * @param destPos The index of the first destination element.
+     * @throws IllegalArgumentException  if the axes are not a permutation or the two ranges overlap.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void permute(Object[] src, int srcPos, int[] dims, int[] axes, Object[] dest, int destPos) {
+        permute(src, srcPos, dest, destPos,
+                Plan.forRanges(dims, axes, src == dest, srcPos, src.length, destPos, dest.length), false);
+    }
+
+    /**
+     * Copies a row-major Object array into another with its axes reordered, splitting the work across the fork/join
+     * pool for large arrays.
+     *
+     * @param src  The source elements.
+     * @param dims The source dimensions.
+     * @param axes The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest The destination elements, a different array of the same length.
+     * @throws IllegalArgumentException if the axes are not a permutation, the lengths do not match the dimensions or
+     *                                  src and dest are the same array.
+     */
+    public static void parallelPermute(Object[] src, int[] dims, int[] axes, Object[] dest) {
+        permute(src, 0, dest, 0, Plan.forArrays(dims, axes, src == dest, src.length, dest.length), true);
+    }
+
+    /**
+     * Like {@link #parallelPermute(Object[], int[], int[], Object[])}, but reads the source from {@code srcPos} and
+     * writes the destination from {@code destPos}, so either can be a region of a larger array.
+     *
+     * @param src     The source elements.
+     * @param srcPos  The index of the first source element.
+     * @param dims    The source dimensions.
+     * @param axes    The permutation: dimension i of the destination is dimension {@code axes[i]} of the source.
+     * @param dest    The destination elements.
+     * @param destPos The index of the first destination element.
+     * @throws IllegalArgumentException  if the axes are not a permutation or the two ranges overlap.
+     * @throws IndexOutOfBoundsException if a range is out of bounds.
+     */
+    public static void parallelPermute(Object[] src, int srcPos, int[] dims, int[] axes, Object[] dest, int destPos) {
+        permute(src, srcPos, dest, destPos,
+                Plan.forRanges(dims, axes, src == dest, srcPos, src.length, destPos, dest.length), true);
+    }
+
+    /**
+     * Transposes a square row-major Object matrix in place.
+     *
+     * @param data The elements, {@code size * size} of them.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException if the length does not match the size.
+     */
+    public static void transposeInPlace(Object[] data, int size) {
+        checkSquare(data.length, size);
+        transposeInPlace(data, 0, size, false);
+    }
+
+    /**
+     * Like {@link #transposeInPlace(Object[], int)}, but for a matrix stored from {@code pos} in a larger array.
+     *
+     * @param data The array holding the elements.
+     * @param pos  The index of the first element.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException  if the size is negative.
+     * @throws IndexOutOfBoundsException if the {@code size * size} elements do not fit in the array.
+     */
+    public static void transposeInPlace(Object[] data, int pos, int size) {
+        checkSquare(data.length, pos, size);
+        transposeInPlace(data, pos, size, false);
+    }
+
+    /**
+     * Transposes a square row-major Object matrix in place, splitting the work across the fork/join pool for large
+     * matrices.
+     *
+     * @param data The elements, {@code size * size} of them.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException if the length does not match the size.
+     */
+    public static void parallelTransposeInPlace(Object[] data, int size) {
+        checkSquare(data.length, size);
+        transposeInPlace(data, 0, size, true);
+    }
+
+    /**
+     * Like {@link #parallelTransposeInPlace(Object[], int)}, but for a matrix stored from {@code pos} in a larger
+     * array.
+     *
+     * @param data The array holding the elements.
+     * @param pos  The index of the first element.
+     * @param size The number of rows and columns.
+     * @throws IllegalArgumentException  if the size is negative.
+     * @throws IndexOutOfBoundsException if the {@code size * size} elements do not fit in the array.
+     */
+    public static void parallelTransposeInPlace(Object[] data, int pos, int size) {
+        checkSquare(data.length, pos, size);
+        transposeInPlace(data, pos, size, true);
+    }
+
+    private static void permute(Object[] src, int srcPos, Object[] dest, int destPos, Plan plan, boolean parallel) {
+        plan.run(REFERENCE_BYTES, parallel, (chunk, from, to) -> {
+            Object[] tile = plan.copyRows ? null : new Object[TILE * TILE];
+            for (int item = from; item < to; item++) {
+                int block = item / plan.tilesPerBlock;
+                int srcBase = srcPos + plan.offset(block, false);
+                int destBase = destPos + plan.offset(block, true);
+                if (plan.copyRows) {
+                    System.arraycopy(src, srcBase, dest, destBase, plan.columns);
+                    continue;
+                }
+                int row0 = (item - block * plan.tilesPerBlock) * TILE;
+                int height = Math.min(TILE, plan.rows - row0);
+                for (int column0 = 0; column0 < plan.columns; column0 += TILE) {
+                    int width = Math.min(TILE, plan.columns - column0);
+                    for (int row = 0; row < height; row++) {
+                        System.arraycopy(src, srcBase + (row0 + row) * plan.srcRowStride + column0,
+                                tile, row * TILE, width);
+                    }
+                    for (int column = 0; column < width; column++) {
+                        int d = destBase + (column0 + column) * plan.destColumnStride + row0;
+                        for (int row = 0; row < height; row++) {
+                            dest[d + row] = tile[row * TILE + column];
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    private static void transposeInPlace(Object[] data, int pos, int size, boolean parallel) {
+        int tiles = (size + TILE - 1) / TILE;
+        ParallelArrays.ChunkAction action = (chunk, from, to) -> {
+            for (int tile = from; tile < to; tile++) {
+                int row0 = tile * TILE;
+                int row1 = Math.min(row0 + TILE, size);
+                for (int column0 = row0; column0 < size; column0 += TILE) {
+                    int column1 = Math.min(column0 + TILE, size);
+                    for (int row = row0; row < row1; row++) {
+                        for (int column = Math.max(column0, row + 1); column < column1; column++) {
+                            int a = pos + row * size + column;
+                            int b = pos + column * size + row;
+                            Object swap = data[a];
+                            data[a] = data[b];
+                            data[b] = swap;
+                        }
+                    }
+                }
+            }
+        };
+        if (parallel) {
+            ParallelArrays.forEachChunk(tiles,
+                    (int) Math.min((long) TILE * size * REFERENCE_BYTES, Integer.MAX_VALUE), action);
+        } else {
+            action.run(0, 0, tiles);
+        }
+    }
+
+    private static void checkAxes(int[] axes, int rank) {
+        boolean valid = axes.length == rank;
+        int seen = 0;
+        for (int i = 0; valid && i < rank; i++) {
+            valid = axes[i] >= 0 && axes[i] < rank && (seen & (1 << axes[i])) == 0;
+            seen |= valid ? 1 << axes[i] : 0;
+        }
+        if (!valid) {
+            throw new IllegalArgumentException("Axes must be a permutation of 0 to " + (rank - 1) + ".");
+        }
+    }
+
+    private static void checkSquare(int length, int size) {
+        if (size < 0 || (long) size * size != length) {
+            throw new IllegalArgumentException("Length " + length + " is not " + size + " squared.");
+        }
+    }
+
+    private static void checkSquare(int length, int pos, int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must not be negative.");
+        }
+        if (pos < 0 || (long) size * size > length - pos) {
+            throw new IndexOutOfBoundsException(
+                    size + " squared elements at " + pos + " out of bounds for length " + length + "."
+            );
+        }
+    }
+
+    /**
+     * How a permutation is split into work items: one per strip of {@link #TILE} rows of each 2D transpose, or one
+     * per row when the last axis stays last.
+     */
+    private static final class Plan {
+
+        final boolean copyRows;
+        final int rows;
+        final int columns;
+        final int srcRowStride;
+        final int destColumnStride;
+        final int tilesPerBlock;
+        final int items;
+        final long size;
+        private final int[] outerDims;
+        private final int[] outerSrcStrides;
+        private final int[] outerDestStrides;
+
+        /**
+         * Plans a permutation between two whole arrays, which must be different and hold exactly the elements.
+         */
+        static Plan forArrays(int[] dims, int[] axes, boolean sameArray, int srcLength, int destLength) {
+            if (sameArray) {
+                throw new IllegalArgumentException("Source and destination must be different arrays.");
+            }
+            Plan plan = new Plan(dims, axes);
+            if (plan.size != srcLength || plan.size != destLength) {
+                throw new IllegalArgumentException("Array lengths must match the dimensions.");
+            }
+            return plan;
+        }
+
+        /**
+         * Plans a permutation between two ranges, which must fit in their arrays and must not overlap.
+         */
+        static Plan forRanges(int[] dims, int[] axes, boolean sameArray, int srcPos, int srcLength, int destPos,
+                              int destLength) {
+            Plan plan = new Plan(dims, axes);
+            long size = plan.size;
+            if (srcPos < 0 || destPos < 0 || size > srcLength - srcPos || size > destLength - destPos) {
+                throw new IndexOutOfBoundsException(
+                        "Range of " + size + " elements out of bounds at " + srcPos + " or " + destPos + "."
+                );
+            }
+            if (sameArray && srcPos < destPos + size && destPos < srcPos + size) {
+                throw new IllegalArgumentException("Source and destination ranges must not overlap.");
+            }
+            return plan;
+        }
+
+        private Plan(int[] dims, int[] axes) {
+            int rank = dims.length;
+            checkAxes(axes, rank);
+            long total = 1;
+            for (int dim : dims) {
+                total *= dim;
+            }
+            this.size = total;
+            int[] srcStrides = new int[rank];
+            int[] destStrides = new int[rank];
+            for (int i = rank - 1, srcStride = 1, destStride = 1; i >= 0; i--) {
+                srcStrides[i] = srcStride;
+                destStrides[axes[i]] = destStride;
+                srcStride *= dims[i];
+                destStride *= dims[axes[i]];
+            }
+            int inner = rank - 1;
+            int outer = axes[rank - 1];
+            this.copyRows = inner == outer;
+            this.columns = dims[inner];
+            this.rows = copyRows ? 1 : dims[outer];
+            this.srcRowStride = srcStrides[outer];
+            this.destColumnStride = destStrides[inner];
+            this.tilesPerBlock = copyRows ? 1 : (rows + TILE - 1) / TILE;
+            int others = copyRows ? rank - 1 : rank - 2;
+            this.outerDims = new int[others];
+            this.outerSrcStrides = new int[others];
+            this.outerDestStrides = new int[others];
+            long blocks = 1;
+            for (int axis = 0, i = 0; axis < rank; axis++) {
+                if (axis != inner && axis != outer) {
+                    outerDims[i] = dims[axis];
+                    outerSrcStrides[i] = srcStrides[axis];
+                    outerDestStrides[i] = destStrides[axis];
+                    blocks *= dims[axis];
+                    i++;
+                }
+            }
+            this.items = (int) (blocks * tilesPerBlock);
+        }
+
+        int offset(int block, boolean dest) {
+            int[] strides = dest ? outerDestStrides : outerSrcStrides;
+            int offset = 0;
+            for (int i = outerDims.length - 1; i >= 0; i--) {
+                int index = block % outerDims[i];
+                block /= outerDims[i];
+                offset += index * strides[i];
+            }
+            return offset;
+        }
+
+        void run(int elementBytes, boolean parallel, ParallelArrays.ChunkAction action) {
+            if (parallel) {
+                long itemBytes = (long) (copyRows ? 1 : TILE) * columns * elementBytes;
+                ParallelArrays.forEachChunk(items, (int) Math.min(itemBytes, Integer.MAX_VALUE), action);
+            } else {
+                action.run(0, 0, items);
+            }
+        }
+    }
+}
@@ -0,0 +1,2409 @@
+package com.nogenericgames.community.arrays.utils;
+
+/**
+ * Reductions over flat primitive arrays: sums, minimum and maximum positions, moments and value counts.
+ * <p>
+ * Serial versions make a single pass over the data. Sums and moments keep several independent accumulators so that
+ * successive additions do not wait on each other; the JIT cannot do this itself for floating-point data because it
+ * changes rounding. Parallel versions split the array with {@link ParallelArrays} and combine the per-chunk results
+ * in chunk order, so they are deterministic for a given pool size. Every reduction also has an overload over a
+ * half-open range {@code [from, to)}, like {@link java.util.Arrays#fill(int[], int, int, int)}; indices it returns are
+ * indices into the whole array.
+ */
+public final class Reductions {
+
+    private static final int PAIRWISE_BLOCK = 256;
+
+    private static final Moments EMPTY = new Moments(0, 0.0, 0.0);
+
+    private Reductions() {
+    }
+
+    /**
+     * Returns the sum of all elements, accumulated in {@code long}.
+     *
+     * @param a The values.
+     * @return The sum, 0 for an empty array.
+     */
+    public static long sum(byte[] a) {
+        return sumRange(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #sum(byte[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The sum, 0 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static long sum(byte[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        return sumRange(a, from, to);
+    }
+
+    /**
+     * Returns the sum of all elements like {@link #sum(byte[])}, summing chunks in parallel.
+     *
+     * @param a The values.
+     * @return The sum, 0 for an empty array.
+     */
+    public static long parallelSum(byte[] a) {
+        return parallelSum(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #parallelSum(byte[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The sum, 0 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static long parallelSum(byte[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        long[] partials = new long[ParallelArrays.chunkCount(to - from, 1)];
+        ParallelArrays.forEachChunk(to - from, 1,
+                (chunk, start, end) -> partials[chunk] = sumRange(a, from + start, from + end));
+        long sum = 0;
+        for (long partial : partials) {
+            sum += partial;
+        }
+        return sum;
+    }
+
+    private static long sumRange(byte[] a, int from, int to) {
+        long s0 = 0;
+        long s1 = 0;
+        long s2 = 0;
+        long s3 = 0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            s0 += a[i];
+            s1 += a[i + 1];
+            s2 += a[i + 2];
+            s3 += a[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += a[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Returns the index of the smallest element; ties resolve to the lowest index.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int indexOfMin(byte[] a) {
+        return indexOfMinRange(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #indexOfMin(byte[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int indexOfMin(byte[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        return indexOfMinRange(a, from, to);
+    }
+
+    /**
+     * Returns the index of the smallest element like {@link #indexOfMin(byte[])}, scanning chunks in parallel.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int parallelIndexOfMin(byte[] a) {
+        return parallelIndexOfMin(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #parallelIndexOfMin(byte[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int parallelIndexOfMin(byte[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        int[] partials = new int[ParallelArrays.chunkCount(to - from, 1)];
+        ParallelArrays.forEachChunk(to - from, 1,
+                (chunk, start, end) -> partials[chunk] = indexOfMinRange(a, from + start, from + end));
+        int best = partials[0];
+        for (int i = 1; i < partials.length; i++) {
+            int index = partials[i];
+            if (a[index] < a[best]) {
+                best = index;
+            }
+        }
+        return best;
+    }
+
+    private static int indexOfMinRange(byte[] a, int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        int bestIndex = from;
+        byte best = a[from];
+        for (int i = from + 1; i < to; i++) {
+            byte v = a[i];
+            if (v < best) {
+                best = v;
+                bestIndex = i;
+            }
+        }
+        return bestIndex;
+    }
+
+    /**
+     * Returns the index of the largest element; ties resolve to the lowest index.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int indexOfMax(byte[] a) {
+        return indexOfMaxRange(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #indexOfMax(byte[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int indexOfMax(byte[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        return indexOfMaxRange(a, from, to);
+    }
+
+    /**
+     * Returns the index of the largest element like {@link #indexOfMax(byte[])}, scanning chunks in parallel.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int parallelIndexOfMax(byte[] a) {
+        return parallelIndexOfMax(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #parallelIndexOfMax(byte[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int parallelIndexOfMax(byte[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        int[] partials = new int[ParallelArrays.chunkCount(to - from, 1)];
+        ParallelArrays.forEachChunk(to - from, 1,
+                (chunk, start, end) -> partials[chunk] = indexOfMaxRange(a, from + start, from + end));
+        int best = partials[0];
+        for (int i = 1; i < partials.length; i++) {
+            int index = partials[i];
+            if (a[index] > a[best]) {
+                best = index;
+            }
+        }
+        return best;
+    }
+
+    private static int indexOfMaxRange(byte[] a, int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        int bestIndex = from;
+        byte best = a[from];
+        for (int i = from + 1; i < to; i++) {
+            byte v = a[i];
+            if (v > best) {
+                best = v;
+                bestIndex = i;
+            }
+        }
+        return bestIndex;
+    }
+
+    /**
+     * Computes the count, mean and variance of all elements in one pass.
+     *
+     * @param a The values.
+     * @return The moments of the values.
+     */
+    public static Moments moments(byte[] a) {
+        return momentsRange(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #moments(byte[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The moments of the values.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static Moments moments(byte[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        return momentsRange(a, from, to);
+    }
+
+    /**
+     * Computes the count, mean and variance of all elements like {@link #moments(byte[])},
+     * processing chunks in parallel and merging the per-chunk moments in order.
+     *
+     * @param a The values.
+     * @return The moments of the values.
+     */
+    public static Moments parallelMoments(byte[] a) {
+        return parallelMoments(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #parallelMoments(byte[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The moments of the values.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static Moments parallelMoments(byte[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        Moments[] partials = new Moments[ParallelArrays.chunkCount(to - from, 1)];
+        ParallelArrays.forEachChunk(to - from, 1,
+                (chunk, start, end) -> partials[chunk] = momentsRange(a, from + start, from + end));
+        return merge(partials);
+    }
+
+    private static Moments momentsRange(byte[] a, int from, int to) {
+        int n = to - from;
+        if (n <= 0) {
+            return EMPTY;
+        }
+        double shift = a[from];
+        double s0 = 0.0;
+        double s1 = 0.0;
+        double q0 = 0.0;
+        double q1 = 0.0;
+        int i = from;
+        for (; i + 1 < to; i += 2) {
+            double d0 = a[i] - shift;
+            double d1 = a[i + 1] - shift;
+            s0 += d0;
+            s1 += d1;
+            q0 += d0 * d0;
+            q1 += d1 * d1;
+        }
+        if (i < to) {
+            double d0 = a[i] - shift;
+            s0 += d0;
+            q0 += d0 * d0;
+        }
+        double s = s0 + s1;
+        double mean = s / n;
+        return new Moments(n, shift + mean, Math.max(0.0, (q0 + q1) - s * mean));
+    }
+
+    /**
+     * Counts the elements equal to a value.
+     *
+     * @param a     The values.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     */
+    public static int count(byte[] a, byte value) {
+        return countRange(a, 0, a.length, value);
+    }
+
+    /**
+     * Like {@link #count(byte[], byte)}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a     The values.
+     * @param from  The first index, inclusive.
+     * @param to    The last index, exclusive.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int count(byte[] a, int from, int to, byte value) {
+        checkRange(a.length, from, to);
+        return countRange(a, from, to, value);
+    }
+
+    /**
+     * Counts the elements equal to a value like {@link #count(byte[], byte)}, scanning chunks in parallel.
+     *
+     * @param a     The values.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     */
+    public static int parallelCount(byte[] a, byte value) {
+        return parallelCount(a, 0, a.length, value);
+    }
+
+    /**
+     * Like {@link #parallelCount(byte[], byte)}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a     The values.
+     * @param from  The first index, inclusive.
+     * @param to    The last index, exclusive.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int parallelCount(byte[] a, int from, int to, byte value) {
+        checkRange(a.length, from, to);
+        int[] partials = new int[ParallelArrays.chunkCount(to - from, 1)];
+        ParallelArrays.forEachChunk(to - from, 1,
+                (chunk, start, end) -> partials[chunk] = countRange(a, from + start, from + end, value));
+        int count = 0;
+        for (int partial : partials) {
+            count += partial;
+        }
+        return count;
+    }
+
+    private static int countRange(byte[] a, int from, int to, byte v) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (a[i] == v) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the sum of all elements, accumulated in {@code long}.
+     *
+     * @param a The values.
+     * @return The sum, 0 for an empty array.
+     */
+    public static long sum(short[] a) {
+        return sumRange(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #sum(short[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The sum, 0 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static long sum(short[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        return sumRange(a, from, to);
+    }
+
+    /**
+     * Returns the sum of all elements like {@link #sum(short[])}, summing chunks in parallel.
+     *
+     * @param a The values.
+     * @return The sum, 0 for an empty array.
+     */
+    public static long parallelSum(short[] a) {
+        return parallelSum(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #parallelSum(short[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The sum, 0 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static long parallelSum(short[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        long[] partials = new long[ParallelArrays.chunkCount(to - from, 2)];
+        ParallelArrays.forEachChunk(to - from, 2,
+                (chunk, start, end) -> partials[chunk] = sumRange(a, from + start, from + end));
+        long sum = 0;
+        for (long partial : partials) {
+            sum += partial;
+        }
+        return sum;
+    }
+
+    private static long sumRange(short[] a, int from, int to) {
+        long s0 = 0;
+        long s1 = 0;
+        long s2 = 0;
+        long s3 = 0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            s0 += a[i];
+            s1 += a[i + 1];
+            s2 += a[i + 2];
+            s3 += a[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += a[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Returns the index of the smallest element; ties resolve to the lowest index.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int indexOfMin(short[] a) {
+        return indexOfMinRange(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #indexOfMin(short[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int indexOfMin(short[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        return indexOfMinRange(a, from, to);
+    }
+
+    /**
+     * Returns the index of the smallest element like {@link #indexOfMin(short[])}, scanning chunks in parallel.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int parallelIndexOfMin(short[] a) {
+        return parallelIndexOfMin(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #parallelIndexOfMin(short[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int parallelIndexOfMin(short[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        int[] partials = new int[ParallelArrays.chunkCount(to - from, 2)];
+        ParallelArrays.forEachChunk(to - from, 2,
+                (chunk, start, end) -> partials[chunk] = indexOfMinRange(a, from + start, from + end));
+        int best = partials[0];
+        for (int i = 1; i < partials.length; i++) {
+            int index = partials[i];
+            if (a[index] < a[best]) {
+                best = index;
+            }
+        }
+        return best;
+    }
+
+    private static int indexOfMinRange(short[] a, int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        int bestIndex = from;
+        short best = a[from];
+        for (int i = from + 1; i < to; i++) {
+            short v = a[i];
+            if (v < best) {
+                best = v;
+                bestIndex = i;
+            }
+        }
+        return bestIndex;
+    }
+
+    /**
+     * Returns the index of the largest element; ties resolve to the lowest index.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int indexOfMax(short[] a) {
+        return indexOfMaxRange(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #indexOfMax(short[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int indexOfMax(short[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        return indexOfMaxRange(a, from, to);
+    }
+
+    /**
+     * Returns the index of the largest element like {@link #indexOfMax(short[])}, scanning chunks in parallel.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int parallelIndexOfMax(short[] a) {
+        return parallelIndexOfMax(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #parallelIndexOfMax(short[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int parallelIndexOfMax(short[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        int[] partials = new int[ParallelArrays.chunkCount(to - from, 2)];
+        ParallelArrays.forEachChunk(to - from, 2,
+                (chunk, start, end) -> partials[chunk] = indexOfMaxRange(a, from + start, from + end));
+        int best = partials[0];
+        for (int i = 1; i < partials.length; i++) {
+            int index = partials[i];
+            if (a[index] > a[best]) {
+                best = index;
+            }
+        }
+        return best;
+    }
+
+    private static int indexOfMaxRange(short[] a, int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        int bestIndex = from;
+        short best = a[from];
+        for (int i = from + 1; i < to; i++) {
+            short v = a[i];
+            if (v > best) {
+                best = v;
+                bestIndex = i;
+            }
+        }
+        return bestIndex;
+    }
+
+    /**
+     * Computes the count, mean and variance of all elements in one pass.
+     *
+     * @param a The values.
+     * @return The moments of the values.
+     */
+    public static Moments moments(short[] a) {
+        return momentsRange(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #moments(short[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The moments of the values.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static Moments moments(short[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        return momentsRange(a, from, to);
+    }
+
+    /**
+     * Computes the count, mean and variance of all elements like {@link #moments(short[])},
+     * processing chunks in parallel and merging the per-chunk moments in order.
+     *
+     * @param a The values.
+     * @return The moments of the values.
+     */
+    public static Moments parallelMoments(short[] a) {
+        return parallelMoments(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #parallelMoments(short[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The moments of the values.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static Moments parallelMoments(short[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        Moments[] partials = new Moments[ParallelArrays.chunkCount(to - from, 2)];
+        ParallelArrays.forEachChunk(to - from, 2,
+                (chunk, start, end) -> partials[chunk] = momentsRange(a, from + start, from + end));
+        return merge(partials);
+    }
+
+    private static Moments momentsRange(short[] a, int from, int to) {
+        int n = to - from;
+        if (n <= 0) {
+            return EMPTY;
+        }
+        double shift = a[from];
+        double s0 = 0.0;
+        double s1 = 0.0;
+        double q0 = 0.0;
+        double q1 = 0.0;
+        int i = from;
+        for (; i + 1 < to; i += 2) {
+            double d0 = a[i] - shift;
+            double d1 = a[i + 1] - shift;
+            s0 += d0;
+            s1 += d1;
+            q0 += d0 * d0;
+            q1 += d1 * d1;
+        }
+        if (i < to) {
+            double d0 = a[i] - shift;
+            s0 += d0;
+            q0 += d0 * d0;
+        }
+        double s = s0 + s1;
+        double mean = s / n;
+        return new Moments(n, shift + mean, Math.max(0.0, (q0 + q1) - s * mean));
+    }
+
+    /**
+     * Counts the elements equal to a value.
+     *
+     * @param a     The values.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     */
+    public static int count(short[] a, short value) {
+        return countRange(a, 0, a.length, value);
+    }
+
+    /**
+     * Like {@link #count(short[], short)}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a     The values.
+     * @param from  The first index, inclusive.
+     * @param to    The last index, exclusive.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int count(short[] a, int from, int to, short value) {
+        checkRange(a.length, from, to);
+        return countRange(a, from, to, value);
+    }
+
+    /**
+     * Counts the elements equal to a value like {@link #count(short[], short)}, scanning chunks in parallel.
+     *
+     * @param a     The values.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     */
+    public static int parallelCount(short[] a, short value) {
+        return parallelCount(a, 0, a.length, value);
+    }
+
+    /**
+     * Like {@link #parallelCount(short[], short)}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a     The values.
+     * @param from  The first index, inclusive.
+     * @param to    The last index, exclusive.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int parallelCount(short[] a, int from, int to, short value) {
+        checkRange(a.length, from, to);
+        int[] partials = new int[ParallelArrays.chunkCount(to - from, 2)];
+        ParallelArrays.forEachChunk(to - from, 2,
+                (chunk, start, end) -> partials[chunk] = countRange(a, from + start, from + end, value));
+        int count = 0;
+        for (int partial : partials) {
+            count += partial;
+        }
+        return count;
+    }
+
+    private static int countRange(short[] a, int from, int to, short v) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (a[i] == v) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the sum of all elements, accumulated in {@code long}.
+     *
+     * @param a The values.
+     * @return The sum, 0 for an empty array.
+     */
+    public static long sum(int[] a) {
+        return sumRange(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #sum(int[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The sum, 0 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static long sum(int[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        return sumRange(a, from, to);
+    }
+
+    /**
+     * Returns the sum of all elements like {@link #sum(int[])}, summing chunks in parallel.
+     *
+     * @param a The values.
+     * @return The sum, 0 for an empty array.
+     */
+    public static long parallelSum(int[] a) {
+        return parallelSum(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #parallelSum(int[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The sum, 0 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static long parallelSum(int[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        long[] partials = new long[ParallelArrays.chunkCount(to - from, 4)];
+        ParallelArrays.forEachChunk(to - from, 4,
+                (chunk, start, end) -> partials[chunk] = sumRange(a, from + start, from + end));
+        long sum = 0;
+        for (long partial : partials) {
+            sum += partial;
+        }
+        return sum;
+    }
+
+    private static long sumRange(int[] a, int from, int to) {
+        long s0 = 0;
+        long s1 = 0;
+        long s2 = 0;
+        long s3 = 0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            s0 += a[i];
+            s1 += a[i + 1];
+            s2 += a[i + 2];
+            s3 += a[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += a[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Returns the index of the smallest element; ties resolve to the lowest index.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int indexOfMin(int[] a) {
+        return indexOfMinRange(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #indexOfMin(int[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int indexOfMin(int[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        return indexOfMinRange(a, from, to);
+    }
+
+    /**
+     * Returns the index of the smallest element like {@link #indexOfMin(int[])}, scanning chunks in parallel.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int parallelIndexOfMin(int[] a) {
+        return parallelIndexOfMin(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #parallelIndexOfMin(int[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int parallelIndexOfMin(int[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        int[] partials = new int[ParallelArrays.chunkCount(to - from, 4)];
+        ParallelArrays.forEachChunk(to - from, 4,
+                (chunk, start, end) -> partials[chunk] = indexOfMinRange(a, from + start, from + end));
+        int best = partials[0];
+        for (int i = 1; i < partials.length; i++) {
+            int index = partials[i];
+            if (a[index] < a[best]) {
+                best = index;
+            }
+        }
+        return best;
+    }
+
+    private static int indexOfMinRange(int[] a, int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        int bestIndex = from;
+        int best = a[from];
+        for (int i = from + 1; i < to; i++) {
+            int v = a[i];
+            if (v < best) {
+                best = v;
+                bestIndex = i;
+            }
+        }
+        return bestIndex;
+    }
+
+    /**
+     * Returns the index of the largest element; ties resolve to the lowest index.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int indexOfMax(int[] a) {
+        return indexOfMaxRange(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #indexOfMax(int[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int indexOfMax(int[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        return indexOfMaxRange(a, from, to);
+    }
+
+    /**
+     * Returns the index of the largest element like {@link #indexOfMax(int[])}, scanning chunks in parallel.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int parallelIndexOfMax(int[] a) {
+        return parallelIndexOfMax(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #parallelIndexOfMax(int[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int parallelIndexOfMax(int[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        int[] partials = new int[ParallelArrays.chunkCount(to - from, 4)];
+        ParallelArrays.forEachChunk(to - from, 4,
+                (chunk, start, end) -> partials[chunk] = indexOfMaxRange(a, from + start, from + end));
+        int best = partials[0];
+        for (int i = 1; i < partials.length; i++) {
+            int index = partials[i];
+            if (a[index] > a[best]) {
+                best = index;
+            }
+        }
+        return best;
+    }
+
+    private static int indexOfMaxRange(int[] a, int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        int bestIndex = from;
+        int best = a[from];
+        for (int i = from + 1; i < to; i++) {
+            int v = a[i];
+            if (v > best) {
+                best = v;
+                bestIndex = i;
+            }
+        }
+        return bestIndex;
+    }
+
+    /**
+     * Computes the count, mean and variance of all elements in one pass.
+     *
+     * @param a The values.
+     * @return The moments of the values.
+     */
+    public static Moments moments(int[] a) {
+        return momentsRange(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #moments(int[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The moments of the values.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static Moments moments(int[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        return momentsRange(a, from, to);
+    }
+
+    /**
+     * Computes the count, mean and variance of all elements like {@link #moments(int[])},
+     * processing chunks in parallel and merging the per-chunk moments in order.
+     *
+     * @param a The values.
+     * @return The moments of the values.
+     */
+    public static Moments parallelMoments(int[] a) {
+        return parallelMoments(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #parallelMoments(int[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The moments of the values.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static Moments parallelMoments(int[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        Moments[] partials = new Moments[ParallelArrays.chunkCount(to - from, 4)];
+        ParallelArrays.forEachChunk(to - from, 4,
+                (chunk, start, end) -> partials[chunk] = momentsRange(a, from + start, from + end));
+        return merge(partials);
+    }
+
+    private static Moments momentsRange(int[] a, int from, int to) {
+        int n = to - from;
+        if (n <= 0) {
+            return EMPTY;
+        }
+        double shift = a[from];
+        double s0 = 0.0;
+        double s1 = 0.0;
+        double q0 = 0.0;
+        double q1 = 0.0;
+        int i = from;
+        for (; i + 1 < to; i += 2) {
+            double d0 = a[i] - shift;
+            double d1 = a[i + 1] - shift;
+            s0 += d0;
+            s1 += d1;
+            q0 += d0 * d0;
+            q1 += d1 * d1;
+        }
+        if (i < to) {
+            double d0 = a[i] - shift;
+            s0 += d0;
+            q0 += d0 * d0;
+        }
+        double s = s0 + s1;
+        double mean = s / n;
+        return new Moments(n, shift + mean, Math.max(0.0, (q0 + q1) - s * mean));
+    }
+
+    /**
+     * Counts the elements equal to a value.
+     *
+     * @param a     The values.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     */
+    public static int count(int[] a, int value) {
+        return countRange(a, 0, a.length, value);
+    }
+
+    /**
+     * Like {@link #count(int[], int)}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a     The values.
+     * @param from  The first index, inclusive.
+     * @param to    The last index, exclusive.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int count(int[] a, int from, int to, int value) {
+        checkRange(a.length, from, to);
+        return countRange(a, from, to, value);
+    }
+
+    /**
+     * Counts the elements equal to a value like {@link #count(int[], int)}, scanning chunks in parallel.
+     *
+     * @param a     The values.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     */
+    public static int parallelCount(int[] a, int value) {
+        return parallelCount(a, 0, a.length, value);
+    }
+
+    /**
+     * Like {@link #parallelCount(int[], int)}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a     The values.
+     * @param from  The first index, inclusive.
+     * @param to    The last index, exclusive.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int parallelCount(int[] a, int from, int to, int value) {
+        checkRange(a.length, from, to);
+        int[] partials = new int[ParallelArrays.chunkCount(to - from, 4)];
+        ParallelArrays.forEachChunk(to - from, 4,
+                (chunk, start, end) -> partials[chunk] = countRange(a, from + start, from + end, value));
+        int count = 0;
+        for (int partial : partials) {
+            count += partial;
+        }
+        return count;
+    }
+
+    private static int countRange(int[] a, int from, int to, int v) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (a[i] == v) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the sum of all elements, accumulated in {@code long} (which wraps around on overflow).
+     *
+     * @param a The values.
+     * @return The sum, 0 for an empty array.
+     */
+    public static long sum(long[] a) {
+        return sumRange(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #sum(long[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The sum, 0 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static long sum(long[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        return sumRange(a, from, to);
+    }
+
+    /**
+     * Returns the sum of all elements like {@link #sum(long[])}, summing chunks in parallel.
+     *
+     * @param a The values.
+     * @return The sum, 0 for an empty array.
+     */
+    public static long parallelSum(long[] a) {
+        return parallelSum(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #parallelSum(long[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The sum, 0 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static long parallelSum(long[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        long[] partials = new long[ParallelArrays.chunkCount(to - from, 8)];
+        ParallelArrays.forEachChunk(to - from, 8,
+                (chunk, start, end) -> partials[chunk] = sumRange(a, from + start, from + end));
+        long sum = 0;
+        for (long partial : partials) {
+            sum += partial;
+        }
+        return sum;
+    }
+
+    private static long sumRange(long[] a, int from, int to) {
+        long s0 = 0;
+        long s1 = 0;
+        long s2 = 0;
+        long s3 = 0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            s0 += a[i];
+            s1 += a[i + 1];
+            s2 += a[i + 2];
+            s3 += a[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += a[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Returns the index of the smallest element; ties resolve to the lowest index.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int indexOfMin(long[] a) {
+        return indexOfMinRange(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #indexOfMin(long[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int indexOfMin(long[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        return indexOfMinRange(a, from, to);
+    }
+
+    /**
+     * Returns the index of the smallest element like {@link #indexOfMin(long[])}, scanning chunks in parallel.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int parallelIndexOfMin(long[] a) {
+        return parallelIndexOfMin(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #parallelIndexOfMin(long[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int parallelIndexOfMin(long[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        int[] partials = new int[ParallelArrays.chunkCount(to - from, 8)];
+        ParallelArrays.forEachChunk(to - from, 8,
+                (chunk, start, end) -> partials[chunk] = indexOfMinRange(a, from + start, from + end));
+        int best = partials[0];
+        for (int i = 1; i < partials.length; i++) {
+            int index = partials[i];
+            if (a[index] < a[best]) {
+                best = index;
+            }
+        }
+        return best;
+    }
+
+    private static int indexOfMinRange(long[] a, int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        int bestIndex = from;
+        long best = a[from];
+        for (int i = from + 1; i < to; i++) {
+            long v = a[i];
+            if (v < best) {
+                best = v;
+                bestIndex = i;
+            }
+        }
+        return bestIndex;
+    }
+
+    /**
+     * Returns the index of the largest element; ties resolve to the lowest index.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int indexOfMax(long[] a) {
+        return indexOfMaxRange(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #indexOfMax(long[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int indexOfMax(long[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        return indexOfMaxRange(a, from, to);
+    }
+
+    /**
+     * Returns the index of the largest element like {@link #indexOfMax(long[])}, scanning chunks in parallel.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int parallelIndexOfMax(long[] a) {
+        return parallelIndexOfMax(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #parallelIndexOfMax(long[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int parallelIndexOfMax(long[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        int[] partials = new int[ParallelArrays.chunkCount(to - from, 8)];
+        ParallelArrays.forEachChunk(to - from, 8,
+                (chunk, start, end) -> partials[chunk] = indexOfMaxRange(a, from + start, from + end));
+        int best = partials[0];
+        for (int i = 1; i < partials.length; i++) {
+            int index = partials[i];
+            if (a[index] > a[best]) {
+                best = index;
+            }
+        }
+        return best;
+    }
+
+    private static int indexOfMaxRange(long[] a, int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        int bestIndex = from;
+        long best = a[from];
+        for (int i = from + 1; i < to; i++) {
+            long v = a[i];
+            if (v > best) {
+                best = v;
+                bestIndex = i;
+            }
+        }
+        return bestIndex;
+    }
+
+    /**
+     * Computes the count, mean and variance of all elements in one pass.
+     *
+     * @param a The values.
+     * @return The moments of the values.
+     */
+    public static Moments moments(long[] a) {
+        return momentsRange(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #moments(long[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The moments of the values.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static Moments moments(long[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        return momentsRange(a, from, to);
+    }
+
+    /**
+     * Computes the count, mean and variance of all elements like {@link #moments(long[])},
+     * processing chunks in parallel and merging the per-chunk moments in order.
+     *
+     * @param a The values.
+     * @return The moments of the values.
+     */
+    public static Moments parallelMoments(long[] a) {
+        return parallelMoments(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #parallelMoments(long[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The moments of the values.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static Moments parallelMoments(long[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        Moments[] partials = new Moments[ParallelArrays.chunkCount(to - from, 8)];
+        ParallelArrays.forEachChunk(to - from, 8,
+                (chunk, start, end) -> partials[chunk] = momentsRange(a, from + start, from + end));
+        return merge(partials);
+    }
+
+    private static Moments momentsRange(long[] a, int from, int to) {
+        int n = to - from;
+        if (n <= 0) {
+            return EMPTY;
+        }
+        double shift = a[from];
+        double s0 = 0.0;
+        double s1 = 0.0;
+        double q0 = 0.0;
+        double q1 = 0.0;
+        int i = from;
+        for (; i + 1 < to; i += 2) {
+            double d0 = a[i] - shift;
+            double d1 = a[i + 1] - shift;
+            s0 += d0;
+            s1 += d1;
+            q0 += d0 * d0;
+            q1 += d1 * d1;
+        }
+        if (i < to) {
+            double d0 = a[i] - shift;
+            s0 += d0;
+            q0 += d0 * d0;
+        }
+        double s = s0 + s1;
+        double mean = s / n;
+        return new Moments(n, shift + mean, Math.max(0.0, (q0 + q1) - s * mean));
+    }
+
+    /**
+     * Counts the elements equal to a value.
+     *
+     * @param a     The values.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     */
+    public static int count(long[] a, long value) {
+        return countRange(a, 0, a.length, value);
+    }
+
+    /**
+     * Like {@link #count(long[], long)}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a     The values.
+     * @param from  The first index, inclusive.
+     * @param to    The last index, exclusive.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int count(long[] a, int from, int to, long value) {
+        checkRange(a.length, from, to);
+        return countRange(a, from, to, value);
+    }
+
+    /**
+     * Counts the elements equal to a value like {@link #count(long[], long)}, scanning chunks in parallel.
+     *
+     * @param a     The values.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     */
+    public static int parallelCount(long[] a, long value) {
+        return parallelCount(a, 0, a.length, value);
+    }
+
+    /**
+     * Like {@link #parallelCount(long[], long)}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a     The values.
+     * @param from  The first index, inclusive.
+     * @param to    The last index, exclusive.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int parallelCount(long[] a, int from, int to, long value) {
+        checkRange(a.length, from, to);
+        int[] partials = new int[ParallelArrays.chunkCount(to - from, 8)];
+        ParallelArrays.forEachChunk(to - from, 8,
+                (chunk, start, end) -> partials[chunk] = countRange(a, from + start, from + end, value));
+        int count = 0;
+        for (int partial : partials) {
+            count += partial;
+        }
+        return count;
+    }
+
+    private static int countRange(long[] a, int from, int to, long v) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (a[i] == v) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the sum of all elements, accumulated in {@code double}.
+     *
+     * @param a    The values.
+     * @param mode The summation algorithm.
+     * @return The sum, 0 for an empty array.
+     */
+    public static double sum(float[] a, Summation mode) {
+        return sumRange(a, 0, a.length, mode);
+    }
+
+    /**
+     * Like {@link #sum(float[], Summation)}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @param mode The summation algorithm.
+     * @return The sum, 0 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static double sum(float[] a, int from, int to, Summation mode) {
+        checkRange(a.length, from, to);
+        return sumRange(a, from, to, mode);
+    }
+
+    /**
+     * Returns the sum of all elements like {@link #sum(float[], Summation)}, summing chunks in parallel. Per-chunk
+     * results are combined with compensated summation in chunk order, so the result does not depend on thread timing.
+     *
+     * @param a    The values.
+     * @param mode The summation algorithm used within each chunk.
+     * @return The sum, 0 for an empty array.
+     */
+    public static double parallelSum(float[] a, Summation mode) {
+        return parallelSum(a, 0, a.length, mode);
+    }
+
+    /**
+     * Like {@link #parallelSum(float[], Summation)}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @param mode The summation algorithm used within each chunk.
+     * @return The sum, 0 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static double parallelSum(float[] a, int from, int to, Summation mode) {
+        checkRange(a.length, from, to);
+        double[] partials = new double[ParallelArrays.chunkCount(to - from, 4)];
+        ParallelArrays.forEachChunk(to - from, 4,
+                (chunk, start, end) -> partials[chunk] = sumRange(a, from + start, from + end, mode));
+        return kahan(partials);
+    }
+
+    private static double sumRange(float[] a, int from, int to, Summation mode) {
+        switch (mode) {
+            case KAHAN:
+                return kahanRange(a, from, to);
+            case PAIRWISE:
+                return pairwiseRange(a, from, to);
+            default:
+                return naiveRange(a, from, to);
+        }
+    }
+
+    private static double naiveRange(float[] a, int from, int to) {
+        double s0 = 0.0;
+        double s1 = 0.0;
+        double s2 = 0.0;
+        double s3 = 0.0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            s0 += a[i];
+            s1 += a[i + 1];
+            s2 += a[i + 2];
+            s3 += a[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += a[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    private static double pairwiseRange(float[] a, int from, int to) {
+        if (to - from <= PAIRWISE_BLOCK) {
+            return naiveRange(a, from, to);
+        }
+        int middle = (from + to) >>> 1;
+        return pairwiseRange(a, from, middle) + pairwiseRange(a, middle, to);
+    }
+
+    private static double kahanRange(float[] a, int from, int to) {
+        double s0 = 0.0;
+        double s1 = 0.0;
+        double s2 = 0.0;
+        double s3 = 0.0;
+        double c0 = 0.0;
+        double c1 = 0.0;
+        double c2 = 0.0;
+        double c3 = 0.0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            double y0 = a[i] - c0;
+            double t0 = s0 + y0;
+            c0 = (t0 - s0) - y0;
+            s0 = t0;
+            double y1 = a[i + 1] - c1;
+            double t1 = s1 + y1;
+            c1 = (t1 - s1) - y1;
+            s1 = t1;
+            double y2 = a[i + 2] - c2;
+            double t2 = s2 + y2;
+            c2 = (t2 - s2) - y2;
+            s2 = t2;
+            double y3 = a[i + 3] - c3;
+            double t3 = s3 + y3;
+            c3 = (t3 - s3) - y3;
+            s3 = t3;
+        }
+        for (; i < to; i++) {
+            double y0 = a[i] - c0;
+            double t0 = s0 + y0;
+            c0 = (t0 - s0) - y0;
+            s0 = t0;
+        }
+        return kahan(new double[]{s0, s1, s2, s3, -c0, -c1, -c2, -c3});
+    }
+
+    /**
+     * Returns the index of the smallest element; ties resolve to the lowest index. NaN values are
+     * ignored unless every element is NaN, in which case the first index is returned.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int indexOfMin(float[] a) {
+        return indexOfMinRange(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #indexOfMin(float[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int indexOfMin(float[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        return indexOfMinRange(a, from, to);
+    }
+
+    /**
+     * Returns the index of the smallest element like {@link #indexOfMin(float[])}, scanning chunks in parallel.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int parallelIndexOfMin(float[] a) {
+        return parallelIndexOfMin(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #parallelIndexOfMin(float[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int parallelIndexOfMin(float[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        int[] partials = new int[ParallelArrays.chunkCount(to - from, 4)];
+        ParallelArrays.forEachChunk(to - from, 4,
+                (chunk, start, end) -> partials[chunk] = indexOfMinRange(a, from + start, from + end));
+        int best = partials[0];
+        for (int i = 1; i < partials.length; i++) {
+            int index = partials[i];
+            if (a[index] < a[best] || (a[best] != a[best] && a[index] == a[index])) {
+                best = index;
+            }
+        }
+        return best;
+    }
+
+    private static int indexOfMinRange(float[] a, int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        int bestIndex = from;
+        float best = a[from];
+        for (int i = from + 1; i < to; i++) {
+            float v = a[i];
+            if (v < best || (best != best && v == v)) {
+                best = v;
+                bestIndex = i;
+            }
+        }
+        return bestIndex;
+    }
+
+    /**
+     * Returns the index of the largest element; ties resolve to the lowest index. NaN values are
+     * ignored unless every element is NaN, in which case the first index is returned.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int indexOfMax(float[] a) {
+        return indexOfMaxRange(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #indexOfMax(float[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int indexOfMax(float[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        return indexOfMaxRange(a, from, to);
+    }
+
+    /**
+     * Returns the index of the largest element like {@link #indexOfMax(float[])}, scanning chunks in parallel.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int parallelIndexOfMax(float[] a) {
+        return parallelIndexOfMax(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #parallelIndexOfMax(float[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int parallelIndexOfMax(float[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        int[] partials = new int[ParallelArrays.chunkCount(to - from, 4)];
+        ParallelArrays.forEachChunk(to - from, 4,
+                (chunk, start, end) -> partials[chunk] = indexOfMaxRange(a, from + start, from + end));
+        int best = partials[0];
+        for (int i = 1; i < partials.length; i++) {
+            int index = partials[i];
+            if (a[index] > a[best] || (a[best] != a[best] && a[index] == a[index])) {
+                best = index;
+            }
+        }
+        return best;
+    }
+
+    private static int indexOfMaxRange(float[] a, int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        int bestIndex = from;
+        float best = a[from];
+        for (int i = from + 1; i < to; i++) {
+            float v = a[i];
+            if (v > best || (best != best && v == v)) {
+                best = v;
+                bestIndex = i;
+            }
+        }
+        return bestIndex;
+    }
+
+    /**
+     * Computes the count, mean and variance of all elements in one pass.
+     *
+     * @param a The values.
+     * @return The moments of the values.
+     */
+    public static Moments moments(float[] a) {
+        return momentsRange(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #moments(float[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The moments of the values.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static Moments moments(float[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        return momentsRange(a, from, to);
+    }
+
+    /**
+     * Computes the count, mean and variance of all elements like {@link #moments(float[])},
+     * processing chunks in parallel and merging the per-chunk moments in order.
+     *
+     * @param a The values.
+     * @return The moments of the values.
+     */
+    public static Moments parallelMoments(float[] a) {
+        return parallelMoments(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #parallelMoments(float[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The moments of the values.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static Moments parallelMoments(float[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        Moments[] partials = new Moments[ParallelArrays.chunkCount(to - from, 4)];
+        ParallelArrays.forEachChunk(to - from, 4,
+                (chunk, start, end) -> partials[chunk] = momentsRange(a, from + start, from + end));
+        return merge(partials);
+    }
+
+    private static Moments momentsRange(float[] a, int from, int to) {
+        int n = to - from;
+        if (n <= 0) {
+            return EMPTY;
+        }
+        double shift = a[from];
+        double s0 = 0.0;
+        double s1 = 0.0;
+        double q0 = 0.0;
+        double q1 = 0.0;
+        int i = from;
+        for (; i + 1 < to; i += 2) {
+            double d0 = a[i] - shift;
+            double d1 = a[i + 1] - shift;
+            s0 += d0;
+            s1 += d1;
+            q0 += d0 * d0;
+            q1 += d1 * d1;
+        }
+        if (i < to) {
+            double d0 = a[i] - shift;
+            s0 += d0;
+            q0 += d0 * d0;
+        }
+        double s = s0 + s1;
+        double mean = s / n;
+        return new Moments(n, shift + mean, Math.max(0.0, (q0 + q1) - s * mean));
+    }
+
+    /**
+     * Counts the elements equal to a value. A NaN value counts NaN elements.
+     *
+     * @param a     The values.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     */
+    public static int count(float[] a, float value) {
+        return countRange(a, 0, a.length, value);
+    }
+
+    /**
+     * Like {@link #count(float[], float)}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a     The values.
+     * @param from  The first index, inclusive.
+     * @param to    The last index, exclusive.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int count(float[] a, int from, int to, float value) {
+        checkRange(a.length, from, to);
+        return countRange(a, from, to, value);
+    }
+
+    /**
+     * Counts the elements equal to a value like {@link #count(float[], float)}, scanning chunks in parallel.
+     *
+     * @param a     The values.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     */
+    public static int parallelCount(float[] a, float value) {
+        return parallelCount(a, 0, a.length, value);
+    }
+
+    /**
+     * Like {@link #parallelCount(float[], float)}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a     The values.
+     * @param from  The first index, inclusive.
+     * @param to    The last index, exclusive.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int parallelCount(float[] a, int from, int to, float value) {
+        checkRange(a.length, from, to);
+        int[] partials = new int[ParallelArrays.chunkCount(to - from, 4)];
+        ParallelArrays.forEachChunk(to - from, 4,
+                (chunk, start, end) -> partials[chunk] = countRange(a, from + start, from + end, value));
+        int count = 0;
+        for (int partial : partials) {
+            count += partial;
+        }
+        return count;
+    }
+
+    private static int countRange(float[] a, int from, int to, float v) {
+        int count = 0;
+        if (v != v) {
+            for (int i = from; i < to; i++) {
+                if (a[i] != a[i]) {
+                    count++;
+                }
+            }
+            return count;
+        }
+        for (int i = from; i < to; i++) {
+            if (a[i] == v) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the sum of all elements, accumulated in {@code double}.
+     *
+     * @param a    The values.
+     * @param mode The summation algorithm.
+     * @return The sum, 0 for an empty array.
+     */
+    public static double sum(double[] a, Summation mode) {
+        return sumRange(a, 0, a.length, mode);
+    }
+
+    /**
+     * Like {@link #sum(double[], Summation)}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @param mode The summation algorithm.
+     * @return The sum, 0 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static double sum(double[] a, int from, int to, Summation mode) {
+        checkRange(a.length, from, to);
+        return sumRange(a, from, to, mode);
+    }
+
+    /**
+     * Returns the sum of all elements like {@link #sum(double[], Summation)}, summing chunks in parallel. Per-chunk
+     * results are combined with compensated summation in chunk order, so the result does not depend on thread timing.
+     *
+     * @param a    The values.
+     * @param mode The summation algorithm used within each chunk.
+     * @return The sum, 0 for an empty array.
+     */
+    public static double parallelSum(double[] a, Summation mode) {
+        return parallelSum(a, 0, a.length, mode);
+    }
+
+    /**
+     * Like {@link #parallelSum(double[], Summation)}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @param mode The summation algorithm used within each chunk.
+     * @return The sum, 0 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static double parallelSum(double[] a, int from, int to, Summation mode) {
+        checkRange(a.length, from, to);
+        double[] partials = new double[ParallelArrays.chunkCount(to - from, 8)];
+        ParallelArrays.forEachChunk(to - from, 8,
+                (chunk, start, end) -> partials[chunk] = sumRange(a, from + start, from + end, mode));
+        return kahan(partials);
+    }
+
+    private static double sumRange(double[] a, int from, int to, Summation mode) {
+        switch (mode) {
+            case KAHAN:
+                return kahanRange(a, from, to);
+            case PAIRWISE:
+                return pairwiseRange(a, from, to);
+            default:
+                return naiveRange(a, from, to);
+        }
+    }
+
+    private static double naiveRange(double[] a, int from, int to) {
+        double s0 = 0.0;
+        double s1 = 0.0;
+        double s2 = 0.0;
+        double s3 = 0.0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            s0 += a[i];
+            s1 += a[i + 1];
+            s2 += a[i + 2];
+            s3 += a[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += a[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    private static double pairwiseRange(double[] a, int from, int to) {
+        if (to - from <= PAIRWISE_BLOCK) {
+            return naiveRange(a, from, to);
+        }
+        int middle = (from + to) >>> 1;
+        return pairwiseRange(a, from, middle) + pairwiseRange(a, middle, to);
+    }
+
+    private static double kahanRange(double[] a, int from, int to) {
+        double s0 = 0.0;
+        double s1 = 0.0;
+        double s2 = 0.0;
+        double s3 = 0.0;
+        double c0 = 0.0;
+        double c1 = 0.0;
+        double c2 = 0.0;
+        double c3 = 0.0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            double y0 = a[i] - c0;
+            double t0 = s0 + y0;
+            c0 = (t0 - s0) - y0;
+            s0 = t0;
+            double y1 = a[i + 1] - c1;
+            double t1 = s1 + y1;
+            c1 = (t1 - s1) - y1;
+            s1 = t1;
+            double y2 = a[i + 2] - c2;
+            double t2 = s2 + y2;
+            c2 = (t2 - s2) - y2;
+            s2 = t2;
+            double y3 = a[i + 3] - c3;
+            double t3 = s3 + y3;
+            c3 = (t3 - s3) - y3;
+            s3 = t3;
+        }
+        for (; i < to; i++) {
+            double y0 = a[i] - c0;
+            double t0 = s0 + y0;
+            c0 = (t0 - s0) - y0;
+            s0 = t0;
+        }
+        return kahan(new double[]{s0, s1, s2, s3, -c0, -c1, -c2, -c3});
+    }
+
+    /**
+     * Returns the index of the smallest element; ties resolve to the lowest index. NaN values are
+     * ignored unless every element is NaN, in which case the first index is returned.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int indexOfMin(double[] a) {
+        return indexOfMinRange(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #indexOfMin(double[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int indexOfMin(double[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        return indexOfMinRange(a, from, to);
+    }
+
+    /**
+     * Returns the index of the smallest element like {@link #indexOfMin(double[])}, scanning chunks in parallel.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int parallelIndexOfMin(double[] a) {
+        return parallelIndexOfMin(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #parallelIndexOfMin(double[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int parallelIndexOfMin(double[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        int[] partials = new int[ParallelArrays.chunkCount(to - from, 8)];
+        ParallelArrays.forEachChunk(to - from, 8,
+                (chunk, start, end) -> partials[chunk] = indexOfMinRange(a, from + start, from + end));
+        int best = partials[0];
+        for (int i = 1; i < partials.length; i++) {
+            int index = partials[i];
+            if (a[index] < a[best] || (a[best] != a[best] && a[index] == a[index])) {
+                best = index;
+            }
+        }
+        return best;
+    }
+
+    private static int indexOfMinRange(double[] a, int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        int bestIndex = from;
+        double best = a[from];
+        for (int i = from + 1; i < to; i++) {
+            double v = a[i];
+            if (v < best || (best != best && v == v)) {
+                best = v;
+                bestIndex = i;
+            }
+        }
+        return bestIndex;
+    }
+
+    /**
+     * Returns the index of the largest element; ties resolve to the lowest index. NaN values are
+     * ignored unless every element is NaN, in which case the first index is returned.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int indexOfMax(double[] a) {
+        return indexOfMaxRange(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #indexOfMax(double[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int indexOfMax(double[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        return indexOfMaxRange(a, from, to);
+    }
+
+    /**
+     * Returns the index of the largest element like {@link #indexOfMax(double[])}, scanning chunks in parallel.
+     *
+     * @param a The values.
+     * @return The index, or -1 for an empty array.
+     */
+    public static int parallelIndexOfMax(double[] a) {
+        return parallelIndexOfMax(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #parallelIndexOfMax(double[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The index into {@code a}, or -1 for an empty range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int parallelIndexOfMax(double[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        int[] partials = new int[ParallelArrays.chunkCount(to - from, 8)];
+        ParallelArrays.forEachChunk(to - from, 8,
+                (chunk, start, end) -> partials[chunk] = indexOfMaxRange(a, from + start, from + end));
+        int best = partials[0];
+        for (int i = 1; i < partials.length; i++) {
+            int index = partials[i];
+            if (a[index] > a[best] || (a[best] != a[best] && a[index] == a[index])) {
+                best = index;
+            }
+        }
+        return best;
+    }
+
+    private static int indexOfMaxRange(double[] a, int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        int bestIndex = from;
+        double best = a[from];
+        for (int i = from + 1; i < to; i++) {
+            double v = a[i];
+            if (v > best || (best != best && v == v)) {
+                best = v;
+                bestIndex = i;
+            }
+        }
+        return bestIndex;
+    }
+
+    /**
+     * Computes the count, mean and variance of all elements in one pass.
+     *
+     * @param a The values.
+     * @return The moments of the values.
+     */
+    public static Moments moments(double[] a) {
+        return momentsRange(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #moments(double[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The moments of the values.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static Moments moments(double[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        return momentsRange(a, from, to);
+    }
+
+    /**
+     * Computes the count, mean and variance of all elements like {@link #moments(double[])},
+     * processing chunks in parallel and merging the per-chunk moments in order.
+     *
+     * @param a The values.
+     * @return The moments of the values.
+     */
+    public static Moments parallelMoments(double[] a) {
+        return parallelMoments(a, 0, a.length);
+    }
+
+    /**
+     * Like {@link #parallelMoments(double[])}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a    The values.
+     * @param from The first index, inclusive.
+     * @param to   The last index, exclusive.
+     * @return The moments of the values.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static Moments parallelMoments(double[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        Moments[] partials = new Moments[ParallelArrays.chunkCount(to - from, 8)];
+        ParallelArrays.forEachChunk(to - from, 8,
+                (chunk, start, end) -> partials[chunk] = momentsRange(a, from + start, from + end));
+        return merge(partials);
+    }
+
+    private static Moments momentsRange(double[] a, int from, int to) {
+        int n = to - from;
+        if (n <= 0) {
+            return EMPTY;
+        }
+        double shift = a[from];
+        double s0 = 0.0;
+        double s1 = 0.0;
+        double q0 = 0.0;
+        double q1 = 0.0;
+        int i = from;
+        for (; i + 1 < to; i += 2) {
+            double d0 = a[i] - shift;
+            double d1 = a[i + 1] - shift;
+            s0 += d0;
+            s1 += d1;
+            q0 += d0 * d0;
+            q1 += d1 * d1;
+        }
+        if (i < to) {
+            double d0 = a[i] - shift;
+            s0 += d0;
+            q0 += d0 * d0;
+        }
+        double s = s0 + s1;
+        double mean = s / n;
+        return new Moments(n, shift + mean, Math.max(0.0, (q0 + q1) - s * mean));
+    }
+
+    /**
+     * Counts the elements equal to a value. A NaN value counts NaN elements.
+     *
+     * @param a     The values.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     */
+    public static int count(double[] a, double value) {
+        return countRange(a, 0, a.length, value);
+    }
+
+    /**
+     * Like {@link #count(double[], double)}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a     The values.
+     * @param from  The first index, inclusive.
+     * @param to    The last index, exclusive.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int count(double[] a, int from, int to, double value) {
+        checkRange(a.length, from, to);
+        return countRange(a, from, to, value);
+    }
+
+    /**
+     * Counts the elements equal to a value like {@link #count(double[], double)}, scanning chunks in parallel.
+     *
+     * @param a     The values.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     */
+    public static int parallelCount(double[] a, double value) {
+        return parallelCount(a, 0, a.length, value);
+    }
+
+    /**
+     * Like {@link #parallelCount(double[], double)}, but over the elements in {@code [from, to)} only.
+     *
+     * @param a     The values.
+     * @param from  The first index, inclusive.
+     * @param to    The last index, exclusive.
+     * @param value The value to count.
+     * @return The number of matching elements.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public static int parallelCount(double[] a, int from, int to, double value) {
+        checkRange(a.length, from, to);
+        int[] partials = new int[ParallelArrays.chunkCount(to - from, 8)];
+        ParallelArrays.forEachChunk(to - from, 8,
+                (chunk, start, end) -> partials[chunk] = countRange(a, from + start, from + end, value));
+        int count = 0;
+        for (int partial : partials) {
+            count += partial;
+        }
+        return count;
+    }
+
+    private static int countRange(double[] a, int from, int to, double v) {
+        int count = 0;
+        if (v != v) {
+            for (int i = from; i < to; i++) {
+                if (a[i] != a[i]) {
+                    count++;
+                }
+            }
+            return count;
+        }
+        for (int i = from; i < to; i++) {
+            if (a[i] == v) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void checkRange(int length, int from, int to) {
+        if (from < 0 || to > length || from > to) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + from + ", " + to + ") out of bounds for length " + length + "."
+            );
+        }
+    }
+
+    private static double kahan(double[] values) {
+        double sum = 0.0;
+        double c = 0.0;
+        for (double value : values) {
+            double y = value - c;
+            double t = sum + y;
+            c = (t - sum) - y;
+            sum = t;
+        }
+        return sum;
+    }
+
+    private static Moments merge(Moments[] partials) {
+        Moments result = EMPTY;
+        for (Moments partial : partials) {
+            result = result.merge(partial);
+        }
+        return result;
+    }
+}
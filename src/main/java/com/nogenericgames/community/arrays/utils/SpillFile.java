@@ -0,0 +1,161 @@
+package com.nogenericgames.community.arrays.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A scratch file of fixed-size records addressed by slot number.
+ * <p>
+ * Record {@code slot} occupies bytes {@code [slot * recordBytes, (slot + 1) * recordBytes)}. Freed slots are kept
+ * on a stack and handed out again before the file grows, so a cache that keeps evicting and reloading the same
+ * amount of data keeps a file of constant size. Reads and writes are positional, so no seek state is shared. The file
+ * must not exist beforehand and is deleted when closed; it only holds data for the lifetime of this object.
+ */
+public final class SpillFile implements Closeable {
+
+    private final Path file;
+    private final FileChannel channel;
+    private final int recordBytes;
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int slotCount;
+
+    /**
+     * Creates a spill file.
+     *
+     * @param file        The file to create; must not exist.
+     * @param recordBytes The size of every record in bytes.
+     * @throws FileAlreadyExistsException if the file already exists.
+     * @throws IOException                if the file cannot be created.
+     * @throws IllegalArgumentException   if the record size is not positive.
+     */
+    public SpillFile(Path file, int recordBytes) throws IOException {
+        if (recordBytes <= 0) {
+            throw new IllegalArgumentException("Record size must be positive.");
+        }
+        this.file = file;
+        this.recordBytes = recordBytes;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
+    /**
+     * Reserves a slot, reusing a freed one if possible. Its contents are undefined until written.
+     *
+     * @return The slot number.
+     */
+    public int allocate() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        return slotCount++;
+    }
+
+    /**
+     * Returns a slot to the free list. The file does not shrink.
+     *
+     * @param slot The slot number, previously returned by {@link #allocate()}.
+     */
+    public void free(int slot) {
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    /**
+     * Writes one record from the remaining bytes of the buffer, which must be exactly one record long.
+     *
+     * @param slot   The slot number.
+     * @param record The buffer to write; its position is advanced to its limit.
+     * @throws IOException              if the write fails.
+     * @throws IllegalArgumentException if the buffer does not hold exactly one record.
+     */
+    public void write(int slot, ByteBuffer record) throws IOException {
+        checkRecord(record);
+        long position = (long) slot * recordBytes;
+        while (record.hasRemaining()) {
+            position += channel.write(record, position);
+        }
+    }
+
+    /**
+     * Reads one record into the remaining space of the buffer, which must be exactly one record long.
+     *
+     * @param slot   The slot number.
+     * @param record The buffer to fill; its position is advanced to its limit.
+     * @throws IOException              if the read fails or the record lies beyond the end of the file.
+     * @throws IllegalArgumentException if the buffer does not have room for exactly one record.
+     */
+    public void read(int slot, ByteBuffer record) throws IOException {
+        checkRecord(record);
+        long position = (long) slot * recordBytes;
+        while (record.hasRemaining()) {
+            int read = channel.read(record, position);
+            if (read < 0) {
+                throw new IOException("Slot " + slot + " lies beyond the end of " + file + ".");
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * Returns the number of slots in use.
+     *
+     * @return The allocated slots minus the freed ones.
+     */
+    public int getUsedSlotCount() {
+        return slotCount - freeCount;
+    }
+
+    /**
+     * Returns the number of slots the file has grown to, used or free.
+     *
+     * @return The slot count.
+     */
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    /**
+     * Returns the size of a record.
+     *
+     * @return The record size in bytes.
+     */
+    public int getRecordBytes() {
+        return recordBytes;
+    }
+
+    /**
+     * Returns the spill file.
+     *
+     * @return The file path.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Closes and deletes the file.
+     *
+     * @throws IOException if closing fails.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void checkRecord(ByteBuffer record) {
+        if (record.remaining() != recordBytes) {
+            throw new IllegalArgumentException(
+                    "Record buffer holds " + record.remaining() + " bytes but records are " + recordBytes + " bytes."
+            );
+        }
+    }
+}
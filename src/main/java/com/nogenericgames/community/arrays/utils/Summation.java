@@ -0,0 +1,25 @@
+package com.nogenericgames.community.arrays.utils;
+
+/**
+ * How floating-point sums are accumulated. All modes accumulate in {@code double}, also for {@code float} data.
+ */
+public enum Summation {
+
+    /**
+     * Plain summation with four independent accumulators. Fastest; the rounding error grows linearly with the
+     * number of elements in the worst case.
+     */
+    NAIVE,
+
+    /**
+     * Kahan compensated summation with four independent lanes. The error is independent of the number of elements,
+     * at roughly four times the cost of {@link #NAIVE}.
+     */
+    KAHAN,
+
+    /**
+     * Pairwise (cascade) summation over blocks of 256 elements. The error grows with the logarithm of the number of
+     * elements, at nearly the cost of {@link #NAIVE}.
+     */
+    PAIRWISE
+}
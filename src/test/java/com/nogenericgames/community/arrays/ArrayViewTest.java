@@ -0,0 +1,192 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.floats.Float2DArray;
+import com.nogenericgames.community.arrays.floats.Float2DArrayView;
+import com.nogenericgames.community.arrays.floats.Float3DArray;
+import com.nogenericgames.community.arrays.floats.Float3DArrayView;
+import com.nogenericgames.community.arrays.floats.FloatConvolution;
+import com.nogenericgames.community.arrays.ints.ConnectedComponents;
+import com.nogenericgames.community.arrays.ints.FloodFill;
+import com.nogenericgames.community.arrays.ints.Int2DArray;
+import com.nogenericgames.community.arrays.ints.Int3DArray;
+import com.nogenericgames.community.arrays.ints.Int3DArrayView;
+import com.nogenericgames.community.arrays.utils.BoundaryMode;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for the strided slice and plane views.
+ */
+public class ArrayViewTest {
+
+    private static Float3DArray numbered(int xSize, int ySize, int zSize) {
+        Float3DArray array = new Float3DArray(xSize, ySize, zSize);
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                for (int z = 0; z < zSize; z++) {
+                    array.set(x, y, z, x * 100 + y * 10 + z);
+                }
+            }
+        }
+        return array;
+    }
+
+    @Test
+    public void testSliceSharesStorage() {
+        Float3DArray array = numbered(4, 5, 6);
+        Float3DArrayView view = array.slice(1, 3, 2, 5, 1, 4);
+
+        assertEquals(2, view.getXSize());
+        assertEquals(3, view.getYSize());
+        assertEquals(3, view.getZSize());
+        assertEquals(121.0f, view.get(0, 0, 0));
+        assertEquals(243.0f, view.get(1, 2, 2));
+
+        view.set(1, 1, 1, -1.0f);
+        assertEquals(-1.0f, array.get(2, 3, 2), "Writes through the view should reach the array.");
+        assertFalse(view.isContiguous());
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(2, 0, 0));
+    }
+
+    @Test
+    public void testContiguousSliceFillAndCopy() {
+        Float3DArray array = numbered(4, 3, 2);
+        Float3DArrayView rows = array.slice(1, 3, 0, 3, 0, 2);
+        assertTrue(rows.isContiguous(), "A range of whole X layers should be contiguous.");
+
+        rows.fill(5.0f);
+        assertEquals(0.0f, array.get(0, 0, 0));
+        assertEquals(5.0f, array.get(1, 0, 0));
+        assertEquals(5.0f, array.get(2, 2, 1));
+        assertEquals(301.0f, array.get(3, 0, 1));
+
+        Float3DArray copy = rows.copy();
+        assertEquals(2, copy.getXSize());
+        assertEquals(5.0f, copy.get(1, 2, 1));
+    }
+
+    @Test
+    public void testPlanes() {
+        Float3DArray array = numbered(3, 4, 5);
+
+        Float2DArrayView planeX = array.planeX(2);
+        assertTrue(planeX.isContiguous());
+        assertEquals(234.0f, planeX.get(3, 4));
+
+        Float2DArrayView planeY = array.planeY(1);
+        assertEquals(213.0f, planeY.get(2, 3));
+
+        Float2DArrayView planeZ = array.planeZ(4);
+        planeZ.fill(9.0f);
+        assertEquals(9.0f, array.get(0, 0, 4));
+        assertEquals(9.0f, array.get(2, 3, 4));
+        assertEquals(23.0f, array.get(0, 2, 3));
+
+        Float2DArray dense = planeY.slice(1, 3, 0, 2).copy();
+        assertEquals(110.0f, dense.get(0, 0));
+        assertEquals(211.0f, dense.get(1, 1));
+    }
+
+    @Test
+    public void testStridedSliceFill() {
+        Int3DArray array = new Int3DArray(3, 3, 3);
+        Int3DArrayView view = array.slice(0, 3, 1, 2, 1, 2);
+        view.fill(7);
+
+        int sevens = 0;
+        for (int x = 0; x < 3; x++) {
+            for (int y = 0; y < 3; y++) {
+                for (int z = 0; z < 3; z++) {
+                    if (array.get(x, y, z) == 7) sevens++;
+                }
+            }
+        }
+        assertEquals(3, sevens, "Only the cells covered by the view should be filled.");
+        assertEquals(7, array.get(2, 1, 1));
+    }
+
+    @Test
+    public void testDenseBridges() {
+        Float3DArray array = numbered(3, 4, 5);
+
+        Float2DArrayView planeY = array.planeY(2);
+        Float2DArray buffer = new Float2DArray(3, 5);
+        planeY.copyTo(buffer);
+        assertEquals(124.0f, buffer.get(1, 4));
+        assertThrows(IllegalArgumentException.class, () -> planeY.copyTo(new Float2DArray(5, 3)));
+
+        assertFalse(planeY.isContiguous());
+        Float2DArray copied = planeY.toFloat2DArray();
+        copied.set(0, 0, -1.0f);
+        assertEquals(20.0f, array.get(0, 2, 0));
+
+        Float2DArray flat = new Float2DArray(4, 6);
+        Float2DArray shared = flat.slice(0, 4, 0, 6).toFloat2DArray();
+        shared.set(3, 5, 8.0f);
+        assertEquals(8.0f, flat.get(3, 5));
+        assertSame(flat.unwrapUnsafe(), shared.unwrapUnsafe());
+
+        Int3DArray volume = new Int3DArray(2, 2, 2);
+        Int3DArray sharedVolume = volume.slice(0, 2, 0, 2, 0, 2).toInt3DArray();
+        sharedVolume.set(1, 1, 1, 5);
+        assertEquals(5, volume.get(1, 1, 1));
+    }
+
+    @Test
+    public void testContiguousViewsConvertWithoutCopying() {
+        Float3DArray array = numbered(3, 4, 5);
+        Float2DArrayView planeX = array.planeX(1);
+        Float2DArray copy = planeX.copy();
+        Float2DArray plane = planeX.toFloat2DArray();
+        assertSame(array.unwrapUnsafe(), plane.unwrapUnsafe());
+        assertEquals(20, plane.getOffset());
+        assertEquals(134.0f, plane.get(3, 4));
+
+        assertEquals(copy, plane);
+        assertEquals(copy.hashCode(), plane.hashCode());
+        assertArrayEquals(copy.getData(), plane.getData());
+        assertEquals(20, plane.asReadOnlyBuffer().remaining());
+        assertEquals(134.0f, plane.asReadOnlyBuffer().get(19));
+        assertEquals(copy.sum(), plane.sum());
+        assertArrayEquals(new int[]{3, 4}, plane.argMax());
+        assertEquals(100.0f, plane.minValue());
+        assertEquals(copy.transpose(), plane.transpose());
+        assertEquals(copy.multiply(copy.transpose()), plane.multiply(plane.transpose()));
+
+        Float2DArray smoothed = new Float2DArray(4, 5);
+        FloatConvolution.laplacian(copy, smoothed, BoundaryMode.CLAMP);
+        Float2DArray smoothedPlane = array.planeX(2).toFloat2DArray();
+        FloatConvolution.laplacian(plane, smoothedPlane, BoundaryMode.CLAMP);
+        assertEquals(smoothed, smoothedPlane);
+        assertEquals(34.0f, array.get(0, 3, 4), "Cells outside the destination plane must not be written.");
+
+        plane.add(copy);
+        assertEquals(268.0f, array.get(1, 3, 4));
+        assertEquals(34.0f, array.get(0, 3, 4));
+        plane.fill(1.0f);
+        assertEquals(20.0, plane.sum());
+        assertEquals(smoothed.get(0, 0), array.get(2, 0, 0));
+
+        Float2DArray reshaped = plane.reshape(2, 10);
+        reshaped.set(1, 9, 7.0f);
+        assertEquals(7.0f, array.get(1, 3, 4));
+        assertThrows(IllegalStateException.class, () -> plane.reshape(2, 2, 1, 5));
+
+        Float3DArray rows = array.slice(1, 3, 0, 4, 0, 5).toFloat3DArray();
+        assertSame(array.unwrapUnsafe(), rows.unwrapUnsafe());
+        assertEquals(20, rows.getOffset());
+        rows.set(0, 0, 0, 5.0f);
+        assertEquals(5.0f, array.get(1, 0, 0));
+
+        Int3DArray volume = new Int3DArray(2, 3, 3);
+        volume.set(1, 1, 1, 4);
+        Int2DArray labels = new Int2DArray(3, 3);
+        Int2DArray labelPlane = volume.planeX(1).toInt2DArray();
+        assertEquals(1, ConnectedComponents.label(labelPlane, 0, labels, 4));
+        assertEquals(8, FloodFill.fill(labelPlane, 0, 0, 9, 4));
+        assertEquals(0, volume.get(0, 0, 0));
+        assertEquals(9, volume.get(1, 2, 2));
+        assertEquals(4, volume.get(1, 1, 1));
+    }
+}
@@ -0,0 +1,100 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.bits.Bit2DArray;
+import com.nogenericgames.community.arrays.bits.BitLifeAutomaton;
+import com.nogenericgames.community.arrays.bytes.Byte2DArray;
+import com.nogenericgames.community.arrays.bytes.ByteAutomaton;
+import com.nogenericgames.community.arrays.bytes.ByteAutomatonRule;
+import com.nogenericgames.community.arrays.utils.BoundaryMode;
+import com.nogenericgames.community.arrays.utils.Neighbourhood;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for the byte and bit-sliced cellular automata.
+ */
+public class AutomatonTest {
+
+    private static final int BIRTH = 1 << 3;
+    private static final int SURVIVAL = (1 << 2) | (1 << 3);
+
+    @Test
+    public void testBlinker() {
+        ByteAutomaton automaton = new ByteAutomaton(5, 5, Neighbourhood.MOORE, BoundaryMode.ZERO);
+        Byte2DArray grid = automaton.getFront();
+        grid.set(2, 1, (byte) 1);
+        grid.set(2, 2, (byte) 1);
+        grid.set(2, 3, (byte) 1);
+        ByteAutomatonRule life = ByteAutomaton.lifeRule(BIRTH, SURVIVAL);
+
+        automaton.step(life);
+        assertSame(grid, automaton.getBack());
+        assertEquals(1, automaton.getFront().get(1, 2));
+        assertEquals(1, automaton.getFront().get(3, 2));
+        assertEquals(0, automaton.getFront().get(2, 1));
+        automaton.parallelStep(life);
+        assertEquals(1, automaton.getFront().get(2, 1));
+        assertEquals(0, automaton.getFront().get(1, 2));
+        assertEquals(2, automaton.getGeneration());
+    }
+
+    @Test
+    public void testBitSlicedMatchesByteAutomaton() {
+        Random random = new Random(17);
+        for (BoundaryMode mode : BoundaryMode.values()) {
+            ByteAutomaton bytes = new ByteAutomaton(37, 128, Neighbourhood.MOORE, mode);
+            BitLifeAutomaton bits = new BitLifeAutomaton(37, 128, BIRTH, SURVIVAL, mode);
+            for (int x = 0; x < 37; x++) {
+                for (int y = 0; y < 128; y++) {
+                    boolean alive = random.nextInt(3) == 0;
+                    bytes.getFront().set(x, y, (byte) (alive ? 1 : 0));
+                    bits.getFront().set(x, y, alive);
+                }
+            }
+            ByteAutomatonRule life = ByteAutomaton.lifeRule(BIRTH, SURVIVAL);
+            for (int generation = 0; generation < 8; generation++) {
+                bytes.step(life);
+                if ((generation & 1) == 0) {
+                    bits.step();
+                } else {
+                    bits.parallelStep();
+                }
+                Bit2DArray front = bits.getFront();
+                for (int x = 0; x < 37; x++) {
+                    for (int y = 0; y < 128; y++) {
+                        assertEquals(bytes.getFront().get(x, y) != 0, front.get(x, y),
+                                mode + " generation " + generation + " at " + x + ", " + y);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testVonNeumannWrap() {
+        ByteAutomaton automaton = new ByteAutomaton(4, 6, Neighbourhood.VON_NEUMANN, BoundaryMode.WRAP);
+        automaton.getFront().set(0, 0, (byte) 5);
+        automaton.step((center, neighbours) -> {
+            int max = center;
+            for (byte neighbour : neighbours) {
+                max = Math.max(max, neighbour);
+            }
+            return (byte) max;
+        });
+        Byte2DArray front = automaton.getFront();
+        assertEquals(5, front.get(3, 0));
+        assertEquals(5, front.get(0, 5));
+        assertEquals(5, front.get(1, 0));
+        assertEquals(0, front.get(1, 1));
+    }
+
+    @Test
+    public void testValidation() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BitLifeAutomaton(8, 100, BIRTH, SURVIVAL, BoundaryMode.WRAP));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BitLifeAutomaton(8, 64, 1 << 9, SURVIVAL, BoundaryMode.WRAP));
+    }
+}
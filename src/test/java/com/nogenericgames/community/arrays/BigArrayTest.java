@@ -0,0 +1,65 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.bytes.BigByte3DArray;
+import com.nogenericgames.community.arrays.floats.BigFloat4DArray;
+import com.nogenericgames.community.arrays.longs.BigLong3DArray;
+import com.nogenericgames.community.arrays.longs.Long3DArray;
+import com.nogenericgames.community.arrays.longs.Long6DArray;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for the long-indexed chunked arrays and the overflow checks of the flat arrays.
+ */
+public class BigArrayTest {
+
+    @Test
+    public void testHeapConstructorsRejectOverflow() {
+        assertThrows(IllegalArgumentException.class, () -> new Long3DArray(2048, 2048, 1024),
+                "2^32 cells wrap to 0 in int arithmetic and must be rejected.");
+        assertThrows(IllegalArgumentException.class, () -> new Long6DArray(256, 256, 256, 256, 256, 256));
+    }
+
+    @Test
+    public void testBigArrayMatchesHeapLayout() {
+        BigLong3DArray big = new BigLong3DArray(3, 4, 5);
+        Long3DArray heap = new Long3DArray(3, 4, 5);
+        for (int x = 0; x < 3; x++) {
+            for (int y = 0; y < 4; y++) {
+                for (int z = 0; z < 5; z++) {
+                    big.set(x, y, z, x * 100L + y * 10L + z);
+                    heap.set(x, y, z, x * 100L + y * 10L + z);
+                }
+            }
+        }
+        assertEquals(60L, big.getTotalSize());
+        assertEquals(234L, big.get(2, 3, 4));
+        assertEquals(heap.get(1, 2, 3), big.getLinear((1 * 4 * 5) + (2 * 5) + 3));
+        assertArrayEquals(heap.getData(), big.unwrapUnsafe()[0]);
+        assertEquals(heap.toString().replace("Long3DArray", "BigLong3DArray"), big.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> big.get(0, 4, 0));
+    }
+
+    @Test
+    public void testFillCopyEquals() {
+        BigFloat4DArray a = new BigFloat4DArray(2, 3, 4, 5);
+        a.fill(1.5f);
+        BigFloat4DArray b = a.copy();
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        b.set(1, 2, 3, 4, 0.0f);
+        assertNotEquals(a, b);
+
+        BigByte3DArray bytes = new BigByte3DArray(4, 4, 4);
+        bytes.fill((byte) 3);
+        bytes.clear();
+        assertEquals((byte) 0, bytes.getUnsafe(3, 3, 3));
+    }
+
+    @Test
+    public void testBigArrayRejectsUnaddressableSizes() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BigByte3DArray(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE));
+    }
+}
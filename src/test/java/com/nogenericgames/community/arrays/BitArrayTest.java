@@ -0,0 +1,81 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.bits.Bit2DArray;
+import com.nogenericgames.community.arrays.bits.Bit3DArray;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for the bit-packed boolean arrays.
+ */
+public class BitArrayTest {
+
+    @Test
+    public void testGetSetFlip() {
+        Bit3DArray array = new Bit3DArray(5, 7, 9);
+        assertFalse(array.get(4, 6, 8));
+        array.set(4, 6, 8, true);
+        assertTrue(array.get(4, 6, 8));
+        assertFalse(array.flip(4, 6, 8));
+        assertTrue(array.flip(0, 0, 0));
+        assertEquals(1, array.cardinality());
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(0, 7, 0));
+    }
+
+    @Test
+    public void testFillKeepsTailClear() {
+        Bit2DArray array = new Bit2DArray(10, 13);
+        array.fill(true);
+        assertEquals(130, array.cardinality());
+        assertEquals(0L, array.unwrapUnsafe()[2] >>> 2, "Bits past the last cell must stay zero.");
+
+        array.fillLinear(60, 70, false);
+        assertEquals(120, array.cardinality());
+        assertEquals(70, array.nextSetBit(60));
+        assertEquals(-1, array.nextSetBit(130));
+    }
+
+    @Test
+    public void testRegionFillAndNextSetBit() {
+        Bit3DArray array = new Bit3DArray(4, 4, 100);
+        array.fill(1, 3, 2, 3, 10, 90, true);
+        assertEquals(2 * 80, array.cardinality());
+        assertFalse(array.get(1, 2, 9));
+        assertTrue(array.get(1, 2, 10));
+        assertTrue(array.get(2, 2, 89));
+        assertFalse(array.get(2, 2, 90));
+
+        int first = array.nextSetBit(0);
+        assertEquals((1 * 4 * 100) + (2 * 100) + 10, first);
+        assertEquals((2 * 4 * 100) + (2 * 100) + 10, array.nextSetBit((1 * 4 * 100) + (2 * 100) + 90));
+    }
+
+    @Test
+    public void testBulkOps() {
+        Bit2DArray a = new Bit2DArray(8, 16);
+        Bit2DArray b = new Bit2DArray(8, 16);
+        a.fill(0, 8, 0, 8, true);
+        b.fill(0, 8, 4, 12, true);
+
+        Bit2DArray and = a.copy();
+        and.and(b);
+        assertEquals(8 * 4, and.cardinality());
+
+        Bit2DArray or = a.copy();
+        or.or(b);
+        assertEquals(8 * 12, or.cardinality());
+
+        Bit2DArray xor = a.copy();
+        xor.xor(b);
+        assertEquals(8 * 8, xor.cardinality());
+
+        Bit2DArray andNot = a.copy();
+        andNot.andNot(b);
+        assertEquals(8 * 4, andNot.cardinality());
+        assertTrue(andNot.get(3, 3));
+        assertFalse(andNot.get(3, 4));
+
+        assertThrows(IllegalArgumentException.class, () -> a.and(new Bit2DArray(16, 8)));
+    }
+}
@@ -0,0 +1,74 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.floats.Float2DArray;
+import com.nogenericgames.community.arrays.generics.Generic3DArray;
+import com.nogenericgames.community.arrays.longs.Long4DArray;
+import com.nogenericgames.community.arrays.utils.ArrayCursor;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for forEach, replaceAll and {@link ArrayCursor}.
+ */
+public class CellIterationTest {
+
+    @Test
+    public void testReplaceAllAndForEach() {
+        Long4DArray array = new Long4DArray(2, 3, 4, 5);
+        array.replaceAll((x, y, z, w, value) -> x * 1000L + y * 100L + z * 10L + w);
+        assertEquals(1234L, array.get(1, 2, 3, 4));
+
+        long[] sum = new long[1];
+        int[] count = new int[1];
+        array.forEach((x, y, z, w, value) -> {
+            assertEquals(x * 1000L + y * 100L + z * 10L + w, value);
+            sum[0] += value;
+            count[0]++;
+        });
+        assertEquals(120, count[0]);
+
+        Generic3DArray<String> names = new Generic3DArray<>(String.class, 2, 2, 2);
+        names.replaceAll((x, y, z, value) -> x + "" + y + z);
+        assertEquals("101", names.get(1, 0, 1));
+    }
+
+    @Test
+    public void testCursorWalksRowMajorOrder() {
+        Float2DArray array = new Float2DArray(3, 4);
+        ArrayCursor cursor = array.cursor();
+        int expected = 0;
+        while (cursor.next()) {
+            assertEquals(expected, cursor.getIndex());
+            assertEquals(expected / 4, cursor.getX());
+            assertEquals(expected % 4, cursor.getY());
+            array.setLinear(cursor.getIndex(), cursor.getX() * 10 + cursor.getY());
+            expected++;
+        }
+        assertEquals(12, expected);
+        assertFalse(cursor.next());
+        assertEquals(23.0f, array.get(2, 3));
+
+        cursor.reset();
+        assertTrue(cursor.next());
+        assertEquals(0, cursor.getIndex());
+        assertEquals(0, cursor.getY());
+    }
+
+    @Test
+    public void testCursorCarriesAcrossDimensions() {
+        ArrayCursor cursor = new ArrayCursor(2, 1, 3, 1, 2, 2);
+        int visited = 0;
+        int lastIndex = -1;
+        while (cursor.next()) {
+            int linear = ((((cursor.getX() * 1 + cursor.getY()) * 3 + cursor.getZ()) * 1 + cursor.getW()) * 2
+                    + cursor.getU()) * 2 + cursor.getV();
+            assertEquals(cursor.getIndex(), linear);
+            assertTrue(linear > lastIndex);
+            lastIndex = linear;
+            visited++;
+        }
+        assertEquals(24, visited);
+        assertEquals(6, cursor.getRank());
+    }
+}
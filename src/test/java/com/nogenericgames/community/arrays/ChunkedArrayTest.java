@@ -0,0 +1,105 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.bytes.Byte3DArray;
+import com.nogenericgames.community.arrays.bytes.ChunkedByte3DArray;
+import com.nogenericgames.community.arrays.ints.ChunkedInt3DArray;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for the chunked sparse arrays.
+ */
+public class ChunkedArrayTest {
+
+    @Test
+    public void testAllocateOnWriteAndRelease() {
+        ChunkedByte3DArray array = new ChunkedByte3DArray(40, 40, 40);
+        assertEquals(0, array.getAllocatedChunkCount());
+
+        array.set(1, 2, 3, (byte) 0);
+        assertEquals(0, array.getAllocatedChunkCount(), "Writing the default value should not allocate.");
+
+        array.set(1, 2, 3, (byte) 7);
+        array.set(39, 39, 39, (byte) 9);
+        assertEquals(2, array.getAllocatedChunkCount());
+        assertEquals(7, array.get(1, 2, 3));
+        assertEquals(9, array.get(39, 39, 39));
+        assertEquals(0, array.get(38, 39, 39));
+
+        array.set(1, 2, 3, (byte) 0);
+        assertEquals(1, array.getAllocatedChunkCount(), "A chunk back at its uniform value should be released.");
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(40, 0, 0));
+    }
+
+    @Test
+    public void testFillCompactAndIteration() {
+        ChunkedInt3DArray array = new ChunkedInt3DArray(64, 32, 32, 5);
+        array.fill(3);
+        assertEquals(0, array.getAllocatedChunkCount());
+        assertEquals(3, array.get(63, 31, 31));
+
+        for (int x = 32; x < 64; x++) {
+            for (int y = 0; y < 32; y++) {
+                for (int z = 0; z < 32; z++) {
+                    array.setUnsafe(x, y, z, 5);
+                }
+            }
+        }
+        array.set(0, 0, 0, 4);
+        assertEquals(2, array.getAllocatedChunkCount());
+
+        int[] visited = new int[2];
+        array.forEachAllocatedChunk((cx, cy, cz, cells) -> {
+            assertEquals(32 * 32 * 32, cells.length);
+            visited[cx]++;
+        });
+        assertArrayEquals(new int[]{1, 1}, visited);
+
+        assertEquals(1, array.compact());
+        assertEquals(1, array.getAllocatedChunkCount());
+        assertEquals(5, array.getChunkUniformValue(1, 0, 0));
+        assertEquals(5, array.get(40, 10, 10));
+    }
+
+    @Test
+    public void testCompactPartialEdgeChunk() {
+        ChunkedInt3DArray array = new ChunkedInt3DArray(20, 5, 18);
+        array.set(19, 4, 17, 1);
+        assertEquals(1, array.getAllocatedChunkCount());
+        for (int x = 16; x < 20; x++) {
+            for (int y = 0; y < 5; y++) {
+                for (int z = 16; z < 18; z++) {
+                    array.set(x, y, z, 7);
+                }
+            }
+        }
+        assertEquals(1, array.compact());
+        assertEquals(0, array.getAllocatedChunkCount());
+        assertEquals(7, array.getChunkUniformValue(1, 0, 1));
+        assertEquals(7, array.get(16, 0, 16));
+        assertEquals(0, array.get(15, 0, 16));
+
+        array.set(17, 2, 16, 0);
+        assertEquals(0, array.get(17, 2, 16));
+        assertEquals(7, array.get(19, 4, 17));
+    }
+
+    @Test
+    public void testDenseConversionAndEquality() {
+        ChunkedByte3DArray array = new ChunkedByte3DArray(20, 5, 18);
+        array.set(19, 4, 17, (byte) 1);
+        array.set(3, 0, 16, (byte) -2);
+
+        Byte3DArray dense = array.toByte3DArray();
+        assertEquals(1, dense.get(19, 4, 17));
+        assertEquals(-2, dense.get(3, 0, 16));
+        assertEquals(dense.hashCode(), array.hashCode());
+
+        ChunkedByte3DArray copy = array.copy();
+        assertEquals(array, copy);
+        copy.set(3, 0, 16, (byte) 0);
+        assertNotEquals(array, copy);
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedByte3DArray(4, 4, 4, 3));
+    }
+}
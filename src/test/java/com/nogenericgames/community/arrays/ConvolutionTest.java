@@ -0,0 +1,153 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.floats.Float2DArray;
+import com.nogenericgames.community.arrays.floats.Float3DArray;
+import com.nogenericgames.community.arrays.floats.FloatConvolution;
+import com.nogenericgames.community.arrays.utils.BoundaryMode;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for boundary modes and the float convolution engine.
+ */
+public class ConvolutionTest {
+
+    @Test
+    public void testBoundaryModes() {
+        assertEquals(0, BoundaryMode.CLAMP.resolve(-3, 5));
+        assertEquals(4, BoundaryMode.CLAMP.resolve(7, 5));
+        assertEquals(4, BoundaryMode.WRAP.resolve(-1, 5));
+        assertEquals(1, BoundaryMode.WRAP.resolve(6, 5));
+        assertEquals(-1, BoundaryMode.ZERO.resolve(5, 5));
+        assertEquals(1, BoundaryMode.MIRROR.resolve(-1, 5));
+        assertEquals(3, BoundaryMode.MIRROR.resolve(5, 5));
+        assertEquals(0, BoundaryMode.MIRROR.resolve(-4, 1));
+        assertEquals(2, BoundaryMode.MIRROR.resolve(2, 5));
+    }
+
+    @Test
+    public void testSeparableMatchesFullKernel() {
+        Float2DArray src = grid2D(37, 53);
+        float[] k = FloatConvolution.gaussianKernel(1.2);
+        float[] full = new float[k.length * k.length];
+        for (int i = 0; i < k.length; i++) {
+            for (int j = 0; j < k.length; j++) {
+                full[i * k.length + j] = k[i] * k[j];
+            }
+        }
+        for (BoundaryMode mode : BoundaryMode.values()) {
+            Float2DArray expected = new Float2DArray(37, 53);
+            Float2DArray actual = new Float2DArray(37, 53);
+            FloatConvolution.convolve(src, expected, full, k.length, k.length, mode);
+            FloatConvolution.parallelConvolveSeparable(src, actual, k, k, mode);
+            for (int x = 0; x < 37; x++) {
+                for (int y = 0; y < 53; y++) {
+                    assertEquals(expected.get(x, y), actual.get(x, y), 1e-3f, mode + " at " + x + ", " + y);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSeparableWithScratch() {
+        Float2DArray src = grid2D(41, 29);
+        float[] k = FloatConvolution.gaussianKernel(0.9);
+        Float2DArray expected = new Float2DArray(41, 29);
+        FloatConvolution.convolveSeparable(src, expected, k, k, BoundaryMode.MIRROR);
+        Float2DArray scratch = new Float2DArray(41, 29);
+        scratch.fill(Float.NaN);
+        for (int pass = 0; pass < 2; pass++) {
+            Float2DArray actual = new Float2DArray(41, 29);
+            FloatConvolution.parallelConvolveSeparable(src, actual, scratch, k, k, BoundaryMode.MIRROR);
+            assertEquals(expected, actual);
+        }
+
+        Float3DArray src3 = new Float3DArray(9, 11, 13);
+        src3.replaceAll((x, y, z, value) -> (float) Math.sin(x * 0.7 + y * 0.3 - z * 0.2));
+        float[] full = new float[k.length * k.length * k.length];
+        for (int i = 0, n = 0; i < k.length; i++) {
+            for (int j = 0; j < k.length; j++) {
+                for (int l = 0; l < k.length; l++) {
+                    full[n++] = k[i] * k[j] * k[l];
+                }
+            }
+        }
+        Float3DArray expected3 = new Float3DArray(9, 11, 13);
+        FloatConvolution.convolve(src3, expected3, full, k.length, k.length, k.length, BoundaryMode.CLAMP);
+        Float3DArray actual3 = new Float3DArray(9, 11, 13);
+        Float3DArray scratch3 = new Float3DArray(9, 11, 13);
+        FloatConvolution.convolveSeparable(src3, actual3, scratch3, k, k, k, BoundaryMode.CLAMP);
+        for (int x = 0; x < 9; x++) {
+            for (int y = 0; y < 11; y++) {
+                for (int z = 0; z < 13; z++) {
+                    assertEquals(expected3.get(x, y, z), actual3.get(x, y, z), 1e-5f);
+                }
+            }
+        }
+
+        assertThrows(IllegalArgumentException.class,
+                () -> FloatConvolution.convolveSeparable(src3, actual3, actual3, k, k, k, BoundaryMode.CLAMP));
+        assertThrows(IllegalArgumentException.class,
+                () -> FloatConvolution.convolveSeparable(src, expected, new Float2DArray(41, 28), k, k,
+                        BoundaryMode.CLAMP));
+    }
+
+    @Test
+    public void testLaplacian() {
+        Float2DArray src = new Float2DArray(5, 5);
+        src.set(2, 2, 1.0f);
+        Float2DArray dest = new Float2DArray(5, 5);
+        FloatConvolution.laplacian(src, dest, BoundaryMode.ZERO);
+        assertEquals(-4.0f, dest.get(2, 2));
+        assertEquals(1.0f, dest.get(1, 2));
+        assertEquals(0.0f, dest.get(1, 1));
+
+        Float3DArray src3 = new Float3DArray(4, 4, 4);
+        src3.fill(2.0f);
+        Float3DArray dest3 = new Float3DArray(4, 4, 4);
+        FloatConvolution.laplacian(src3, dest3, BoundaryMode.CLAMP);
+        for (float v : dest3.unwrapUnsafe()) {
+            assertEquals(0.0f, v);
+        }
+        FloatConvolution.laplacian(src3, dest3, BoundaryMode.ZERO);
+        assertEquals(-6.0f, dest3.get(0, 0, 0));
+        assertEquals(0.0f, dest3.get(1, 2, 1));
+    }
+
+    @Test
+    public void testWrapAnd3DKernel() {
+        Float3DArray src = new Float3DArray(3, 4, 5);
+        src.set(0, 0, 0, 1.0f);
+        Float3DArray dest = new Float3DArray(3, 4, 5);
+        float[] box = new float[27];
+        Arrays.fill(box, 1.0f);
+        FloatConvolution.parallelConvolve(src, dest, box, 3, 3, 3, BoundaryMode.WRAP);
+        assertEquals(1.0f, dest.get(2, 3, 4));
+        assertEquals(1.0f, dest.get(1, 1, 1));
+        assertEquals(0.0f, dest.get(1, 2, 2));
+    }
+
+    @Test
+    public void testValidation() {
+        Float2DArray a = new Float2DArray(4, 4);
+        assertThrows(IllegalArgumentException.class,
+                () -> FloatConvolution.convolve(a, a, new float[9], 3, 3, BoundaryMode.CLAMP));
+        assertThrows(IllegalArgumentException.class,
+                () -> FloatConvolution.convolve(a, new Float2DArray(4, 5), new float[9], 3, 3, BoundaryMode.CLAMP));
+        assertThrows(IllegalArgumentException.class,
+                () -> FloatConvolution.convolve(a, new Float2DArray(4, 4), new float[4], 2, 2, BoundaryMode.CLAMP));
+        assertThrows(IllegalArgumentException.class, () -> FloatConvolution.gaussianKernel(0.0));
+    }
+
+    private static Float2DArray grid2D(int xSize, int ySize) {
+        Float2DArray array = new Float2DArray(xSize, ySize);
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                array.set(x, y, (x * 7 + y * 13) % 11);
+            }
+        }
+        return array;
+    }
+}
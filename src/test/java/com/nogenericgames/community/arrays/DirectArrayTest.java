@@ -0,0 +1,120 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.bytes.Byte3DArray;
+import com.nogenericgames.community.arrays.bytes.DirectByte3DArray;
+import com.nogenericgames.community.arrays.floats.DirectFloat3DArray;
+import com.nogenericgames.community.arrays.floats.Float3DArray;
+import com.nogenericgames.community.arrays.ints.DirectInt3DArray;
+import com.nogenericgames.community.arrays.ints.Int3DArray;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for the off-heap direct-buffer arrays.
+ */
+public class DirectArrayTest {
+
+    @Test
+    public void testSetGetAndNativeLayout() {
+        DirectFloat3DArray array = new DirectFloat3DArray(2, 3, 4);
+        array.set(1, 2, 3, 4.5f);
+
+        assertEquals(4.5f, array.get(1, 2, 3));
+        assertTrue(array.getBuffer().isDirect());
+        assertEquals(ByteOrder.nativeOrder(), array.getBuffer().order());
+        FloatBuffer view = array.asFloatBuffer();
+        assertEquals(24, view.remaining());
+        assertEquals(4.5f, view.get(23), "Layout should match the row-major heap classes.");
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(2, 0, 0));
+    }
+
+    @Test
+    public void testFillCopyAndHeapTransfer() {
+        DirectFloat3DArray array = new DirectFloat3DArray(20, 20, 20);
+        array.fill(2.0f);
+        DirectFloat3DArray copy = array.copy();
+        assertEquals(array, copy);
+        assertEquals(array.hashCode(), copy.hashCode());
+
+        copy.clear();
+        assertEquals(0.0f, copy.get(19, 19, 19));
+        assertEquals(2.0f, array.get(19, 19, 19));
+
+        Float3DArray heap = new Float3DArray(20, 20, 20);
+        array.copyInto(heap);
+        assertEquals(2.0f, heap.get(5, 6, 7));
+        heap.set(5, 6, 7, 3.0f);
+        copy.copyFrom(heap);
+        assertEquals(3.0f, copy.get(5, 6, 7));
+        assertThrows(IllegalArgumentException.class, () -> copy.copyFrom(new Float3DArray(1, 1, 1)));
+    }
+
+    @Test
+    public void testEqualsAndHashCodeMatchHeapArrays() {
+        DirectFloat3DArray array = new DirectFloat3DArray(3, 7, 401);
+        Float3DArray heap = new Float3DArray(3, 7, 401);
+        heap.replaceAll((x, y, z, value) -> x * 1000 + y * 100 + z * 0.5f);
+        heap.set(1, 2, 3, Float.NaN);
+        array.copyFrom(heap);
+        assertEquals(heap.hashCode(), array.hashCode());
+
+        DirectFloat3DArray copy = array.copy();
+        copy.set(1, 2, 3, Float.intBitsToFloat(0x7fc00001));
+        assertEquals(array, copy, "NaN values compare equal whatever their encoding.");
+        copy.set(2, 6, 400, -copy.get(2, 6, 400));
+        assertNotEquals(array, copy);
+        copy.set(2, 6, 400, array.get(2, 6, 400));
+        copy.set(0, 0, 0, -0.0f);
+        assertNotEquals(array, copy, "Like Arrays.equals, 0.0 and -0.0 differ.");
+
+        DirectInt3DArray ints = new DirectInt3DArray(5, 9, 300);
+        Int3DArray heapInts = new Int3DArray(5, 9, 300);
+        heapInts.replaceAll((x, y, z, value) -> x * 7919 - y * 31 + z);
+        ints.copyFrom(heapInts);
+        assertEquals(heapInts.hashCode(), ints.hashCode());
+        DirectInt3DArray intCopy = ints.copy();
+        assertEquals(ints, intCopy);
+        intCopy.set(4, 8, 299, 0);
+        assertNotEquals(ints, intCopy);
+
+        DirectByte3DArray bytes = new DirectByte3DArray(9, 9, 99);
+        Byte3DArray heapBytes = new Byte3DArray(9, 9, 99);
+        heapBytes.replaceAll((x, y, z, value) -> (byte) (x * 31 + y * 7 + z));
+        bytes.copyFrom(heapBytes);
+        assertEquals(heapBytes.hashCode(), bytes.hashCode());
+        DirectByte3DArray byteCopy = bytes.copy();
+        assertEquals(bytes, byteCopy);
+        byteCopy.set(8, 8, 98, (byte) 1);
+        assertNotEquals(bytes, byteCopy);
+    }
+
+    @Test
+    public void testFree() {
+        DirectByte3DArray array = new DirectByte3DArray(4, 4, 4);
+        array.set(0, 0, 0, (byte) 1);
+        array.free();
+        array.free();
+
+        assertTrue(array.isFreed());
+        assertThrows(IllegalStateException.class, () -> array.get(0, 0, 0));
+        assertThrows(IllegalStateException.class, () -> array.fill((byte) 2));
+        assertThrows(IllegalStateException.class, array::getBuffer);
+        assertThrows(IllegalStateException.class, array::hashCode);
+        assertThrows(IllegalStateException.class, () -> array.equals(new DirectByte3DArray(4, 4, 4)));
+        assertEquals(4, array.getXSize());
+    }
+
+    @Test
+    public void testFillOddSizes() {
+        DirectFloat3DArray array = new DirectFloat3DArray(3, 7, 401);
+        array.fill(1.5f);
+        assertEquals(1.5f, array.get(0, 0, 0));
+        assertEquals(1.5f, array.get(2, 6, 400));
+        DirectByte3DArray bytes = new DirectByte3DArray(1, 1, 3);
+        bytes.fill((byte) 9);
+        assertEquals(9, bytes.get(0, 0, 2));
+    }
+}
@@ -0,0 +1,81 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.doubles.Double2DArray;
+import com.nogenericgames.community.arrays.floats.Float3DArray;
+import com.nogenericgames.community.arrays.utils.FlatArrayUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for the element-wise arithmetic kernels.
+ */
+public class ElementWiseKernelTest {
+
+    @Test
+    public void testFlatKernels() {
+        float[] a = {1.0f, -2.0f, 4.0f};
+        float[] b = {2.0f, 2.0f, 2.0f};
+        float[] dest = new float[3];
+
+        FlatArrayUtils.add(a, b, dest);
+        assertArrayEquals(new float[]{3.0f, 0.0f, 6.0f}, dest);
+        FlatArrayUtils.axpy(2.0f, a, b, dest);
+        assertArrayEquals(new float[]{4.0f, -2.0f, 10.0f}, dest);
+        FlatArrayUtils.lerp(a, b, 0.5f, dest);
+        assertArrayEquals(new float[]{1.5f, 0.0f, 3.0f}, dest);
+        FlatArrayUtils.clamp(a, -1.0f, 3.0f, dest);
+        assertArrayEquals(new float[]{1.0f, -1.0f, 3.0f}, dest);
+        FlatArrayUtils.abs(a, a);
+        assertArrayEquals(new float[]{1.0f, 2.0f, 4.0f}, a);
+        FlatArrayUtils.sqrt(a, dest);
+        assertEquals(2.0f, dest[2]);
+
+        assertThrows(IllegalArgumentException.class, () -> FlatArrayUtils.add(a, new float[2], dest));
+        assertThrows(IllegalArgumentException.class, () -> FlatArrayUtils.clamp(a, 1.0f, 0.0f, dest));
+    }
+
+    @Test
+    public void testInPlaceAndDestinationForms() {
+        Float3DArray a = new Float3DArray(2, 3, 4);
+        Float3DArray b = new Float3DArray(2, 3, 4);
+        a.fill(3.0f);
+        b.fill(2.0f);
+
+        Float3DArray dest = new Float3DArray(2, 3, 4);
+        a.mul(b, dest);
+        assertEquals(6.0f, dest.get(1, 2, 3));
+        assertEquals(3.0f, a.get(1, 2, 3), "The destination form must not modify this array.");
+
+        a.fma(b, dest);
+        assertEquals(12.0f, a.get(0, 0, 0));
+        a.sub(b);
+        a.div(b);
+        assertEquals(5.0f, a.get(1, 1, 1));
+        a.max(dest);
+        a.scale(0.5f);
+        assertEquals(3.0f, a.get(0, 1, 2));
+
+        assertThrows(IllegalArgumentException.class, () -> a.add(new Float3DArray(2, 4, 3)));
+    }
+
+    @Test
+    public void testDoubleKernels() {
+        Double2DArray x = new Double2DArray(4, 5);
+        Double2DArray y = new Double2DArray(4, 5);
+        x.fill(-4.0);
+        y.fill(1.0);
+        y.axpy(0.5, x);
+        assertEquals(-1.0, y.get(3, 4));
+        y.abs();
+        x.abs();
+        x.sqrt();
+        assertEquals(2.0, x.get(0, 0));
+        x.lerp(y, 0.25);
+        assertEquals(1.75, x.get(2, 2));
+        x.clamp(0.0, 1.0);
+        assertEquals(1.0, x.get(1, 1));
+        x.min(y, y);
+        assertEquals(1.0, y.get(0, 0));
+    }
+}
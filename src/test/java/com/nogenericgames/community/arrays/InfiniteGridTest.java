@@ -0,0 +1,195 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.bytes.Byte3DArray;
+import com.nogenericgames.community.arrays.bytes.InfiniteByte3DGrid;
+import com.nogenericgames.community.arrays.ints.InfiniteInt3DGrid;
+import com.nogenericgames.community.arrays.utils.ChunkKeys;
+import com.nogenericgames.community.arrays.utils.LongObjectMap;
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * JUnit tests for the long-keyed map and the spilling infinite grids.
+ */
+public class InfiniteGridTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testLongObjectMapMatchesHashMap() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        Map<Long, String> expected = new HashMap<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 20000; i++) {
+            long key = ChunkKeys.pack(random.nextInt(40) - 20, random.nextInt(8) - 4, random.nextInt(40) - 20);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                String value = Integer.toString(i);
+                assertEquals(expected.put(key, value), map.put(key, value));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        for (Map.Entry<Long, String> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        int[] visited = new int[1];
+        map.forEach((key, value) -> {
+            assertEquals(expected.get(key), value);
+            visited[0]++;
+        });
+        assertEquals(expected.size(), visited[0]);
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(ChunkKeys.pack(0, 0, 0)));
+        assertThrows(IllegalArgumentException.class, () -> map.put(1L, null));
+    }
+
+    @Test
+    public void testChunkKeysRoundTrip() {
+        int[] coordinates = {ChunkKeys.MIN_COORDINATE, -1, 0, 1, 12345, ChunkKeys.MAX_COORDINATE};
+        for (int x : coordinates) {
+            for (int y : coordinates) {
+                for (int z : coordinates) {
+                    long key = ChunkKeys.pack(x, y, z);
+                    assertEquals(x, ChunkKeys.unpackX(key));
+                    assertEquals(y, ChunkKeys.unpackY(key));
+                    assertEquals(z, ChunkKeys.unpackZ(key));
+                }
+            }
+        }
+        assertFalse(ChunkKeys.fits(ChunkKeys.MAX_COORDINATE + 1));
+    }
+
+    @Test
+    public void testByteGridSpillsAndFaultsBack() throws IOException {
+        Map<Long, Byte> expected = new HashMap<>();
+        try (InfiniteByte3DGrid grid = new InfiniteByte3DGrid(tempDir.resolve("bytes.spill"), 3)) {
+            Random random = new Random(5);
+            for (int i = 0; i < 5000; i++) {
+                int x = random.nextInt(160) - 80;
+                int y = random.nextInt(40) - 20;
+                int z = random.nextInt(160) - 80;
+                long cell = ChunkKeys.pack(x, y, z);
+                if (random.nextBoolean()) {
+                    byte value = (byte) (random.nextInt(255) + 1);
+                    grid.set(x, y, z, value);
+                    expected.put(cell, value);
+                } else {
+                    assertEquals(expected.getOrDefault(cell, (byte) 0).byteValue(), grid.get(x, y, z));
+                }
+                assertTrue(grid.getResidentChunkCount() <= 3);
+            }
+            assertTrue(grid.getEvictionCount() > 0);
+            assertTrue(grid.getFaultCount() > 0);
+            assertTrue(grid.getChunkCount() > 3);
+        }
+    }
+
+    @Test
+    public void testIntGridSpillsAndFaultsBack() throws IOException {
+        try (InfiniteInt3DGrid grid = new InfiniteInt3DGrid(tempDir.resolve("ints.spill"), 5, 2)) {
+            for (int c = -4; c < 4; c++) {
+                grid.set(c * 32 + 7, -c * 32, 31, c * 1000003);
+                grid.set(c * 32, 5, -1, -c);
+            }
+            for (int c = -4; c < 4; c++) {
+                assertEquals(c * 1000003, grid.get(c * 32 + 7, -c * 32, 31));
+                assertEquals(-c, grid.get(c * 32, 5, -1));
+                assertEquals(0, grid.get(c * 32 + 8, -c * 32, 31));
+            }
+            assertEquals(2, grid.getResidentChunkCount());
+            assertEquals(-(1 << 25), grid.getMinCoordinate());
+            assertThrows(IndexOutOfBoundsException.class, () -> grid.get(0, grid.getMaxCoordinate() + 1, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> grid.set(grid.getMinCoordinate() - 1, 0, 0, 1));
+        }
+    }
+
+    @Test
+    public void testClosedGridRejectsAccess() throws IOException {
+        InfiniteByte3DGrid bytes = new InfiniteByte3DGrid(tempDir.resolve("closed-bytes.spill"), 1);
+        bytes.set(0, 0, 0, (byte) 1);
+        bytes.close();
+        assertThrows(IllegalStateException.class, () -> bytes.set(100, 0, 0, (byte) 2));
+        assertThrows(IllegalStateException.class, () -> bytes.getUnsafe(0, 0, 0));
+        assertThrows(IllegalStateException.class, () -> bytes.getChunk(0, 0, 0));
+        assertThrows(IllegalStateException.class, () -> bytes.removeChunk(0, 0, 0));
+        bytes.close();
+        assertFalse(Files.exists(tempDir.resolve("closed-bytes.spill")));
+
+        InfiniteInt3DGrid ints = new InfiniteInt3DGrid(tempDir.resolve("closed-ints.spill"), 1);
+        ints.set(0, 0, 0, 1);
+        ints.close();
+        assertThrows(IllegalStateException.class, () -> ints.setUnsafe(100, 0, 0, 2));
+        assertThrows(IllegalStateException.class, () -> ints.get(0, 0, 0));
+        assertThrows(IllegalStateException.class, () -> ints.hasChunk(0, 0, 0));
+        ints.close();
+    }
+
+    @Test
+    public void testSpillFileIsPrivateToTheGrid() throws IOException {
+        Path existing = Files.write(tempDir.resolve("existing.spill"), new byte[]{1, 2, 3});
+        assertThrows(FileAlreadyExistsException.class, () -> new InfiniteByte3DGrid(existing, 1));
+        assertArrayEquals(new byte[]{1, 2, 3}, Files.readAllBytes(existing));
+
+        Path file = tempDir.resolve("deleted.spill");
+        try (InfiniteInt3DGrid grid = new InfiniteInt3DGrid(file, 1)) {
+            grid.set(0, 0, 0, 1);
+            grid.set(100, 0, 0, 2);
+            assertEquals(1, grid.get(0, 0, 0));
+            assertEquals(1, grid.getFaultCount());
+        }
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void testEvictedCellsAreRecycled() throws IOException {
+        try (InfiniteByte3DGrid grid = new InfiniteByte3DGrid(tempDir.resolve("recycle.spill"), 1)) {
+            Byte3DArray first = grid.getChunk(0, 0, 0);
+            first.set(3, 4, 5, (byte) 7);
+            Byte3DArray second = grid.getChunk(1, 0, 0);
+            assertSame(first, second);
+            assertEquals(0, second.get(3, 4, 5));
+            second.set(0, 0, 0, (byte) 8);
+            assertEquals(7, grid.get(3, 4, 5));
+            assertSame(first, grid.getChunk(0, 0, 0));
+            assertEquals(8, grid.get(16, 0, 0));
+            assertEquals(0, grid.get(19, 4, 5));
+        }
+    }
+
+    @Test
+    public void testZeroChunksAreForgotten() throws IOException {
+        try (InfiniteByte3DGrid grid = new InfiniteByte3DGrid(tempDir.resolve("zero.spill"), 1)) {
+            grid.set(0, 0, 0, (byte) 0);
+            assertEquals(0, grid.getChunkCount());
+            grid.set(0, 0, 0, (byte) 9);
+            grid.set(0, 0, 0, (byte) 0);
+            grid.set(100, 0, 0, (byte) 1);
+            assertFalse(grid.hasChunk(0, 0, 0));
+            assertTrue(grid.hasChunk(6, 0, 0));
+
+            Byte3DArray chunk = grid.getChunk(-1, -1, -1);
+            chunk.set(15, 15, 15, (byte) 4);
+            assertEquals(4, grid.get(-1, -1, -1));
+            grid.get(100, 0, 0);
+            assertEquals(4, grid.get(-1, -1, -1));
+            assertTrue(grid.removeChunk(-1, -1, -1));
+            assertEquals(0, grid.get(-1, -1, -1));
+            assertFalse(grid.removeChunk(-1, -1, -1));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new InfiniteByte3DGrid(tempDir.resolve("bad.spill"), 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new InfiniteInt3DGrid(tempDir.resolve("bad.spill"), 3, 8));
+    }
+}
@@ -0,0 +1,57 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.floats.MappedFloat2DArray;
+import com.nogenericgames.community.arrays.longs.MappedLong3DArray;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * JUnit tests for the memory-mapped arrays.
+ */
+public class MappedArrayTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testValuesPersistAcrossReopen() throws IOException {
+        Path file = tempDir.resolve("table.bin");
+        try (MappedLong3DArray array = new MappedLong3DArray(file, 4, 5, 6)) {
+            array.set(3, 4, 5, 123456789L);
+            array.setUnsafe(1, 2, 3, -7L);
+            array.force();
+        }
+        assertEquals(4 * 5 * 6 * Long.BYTES, Files.size(file));
+
+        try (MappedLong3DArray array = new MappedLong3DArray(file, FileChannel.MapMode.READ_ONLY, 4, 5, 6)) {
+            assertEquals(123456789L, array.get(3, 4, 5));
+            assertEquals(-7L, array.getUnsafe(1, 2, 3));
+            assertEquals(0L, array.get(0, 0, 0));
+            assertEquals(120L, array.getTotalSize());
+        }
+    }
+
+    @Test
+    public void testBoundsAndClose() throws IOException {
+        MappedFloat2DArray array = new MappedFloat2DArray(tempDir.resolve("heights.bin"), 8, 8);
+        array.set(7, 7, 1.25f);
+        assertEquals(1.25f, array.get(7, 7));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(8, 0));
+
+        array.close();
+        assertTrue(array.isClosed());
+        assertThrows(IllegalStateException.class, () -> array.get(0, 0));
+    }
+
+    @Test
+    public void testReadOnlyRequiresExistingData() {
+        Path missing = tempDir.resolve("missing.bin");
+        assertThrows(IOException.class, () -> new MappedLong3DArray(missing, FileChannel.MapMode.READ_ONLY, 2, 2, 2));
+    }
+}
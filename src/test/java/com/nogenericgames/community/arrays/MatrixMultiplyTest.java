@@ -0,0 +1,87 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.doubles.Double2DArray;
+import com.nogenericgames.community.arrays.floats.Float2DArray;
+import com.nogenericgames.community.arrays.utils.Matrices;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for the blocked GEMM and GEMV kernels.
+ */
+public class MatrixMultiplyTest {
+
+    @Test
+    public void testMultiplyMatchesNaive() {
+        Random random = new Random(21);
+        int m = 70;
+        int k = 301;
+        int n = 530;
+        Double2DArray a = new Double2DArray(m, k);
+        Double2DArray b = new Double2DArray(k, n);
+        a.replaceAll((x, y, v) -> random.nextDouble() - 0.5);
+        b.replaceAll((x, y, v) -> random.nextDouble() - 0.5);
+        Double2DArray product = a.multiply(b);
+        Double2DArray parallel = new Double2DArray(m, n);
+        a.parallelMultiplyInto(b, parallel);
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < n; j++) {
+                double expected = 0;
+                for (int p = 0; p < k; p++) {
+                    expected += a.get(i, p) * b.get(p, j);
+                }
+                assertEquals(expected, product.get(i, j), 1e-9);
+                assertEquals(expected, parallel.get(i, j), 1e-9);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> a.multiply(a));
+        assertThrows(IllegalArgumentException.class, () -> a.multiplyInto(b, new Double2DArray(m, k)));
+    }
+
+    @Test
+    public void testGemmAlphaBeta() {
+        double[] a = {1, 2, 3, 4, 5, 6};
+        double[] b = {7, 8, 9, 10, 11, 12};
+        double[] c = {1, 1, 1, 1};
+        Matrices.gemm(2, a, b, 3, c, 2, 2, 3);
+        assertArrayEquals(new double[]{2 * 58 + 3, 2 * 64 + 3, 2 * 139 + 3, 2 * 154 + 3}, c);
+        double[] nan = {Double.NaN, Double.NaN, Double.NaN, Double.NaN};
+        Matrices.parallelGemm(1, a, b, 0, nan, 2, 2, 3);
+        assertArrayEquals(new double[]{58, 64, 139, 154}, nan);
+        assertThrows(IllegalArgumentException.class, () -> Matrices.gemm(1, a, b, 0, c, 2, 2, 2));
+        assertThrows(IllegalArgumentException.class, () -> Matrices.gemm(1, a, a, 0, a, 2, 3, 3));
+    }
+
+    @Test
+    public void testFloatMultiplyAndVector() {
+        Random random = new Random(22);
+        Float2DArray a = new Float2DArray(300, 300);
+        a.replaceAll((x, y, v) -> random.nextFloat());
+        Float2DArray identity = new Float2DArray(300, 300);
+        for (int i = 0; i < 300; i++) {
+            identity.set(i, i, 1.0f);
+        }
+        assertEquals(a, a.parallelMultiply(identity));
+        assertEquals(a, identity.multiply(a));
+
+        float[] vector = new float[300];
+        for (int i = 0; i < 300; i++) {
+            vector[i] = random.nextFloat();
+        }
+        float[] result = a.multiply(vector);
+        float[] parallel = new float[300];
+        a.parallelMultiplyInto(vector, parallel);
+        for (int i = 0; i < 300; i++) {
+            double expected = 0;
+            for (int j = 0; j < 300; j++) {
+                expected += a.get(i, j) * vector[j];
+            }
+            assertEquals(expected, result[i], 1e-3);
+            assertEquals(result[i], parallel[i]);
+        }
+        assertThrows(IllegalArgumentException.class, () -> a.multiply(new float[299]));
+        assertThrows(IllegalArgumentException.class, () -> a.multiplyInto(vector, vector));
+    }
+}
@@ -0,0 +1,123 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.floats.Float3DArray;
+import com.nogenericgames.community.arrays.floats.MortonFloat3DArray;
+import com.nogenericgames.community.arrays.ints.Int3DArray;
+import com.nogenericgames.community.arrays.ints.MortonInt3DArray;
+import com.nogenericgames.community.arrays.utils.Morton;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for Morton encoding and the Morton-ordered arrays.
+ */
+public class MortonArrayTest {
+
+    @Test
+    public void testEncodeDecode() {
+        assertEquals(0, Morton.encode(0, 0, 0));
+        assertEquals(1, Morton.encode(0, 0, 1));
+        assertEquals(2, Morton.encode(0, 1, 0));
+        assertEquals(4, Morton.encode(1, 0, 0));
+        assertEquals((1 << 30) - 1, Morton.encode(1023, 1023, 1023));
+        for (int i = 0; i < 5000; i++) {
+            int x = (i * 37) & 1023;
+            int y = (i * 101) & 1023;
+            int z = (i * 7919) & 1023;
+            int code = Morton.encode(x, y, z);
+            assertEquals(x, Morton.decodeX(code));
+            assertEquals(y, Morton.decodeY(code));
+            assertEquals(z, Morton.decodeZ(code));
+        }
+        assertEquals(512, Morton.capacity(8, 8, 8));
+        assertThrows(IllegalArgumentException.class, () -> Morton.capacity(1025, 1, 1));
+    }
+
+    @Test
+    public void testRoundTripNonCubic() {
+        Int3DArray dense = new Int3DArray(5, 3, 9);
+        for (int x = 0; x < 5; x++) {
+            for (int y = 0; y < 3; y++) {
+                for (int z = 0; z < 9; z++) {
+                    dense.set(x, y, z, x * 100 + y * 10 + z);
+                }
+            }
+        }
+        MortonInt3DArray morton = MortonInt3DArray.of(dense);
+        assertEquals(218, morton.get(2, 1, 8));
+        assertEquals(dense, morton.toInt3DArray());
+        assertEquals(dense.hashCode(), morton.hashCode());
+        assertThrows(IndexOutOfBoundsException.class, () -> morton.get(0, 3, 0));
+
+        morton.fill(6);
+        assertEquals(6, morton.get(4, 2, 8));
+        assertEquals(morton, morton.copy());
+    }
+
+    @Test
+    public void testFloatRoundTrip() {
+        Float3DArray dense = new Float3DArray(4, 4, 4);
+        dense.set(3, 2, 1, 1.5f);
+        MortonFloat3DArray morton = MortonFloat3DArray.of(dense);
+        assertEquals(1.5f, morton.get(3, 2, 1));
+        assertEquals(1.5f, morton.unwrapUnsafe()[Morton.encode(3, 2, 1)]);
+        assertEquals(dense, morton.toFloat3DArray());
+    }
+
+    @Test
+    public void testPaddingIsBounded() {
+        assertArrayEquals(new int[]{5, 5, 1}, Morton.tileShifts(1024, 1024, 2));
+        assertEquals(1024 * 1024 * 2, Morton.capacity(1024, 1024, 2));
+        assertTrue(Morton.capacity(33, 33, 33) <= 33 * 33 * 33 * 9 / 8);
+        assertEquals(Morton.capacity(33, 33, 33), new MortonFloat3DArray(33, 33, 33).unwrapUnsafe().length);
+
+        int[] sizes = {1, 2, 3, 5, 17, 31, 33, 63, 65, 100, 129, 1000};
+        for (int xSize : sizes) {
+            for (int ySize : sizes) {
+                for (int zSize : sizes) {
+                    int capacity = Morton.capacity(xSize, ySize, zSize);
+                    assertTrue((long) capacity * 8 <= (long) xSize * ySize * zSize * 9,
+                            xSize + "x" + ySize + "x" + zSize + " stored in " + capacity);
+                }
+            }
+        }
+
+        int[][] offsets = Morton.offsets(45, 7, 90);
+        boolean[] used = new boolean[Morton.capacity(45, 7, 90)];
+        for (int x = 0; x < 45; x++) {
+            for (int y = 0; y < 7; y++) {
+                for (int z = 0; z < 90; z++) {
+                    int index = offsets[0][x] + offsets[1][y] + offsets[2][z];
+                    assertFalse(used[index]);
+                    used[index] = true;
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAnisotropicShapes() {
+        assertEquals(1024, Morton.capacity(1024, 1, 1));
+        assertArrayEquals(new int[]{5, 0, 0}, Morton.tileShifts(1024, 1, 1));
+        assertEquals(1024 * 1024 * 3, Morton.capacity(1000, 1000, 3));
+        assertEquals(1 << 30, Morton.capacity(1024, 1024, 1024));
+        assertEquals(36 * 64 * 64, Morton.capacity(33, 64, 64));
+
+        MortonInt3DArray line = new MortonInt3DArray(1024, 1, 1);
+        assertEquals(1024, line.unwrapUnsafe().length);
+        Int3DArray dense = new Int3DArray(37, 5, 70);
+        for (int x = 0; x < 37; x++) {
+            for (int y = 0; y < 5; y++) {
+                for (int z = 0; z < 70; z++) {
+                    dense.set(x, y, z, x * 10000 + y * 100 + z);
+                }
+            }
+        }
+        MortonInt3DArray morton = MortonInt3DArray.of(dense);
+        assertEquals(40 * 5 * 72, morton.unwrapUnsafe().length);
+        assertEquals(36 * 10000 + 4 * 100 + 69, morton.get(36, 4, 69));
+        assertEquals(dense, morton.toInt3DArray());
+        assertEquals(dense.hashCode(), morton.hashCode());
+    }
+}
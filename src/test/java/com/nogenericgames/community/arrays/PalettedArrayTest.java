@@ -0,0 +1,77 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.ints.Int3DArray;
+import com.nogenericgames.community.arrays.ints.PalettedInt3DArray;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for {@link PalettedInt3DArray}.
+ */
+public class PalettedArrayTest {
+
+    @Test
+    public void testEntryWidthGrowsWithPalette() {
+        PalettedInt3DArray array = new PalettedInt3DArray(16, 16, 16);
+        assertEquals(1, array.getBitsPerEntry());
+        assertEquals(1, array.getPaletteSize());
+
+        array.set(0, 0, 1, 42);
+        assertEquals(1, array.getBitsPerEntry());
+        array.set(15, 15, 15, -7);
+        assertEquals(2, array.getBitsPerEntry(), "A third value should widen entries to two bits.");
+        for (int i = 0; i < 10; i++) {
+            array.set(1, 2, i, 1000 + i);
+        }
+        assertEquals(13, array.getPaletteSize());
+        assertEquals(4, array.getBitsPerEntry());
+
+        assertEquals(42, array.get(0, 0, 1));
+        assertEquals(-7, array.get(15, 15, 15));
+        assertEquals(1009, array.get(1, 2, 9));
+        assertEquals(0, array.get(1, 2, 10));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(0, 16, 0));
+    }
+
+    @Test
+    public void testDirectFallbackAndCompact() {
+        PalettedInt3DArray array = new PalettedInt3DArray(8, 8, 8);
+        for (int i = 0; i < 300; i++) {
+            array.setUnsafe(i / 64, (i / 8) % 8, i % 8, i * 3);
+        }
+        assertTrue(array.isDirect());
+        assertEquals(32, array.getBitsPerEntry());
+        assertEquals(897, array.get(4, 5, 3));
+
+        array.fill(5);
+        assertFalse(array.isDirect());
+        assertEquals(5, array.get(7, 7, 7));
+
+        array.set(1, 1, 1, 6);
+        array.set(1, 1, 2, 7);
+        array.set(1, 1, 2, 5);
+        assertEquals(3, array.getPaletteSize());
+        array.compact();
+        assertEquals(2, array.getPaletteSize());
+        assertEquals(1, array.getBitsPerEntry());
+        assertEquals(6, array.get(1, 1, 1));
+    }
+
+    @Test
+    public void testDenseRoundTrip() {
+        Int3DArray dense = new Int3DArray(5, 6, 7);
+        for (int x = 0; x < 5; x++) {
+            for (int y = 0; y < 6; y++) {
+                for (int z = 0; z < 7; z++) {
+                    dense.set(x, y, z, (x + y * z) % 11);
+                }
+            }
+        }
+        PalettedInt3DArray paletted = PalettedInt3DArray.of(dense);
+        assertEquals(4, paletted.getBitsPerEntry());
+        assertEquals(dense, paletted.toInt3DArray());
+        assertEquals(dense.hashCode(), paletted.hashCode());
+        assertEquals(paletted, paletted.copy());
+    }
+}
@@ -0,0 +1,70 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.bytes.Byte2DArray;
+import com.nogenericgames.community.arrays.floats.Float2DArray;
+import com.nogenericgames.community.arrays.longs.Long3DArray;
+import com.nogenericgames.community.arrays.utils.ParallelArrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for the fork/join bulk operations.
+ */
+public class ParallelArraysTest {
+
+    @Test
+    public void testChunksCoverRangeOnCacheLines() {
+        int length = 1_000_003;
+        int chunks = ParallelArrays.chunkCount(length, 4);
+        assertTrue(chunks > 1, "A 4 MB range should be split.");
+        AtomicLong covered = new AtomicLong();
+        boolean[] seen = new boolean[chunks];
+        ParallelArrays.forEachChunk(length, 4, (chunk, from, to) -> {
+            assertEquals(0, from % 16, "Chunks should start on a cache line.");
+            seen[chunk] = true;
+            covered.addAndGet(to - from);
+        });
+        assertEquals(length, covered.get());
+        for (boolean s : seen) {
+            assertTrue(s);
+        }
+        assertEquals(1, ParallelArrays.chunkCount(1000, 8), "Small ranges should stay serial.");
+    }
+
+    @Test
+    public void testLargeArrayOperations() {
+        Float2DArray array = new Float2DArray(600, 700);
+        array.parallelFill(2.0f);
+        assertEquals(2.0f, array.get(599, 699));
+        array.parallelReplaceAll(v -> v * 3.0f);
+        assertEquals(6.0f, array.get(123, 456));
+        assertEquals(6.0f * 600 * 700, array.parallelReduce(0.0f, Float::sum), 1.0f);
+
+        Float2DArray copy = new Float2DArray(600, 700);
+        array.parallelCopyInto(copy);
+        assertEquals(array, copy);
+        assertThrows(IllegalArgumentException.class, () -> array.parallelCopyInto(new Float2DArray(700, 600)));
+    }
+
+    @Test
+    public void testReduceInCustomPool() throws Exception {
+        Long3DArray array = new Long3DArray(64, 64, 64);
+        array.replaceAll((x, y, z, value) -> x + y + z);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            long max = pool.submit(() -> array.parallelReduce(Long.MIN_VALUE, Math::max)).get();
+            assertEquals(189L, max);
+            long sum = pool.submit(() -> array.parallelReduce(0L, Long::sum)).get();
+            assertEquals(3L * 64 * 64 * (63 * 64 / 2), sum);
+        } finally {
+            pool.shutdown();
+        }
+
+        Byte2DArray small = new Byte2DArray(3, 3);
+        small.parallelFill((byte) 2);
+        assertEquals((byte) 18, small.parallelReduce((byte) 0, (a, b) -> (byte) (a + b)));
+    }
+}
@@ -0,0 +1,100 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.bytes.Byte6DArray;
+import com.nogenericgames.community.arrays.doubles.Double2DArray;
+import com.nogenericgames.community.arrays.floats.Float3DArray;
+import com.nogenericgames.community.arrays.generics.Generic2DArray;
+import com.nogenericgames.community.arrays.ints.Int4DArray;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for transposition and axis permutation.
+ */
+public class PermutationTest {
+
+    @Test
+    public void testTranspose() {
+        Double2DArray array = new Double2DArray(600, 700);
+        array.replaceAll((x, y, v) -> x * 1000 + y);
+        Double2DArray transposed = array.transpose();
+        assertEquals(700, transposed.getXSize());
+        assertEquals(600, transposed.getYSize());
+        Double2DArray parallel = new Double2DArray(700, 600);
+        array.parallelTransposeInto(parallel);
+        assertEquals(transposed, parallel);
+        for (int x = 0; x < 600; x += 7) {
+            for (int y = 0; y < 700; y += 3) {
+                assertEquals(x * 1000 + y, transposed.get(y, x));
+            }
+        }
+        assertEquals(array, transposed.parallelTranspose());
+        assertThrows(IllegalArgumentException.class, () -> array.transposeInto(new Double2DArray(600, 700)));
+        assertThrows(IllegalStateException.class, array::transposeInPlace);
+
+        Generic2DArray<String> strings = new Generic2DArray<>(String.class, 2, 3);
+        strings.set(1, 2, "a");
+        assertEquals("a", strings.transpose().get(2, 1));
+    }
+
+    @Test
+    public void testTransposeInPlace() {
+        for (int size : new int[]{1, 33, 70, 600}) {
+            Double2DArray array = new Double2DArray(size, size);
+            array.replaceAll((x, y, v) -> x * 1000 + y);
+            Double2DArray expected = array.transpose();
+            Double2DArray serial = array.copy();
+            serial.transposeInPlace();
+            array.parallelTransposeInPlace();
+            assertEquals(expected, serial);
+            assertEquals(expected, array);
+        }
+    }
+
+    @Test
+    public void testPermute3D() {
+        Float3DArray array = new Float3DArray(40, 50, 70);
+        array.replaceAll((x, y, z, v) -> x * 10000 + y * 100 + z);
+        int[][] permutations = {{0, 1, 2}, {0, 2, 1}, {1, 0, 2}, {1, 2, 0}, {2, 0, 1}, {2, 1, 0}};
+        for (int[] axes : permutations) {
+            Float3DArray permuted = array.permute(axes);
+            int[] dims = {40, 50, 70};
+            assertEquals(dims[axes[0]], permuted.getXSize());
+            assertEquals(dims[axes[1]], permuted.getYSize());
+            assertEquals(dims[axes[2]], permuted.getZSize());
+            int[] c = new int[3];
+            for (c[0] = 0; c[0] < 40; c[0] += 3) {
+                for (c[1] = 0; c[1] < 50; c[1] += 7) {
+                    for (c[2] = 0; c[2] < 70; c[2] += 5) {
+                        assertEquals(array.get(c[0], c[1], c[2]), permuted.get(c[axes[0]], c[axes[1]], c[axes[2]]));
+                    }
+                }
+            }
+            Float3DArray parallel = new Float3DArray(dims[axes[0]], dims[axes[1]], dims[axes[2]]);
+            array.parallelPermuteInto(parallel, axes);
+            assertEquals(permuted, parallel);
+        }
+        assertThrows(IllegalArgumentException.class, () -> array.permute(0, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> array.permute(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> array.permuteInto(array, 0, 1, 2));
+        assertThrows(IllegalArgumentException.class, () -> array.permuteInto(new Float3DArray(40, 50, 70), 2, 1, 0));
+    }
+
+    @Test
+    public void testPermuteHigherRanks() {
+        Int4DArray array = new Int4DArray(3, 4, 5, 6);
+        array.replaceAll((x, y, z, w, v) -> x * 1000 + y * 100 + z * 10 + w);
+        Int4DArray permuted = array.permute(3, 1, 0, 2);
+        assertEquals(6, permuted.getXSize());
+        assertEquals(3, permuted.getZSize());
+        assertEquals(array.get(2, 3, 4, 5), permuted.get(5, 3, 2, 4));
+        assertEquals(array, permuted.permute(2, 1, 3, 0));
+
+        Byte6DArray bytes = new Byte6DArray(2, 3, 2, 3, 2, 3);
+        bytes.set(1, 2, 0, 1, 1, 2, (byte) 9);
+        Byte6DArray reversed = bytes.parallelPermute(5, 4, 3, 2, 1, 0);
+        assertEquals(9, reversed.get(2, 1, 1, 0, 2, 1));
+        assertEquals(bytes.sum(), reversed.sum());
+    }
+}
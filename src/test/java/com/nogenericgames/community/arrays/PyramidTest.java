@@ -0,0 +1,134 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.floats.Float2DArray;
+import com.nogenericgames.community.arrays.floats.Float3DArray;
+import com.nogenericgames.community.arrays.floats.FloatPyramid2D;
+import com.nogenericgames.community.arrays.floats.FloatPyramid3D;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for the 2D and 3D resolution pyramids.
+ */
+public class PyramidTest {
+
+    @Test
+    public void testOddDimensions2D() {
+        Float2DArray base = new Float2DArray(5, 3);
+        base.replaceAll((x, y, v) -> x * 3 + y);
+        FloatPyramid2D average = FloatPyramid2D.average(base);
+        assertEquals(4, average.getLevelCount());
+        Float2DArray level1 = average.getLevel(1);
+        assertEquals(3, level1.getXSize());
+        assertEquals(2, level1.getYSize());
+        assertEquals((0 + 1 + 3 + 4) / 4.0f, level1.get(0, 0));
+        assertEquals((2 + 5) / 2.0f, level1.get(0, 1));
+        assertEquals((12 + 13) / 2.0f, level1.get(2, 0));
+        assertEquals(14.0f, level1.get(2, 1));
+        assertSame(base, average.getLevel(0));
+
+        FloatPyramid2D sum = FloatPyramid2D.of(base, Float::sum);
+        assertEquals(105.0f, sum.getLevel(sum.getLevelCount() - 1).get(0, 0));
+        assertEquals(0.0f, FloatPyramid2D.min(base).getLevel(3).get(0, 0));
+        assertEquals(14.0f, FloatPyramid2D.max(base).getLevel(3).get(0, 0));
+    }
+
+    @Test
+    public void testUpdateMatchesRebuild2D() {
+        Random random = new Random(11);
+        Float2DArray base = new Float2DArray(300, 257);
+        base.replaceAll((x, y, v) -> random.nextFloat());
+        FloatPyramid2D pyramid = FloatPyramid2D.max(base);
+        for (int i = 0; i < 50; i++) {
+            base.set(random.nextInt(300), random.nextInt(257), 2.0f + i);
+        }
+        base.set(299, 256, 100.0f);
+        pyramid.update(0, 0, 300, 257);
+        FloatPyramid2D rebuilt = FloatPyramid2D.max(base);
+        base.set(17, 31, 200.0f);
+        pyramid.update(17, 31, 18, 32);
+        rebuilt.parallelBuild();
+        for (int level = 0; level < pyramid.getLevelCount(); level++) {
+            assertEquals(rebuilt.getLevel(level), pyramid.getLevel(level));
+        }
+        assertEquals(200.0f, pyramid.getLevel(pyramid.getLevelCount() - 1).get(0, 0));
+    }
+
+    @Test
+    public void testPyramid3D() {
+        Random random = new Random(12);
+        Float3DArray base = new Float3DArray(9, 6, 5);
+        base.replaceAll((x, y, z, v) -> random.nextInt(16));
+        FloatPyramid3D average = FloatPyramid3D.average(base);
+        assertEquals(5, average.getLevelCount());
+        Float3DArray level1 = average.getLevel(1);
+        for (int x = 0; x < 5; x++) {
+            for (int y = 0; y < 3; y++) {
+                for (int z = 0; z < 3; z++) {
+                    float sum = 0;
+                    int cells = 0;
+                    for (int i = 2 * x; i < Math.min(2 * x + 2, 9); i++) {
+                        for (int j = 2 * y; j < Math.min(2 * y + 2, 6); j++) {
+                            for (int k = 2 * z; k < Math.min(2 * z + 2, 5); k++) {
+                                sum += base.get(i, j, k);
+                                cells++;
+                            }
+                        }
+                    }
+                    assertEquals(sum / cells, level1.get(x, y, z), 1e-5f);
+                }
+            }
+        }
+
+        FloatPyramid3D sum = FloatPyramid3D.of(base, Float::sum);
+        assertEquals(base.sum(), sum.getLevel(4).get(0, 0, 0), 1e-3);
+        base.set(8, 5, 4, 1000.0f);
+        sum.update(8, 5, 4, 9, 6, 5);
+        assertEquals(base.sum(), sum.getLevel(4).get(0, 0, 0), 1e-3);
+        FloatPyramid3D max = FloatPyramid3D.max(base);
+        max.parallelBuild();
+        assertEquals(1000.0f, max.getLevel(4).get(0, 0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> sum.update(0, 0, 0, 10, 1, 1));
+    }
+
+    @Test
+    public void testAverageWeightsPartialEdgeTexels() {
+        Float2DArray base = new Float2DArray(5, 3);
+        base.replaceAll((x, y, v) -> x * 3 + y);
+        FloatPyramid2D pyramid = FloatPyramid2D.average(base);
+        assertEquals(7.0f, pyramid.getLevel(3).get(0, 0), 1e-6f);
+        assertEquals((0 + 1 + 2 + 3 + 4 + 5 + 6 + 7 + 8 + 9 + 10 + 11) / 12.0f, pyramid.getLevel(2).get(0, 0), 1e-6f);
+
+        Random random = new Random(20);
+        Float3DArray volume = new Float3DArray(7, 5, 3);
+        volume.replaceAll((x, y, z, v) -> random.nextFloat());
+        FloatPyramid3D average = FloatPyramid3D.average(volume);
+        Float3DArray top = average.getLevel(average.getLevelCount() - 1);
+        assertEquals(volume.sum() / (7 * 5 * 3), top.get(0, 0, 0), 1e-5);
+    }
+
+    @Test
+    public void testRebuildReusesLevels() {
+        Float2DArray first = new Float2DArray(6, 4);
+        first.fill(1.0f);
+        FloatPyramid2D pyramid = FloatPyramid2D.max(first);
+        Float2DArray level1 = pyramid.getLevel(1);
+
+        Float2DArray second = new Float2DArray(6, 4);
+        second.set(5, 3, 9.0f);
+        pyramid.rebuild(second);
+        assertSame(second, pyramid.getLevel(0));
+        assertSame(level1, pyramid.getLevel(1));
+        assertEquals(9.0f, pyramid.getLevel(pyramid.getLevelCount() - 1).get(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> pyramid.rebuild(new Float2DArray(4, 6)));
+
+        Float3DArray volume = new Float3DArray(3, 3, 3);
+        FloatPyramid3D average = FloatPyramid3D.average(volume);
+        Float3DArray filled = new Float3DArray(3, 3, 3);
+        filled.fill(2.0f);
+        average.parallelRebuild(filled);
+        assertEquals(2.0f, average.getLevel(2).get(0, 0, 0));
+    }
+}
@@ -0,0 +1,96 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.bytes.Byte3DArray;
+import com.nogenericgames.community.arrays.doubles.Double3DArray;
+import com.nogenericgames.community.arrays.floats.Float2DArray;
+import com.nogenericgames.community.arrays.utils.Moments;
+import com.nogenericgames.community.arrays.utils.Reductions;
+import com.nogenericgames.community.arrays.utils.Summation;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for the reductions.
+ */
+public class ReductionsTest {
+
+    @Test
+    public void testCompensatedSums() {
+        float[] values = new float[1_000_001];
+        values[0] = 1.0e8f;
+        for (int i = 1; i < values.length; i++) {
+            values[i] = 0.1f;
+        }
+        double exact = 1.0e8 + 1_000_000 * (double) 0.1f;
+        assertEquals(exact, Reductions.sum(values, Summation.KAHAN), 1.0e-6);
+        assertEquals(exact, Reductions.sum(values, Summation.PAIRWISE), 1.0e-4);
+        assertEquals(exact, Reductions.parallelSum(values, Summation.KAHAN), 1.0e-6);
+        assertEquals(Reductions.sum(values, Summation.NAIVE), Reductions.parallelSum(values, Summation.NAIVE), 1.0e-2);
+    }
+
+    @Test
+    public void testMinMaxWithCoordinates() {
+        Float2DArray heights = new Float2DArray(300, 400);
+        heights.replaceAll((x, y, value) -> (float) Math.sin(x * 0.01) + y * 0.001f);
+        heights.set(123, 45, 99.0f);
+        heights.set(7, 8, -99.0f);
+        heights.set(0, 0, Float.NaN);
+
+        assertEquals(99.0f, heights.maxValue());
+        assertArrayEquals(new int[]{123, 45}, heights.argMax());
+        assertArrayEquals(new int[]{7, 8}, heights.argMin());
+        assertArrayEquals(new int[]{123, 45}, heights.parallelArgMax());
+        assertArrayEquals(new int[]{7, 8}, heights.parallelArgMin());
+        assertEquals(1, heights.count(Float.NaN));
+
+        Byte3DArray bytes = new Byte3DArray(2, 3, 4);
+        bytes.fill((byte) 5);
+        bytes.set(1, 2, 3, (byte) 5);
+        bytes.set(0, 1, 2, (byte) -3);
+        assertEquals(-3, bytes.minValue());
+        assertArrayEquals(new int[]{0, 1, 2}, bytes.argMin());
+        assertArrayEquals(new int[]{0, 0, 0}, bytes.argMax(), "Ties should resolve to the first cell.");
+        assertEquals(23 * 5 - 3, bytes.sum());
+        assertEquals(23, bytes.count((byte) 5));
+    }
+
+    @Test
+    public void testAllNaNResolvesToFirstIndex() {
+        float[] floats = new float[100_000];
+        double[] doubles = new double[100_000];
+        Arrays.fill(floats, Float.NaN);
+        Arrays.fill(doubles, Double.NaN);
+        assertEquals(0, Reductions.indexOfMin(floats));
+        assertEquals(0, Reductions.indexOfMax(floats));
+        assertEquals(0, Reductions.parallelIndexOfMin(floats));
+        assertEquals(0, Reductions.parallelIndexOfMax(floats));
+        assertEquals(0, Reductions.indexOfMin(doubles));
+        assertEquals(0, Reductions.indexOfMax(doubles));
+        assertEquals(0, Reductions.parallelIndexOfMin(doubles));
+        assertEquals(0, Reductions.parallelIndexOfMax(doubles));
+
+        floats[77_777] = 3.0f;
+        doubles[77_777] = -3.0;
+        assertEquals(77_777, Reductions.indexOfMin(floats));
+        assertEquals(77_777, Reductions.parallelIndexOfMax(floats));
+        assertEquals(77_777, Reductions.indexOfMax(doubles));
+        assertEquals(77_777, Reductions.parallelIndexOfMin(doubles));
+    }
+
+    @Test
+    public void testMomentsWithLargeOffset() {
+        Double3DArray mass = new Double3DArray(40, 50, 60);
+        mass.replaceAll((x, y, z, value) -> 1.0e9 + ((x + y + z) % 2 == 0 ? 1.0 : -1.0));
+        Moments serial = mass.moments();
+        assertEquals(120_000, serial.getCount());
+        assertEquals(1.0e9, serial.getMean(), 1.0e-6);
+        assertEquals(1.0, serial.getVariance(), 1.0e-9);
+
+        Moments parallel = mass.parallelMoments();
+        assertEquals(serial.getMean(), parallel.getMean(), 1.0e-6);
+        assertEquals(serial.getVariance(), parallel.getVariance(), 1.0e-9);
+        assertEquals(1.0e9 * 120_000, mass.parallelSum(Summation.KAHAN), 1.0e-3);
+    }
+}
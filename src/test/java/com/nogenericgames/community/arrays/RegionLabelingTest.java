@@ -0,0 +1,101 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.bytes.Byte3DArray;
+import com.nogenericgames.community.arrays.ints.ConnectedComponents;
+import com.nogenericgames.community.arrays.ints.FloodFill;
+import com.nogenericgames.community.arrays.ints.Int2DArray;
+import com.nogenericgames.community.arrays.ints.Int3DArray;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for scanline flood fill and connected-component labelling.
+ */
+public class RegionLabelingTest {
+
+    @Test
+    public void testFloodFillDiagonal() {
+        Int2DArray grid = new Int2DArray(3, 3);
+        grid.set(0, 0, 1);
+        grid.set(1, 1, 1);
+        grid.set(2, 2, 1);
+        assertEquals(1, FloodFill.fill(grid.copy(), 0, 0, 7, 4));
+        Int2DArray filled = grid.copy();
+        assertEquals(3, FloodFill.fill(filled, 0, 0, 7, 8));
+        assertEquals(7, filled.get(2, 2));
+        assertEquals(0, filled.get(0, 1));
+        assertEquals(0, FloodFill.fill(filled, 0, 0, 7, 8));
+        assertThrows(IllegalArgumentException.class, () -> FloodFill.fill(grid, 0, 0, 7, 6));
+        assertThrows(IndexOutOfBoundsException.class, () -> FloodFill.fill(grid, 3, 0, 7, 4));
+    }
+
+    @Test
+    public void testFloodFillLargeRegionDoesNotRecurse() {
+        Byte3DArray grid = new Byte3DArray(64, 64, 64);
+        Int3DArray labels = new Int3DArray(64, 64, 64);
+        assertEquals(64 * 64 * 64, FloodFill.fill(grid, 5, 6, 7, labels, 3, 6));
+        assertEquals(3, labels.get(63, 0, 63));
+    }
+
+    @Test
+    public void testComponents2DMatchFloodFill() {
+        Random random = new Random(5);
+        Int2DArray grid = new Int2DArray(512, 300);
+        for (int x = 0; x < 512; x++) {
+            for (int y = 0; y < 300; y++) {
+                grid.set(x, y, random.nextInt(3));
+            }
+        }
+        for (int connectivity : new int[]{4, 8}) {
+            Int2DArray expected = new Int2DArray(512, 300);
+            int count = 0;
+            for (int x = 0; x < 512; x++) {
+                for (int y = 0; y < 300; y++) {
+                    if (grid.get(x, y) != 0 && expected.get(x, y) == 0) {
+                        FloodFill.fill(grid, x, y, expected, ++count, connectivity);
+                    }
+                }
+            }
+            Int2DArray serial = new Int2DArray(512, 300);
+            Int2DArray parallel = new Int2DArray(512, 300);
+            assertEquals(count, ConnectedComponents.label(grid, 0, serial, connectivity));
+            assertEquals(count, ConnectedComponents.parallelLabel(grid, 0, parallel, connectivity));
+            assertEquals(expected, serial);
+            assertEquals(expected, parallel);
+        }
+    }
+
+    @Test
+    public void testComponents3DMatchFloodFill() {
+        Random random = new Random(9);
+        Byte3DArray grid = new Byte3DArray(80, 40, 40);
+        for (int x = 0; x < 80; x++) {
+            for (int y = 0; y < 40; y++) {
+                for (int z = 0; z < 40; z++) {
+                    grid.set(x, y, z, (byte) (random.nextInt(5) == 0 ? 0 : 1 + random.nextInt(2)));
+                }
+            }
+        }
+        for (int connectivity : new int[]{6, 26}) {
+            Int3DArray expected = new Int3DArray(80, 40, 40);
+            int count = 0;
+            for (int x = 0; x < 80; x++) {
+                for (int y = 0; y < 40; y++) {
+                    for (int z = 0; z < 40; z++) {
+                        if (grid.get(x, y, z) != 0 && expected.get(x, y, z) == 0) {
+                            FloodFill.fill(grid, x, y, z, expected, ++count, connectivity);
+                        }
+                    }
+                }
+            }
+            Int3DArray serial = new Int3DArray(80, 40, 40);
+            Int3DArray parallel = new Int3DArray(80, 40, 40);
+            assertEquals(count, ConnectedComponents.label(grid, (byte) 0, serial, connectivity));
+            assertEquals(count, ConnectedComponents.parallelLabel(grid, (byte) 0, parallel, connectivity));
+            assertEquals(expected, serial);
+            assertEquals(expected, parallel);
+        }
+    }
+}
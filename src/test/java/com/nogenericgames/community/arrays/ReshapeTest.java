@@ -0,0 +1,54 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.floats.Float2DArray;
+import com.nogenericgames.community.arrays.floats.Float4DArray;
+import com.nogenericgames.community.arrays.floats.Float6DArray;
+import com.nogenericgames.community.arrays.generics.Generic2DArray;
+import com.nogenericgames.community.arrays.generics.Generic3DArray;
+import com.nogenericgames.community.arrays.longs.Long3DArray;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for zero-copy reshaping between ranks.
+ */
+public class ReshapeTest {
+
+    @Test
+    public void testReshapeSharesData() {
+        Float4DArray array = new Float4DArray(2, 3, 4, 5);
+        array.set(1, 2, 3, 4, 7.5f);
+        Float2DArray flat = array.reshape(6, 20);
+        assertSame(array.unwrapUnsafe(), flat.unwrapUnsafe());
+        assertEquals(7.5f, flat.get(5, 19));
+        flat.set(0, 1, 2.0f);
+        assertEquals(2.0f, array.get(0, 0, 0, 1));
+
+        Float6DArray six = flat.reshape(1, 2, 3, 1, 4, 5);
+        assertEquals(7.5f, six.get(0, 1, 2, 0, 3, 4));
+        assertEquals(array, six.reshape(2, 3, 4, 5));
+        Float4DArray same = array.reshape(5, 4, 3, 2);
+        assertEquals(5, same.getXSize());
+        assertEquals(7.5f, same.get(4, 3, 2, 1));
+    }
+
+    @Test
+    public void testReshapeValidation() {
+        Long3DArray array = new Long3DArray(4, 4, 4);
+        assertThrows(IllegalArgumentException.class, () -> array.reshape(8, 9));
+        assertThrows(IllegalArgumentException.class, () -> array.reshape(-8, -8));
+        assertThrows(IllegalArgumentException.class, () -> array.reshape(65536, 65536, 1, 1));
+        assertEquals(array.get(3, 3, 3), array.reshape(2, 2, 2, 2, 2, 2).get(1, 1, 1, 1, 1, 1));
+    }
+
+    @Test
+    public void testGenericReshape() {
+        Generic3DArray<String> array = new Generic3DArray<>(String.class, 2, 2, 3);
+        array.set(1, 1, 2, "last");
+        Generic2DArray<String> matrix = array.reshape(4, 3);
+        assertEquals("last", matrix.get(3, 2));
+        matrix.fill("x");
+        assertEquals("x", array.get(0, 0, 0));
+    }
+}
@@ -0,0 +1,161 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.bytes.Byte3DArray;
+import com.nogenericgames.community.arrays.bytes.RingByte3DArray;
+import com.nogenericgames.community.arrays.ints.Int2DArray;
+import com.nogenericgames.community.arrays.ints.RingInt2DArray;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for the scrolling ring arrays.
+ */
+public class RingGridTest {
+
+    private static int world2(int x, int y) {
+        return x * 31 + y * 7;
+    }
+
+    private static byte world3(int x, int y, int z) {
+        return (byte) (x * 5 + y * 3 + z);
+    }
+
+    private static void testScroll2D(int xSize, int ySize) {
+        RingInt2DArray ring = new RingInt2DArray(xSize, ySize);
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                ring.set(x, y, world2(x, y));
+            }
+        }
+        Random random = new Random(xSize * 31 + ySize);
+        for (int step = 0; step < 200; step++) {
+            int dx = random.nextInt(7) - 3;
+            int dy = random.nextInt(7) - 3;
+            if (step % 50 == 49) {
+                dx = xSize + 2;
+            }
+            boolean[][] seen = new boolean[xSize][ySize];
+            int originX = ring.getOriginX() + dx;
+            int originY = ring.getOriginY() + dy;
+            ring.scroll(dx, dy, (x0, y0, x1, y1) -> {
+                for (int x = x0; x < x1; x++) {
+                    for (int y = y0; y < y1; y++) {
+                        assertFalse(seen[x - originX][y - originY]);
+                        seen[x - originX][y - originY] = true;
+                        ring.set(x, y, world2(x, y));
+                    }
+                }
+            });
+            for (int x = 0; x < xSize; x++) {
+                for (int y = 0; y < ySize; y++) {
+                    boolean kept = x + dx >= 0 && x + dx < xSize && y + dy >= 0 && y + dy < ySize;
+                    assertEquals(!kept, seen[x][y]);
+                    assertEquals(world2(originX + x, originY + y), ring.get(originX + x, originY + y));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testScroll2DPowerOfTwo() {
+        testScroll2D(8, 16);
+    }
+
+    @Test
+    public void testScroll2DNonPowerOfTwo() {
+        testScroll2D(5, 7);
+    }
+
+    @Test
+    public void testNegativeWorldCoordinates() {
+        RingInt2DArray ring = new RingInt2DArray(4, 3);
+        ring.scroll(-10, -7);
+        ring.set(-10, -7, 1);
+        ring.set(-7, -5, 2);
+        assertEquals(1, ring.get(-10, -7));
+        assertEquals(2, ring.get(-7, -5));
+        assertTrue(ring.contains(-7, -5));
+        assertFalse(ring.contains(-6, -5));
+        Int2DArray window = ring.toInt2DArray();
+        assertEquals(1, window.get(0, 0));
+        assertEquals(2, window.get(3, 2));
+    }
+
+    @Test
+    public void testOutOfWindow() {
+        RingInt2DArray ring = new RingInt2DArray(4, 4);
+        ring.scroll(2, 0);
+        assertThrows(IndexOutOfBoundsException.class, () -> ring.get(1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> ring.set(6, 0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> ring.get(2, -1));
+        assertThrows(IllegalArgumentException.class, () -> new RingInt2DArray(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new RingByte3DArray(4, 4, -1));
+    }
+
+    private static void testScroll3D(int xSize, int ySize, int zSize) {
+        RingByte3DArray ring = new RingByte3DArray(xSize, ySize, zSize);
+        ring.moveTo(-3 - xSize, 2, -1, (x0, y0, z0, x1, y1, z1) -> {
+            assertEquals(xSize * ySize * zSize, (x1 - x0) * (y1 - y0) * (z1 - z0));
+        });
+        ring.scroll(xSize, 0, 0);
+        for (int x = -3; x < -3 + xSize; x++) {
+            for (int y = 2; y < 2 + ySize; y++) {
+                for (int z = -1; z < -1 + zSize; z++) {
+                    ring.set(x, y, z, world3(x, y, z));
+                }
+            }
+        }
+        Random random = new Random(xSize + ySize * 7 + zSize * 49);
+        for (int step = 0; step < 100; step++) {
+            int dx = random.nextInt(5) - 2;
+            int dy = random.nextInt(5) - 2;
+            int dz = random.nextInt(5) - 2;
+            int originX = ring.getOriginX() + dx;
+            int originY = ring.getOriginY() + dy;
+            int originZ = ring.getOriginZ() + dz;
+            int[][][] hits = new int[xSize][ySize][zSize];
+            ring.scroll(dx, dy, dz, (x0, y0, z0, x1, y1, z1) -> {
+                for (int x = x0; x < x1; x++) {
+                    for (int y = y0; y < y1; y++) {
+                        for (int z = z0; z < z1; z++) {
+                            hits[x - originX][y - originY][z - originZ]++;
+                            ring.set(x, y, z, world3(x, y, z));
+                        }
+                    }
+                }
+            });
+            for (int x = 0; x < xSize; x++) {
+                for (int y = 0; y < ySize; y++) {
+                    for (int z = 0; z < zSize; z++) {
+                        boolean kept = x + dx >= 0 && x + dx < xSize && y + dy >= 0 && y + dy < ySize
+                                && z + dz >= 0 && z + dz < zSize;
+                        assertEquals(kept ? 0 : 1, hits[x][y][z]);
+                        assertEquals(world3(originX + x, originY + y, originZ + z),
+                                ring.get(originX + x, originY + y, originZ + z));
+                    }
+                }
+            }
+        }
+        Byte3DArray window = ring.toByte3DArray();
+        for (int x = 0; x < xSize; x++) {
+            for (int y = 0; y < ySize; y++) {
+                for (int z = 0; z < zSize; z++) {
+                    assertEquals(world3(ring.getOriginX() + x, ring.getOriginY() + y, ring.getOriginZ() + z),
+                            window.get(x, y, z));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testScroll3DPowerOfTwo() {
+        testScroll3D(4, 8, 4);
+    }
+
+    @Test
+    public void testScroll3DNonPowerOfTwo() {
+        testScroll3D(3, 5, 6);
+    }
+}
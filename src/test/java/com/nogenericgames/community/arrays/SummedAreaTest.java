@@ -0,0 +1,108 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.ints.Int2DArray;
+import com.nogenericgames.community.arrays.longs.Long2DArray;
+import com.nogenericgames.community.arrays.longs.Long3DArray;
+import com.nogenericgames.community.arrays.longs.SummedArea2D;
+import com.nogenericgames.community.arrays.longs.SummedArea3D;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for the 2D and 3D summed-area tables.
+ */
+public class SummedAreaTest {
+
+    @Test
+    public void testSum2D() {
+        Random random = new Random(3);
+        Int2DArray grid = new Int2DArray(23, 17);
+        grid.replaceAll((x, y, v) -> random.nextInt(100) - 50);
+        SummedArea2D sat = SummedArea2D.of(grid);
+        assertEquals(sat.getTable(), SummedArea2D.parallelOf(grid).getTable());
+        assertEquals(brute(grid, 0, 0, 23, 17), sat.total());
+        assertEquals(brute(grid, 3, 4, 19, 11), sat.sum(3, 4, 19, 11));
+        assertEquals(grid.get(5, 6), sat.sum(5, 6, 6, 7));
+        assertEquals(0, sat.sum(5, 6, 5, 9));
+        assertThrows(IndexOutOfBoundsException.class, () -> sat.sum(0, 0, 24, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> sat.sum(4, 0, 3, 1));
+
+        Long2DArray longs = new Long2DArray(4, 4);
+        longs.fill(Long.MAX_VALUE / 16);
+        assertEquals(Long.MAX_VALUE / 16 * 16, SummedArea2D.of(longs).total());
+    }
+
+    @Test
+    public void testUpdate2D() {
+        Random random = new Random(4);
+        Int2DArray grid = new Int2DArray(30, 25);
+        grid.replaceAll((x, y, v) -> random.nextInt(10));
+        SummedArea2D sat = SummedArea2D.of(grid);
+        for (int round = 0; round < 20; round++) {
+            int x0 = random.nextInt(30);
+            int y0 = random.nextInt(25);
+            int x1 = x0 + random.nextInt(30 - x0) + 1;
+            int y1 = y0 + random.nextInt(25 - y0) + 1;
+            for (int x = x0; x < x1; x++) {
+                for (int y = y0; y < y1; y++) {
+                    grid.set(x, y, random.nextInt(10));
+                }
+            }
+            sat.update(grid, x0, y0, x1, y1);
+            assertEquals(SummedArea2D.of(grid).getTable(), sat.getTable());
+        }
+        assertThrows(IllegalArgumentException.class, () -> sat.update(new Int2DArray(3, 3), 0, 0, 1, 1));
+    }
+
+    @Test
+    public void testSumAndUpdate3D() {
+        Random random = new Random(8);
+        Long3DArray grid = new Long3DArray(70, 40, 33);
+        long[] data = grid.unwrapUnsafe();
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextInt(4);
+        }
+        SummedArea3D sat = SummedArea3D.of(grid);
+        assertEquals(sat.getTable(), SummedArea3D.parallelOf(grid).getTable());
+        long expected = 0;
+        for (int x = 10; x < 50; x++) {
+            for (int y = 5; y < 31; y++) {
+                for (int z = 2; z < 20; z++) {
+                    expected += grid.get(x, y, z);
+                }
+            }
+        }
+        assertEquals(expected, sat.sum(10, 5, 2, 50, 31, 20));
+        assertEquals(grid.get(69, 39, 32), sat.sum(69, 39, 32, 70, 40, 33));
+
+        for (int round = 0; round < 5; round++) {
+            int x0 = random.nextInt(70);
+            int y0 = random.nextInt(40);
+            int z0 = random.nextInt(33);
+            int x1 = x0 + random.nextInt(Math.min(8, 70 - x0)) + 1;
+            int y1 = y0 + random.nextInt(Math.min(8, 40 - y0)) + 1;
+            int z1 = z0 + random.nextInt(Math.min(8, 33 - z0)) + 1;
+            for (int x = x0; x < x1; x++) {
+                for (int y = y0; y < y1; y++) {
+                    for (int z = z0; z < z1; z++) {
+                        grid.set(x, y, z, random.nextInt(100));
+                    }
+                }
+            }
+            sat.update(grid, x0, y0, z0, x1, y1, z1);
+            assertEquals(SummedArea3D.of(grid).getTable(), sat.getTable());
+        }
+    }
+
+    private static long brute(Int2DArray grid, int x0, int y0, int x1, int y1) {
+        long sum = 0;
+        for (int x = x0; x < x1; x++) {
+            for (int y = y0; y < y1; y++) {
+                sum += grid.get(x, y);
+            }
+        }
+        return sum;
+    }
+}
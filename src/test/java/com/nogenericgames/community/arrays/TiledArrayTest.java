@@ -0,0 +1,57 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.doubles.Double2DArray;
+import com.nogenericgames.community.arrays.doubles.TiledDouble2DArray;
+import com.nogenericgames.community.arrays.floats.Float2DArray;
+import com.nogenericgames.community.arrays.floats.TiledFloat2DArray;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for the tiled 2D arrays.
+ */
+public class TiledArrayTest {
+
+    @Test
+    public void testRoundTripAcrossTileEdges() {
+        Float2DArray dense = new Float2DArray(130, 70);
+        for (int x = 0; x < 130; x++) {
+            for (int y = 0; y < 70; y++) {
+                dense.set(x, y, x * 1000 + y);
+            }
+        }
+        TiledFloat2DArray tiled = TiledFloat2DArray.of(dense);
+        assertEquals(63064.0f, tiled.get(63, 64));
+        assertEquals(129069.0f, tiled.get(129, 69));
+        assertEquals(dense, tiled.toFloat2DArray());
+        assertEquals(dense.hashCode(), tiled.hashCode());
+        assertThrows(IndexOutOfBoundsException.class, () -> tiled.get(0, 70));
+
+        tiled.set(64, 0, -1.0f);
+        assertNotEquals(tiled, TiledFloat2DArray.of(dense));
+    }
+
+    @Test
+    public void testForEachVisitsEveryCellOnce() {
+        TiledDouble2DArray tiled = new TiledDouble2DArray(100, 65);
+        tiled.fill(2.0);
+        int[][] seen = new int[100][65];
+        double[] sum = new double[1];
+        tiled.forEach((x, y, value) -> {
+            seen[x][y]++;
+            sum[0] += value;
+        });
+        assertEquals(2.0 * 100 * 65, sum[0]);
+        for (int[] row : seen) {
+            for (int count : row) {
+                assertEquals(1, count);
+            }
+        }
+
+        Double2DArray dense = new Double2DArray(100, 65);
+        dense.fill(2.0);
+        assertEquals(dense.hashCode(), tiled.hashCode());
+        assertEquals(tiled, tiled.copy());
+    }
+}
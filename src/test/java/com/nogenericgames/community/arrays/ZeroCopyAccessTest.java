@@ -0,0 +1,58 @@
+package com.nogenericgames.community.arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.nogenericgames.community.arrays.floats.Float3DArray;
+import com.nogenericgames.community.arrays.longs.Long3DArray;
+import java.nio.FloatBuffer;
+import java.nio.LongBuffer;
+import java.nio.ReadOnlyBufferException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit tests for the zero-copy accessors shared by the typed array classes.
+ */
+public class ZeroCopyAccessTest {
+
+    @Test
+    public void testUnwrapUnsafeSharesStorage() {
+        Long3DArray array = new Long3DArray(2, 3, 4);
+        long[] raw = array.unwrapUnsafe();
+        assertSame(raw, array.unwrapUnsafe(), "unwrapUnsafe should not copy.");
+
+        raw[(1 * 3 * 4) + (2 * 4) + 3] = 42L;
+        assertEquals(42L, array.get(1, 2, 3), "Writes to the backing array should be visible.");
+        assertNotSame(raw, array.getData(), "getData should still return a copy.");
+    }
+
+    @Test
+    public void testReadOnlyBufferIsLiveView() {
+        Long3DArray array = new Long3DArray(2, 2, 2);
+        LongBuffer view = array.asReadOnlyBuffer();
+        array.set(1, 1, 1, 7L);
+
+        assertTrue(view.isReadOnly(), "View should be read-only.");
+        assertEquals(8, view.remaining(), "View should cover every cell.");
+        assertEquals(7L, view.get(7), "View should reflect later writes.");
+        assertThrows(ReadOnlyBufferException.class, () -> view.put(0, 1L));
+    }
+
+    @Test
+    public void testCopyIntoArrayAndBuffer() {
+        Float3DArray array = new Float3DArray(2, 2, 3);
+        array.set(1, 0, 0, 1.5f);
+        array.set(1, 1, 2, 2.5f);
+
+        float[] region = new float[8];
+        array.copyInto(6, region, 1, 6);
+        assertEquals(1.5f, region[1]);
+        assertEquals(2.5f, region[6]);
+
+        FloatBuffer buffer = FloatBuffer.allocate(16);
+        buffer.put(-1.0f);
+        array.copyInto(buffer);
+        assertEquals(13, buffer.position(), "Buffer position should advance by the number of cells.");
+        assertEquals(1.5f, buffer.get(7));
+        assertEquals(2.5f, buffer.get(12));
+    }
+}